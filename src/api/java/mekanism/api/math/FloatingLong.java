@@ -19,8 +19,7 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
 
     private static final DecimalFormat df = new DecimalFormat("0.0000", DecimalFormatSymbols.getInstance(Locale.ENGLISH));
 
-    //TODO: Eventually we should define a way of doing a set of operations all at once, and outputting a new value
-    // given that way we can internally do all the calculations using primitives rather than spamming a lot of objects
+    //Note: To do a set of operations all at once using primitives rather than creating a lot of objects, see FloatingLongMath
     /**
      * The maximum number of decimal digits we can represent
      */
@@ -302,11 +301,9 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
         if (multiplyLongsWillOverFlow(value, toMultiply.value)) {
             return MAX_VALUE;
         }
-        FloatingLong temp = create(multiplyLongs(value, toMultiply.value));//a * c
-        temp = temp.plusEqual(multiplyLongAndDecimal(value, toMultiply.decimal));//a * d
-        temp = temp.plusEqual(multiplyLongAndDecimal(toMultiply.value, decimal));//b * c
-        temp = temp.plusEqual(multiplyDecimals(decimal, toMultiply.decimal));//b * d
-        return setAndClampValues(temp.value, temp.decimal);
+        //Note: The accumulator does the multiplication using primitives rather than creating temporary objects for each of the partial products
+        FloatingLongMath result = new FloatingLongMath(this).times(toMultiply);
+        return setAndClampValues(result.getValue(), result.getDecimal());
     }
 
     /**
@@ -562,7 +559,7 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
      * @return The {@link FloatingLong} representing the value of multiplying the given unsigned long with this {@link FloatingLong}.
      */
     public FloatingLong multiply(long toMultiply) {
-        return multiply(FloatingLong.create(toMultiply));
+        return new FloatingLongMath(this).times(toMultiply).toFloatingLong();
     }
 
     /**
@@ -1023,22 +1020,327 @@ public class FloatingLong extends Number implements Comparable<FloatingLong> {
     }
 
     /**
-     * Internal helper to multiply a long by a decimal.
+     * A mutable accumulator for performing a series of {@link FloatingLong} operations using primitives, and only creating a {@link FloatingLong} once the final result is
+     * needed. The same clamping rules as {@link FloatingLong} apply, so the value never becomes negative and never becomes larger than {@link FloatingLong#MAX_VALUE}.
+     * <br>
+     * {@code FloatingLong needed = new FloatingLongMath(maxEnergy).minus(stored).min(rate).toFloatingLong()}
+     *
+     * @apiNote This is meant to be used either as a local variable that does not escape the method it is created in, or as a reusable field of an object that is only
+     * accessed by a single thread. When used as a non escaping local variable the JVM is able to keep the values in registers, meaning the only object that gets created
+     * is the result.
      */
-    private static FloatingLong multiplyLongAndDecimal(long value, short decimal) {
-        //This can't overflow!
-        if (Long.compareUnsigned(value, Long.divideUnsigned(-1, SINGLE_UNIT)) > 0) {
-            return create(Long.divideUnsigned(value, SINGLE_UNIT) * decimal, (short) (value % SINGLE_UNIT * decimal));
+    public static final class FloatingLongMath {
+
+        private long value;
+        private short decimal;
+
+        /**
+         * Creates an accumulator with a value of zero.
+         */
+        public FloatingLongMath() {
         }
-        return create(Long.divideUnsigned(value * decimal, SINGLE_UNIT), (short) (value * decimal % SINGLE_UNIT));
-    }
 
-    /**
-     * Internal helper to multiply two decimals.
-     */
-    private static FloatingLong multiplyDecimals(short a, short b) {
-        //Note: If we instead wanted to round here, just get modulus and add if >= 0.5*SINGLE_UNIT
-        long temp = (long) a * (long) b / SINGLE_UNIT;
-        return create(0, (short) temp);
+        /**
+         * Creates an accumulator with the same value as the given {@link FloatingLong}.
+         */
+        public FloatingLongMath(FloatingLong initial) {
+            set(initial);
+        }
+
+        /**
+         * @return the long representing the value of this accumulator
+         */
+        public long getValue() {
+            return value;
+        }
+
+        /**
+         * @return the short representing the decimal value of this accumulator
+         */
+        public short getDecimal() {
+            return decimal;
+        }
+
+        public FloatingLongMath set(FloatingLong value) {
+            return setAndClampValues(value.getValue(), value.getDecimal());
+        }
+
+        public FloatingLongMath set(FloatingLongMath value) {
+            return setAndClampValues(value.value, value.decimal);
+        }
+
+        /**
+         * @param value The value to set represented as an unsigned long.
+         */
+        public FloatingLongMath set(long value) {
+            return setAndClampValues(value, (short) 0);
+        }
+
+        public FloatingLongMath setZero() {
+            return setAndClampValues(0, (short) 0);
+        }
+
+        private FloatingLongMath setAndClampValues(long value, short decimal) {
+            this.value = value;
+            this.decimal = clampDecimal(decimal);
+            return this;
+        }
+
+        public boolean isZero() {
+            return value == 0 && decimal <= 0;
+        }
+
+        /**
+         * Adds the given {@link FloatingLong} to this accumulator. This gets clamped at the upper bound of {@link FloatingLong#MAX_VALUE} rather than overflowing.
+         */
+        public FloatingLongMath plus(FloatingLong toAdd) {
+            return plus(toAdd.getValue(), toAdd.getDecimal());
+        }
+
+        /**
+         * Adds the value of the given accumulator to this accumulator. This gets clamped at the upper bound of {@link FloatingLong#MAX_VALUE} rather than overflowing.
+         */
+        public FloatingLongMath plus(FloatingLongMath toAdd) {
+            return plus(toAdd.value, toAdd.decimal);
+        }
+
+        /**
+         * Adds the given unsigned long to this accumulator. This gets clamped at the upper bound of {@link FloatingLong#MAX_VALUE} rather than overflowing.
+         */
+        public FloatingLongMath plus(long toAdd) {
+            return plus(toAdd, (short) 0);
+        }
+
+        private FloatingLongMath plus(long addValue, short addDecimal) {
+            if ((value < 0 && addValue < 0) || ((value < 0 || addValue < 0) && (value + addValue >= 0))) {
+                return setAndClampValues(-1, MAX_DECIMAL);
+            }
+            long newValue = value + addValue;
+            short newDecimal = (short) (decimal + addDecimal);
+            if (newDecimal > MAX_DECIMAL) {
+                if (newValue == -1) {
+                    newDecimal = MAX_DECIMAL;
+                } else {
+                    newDecimal -= SINGLE_UNIT;
+                    newValue++;
+                }
+            }
+            return setAndClampValues(newValue, newDecimal);
+        }
+
+        /**
+         * Subtracts the given {@link FloatingLong} from this accumulator. This gets clamped at the lower bound of {@link FloatingLong#ZERO} rather than becoming negative.
+         */
+        public FloatingLongMath minus(FloatingLong toSubtract) {
+            return minus(toSubtract.getValue(), toSubtract.getDecimal());
+        }
+
+        /**
+         * Subtracts the value of the given accumulator from this accumulator. This gets clamped at the lower bound of {@link FloatingLong#ZERO} rather than becoming
+         * negative.
+         */
+        public FloatingLongMath minus(FloatingLongMath toSubtract) {
+            return minus(toSubtract.value, toSubtract.decimal);
+        }
+
+        /**
+         * Subtracts the given unsigned long from this accumulator. This gets clamped at the lower bound of {@link FloatingLong#ZERO} rather than becoming negative.
+         */
+        public FloatingLongMath minus(long toSubtract) {
+            return minus(toSubtract, (short) 0);
+        }
+
+        private FloatingLongMath minus(long subtractValue, short subtractDecimal) {
+            if (compareTo(subtractValue, subtractDecimal) < 0) {
+                //Clamp the result at zero as floating longs cannot become negative
+                return setZero();
+            }
+            long newValue = value - subtractValue;
+            short newDecimal = (short) (decimal - subtractDecimal);
+            if (newDecimal < 0) {
+                newDecimal += SINGLE_UNIT;
+                newValue--;
+            }
+            return setAndClampValues(newValue, newDecimal);
+        }
+
+        /**
+         * Multiplies this accumulator by the given {@link FloatingLong}. This gets clamped at the upper bound of {@link FloatingLong#MAX_VALUE} rather than overflowing.
+         */
+        public FloatingLongMath times(FloatingLong toMultiply) {
+            return times(toMultiply.getValue(), toMultiply.getDecimal());
+        }
+
+        /**
+         * Multiplies this accumulator by the value of the given accumulator. This gets clamped at the upper bound of {@link FloatingLong#MAX_VALUE} rather than
+         * overflowing.
+         */
+        public FloatingLongMath times(FloatingLongMath toMultiply) {
+            return times(toMultiply.value, toMultiply.decimal);
+        }
+
+        /**
+         * Multiplies this accumulator by the given unsigned long. This gets clamped at the upper bound of {@link FloatingLong#MAX_VALUE} rather than overflowing.
+         */
+        public FloatingLongMath times(long toMultiply) {
+            return times(toMultiply, (short) 0);
+        }
+
+        private FloatingLongMath times(long multiplyValue, short multiplyDecimal) {
+            //(a+b)*(c+d) where numbers represent decimal, numbers represent value
+            if (multiplyLongsWillOverFlow(value, multiplyValue)) {
+                return setAndClampValues(-1, MAX_DECIMAL);
+            }
+            long a = value;
+            short b = decimal;
+            setAndClampValues(multiplyLongs(a, multiplyValue), (short) 0);//a * c
+            plusLongAndDecimal(a, multiplyDecimal);//a * d
+            plusLongAndDecimal(multiplyValue, b);//b * c
+            //Note: If we instead wanted to round here, just get modulus and add if >= 0.5*SINGLE_UNIT
+            return plus(0, (short) ((long) b * (long) multiplyDecimal / SINGLE_UNIT));//b * d
+        }
+
+        /**
+         * Adds the result of multiplying a long by a decimal.
+         */
+        private void plusLongAndDecimal(long value, short decimal) {
+            //This can't overflow!
+            if (Long.compareUnsigned(value, Long.divideUnsigned(-1, SINGLE_UNIT)) > 0) {
+                plus(Long.divideUnsigned(value, SINGLE_UNIT) * decimal, clampDecimal((short) (value % SINGLE_UNIT * decimal)));
+            } else {
+                plus(Long.divideUnsigned(value * decimal, SINGLE_UNIT), clampDecimal((short) (value * decimal % SINGLE_UNIT)));
+            }
+        }
+
+        /**
+         * Divides this accumulator by the given unsigned long. Rounds to the nearest 0.0001
+         *
+         * @throws ArithmeticException if {@code toDivide} is zero.
+         */
+        public FloatingLongMath divide(long toDivide) {
+            if (toDivide == 0) {
+                throw new ArithmeticException("Division by zero");
+            } else if (isZero()) {
+                return this;
+            }
+            long val = Long.divideUnsigned(value, toDivide);
+            long rem = Long.remainderUnsigned(value, toDivide);
+            long dec;
+            if (Long.compareUnsigned(rem, MAX_LONG_SHIFT / 10) >= 0) {
+                //if rem * SINGLE_UNIT * 10 would overflow, then toDivide also has to be big so just lose some denominator precision
+                dec = Long.divideUnsigned(rem, Long.divideUnsigned(toDivide, SINGLE_UNIT * 10L));
+            } else {
+                dec = Long.divideUnsigned(rem * SINGLE_UNIT * 10L, toDivide);
+                //need to account for dividing decimal too in case toDivide < 10k
+                dec += Long.divideUnsigned(decimal * 10L, toDivide);
+            }
+            //Round to the nearest
+            if (Long.remainderUnsigned(dec, 10) >= 5) {
+                dec += 10;
+                if (dec >= SINGLE_UNIT * 10) {
+                    val++;
+                    dec -= SINGLE_UNIT * 10;
+                }
+            }
+            dec /= 10;
+            return setAndClampValues(val, (short) dec);
+        }
+
+        /**
+         * Sets this accumulator to the smaller of its current value and the given {@link FloatingLong}.
+         */
+        public FloatingLongMath min(FloatingLong other) {
+            return compareTo(other) > 0 ? set(other) : this;
+        }
+
+        /**
+         * Sets this accumulator to the smaller of its current value and the value of the given accumulator.
+         */
+        public FloatingLongMath min(FloatingLongMath other) {
+            return compareTo(other.value, other.decimal) > 0 ? set(other) : this;
+        }
+
+        /**
+         * Sets this accumulator to the larger of its current value and the given {@link FloatingLong}.
+         */
+        public FloatingLongMath max(FloatingLong other) {
+            return compareTo(other) < 0 ? set(other) : this;
+        }
+
+        /**
+         * Sets this accumulator to the larger of its current value and the value of the given accumulator.
+         */
+        public FloatingLongMath max(FloatingLongMath other) {
+            return compareTo(other.value, other.decimal) < 0 ? set(other) : this;
+        }
+
+        /**
+         * Compares the value of this accumulator to the given {@link FloatingLong}, following the same contract as {@link FloatingLong#compareTo(FloatingLong)}.
+         */
+        public int compareTo(FloatingLong toCompare) {
+            return compareTo(toCompare.getValue(), toCompare.getDecimal());
+        }
+
+        private int compareTo(long compareValue, short compareDecimal) {
+            int valueCompare = Long.compareUnsigned(value, compareValue);
+            if (valueCompare == 0) {
+                if (decimal < compareDecimal) {
+                    return -2;
+                } else if (decimal > compareDecimal) {
+                    return 2;
+                }
+                return 0;
+            }
+            return valueCompare;
+        }
+
+        public boolean greaterThan(FloatingLong toCompare) {
+            return compareTo(toCompare) > 0;
+        }
+
+        public boolean smallerThan(FloatingLong toCompare) {
+            return compareTo(toCompare) < 0;
+        }
+
+        public boolean isEqualTo(FloatingLong other) {
+            return value == other.getValue() && decimal == other.getDecimal();
+        }
+
+        /**
+         * Stores the value of this accumulator in the given {@link FloatingLong}, modifying it unless it is a constant in which case the value is instead returned in a new
+         * object.
+         *
+         * @param target The {@link FloatingLong} to store the value in.
+         *
+         * @return The {@link FloatingLong} holding the value of this accumulator.
+         *
+         * @apiNote It is recommended to set the target to the result, as constants cannot be modified
+         * <br>
+         * {@code value = math.writeTo(value)}
+         */
+        public FloatingLong writeTo(FloatingLong target) {
+            return target.setAndClampValues(value, decimal);
+        }
+
+        /**
+         * @return A new mutable {@link FloatingLong} with the value of this accumulator.
+         */
+        public FloatingLong toFloatingLong() {
+            return create(value, decimal);
+        }
+
+        @Override
+        public String toString() {
+            return toFloatingLong().toString();
+        }
+
+        private static short clampDecimal(short decimal) {
+            if (decimal < 0) {
+                return 0;
+            } else if (decimal > MAX_DECIMAL) {
+                return MAX_DECIMAL;
+            }
+            return decimal;
+        }
     }
 }
\ No newline at end of file
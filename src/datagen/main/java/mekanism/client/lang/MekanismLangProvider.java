@@ -631,6 +631,9 @@ public class MekanismLangProvider extends BaseLanguageProvider {
         add(MekanismLang.COMMAND_CHUNK_LOADED, "Loaded chunk (%1$s).");
         add(MekanismLang.COMMAND_CHUNK_UNLOADED, "Unloaded chunk (%1$s).");
         add(MekanismLang.COMMAND_DEBUG, "Toggled debug mode: %1$s.");
+        add(MekanismLang.COMMAND_DEBUG_RECIPES, "%1$s: %2$s lookups memoized, %3$s looked up.");
+        add(MekanismLang.COMMAND_DEBUG_RECIPES_NONE, "No recipe lookups since recipes were last loaded.");
+        add(MekanismLang.COMMAND_DEBUG_TRANSPORTERS, "Transporter paths: %1$s reused from the cache, %2$s found by pathfinding.");
         add(MekanismLang.COMMAND_TEST_RULES, "Enabled keepInventory, and disabled doMobSpawning, doDaylightCycle, doWeatherCycle and mobGriefing!");
         add(MekanismLang.COMMAND_TP, "Teleported to (%1$s) - saved last position on stack.");
         add(MekanismLang.COMMAND_TPOP, "Returned to (%1$s); %2$s positions on stack.");
@@ -0,0 +1,120 @@
+package mekanism.api.math;
+
+import java.util.concurrent.TimeUnit;
+import mekanism.api.math.FloatingLong.FloatingLongMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares doing a chain of energy calculations with the immutable style {@link FloatingLong} methods against doing them with a {@link FloatingLongMath} accumulator.
+ * Run with {@code -prof gc} to also compare how much gets allocated per operation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FloatingLongBenchmark {
+
+    @Param({"16", "256"})
+    public int targets;
+
+    private FloatingLong[] amounts;
+    private FloatingLong capacity;
+    private FloatingLong rate;
+
+    @Setup
+    public void setup() {
+        amounts = new FloatingLong[targets];
+        for (int i = 0; i < targets; i++) {
+            amounts[i] = FloatingLong.createConst(1_000 + 37L * i, (short) (i * 113 % 10_000));
+        }
+        capacity = FloatingLong.createConst(1_000_000);
+        rate = FloatingLong.createConst(25_000, (short) 5_000);
+    }
+
+    /**
+     * Mirrors how much an energy container is able to accept from each target, and how much ends up being left over.
+     */
+    @Benchmark
+    public FloatingLong insertImmutable() {
+        FloatingLong stored = FloatingLong.ZERO;
+        FloatingLong remainder = FloatingLong.ZERO;
+        for (FloatingLong amount : amounts) {
+            FloatingLong toAdd = amount.min(rate.min(capacity.subtract(stored)));
+            stored = stored.add(toAdd);
+            remainder = remainder.add(amount.subtract(toAdd));
+        }
+        return stored.add(remainder);
+    }
+
+    @Benchmark
+    public FloatingLong insertAccumulator() {
+        FloatingLongMath stored = new FloatingLongMath();
+        FloatingLongMath remainder = new FloatingLongMath();
+        FloatingLongMath toAdd = new FloatingLongMath();
+        for (FloatingLong amount : amounts) {
+            toAdd.set(capacity).minus(stored).min(rate).min(amount);
+            stored.plus(toAdd);
+            remainder.plus(amount).minus(toAdd);
+        }
+        return stored.plus(remainder).toFloatingLong();
+    }
+
+    /**
+     * Mirrors splitting an amount between targets, recalculating the share of each remaining target after each one is sent to.
+     */
+    @Benchmark
+    public FloatingLong splitImmutable() {
+        FloatingLong toSplit = capacity.copy();
+        FloatingLong sent = FloatingLong.ZERO;
+        for (int i = 0; i < targets; i++) {
+            FloatingLong share = toSplit.divide(targets - i).min(amounts[i]);
+            toSplit = toSplit.subtract(share);
+            sent = sent.add(share);
+        }
+        return sent;
+    }
+
+    @Benchmark
+    public FloatingLong splitAccumulator() {
+        FloatingLongMath toSplit = new FloatingLongMath(capacity);
+        FloatingLongMath sent = new FloatingLongMath();
+        FloatingLongMath share = new FloatingLongMath();
+        for (int i = 0; i < targets; i++) {
+            share.set(toSplit).divide(targets - i).min(amounts[i]);
+            toSplit.minus(share);
+            sent.plus(share);
+        }
+        return sent.toFloatingLong();
+    }
+
+    @Benchmark
+    public FloatingLong multiplyImmutable() {
+        FloatingLong total = FloatingLong.ZERO;
+        for (FloatingLong amount : amounts) {
+            total = total.add(amount.multiply(rate));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public FloatingLong multiplyAccumulator() {
+        FloatingLongMath total = new FloatingLongMath();
+        FloatingLongMath product = new FloatingLongMath();
+        for (FloatingLong amount : amounts) {
+            total.plus(product.set(amount).times(rate));
+        }
+        return total.toFloatingLong();
+    }
+}
@@ -0,0 +1,71 @@
+package mekanism.common.content.qio;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.Registry;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing QIO search queries, and matching a parsed query against every registered item as the QIO item viewer does whenever the search changes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchQueryParserBenchmark {
+
+    @Param({"iron", "@minecraft", "iron|gold|copper", "\"iron ingot\" @minecraft", "(iron ore)|@mekanism #ingots"})
+    public String query;
+
+    private ItemStack[] stacks;
+    private ISearchQuery parsed;
+
+    @Setup
+    public void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        List<ItemStack> stackList = new ArrayList<>();
+        for (Item item : Registry.ITEM) {
+            if (item != Items.AIR) {
+                stackList.add(new ItemStack(item));
+            }
+        }
+        stacks = stackList.toArray(new ItemStack[0]);
+        parsed = SearchQueryParser.parse(query);
+    }
+
+    @Benchmark
+    public ISearchQuery parse() {
+        return SearchQueryParser.parse(query);
+    }
+
+    @Benchmark
+    public int matchAll() {
+        int matches = 0;
+        for (ItemStack stack : stacks) {
+            if (parsed.matches(stack)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,60 @@
+package mekanism.common.lib;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures matching a wildcard against a list of tag names, as is done by wildcard filters and the QIO exporter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WildcardMatcherBenchmark {
+
+    private static final String[] NAMESPACES = {"forge", "minecraft", "mekanism", "create", "thermal"};
+    private static final String[] FOLDERS = {"ingots", "ores", "dusts", "nuggets", "storage_blocks", "gems", "raw_materials"};
+    private static final String[] MATERIALS = {"iron", "gold", "copper", "osmium", "tin", "lead", "uranium", "fluorite", "lapis", "redstone", "quartz", "zinc"};
+
+    @Param({"forge:ingots/*", "*:ores/*", "*ium", "forge:?ngots/*", "*:storage_blocks/#*", "minecraft:logs"})
+    public String wildcard;
+
+    private String[] tags;
+
+    @Setup
+    public void setup() {
+        tags = new String[NAMESPACES.length * FOLDERS.length * MATERIALS.length];
+        int index = 0;
+        for (String namespace : NAMESPACES) {
+            for (String folder : FOLDERS) {
+                for (int i = 0; i < MATERIALS.length; i++) {
+                    //Add numbers to some of the tags so that the # wildcard has something to match
+                    tags[index++] = namespace + ":" + folder + "/" + (i % 4 == 0 ? i + "_" : "") + MATERIALS[i];
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public int matchAll() {
+        int matches = 0;
+        for (String tag : tags) {
+            if (WildcardMatcher.matches(wildcard, tag)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,79 @@
+package mekanism.common.lib.inventory;
+
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.Registry;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures creating {@link HashedItem}s and looking them up in a map, as is done for the item maps of QIO drives and transporter/inventory item lookups. Every item
+ * is included twice, once without NBT and once with some NBT to make sure tags are part of the hashing and comparisons.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashedItemBenchmark {
+
+    private ItemStack[] stacks;
+    private Object2LongMap<HashedItem> itemMap;
+
+    @Setup
+    public void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        List<ItemStack> stackList = new ArrayList<>();
+        for (Item item : Registry.ITEM) {
+            if (item != Items.AIR) {
+                stackList.add(new ItemStack(item, 64));
+                ItemStack named = new ItemStack(item, 64);
+                named.getOrCreateTag().putString("benchmark", Registry.ITEM.getKey(item).toString());
+                named.getOrCreateTag().putInt("count", stackList.size());
+                stackList.add(named);
+            }
+        }
+        stacks = stackList.toArray(new ItemStack[0]);
+        itemMap = new Object2LongOpenHashMap<>(stacks.length);
+        for (ItemStack stack : stacks) {
+            //Store copies so that lookups have to compare the stacks rather than hitting the identity check
+            itemMap.put(HashedItem.create(stack.copy()), stack.getCount());
+        }
+    }
+
+    @Benchmark
+    public int create() {
+        int hash = 0;
+        for (ItemStack stack : stacks) {
+            hash += HashedItem.create(stack).hashCode();
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public long lookupRaw() {
+        long total = 0;
+        for (ItemStack stack : stacks) {
+            total += itemMap.getLong(HashedItem.raw(stack));
+        }
+        return total;
+    }
+}
@@ -0,0 +1,101 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures finding which parts of a network got disconnected when a transmitter is removed from a flat square grid of transmitters, both for when removing it does not
+ * split the network and for when it cuts off one row of the grid. For comparison of how the cost scales with the size of the network, it also measures flooding the
+ * entire grid, which is what rebuilding the network after a full invalidation has to do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NetworkSplitFinderBenchmark {
+
+    @Param({"16", "64", "128"})
+    public int size;
+
+    private BlockPos gridCenter;
+    private BlockPos bridge;
+
+    @Setup
+    public void setup() {
+        gridCenter = new BlockPos(size / 2, 0, size / 2);
+        //The grid has an extra row at z = -2 that is only connected to the rest of the grid via the bridge at x = 0, z = -1
+        bridge = new BlockPos(0, 0, -1);
+    }
+
+    private boolean isTransmitter(BlockPos pos) {
+        if (pos.getY() != 0 || pos.getX() < 0 || pos.getX() >= size || pos.getZ() >= size) {
+            return false;
+        }
+        return pos.getZ() >= 0 || pos.getZ() == -2 || pos.equals(bridge);
+    }
+
+    private List<Set<BlockPos>> remove(BlockPos removed) {
+        List<BlockPos> starts = new ArrayList<>();
+        for (Direction direction : Direction.values()) {
+            BlockPos neighbor = removed.relative(direction);
+            if (isTransmitter(neighbor)) {
+                starts.add(neighbor);
+            }
+        }
+        return NetworkSplitFinder.findDisconnected(starts, (node, consumer) -> {
+            for (Direction direction : Direction.values()) {
+                BlockPos neighbor = node.relative(direction);
+                if (!neighbor.equals(removed) && isTransmitter(neighbor)) {
+                    consumer.accept(neighbor);
+                }
+            }
+        });
+    }
+
+    @Benchmark
+    public List<Set<BlockPos>> removeWithoutSplit() {
+        return remove(gridCenter);
+    }
+
+    @Benchmark
+    public List<Set<BlockPos>> removeSplittingRow() {
+        return remove(bridge);
+    }
+
+    @Benchmark
+    public Set<BlockPos> floodEntireNetwork() {
+        Set<BlockPos> visited = new ObjectOpenHashSet<>();
+        ArrayDeque<BlockPos> queue = new ArrayDeque<>();
+        visited.add(gridCenter);
+        queue.add(gridCenter);
+        BlockPos node;
+        while ((node = queue.poll()) != null) {
+            for (Direction direction : Direction.values()) {
+                BlockPos neighbor = node.relative(direction);
+                if (isTransmitter(neighbor) && visited.add(neighbor)) {
+                    queue.add(neighbor);
+                }
+            }
+        }
+        return visited;
+    }
+}
@@ -0,0 +1,97 @@
+package mekanism.common.recipe.lookup.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import mekanism.api.recipes.ItemStackToItemStackRecipe;
+import mekanism.api.recipes.ingredients.creator.IngredientCreatorAccess;
+import mekanism.common.recipe.impl.CrushingIRecipe;
+import mekanism.common.recipe.lookup.cache.InputRecipeCache.SingleItem;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.Registry;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures looking up single item input recipes, both for items that have a recipe and for items that don't, which is what machines do whenever their input changes
+ * and what insertion predicates do for every item offered to them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InputRecipeCacheBenchmark {
+
+    @Param({"64", "512"})
+    public int recipes;
+
+    private SingleItem<ItemStackToItemStackRecipe> cache;
+    private ItemStack[] withRecipe;
+    private ItemStack[] withoutRecipe;
+
+    @Setup
+    public void setup() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        List<Item> items = new ArrayList<>();
+        for (Item item : Registry.ITEM) {
+            if (item != Items.AIR) {
+                items.add(item);
+            }
+        }
+        int recipeCount = Math.min(recipes, items.size() / 2);
+        List<ItemStackToItemStackRecipe> recipeList = new ArrayList<>(recipeCount);
+        withRecipe = new ItemStack[recipeCount];
+        for (int i = 0; i < recipeCount; i++) {
+            Item item = items.get(i);
+            recipeList.add(new CrushingIRecipe(new ResourceLocation("benchmark", "recipe_" + i), IngredientCreatorAccess.item().from(item),
+                  new ItemStack(Items.COBBLESTONE)));
+            withRecipe[i] = new ItemStack(item, 16);
+        }
+        withoutRecipe = new ItemStack[recipeCount];
+        for (int i = 0; i < recipeCount; i++) {
+            withoutRecipe[i] = new ItemStack(items.get(recipeCount + i), 16);
+        }
+        //Note: We don't have a world to get the recipes from, so initialize the cache with our recipes directly
+        cache = new SingleItem<>(null, ItemStackToItemStackRecipe::getInput);
+        cache.initialize(recipeList);
+    }
+
+    @Benchmark
+    public int findFirstRecipe() {
+        int found = 0;
+        for (ItemStack stack : withRecipe) {
+            if (cache.findFirstRecipe(null, stack) != null) {
+                found++;
+            }
+        }
+        return found;
+    }
+
+    @Benchmark
+    public int containsInputMissing() {
+        int found = 0;
+        for (ItemStack stack : withoutRecipe) {
+            if (cache.containsInput(null, stack)) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,71 @@
+package mekanism.common.util;
+
+import java.util.concurrent.TimeUnit;
+import mekanism.api.math.FloatingLong;
+import mekanism.common.lib.distribution.FloatingLongSplitInfo;
+import mekanism.common.lib.distribution.FloatingLongTarget;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures splitting energy between acceptors via {@link EmitUtils#sendToAcceptors(FloatingLongTarget, FloatingLong)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmitUtilsBenchmark {
+
+    @Param({"1", "16", "256"})
+    public int acceptors;
+
+    private CapacityTarget target;
+    private FloatingLong toSend;
+
+    @Setup
+    public void setup() {
+        target = new CapacityTarget(acceptors);
+        for (int i = 0; i < acceptors; i++) {
+            //Mix acceptors that want less than their share with ones that want more, so that the split has to get recalculated
+            target.addHandler(FloatingLong.createConst(i % 3 == 0 ? 10 + i : 1_000_000L * (i + 1)));
+        }
+        toSend = FloatingLong.createConst(100_000L * acceptors, (short) 5_000);
+    }
+
+    @Benchmark
+    public FloatingLong sendToAcceptors() {
+        return EmitUtils.sendToAcceptors(target, toSend);
+    }
+
+    /**
+     * Target whose handlers are how much each acceptor is able to accept. The handlers don't keep track of what they have been sent so that every invocation of the
+     * benchmark does the same amount of work.
+     */
+    private static class CapacityTarget extends FloatingLongTarget<FloatingLong> {
+
+        private CapacityTarget(int expectedSize) {
+            super(expectedSize);
+        }
+
+        @Override
+        protected void acceptAmount(FloatingLong capacity, FloatingLongSplitInfo splitInfo, FloatingLong amount) {
+            splitInfo.send(amount.min(capacity));
+        }
+
+        @Override
+        protected FloatingLong simulate(FloatingLong capacity, FloatingLong energyToSend) {
+            return energyToSend.min(capacity);
+        }
+    }
+}
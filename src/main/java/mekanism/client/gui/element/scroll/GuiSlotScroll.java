@@ -40,6 +40,7 @@ public class GuiSlotScroll extends GuiElement implements IJEIIngredientHelper {
     private final int xSlots, ySlots;
     private final Supplier<List<IScrollableSlot>> slotList;
     private final ISlotClickHandler clickHandler;
+    private int visibleStart = -1;
 
     public GuiSlotScroll(IGuiWrapper gui, int x, int y, int xSlots, int ySlots, Supplier<List<IScrollableSlot>> slotList, ISlotClickHandler clickHandler) {
         super(gui, x, y, xSlots * 18 + 18, ySlots * 18);
@@ -49,6 +50,32 @@ public class GuiSlotScroll extends GuiElement implements IJEIIngredientHelper {
         this.clickHandler = clickHandler;
         scrollBar = addChild(new GuiScrollBar(gui, relativeX + xSlots * 18 + 4, y, ySlots * 18,
               () -> getSlotList() == null ? 0 : (int) Math.ceil((double) getSlotList().size() / xSlots), () -> ySlots));
+        updateVisibleSlots();
+    }
+
+    /**
+     * Lets the click handler know which slots are visible if the first visible slot changed.
+     */
+    private void updateVisibleSlots() {
+        int slotStart = scrollBar.getCurrentSelection() * xSlots;
+        if (slotStart != visibleStart) {
+            visibleStart = slotStart;
+            clickHandler.onVisibleSlots(slotStart, slotStart + xSlots * ySlots);
+        }
+    }
+
+    @Override
+    public void tick() {
+        super.tick();
+        //Note: The first visible slot can also change without scrolling if the number of slots changes, as the scroll bar keeps its relative position
+        updateVisibleSlots();
+    }
+
+    @Override
+    public void syncFrom(GuiElement element) {
+        super.syncFrom(element);
+        //Resizing restores the previous scroll position
+        updateVisibleSlots();
     }
 
     @Override
@@ -97,7 +124,17 @@ public class GuiSlotScroll extends GuiElement implements IJEIIngredientHelper {
 
     @Override
     public boolean mouseScrolled(double mouseX, double mouseY, double delta) {
-        return scrollBar.adjustScroll(delta) || super.mouseScrolled(mouseX, mouseY, delta);
+        if (scrollBar.adjustScroll(delta)) {
+            updateVisibleSlots();
+            return true;
+        }
+        return super.mouseScrolled(mouseX, mouseY, delta);
+    }
+
+    @Override
+    public void onDrag(double mouseX, double mouseY, double mouseXOld, double mouseYOld) {
+        super.onDrag(mouseX, mouseY, mouseXOld, mouseYOld);
+        updateVisibleSlots();
     }
 
     @Override
@@ -2,6 +2,7 @@ package mekanism.common;
 
 import mekanism.common.block.BlockCardboardBox;
 import mekanism.common.capabilities.Capabilities;
+import mekanism.common.content.transporter.TransporterUpdateBatcher;
 import mekanism.common.lib.radiation.RadiationManager;
 import mekanism.common.lib.radiation.capability.DefaultRadiationEntity;
 import mekanism.common.network.to_client.PacketPlayerData;
@@ -19,6 +20,7 @@ import net.minecraftforge.event.entity.player.PlayerEvent.PlayerChangedDimension
 import net.minecraftforge.event.entity.player.PlayerEvent.PlayerLoggedInEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent.PlayerLoggedOutEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent.RightClickBlock;
+import net.minecraftforge.event.world.ChunkWatchEvent;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 
@@ -48,6 +50,7 @@ public class CommonPlayerTracker {
         Player player = event.getPlayer();
         Mekanism.playerState.clearPlayer(player.getUUID(), false);
         Mekanism.playerState.clearPlayerServerSideOnly(player.getUUID());
+        TransporterUpdateBatcher.clearPlayer(player.getUUID());
     }
 
     @SubscribeEvent
@@ -55,6 +58,7 @@ public class CommonPlayerTracker {
         ServerPlayer player = (ServerPlayer) event.getPlayer();
         Mekanism.playerState.clearPlayer(player.getUUID(), false);
         Mekanism.playerState.reapplyServerSideOnly(player);
+        TransporterUpdateBatcher.clearPlayer(player.getUUID());
         player.getCapability(Capabilities.RADIATION_ENTITY_CAPABILITY).ifPresent(c -> PacketRadiationData.sync(player));
         RadiationManager.INSTANCE.updateClientRadiation(player);
     }
@@ -66,6 +70,17 @@ public class CommonPlayerTracker {
         }
     }
 
+    @SubscribeEvent
+    public void onChunkWatch(ChunkWatchEvent.Watch event) {
+        //The player is being sent the current state of the chunk, so any transporter changes we held back for it are outdated
+        TransporterUpdateBatcher.clearChunk(event.getPlayer().getUUID(), event.getPos());
+    }
+
+    @SubscribeEvent
+    public void onChunkUnWatch(ChunkWatchEvent.UnWatch event) {
+        TransporterUpdateBatcher.clearChunk(event.getPlayer().getUUID(), event.getPos());
+    }
+
     @SubscribeEvent
     public void attachCaps(AttachCapabilitiesEvent<Entity> event) {
         if (event.getObject() instanceof LivingEntity) {
@@ -94,6 +109,7 @@ public class CommonPlayerTracker {
             PacketRadiationData.sync(player);
         });
         RadiationManager.INSTANCE.updateClientRadiation(player);
+        TransporterUpdateBatcher.clearPlayer(player.getUUID());
         Mekanism.packetHandler().sendToAll(new PacketResetPlayerClient(player.getUUID()));
     }
 
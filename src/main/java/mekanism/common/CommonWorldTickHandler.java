@@ -11,9 +11,11 @@ import mekanism.api.MekanismAPI;
 import mekanism.api.NBTConstants;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.IQIOCraftingWindowHolder;
+import mekanism.common.content.transporter.TransporterUpdateBatcher;
 import mekanism.common.inventory.container.item.PortableQIODashboardContainer;
 import mekanism.common.lib.frequency.FrequencyManager;
 import mekanism.common.lib.radiation.RadiationManager;
+import mekanism.common.tile.base.TileEntityUpdateable;
 import mekanism.common.util.WorldUtils;
 import mekanism.common.world.GenHandler;
 import net.minecraft.resources.ResourceKey;
@@ -175,6 +177,9 @@ public class CommonWorldTickHandler {
     private void serverTick() {
         FrequencyManager.tick();
         RadiationManager.INSTANCE.tickServer();
+        //Send update packets last so that any changes to tiles during this tick are included
+        TileEntityUpdateable.flushUpdatePackets();
+        TransporterUpdateBatcher.flush();
     }
 
     private void tickEnd(ServerLevel world) {
@@ -57,9 +57,11 @@ import mekanism.common.content.gear.ModuleDispenseBehavior;
 import mekanism.common.content.gear.ModuleHelper;
 import mekanism.common.content.matrix.MatrixMultiblockData;
 import mekanism.common.content.matrix.MatrixValidator;
+import mekanism.common.content.miner.MinerSearchScheduler;
 import mekanism.common.content.network.BoxedChemicalNetwork.ChemicalTransferEvent;
 import mekanism.common.content.network.EnergyNetwork.EnergyTransferEvent;
 import mekanism.common.content.network.FluidNetwork.FluidTransferEvent;
+import mekanism.common.content.qio.QIODriveSaver;
 import mekanism.common.content.sps.SPSCache;
 import mekanism.common.content.sps.SPSMultiblockData;
 import mekanism.common.content.sps.SPSValidator;
@@ -68,6 +70,7 @@ import mekanism.common.content.tank.TankMultiblockData;
 import mekanism.common.content.tank.TankValidator;
 import mekanism.common.content.transporter.PathfinderCache;
 import mekanism.common.content.transporter.TransporterManager;
+import mekanism.common.content.transporter.TransporterUpdateBatcher;
 import mekanism.common.integration.MekanismHooks;
 import mekanism.common.integration.crafttweaker.content.CrTContentUtils;
 import mekanism.common.item.block.machine.ItemBlockFluidTank.BasicCauldronInteraction;
@@ -107,6 +110,7 @@ import mekanism.common.registries.MekanismSlurries;
 import mekanism.common.registries.MekanismSounds;
 import mekanism.common.registries.MekanismTileEntityTypes;
 import mekanism.common.tags.MekanismTags;
+import mekanism.common.tile.base.TileEntityUpdateable;
 import mekanism.common.tile.component.TileComponentChunkLoader.ChunkValidationCallback;
 import mekanism.common.tile.machine.TileEntityOredictionificator.ODConfigValueInvalidationListener;
 import mekanism.common.world.GenHandler;
@@ -358,8 +362,12 @@ public class Mekanism {
         MultiblockManager.reset();
         FrequencyManager.reset();
         TransporterManager.reset();
+        TransporterUpdateBatcher.reset();
         PathfinderCache.reset();
         TransmitterNetworkRegistry.reset();
+        QIODriveSaver.shutdown();
+        MinerSearchScheduler.shutdown();
+        TileEntityUpdateable.clearPendingUpdates();
     }
 
     private void imcQueue(InterModEnqueueEvent event) {
@@ -134,6 +134,9 @@ public enum MekanismLang implements ILangEntry {
     COMMAND_CHUNK_LOADED("command", "chunk.loaded"),
     COMMAND_CHUNK_UNLOADED("command", "chunk.unloaded"),
     COMMAND_DEBUG("command", "debug"),
+    COMMAND_DEBUG_RECIPES("command", "debug.recipes"),
+    COMMAND_DEBUG_RECIPES_NONE("command", "debug.recipes.none"),
+    COMMAND_DEBUG_TRANSPORTERS("command", "debug.transporters"),
     COMMAND_TEST_RULES("command", "testrules"),
     COMMAND_TP("command", "tp"),
     COMMAND_TPOP("command", "tpop"),
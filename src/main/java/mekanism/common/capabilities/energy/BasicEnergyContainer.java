@@ -12,6 +12,7 @@ import mekanism.api.annotations.FieldsAreNonnullByDefault;
 import mekanism.api.annotations.NonNull;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLong.FloatingLongMath;
 import mekanism.common.util.NBTUtils;
 import net.minecraft.MethodsReturnNonnullByDefault;
 import net.minecraft.nbt.CompoundTag;
@@ -105,19 +106,20 @@ public class BasicEnergyContainer implements IEnergyContainer {
         if (amount.isZero() || !canInsert.test(automationType)) {
             return amount;
         }
-        FloatingLong needed = getRate(automationType).min(getNeeded());
-        if (needed.isZero()) {
+        //Note: We calculate how much we can add using primitives so that we only create an object for the remainder we return
+        FloatingLongMath toAdd = new FloatingLongMath(getMaxEnergy()).minus(getEnergy()).min(getRate(automationType));
+        if (toAdd.isZero()) {
             //Fail if we are a full container or our rate is zero
             return amount;
         }
-        FloatingLong toAdd = amount.min(needed);
-        if (!toAdd.isZero() && action.execute()) {
+        toAdd.min(amount);
+        if (action.execute()) {
             //If we want to actually insert the energy, then update the current energy
             // Note: this also will mark that the contents changed
-            stored = stored.plusEqual(toAdd);
+            stored = new FloatingLongMath(stored).plus(toAdd).writeTo(stored);
             onContentsChanged();
         }
-        return amount.subtract(toAdd);
+        return toAdd.isEqualTo(amount) ? FloatingLong.ZERO : new FloatingLongMath(amount).minus(toAdd).toFloatingLong();
     }
 
     @Override
@@ -13,6 +13,10 @@ import mekanism.api.MekanismAPI;
 import mekanism.api.text.EnumColor;
 import mekanism.common.MekanismLang;
 import mekanism.common.command.builders.BuildCommand;
+import mekanism.common.content.transporter.PathfinderCache;
+import mekanism.common.recipe.IMekanismRecipeTypeProvider;
+import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.cache.AbstractInputRecipeCache;
 import mekanism.common.util.text.BooleanStateDisplay.OnOff;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
@@ -53,7 +57,35 @@ public class CommandMek {
                       MekanismAPI.debug = !MekanismAPI.debug;
                       ctx.getSource().sendSuccess(MekanismLang.COMMAND_DEBUG.translateColored(EnumColor.GRAY, OnOff.of(MekanismAPI.debug, true)), true);
                       return 0;
-                  });
+                  }).then(Commands.literal("recipes")
+                        .executes(ctx -> {
+                            CommandSourceStack source = ctx.getSource();
+                            int types = 0;
+                            for (IMekanismRecipeTypeProvider<?, ?> recipeTypeProvider : MekanismRecipeType.RECIPE_TYPES.getAllRecipeTypes()) {
+                                MekanismRecipeType<?, ?> recipeType = recipeTypeProvider.getRecipeType();
+                                if (recipeType.getInputCache() instanceof AbstractInputRecipeCache<?> cache) {
+                                    long hits = cache.getMemoHits();
+                                    long misses = cache.getMemoMisses();
+                                    if (hits + misses > 0) {
+                                        source.sendSuccess(MekanismLang.COMMAND_DEBUG_RECIPES.translateColored(EnumColor.GRAY, EnumColor.INDIGO,
+                                              recipeType.getRegistryName(), hits, misses), false);
+                                        types++;
+                                    }
+                                }
+                            }
+                            if (types == 0) {
+                                source.sendSuccess(MekanismLang.COMMAND_DEBUG_RECIPES_NONE.translateColored(EnumColor.GRAY), false);
+                            }
+                            return types;
+                        })
+                  ).then(Commands.literal("transporters")
+                        .executes(ctx -> {
+                            long hits = PathfinderCache.getHits();
+                            long misses = PathfinderCache.getMisses();
+                            ctx.getSource().sendSuccess(MekanismLang.COMMAND_DEBUG_TRANSPORTERS.translateColored(EnumColor.GRAY, EnumColor.INDIGO, hits, misses), false);
+                            return (int) Math.min(hits, Integer.MAX_VALUE);
+                        })
+                  );
         }
     }
 
@@ -24,6 +24,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     private static final String CONVERSION_CATEGORY = "energy_conversion";
 
     private static final String EJECT_CATEGORY = "auto_eject";
+    private static final String TRANSMITTER_NETWORK_CATEGORY = "transmitter_networks";
     private static final String MINER_CATEGORY = "digital_miner";
     private static final String DYNAMIC_TANK = "dynamic_tank";
     private static final String LASER_SETTINGS = "laser";
@@ -33,6 +34,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     private static final String SECURITY_CATEGORY = "security";
     private static final String EVAPORATION_CATEGORY = "thermal_evaporation";
     private static final String SPS_CATEGORY = "sps";
+    private static final String QIO_CATEGORY = "qio";
     private static final String RADIATION_CATEGORY = "radiation";
     private static final String PREFILLED_CATEGORY = "prefilled";
     private static final String NUTRITIONAL_PASTE_CATEGORY = "nutritional_paste";
@@ -56,6 +58,9 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue fluidAutoEjectRate;
     public final CachedLongValue chemicalAutoEjectRate;
     public final CachedDoubleValue dumpExcessKeepRatio;
+    //Transmitter Networks
+    public final CachedIntValue transporterDetailDistance;
+    public final CachedIntValue transporterDistantUpdateRate;
     //Dynamic Tank
     public final CachedIntValue dynamicTankFluidPerTank;
     public final CachedLongValue dynamicTankChemicalPerTank;
@@ -80,6 +85,9 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedDoubleValue radiationSourceDecayRate;
     public final CachedDoubleValue radiationTargetDecayRate;
     public final CachedDoubleValue radiationNegativeEffectsMinSeverity;
+    public final CachedBooleanValue radiationAmortizedDecay;
+    public final CachedIntValue radiationDecayBudget;
+    public final CachedDoubleValue radiationSyncThreshold;
     public final CachedLongValue radioactiveWasteBarrelMaxGas;
     public final CachedIntValue radioactiveWasteBarrelProcessTicks;
     public final CachedLongValue radioactiveWasteBarrelDecayAmount;
@@ -87,6 +95,7 @@ public class GeneralConfig extends BaseMekanismConfig {
     public final CachedIntValue minerSilkMultiplier;
     public final CachedIntValue minerMaxRadius;
     public final CachedIntValue minerTicksPerMine;
+    public final CachedIntValue minerSearchThreads;
     //Laser
     public final CachedBooleanValue aestheticWorldDamage;
     public final CachedIntValue laserRange;
@@ -116,6 +125,9 @@ public class GeneralConfig extends BaseMekanismConfig {
     //SPS
     public final CachedIntValue spsInputPerAntimatter;
     public final CachedFloatingLongValue spsEnergyPerInput;
+    //QIO
+    public final CachedIntValue qioViewerSyncInterval;
+    public final CachedBooleanValue qioWindowedViewerSync;
 
     GeneralConfig() {
         ForgeConfigSpec.Builder builder = new ForgeConfigSpec.Builder();
@@ -166,6 +178,13 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("dumpExcessKeepRatio", 0.9D, 0.001D, 1D));
         builder.pop();
 
+        builder.comment("Transmitter Network Settings").push(TRANSMITTER_NETWORK_CATEGORY);
+        transporterDetailDistance = CachedIntValue.wrap(this, builder.comment("Distance in chunks from a player within which changes to the items moving through logistical transporters are synced to that player every tick.")
+              .defineInRange("transporterDetailDistance", 4, 0, 32));
+        transporterDistantUpdateRate = CachedIntValue.wrap(this, builder.comment("Number of ticks between syncing changes to the items moving through logistical transporters to players further away than transporterDetailDistance. Set to 1 to sync them every tick.")
+              .defineInRange("transporterDistantUpdateRate", 10, 1, 100));
+        builder.pop();
+
         builder.comment("Prefilled Tanks").push(PREFILLED_CATEGORY);
         prefilledFluidTanks = CachedBooleanValue.wrap(this, builder.comment("Add filled creative fluid tanks to creative/JEI.")
               .define("fluidTanks", true));
@@ -220,6 +239,12 @@ public class GeneralConfig extends BaseMekanismConfig {
               .define("targetDecayRate", 0.9995D));
         radiationNegativeEffectsMinSeverity = CachedDoubleValue.wrap(this, builder.comment("Defines the minimum severity radiation dosage severity (scale of 0 to 1) for which negative effects can take place. Set to 1 to disable negative effects completely.")
               .defineInRange("negativeEffectsMinSeverity", 0.1D, 0, 1));
+        radiationAmortizedDecay = CachedBooleanValue.wrap(this, builder.comment("If enabled, instead of all radiation sources decaying at once roughly once per second, a slice of the sources decays every tick so that a large amount of sources doesn't cause lag spikes.")
+              .define("amortizedSourceDecay", false));
+        radiationDecayBudget = CachedIntValue.wrap(this, builder.comment("Maximum time in microseconds to spend decaying radiation sources each tick when amortizedSourceDecay is enabled. If this is not enough to decay all sources roughly once per second, sources will decay slower.")
+              .defineInRange("amortizedDecayBudget", 500, 1, 50_000));
+        radiationSyncThreshold = CachedDoubleValue.wrap(this, builder.comment("Minimum relative change in a player's environmental radiation before it gets synced to their client. Changes to the severity of the radiation are always synced.")
+              .defineInRange("clientSyncThreshold", 0D, 0, 1));
         radioactiveWasteBarrelMaxGas = CachedLongValue.wrap(this, builder.comment("Amount of gas (mB) that can be stored in a Radioactive Waste Barrel.")
               .defineInRange("radioactiveWasteBarrelMaxGas", 512_000, 1, Long.MAX_VALUE));
         radioactiveWasteBarrelProcessTicks = CachedIntValue.wrap(this, builder.comment("Number of ticks required for radioactive gas stored in a Radioactive Waste Barrel to decay radioactiveWasteBarrelDecayAmount mB.")
@@ -235,6 +260,9 @@ public class GeneralConfig extends BaseMekanismConfig {
               .defineInRange("maxRadius", 32, 1, Integer.MAX_VALUE));
         minerTicksPerMine = CachedIntValue.wrap(this, builder.comment("Number of ticks required to mine a single block with a Digital Miner (without any upgrades).")
               .defineInRange("ticksPerMine", 80, 1, Integer.MAX_VALUE));
+        minerSearchThreads = CachedIntValue.wrap(this, builder.comment("Number of threads shared by all Digital Miners to search for blocks to mine. Changes take effect the next time a world is loaded.")
+              .worldRestart()
+              .defineInRange("searchThreads", 2, 1, 64));
         builder.pop();
 
         builder.comment("Laser Settings").push(LASER_SETTINGS);
@@ -305,6 +333,13 @@ public class GeneralConfig extends BaseMekanismConfig {
               "energyPerInput", FloatingLong.createConst(1_000_000));
         builder.pop();
 
+        builder.comment("QIO Settings").push(QIO_CATEGORY);
+        qioViewerSyncInterval = CachedIntValue.wrap(this, builder.comment("Number of ticks that changes to the items stored in a QIO frequency are collected for before they get synced to players viewing the frequency's items.")
+              .defineInRange("viewerSyncInterval", 1, 1, 100));
+        qioWindowedViewerSync = CachedBooleanValue.wrap(this, builder.comment("If enabled, changes to the count of an item type are only synced to players viewing a QIO frequency's items when the item type is currently visible to them. Changes for item types that are not visible are synced once they become visible.")
+              .define("windowedViewerSync", false));
+        builder.pop();
+
         builder.pop();
         configSpec = builder.build();
     }
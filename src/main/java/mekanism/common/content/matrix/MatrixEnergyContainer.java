@@ -10,6 +10,7 @@ import mekanism.api.AutomationType;
 import mekanism.api.annotations.FieldsAreNonnullByDefault;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLong.FloatingLongMath;
 import mekanism.common.capabilities.energy.MachineEnergyContainer;
 import mekanism.common.tier.InductionProviderTier;
 import mekanism.common.tile.multiblock.TileEntityInductionCell;
@@ -154,7 +155,11 @@ public class MatrixEnergyContainer implements IEnergyContainer {
      */
     @Override
     public FloatingLong getEnergy() {
-        return cachedTotal.add(queuedInput).subtract(queuedOutput);
+        return calculateEnergy().toFloatingLong();
+    }
+
+    private FloatingLongMath calculateEnergy() {
+        return new FloatingLongMath(cachedTotal).plus(queuedInput).minus(queuedOutput);
     }
 
     @Override
@@ -169,7 +174,8 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         if (amount.isZero() || !multiblock.isFormed()) {
             return amount;
         }
-        FloatingLong toAdd = amount.min(getRemainingInput()).min(getNeeded());
+        //Note: We calculate how much we can add using primitives so that we only create an object for the remainder we return
+        FloatingLongMath toAdd = new FloatingLongMath(storageCap).minus(calculateEnergy()).min(new FloatingLongMath(transferCap).minus(queuedInput)).min(amount);
         if (toAdd.isZero()) {
             //Exit if we don't actually have anything to add, either due to how much we need
             // or due to the remaining rate limit
@@ -177,9 +183,9 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         }
         if (action.execute()) {
             //Increase how much we are inputting
-            queuedInput = queuedInput.plusEqual(toAdd);
+            queuedInput = new FloatingLongMath(queuedInput).plus(toAdd).writeTo(queuedInput);
         }
-        return amount.subtract(toAdd);
+        return toAdd.isEqualTo(amount) ? FloatingLong.ZERO : new FloatingLongMath(amount).minus(toAdd).toFloatingLong();
     }
 
     @Override
@@ -191,12 +197,15 @@ public class MatrixEnergyContainer implements IEnergyContainer {
         // as we want to be as accurate as possible with the values we return
         // It is possible that the energy we have stored is a lot less than the amount we
         // can output at once such as if the matrix is almost empty.
-        amount = amount.min(getRemainingOutput()).min(getEnergy());
-        if (!amount.isZero() && action.execute()) {
+        FloatingLongMath toExtract = calculateEnergy().min(new FloatingLongMath(transferCap).minus(queuedOutput)).min(amount);
+        if (toExtract.isZero()) {
+            return FloatingLong.ZERO;
+        }
+        if (action.execute()) {
             //Increase how much we are outputting by the amount we accepted
-            queuedOutput = queuedOutput.plusEqual(amount);
+            queuedOutput = new FloatingLongMath(queuedOutput).plus(toExtract).writeTo(queuedOutput);
         }
-        return amount;
+        return toExtract.toFloatingLong();
     }
 
     @Override
@@ -220,14 +229,6 @@ public class MatrixEnergyContainer implements IEnergyContainer {
 
     }
 
-    private FloatingLong getRemainingInput() {
-        return transferCap.subtract(queuedInput);
-    }
-
-    private FloatingLong getRemainingOutput() {
-        return transferCap.subtract(queuedOutput);
-    }
-
     public FloatingLong getMaxTransfer() {
         return transferCap;
     }
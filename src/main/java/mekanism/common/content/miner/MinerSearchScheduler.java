@@ -0,0 +1,126 @@
+package mekanism.common.content.miner;
+
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import mekanism.api.MekanismAPI;
+import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
+import net.minecraft.core.SectionPos;
+
+/**
+ * Schedules the chunk sections of all Digital Miner searches onto a fixed number of shared threads. Sections of searches with a higher priority are searched first,
+ * and within the same priority searches are handled in the order they were scheduled.
+ */
+public class MinerSearchScheduler {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private static final AtomicInteger ACTIVE_SEARCHES = new AtomicInteger();
+    private static final AtomicInteger COMPLETED_SEARCHES = new AtomicInteger();
+    private static final AtomicLong TOTAL_SEARCH_TIME = new AtomicLong();
+    private static ThreadPoolExecutor executor;
+
+    private MinerSearchScheduler() {
+    }
+
+    /**
+     * Queues a section of the given search to be searched.
+     */
+    static void schedule(ThreadMinerSearch search, SectionPos section, int priority) {
+        getExecutor().execute(new SectionTask(search, section, priority, SEQUENCE.getAndIncrement()));
+    }
+
+    static void searchStarted() {
+        ACTIVE_SEARCHES.incrementAndGet();
+    }
+
+    /**
+     * Removes any sections of the given search that have not started being searched yet.
+     */
+    static void searchCancelled(ThreadMinerSearch search) {
+        ACTIVE_SEARCHES.decrementAndGet();
+        ThreadPoolExecutor executor = MinerSearchScheduler.executor;
+        if (executor != null) {
+            executor.getQueue().removeIf(task -> task instanceof SectionTask sectionTask && sectionTask.search == search);
+        }
+    }
+
+    static void searchFinished(long duration) {
+        ACTIVE_SEARCHES.decrementAndGet();
+        COMPLETED_SEARCHES.incrementAndGet();
+        TOTAL_SEARCH_TIME.addAndGet(duration);
+        if (MekanismAPI.debug) {
+            Mekanism.logger.info("Digital Miner search finished in {} ms, {} searches still active with {} sections queued", TimeUnit.NANOSECONDS.toMillis(duration),
+                  getActiveSearches(), getQueueDepth());
+        }
+    }
+
+    /**
+     * @return Number of sections that are waiting to be searched.
+     */
+    public static int getQueueDepth() {
+        ThreadPoolExecutor executor = MinerSearchScheduler.executor;
+        return executor == null ? 0 : executor.getQueue().size();
+    }
+
+    /**
+     * @return Number of searches that have been started and have neither finished nor been cancelled.
+     */
+    public static int getActiveSearches() {
+        return ACTIVE_SEARCHES.get();
+    }
+
+    /**
+     * @return Average time in nanoseconds that it took for searches to finish.
+     */
+    public static long getAverageSearchTime() {
+        int completed = COMPLETED_SEARCHES.get();
+        return completed == 0 ? 0 : TOTAL_SEARCH_TIME.get() / completed;
+    }
+
+    /**
+     * Shuts down the search threads and drops any sections that have not started being searched yet, so that the searches and the miners they belong to aren't kept
+     * around after the server stops. The threads will be recreated the next time a search is scheduled.
+     */
+    public static synchronized void shutdown() {
+        if (executor != null) {
+            //Note: shutdownNow removes all queued sections, and sections that are currently being searched just finish as there isn't anything left for them to do
+            executor.shutdownNow();
+            executor = null;
+        }
+        ACTIVE_SEARCHES.set(0);
+    }
+
+    private static synchronized ThreadPoolExecutor getExecutor() {
+        if (executor == null) {
+            int threads = MekanismConfig.general.minerSearchThreads.get();
+            AtomicInteger threadCount = new AtomicInteger();
+            executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, "Mekanism Miner Search-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setUncaughtExceptionHandler((t, throwable) -> Mekanism.logger.error("Uncaught exception in {}", t.getName(), throwable));
+                return thread;
+            });
+        }
+        return executor;
+    }
+
+    private record SectionTask(ThreadMinerSearch search, SectionPos section, int priority, long sequence) implements Runnable, Comparable<SectionTask> {
+
+        @Override
+        public void run() {
+            search.searchSection(section);
+        }
+
+        @Override
+        public int compareTo(SectionTask other) {
+            if (priority != other.priority) {
+                //Higher priorities go first
+                return Integer.compare(other.priority, priority);
+            }
+            return Long.compare(sequence, other.sequence);
+        }
+    }
+}
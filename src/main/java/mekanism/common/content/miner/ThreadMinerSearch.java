@@ -1,11 +1,13 @@
 package mekanism.common.content.miner;
 
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
 import java.util.BitSet;
 import java.util.List;
-import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import mekanism.api.math.MathUtils;
 import mekanism.api.text.IHasTextComponent;
 import mekanism.api.text.ILangEntry;
@@ -15,91 +17,250 @@ import mekanism.common.tile.TileEntityBoundingBlock;
 import mekanism.common.tile.machine.TileEntityDigitalMiner;
 import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
 import net.minecraft.network.chat.Component;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.PathNavigationRegion;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.LiquidBlock;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraftforge.fluids.IFluidBlock;
 
-public class ThreadMinerSearch extends Thread {
+/**
+ * Searches the area of a Digital Miner for blocks to mine. The area is split up per chunk section, and the sections are searched by the {@link MinerSearchScheduler}.
+ * Results are handed back to the miner per section as they complete, so that the miner is able to start mining before the entire area has been searched.
+ */
+public class ThreadMinerSearch {
+
+    /**
+     * Range in blocks in which a player has to be for the search to be prioritized over searches of miners nobody is near.
+     */
+    private static final double PRIORITY_PLAYER_RANGE = 128;
 
     private final TileEntityDigitalMiner tile;
-    private final Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
+    private final Queue<SectionResult> results = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger remainingSections = new AtomicInteger();
+    private final AtomicInteger found = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicBoolean active = new AtomicBoolean();
     private PathNavigationRegion chunkCache;
-    public State state = State.IDLE;
-    public int found = 0;
+    private List<MinerFilter<?>> filters;
+    private boolean inverse;
+    private BlockPos startingPos;
+    private int diameter;
+    private int minY;
+    private int maxY;
+    private long startTime;
+    private long duration;
+    private volatile boolean cancelled;
+    public volatile State state = State.IDLE;
 
     public ThreadMinerSearch(TileEntityDigitalMiner tile) {
         this.tile = tile;
     }
 
-    public void setChunkCache(PathNavigationRegion cache) {
-        this.chunkCache = cache;
-    }
-
-    @Override
-    public void run() {
+    /**
+     * Starts searching the miner's area. The filters and bounds of the miner are captured when this is called.
+     *
+     * @param chunkCache Cache of the chunks that make up the miner's area.
+     */
+    public void start(PathNavigationRegion chunkCache) {
         state = State.SEARCHING;
-        List<MinerFilter<?>> filters = tile.getFilters();
-        if (!tile.getInverse() && filters.isEmpty()) {
+        filters = List.copyOf(tile.getFilters());
+        inverse = tile.getInverse();
+        if (!inverse && filters.isEmpty()) {
             state = State.FINISHED;
             return;
         }
-        Map<Block, MinerFilter<?>> acceptedItems = new Object2ObjectOpenHashMap<>();
-        BlockPos pos = tile.getStartingPos();
-        int diameter = tile.getDiameter();
-        int size = tile.getTotalSize();
-        Block info;
+        this.chunkCache = chunkCache;
+        startingPos = tile.getStartingPos();
+        diameter = tile.getDiameter();
+        minY = tile.getMinY();
+        maxY = tile.getMaxY();
+        int minChunkX = SectionPos.blockToSectionCoord(startingPos.getX());
+        int maxChunkX = SectionPos.blockToSectionCoord(startingPos.getX() + diameter - 1);
+        int minChunkZ = SectionPos.blockToSectionCoord(startingPos.getZ());
+        int maxChunkZ = SectionPos.blockToSectionCoord(startingPos.getZ() + diameter - 1);
+        int minSectionY = SectionPos.blockToSectionCoord(minY);
+        int maxSectionY = SectionPos.blockToSectionCoord(maxY);
+        //Mark how many sections there are before submitting any of them so that we don't finish early
+        remainingSections.set((maxChunkX - minChunkX + 1) * (maxChunkZ - minChunkZ + 1) * (maxSectionY - minSectionY + 1));
         BlockPos minerPos = tile.getBlockPos();
-        for (int i = 0; i < size; i++) {
-            if (tile.isRemoved()) {
-                //Make sure the miner is still valid and something hasn't gone wrong
-                return;
+        Level level = tile.getLevel();
+        //Prioritize miners that players are near, as those are the ones somebody is likely waiting on
+        int priority = level != null && level.hasNearbyAlivePlayer(minerPos.getX(), minerPos.getY(), minerPos.getZ(), PRIORITY_PLAYER_RANGE) ? 1 : 0;
+        startTime = System.nanoTime();
+        active.set(true);
+        MinerSearchScheduler.searchStarted();
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                    MinerSearchScheduler.schedule(this, SectionPos.of(chunkX, sectionY, chunkZ), priority);
+                }
             }
-            BlockPos testPos = pos.offset(i % diameter, i / diameter / diameter, (i / diameter) % diameter);
-            if (minerPos.equals(testPos) || WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
-                //Skip the miner itself, and also skip any bounding blocks
-                continue;
+        }
+    }
+
+    /**
+     * Stops this search. Sections that have not started being searched yet are removed from the scheduler, and sections that are being searched stop as soon as they
+     * notice the search was cancelled.
+     */
+    public void cancel() {
+        cancelled = true;
+        results.clear();
+        pending.set(0);
+        chunkCache = null;
+        if (active.compareAndSet(true, false)) {
+            MinerSearchScheduler.searchCancelled(this);
+        }
+    }
+
+    /**
+     * @return Time in nanoseconds the search took, or has taken so far if it is still searching.
+     */
+    public long getDuration() {
+        return state == State.SEARCHING && active.get() ? System.nanoTime() - startTime : duration;
+    }
+
+    /**
+     * @return Number of blocks to mine that have been found so far.
+     */
+    public int getFound() {
+        return found.get();
+    }
+
+    /**
+     * @return Number of blocks to mine that have been found but not handed back to the miner yet.
+     */
+    public int getPending() {
+        return pending.get();
+    }
+
+    /**
+     * Hands any sections that finished being searched since the last call back to the miner.
+     *
+     * @apiNote Only call this from the server thread.
+     */
+    public void collectResults() {
+        if (!cancelled) {
+            SectionResult result;
+            while ((result = results.poll()) != null) {
+                pending.addAndGet(-result.count());
+                tile.addSearchResult(result.chunk(), result.toMine(), result.count());
             }
-            BlockState state = chunkCache.getBlockState(testPos);
-            if (state.isAir() || state.is(MekanismTags.Blocks.MINER_BLACKLIST) || state.getDestroySpeed(chunkCache, testPos) < 0) {
-                //Skip air, blacklisted blocks, and unbreakable blocks
-                continue;
+        }
+    }
+
+    void searchSection(SectionPos sectionPos) {
+        try {
+            PathNavigationRegion cache = chunkCache;
+            if (!cancelled && cache != null && !tile.isRemoved()) {
+                //Make sure the miner is still valid and something hasn't gone wrong
+                searchSection(sectionPos, cache);
             }
-            info = state.getBlock();
-            if (info instanceof LiquidBlock || info instanceof IFluidBlock) {
-                //Skip liquids
-                continue;
+        } finally {
+            if (remainingSections.decrementAndGet() == 0 && active.compareAndSet(true, false)) {
+                chunkCache = null;
+                duration = System.nanoTime() - startTime;
+                state = State.FINISHED;
+                MinerSearchScheduler.searchFinished(duration);
             }
-            MinerFilter<?> filterFound = null;
-            if (acceptedItems.containsKey(info)) {
-                filterFound = acceptedItems.get(info);
-            } else {
-                if (tile.isReplaceTarget(info.asItem())) {
-                    continue;
-                }
-                for (MinerFilter<?> filter : filters) {
-                    if (filter.canFilter(state)) {
-                        filterFound = filter;
-                        break;
+        }
+    }
+
+    private void searchSection(SectionPos sectionPos, PathNavigationRegion chunkCache) {
+        if (!(chunkCache.getChunkForCollisions(sectionPos.x(), sectionPos.z()) instanceof ChunkAccess chunkAccess)) {
+            return;
+        }
+        int sectionIndex = chunkAccess.getSectionIndexFromSectionY(sectionPos.y());
+        if (sectionIndex < 0 || sectionIndex >= chunkAccess.getSectionsCount()) {
+            return;
+        }
+        LevelChunkSection section = chunkAccess.getSection(sectionIndex);
+        //Note: The cache is per section so that the sections don't have to synchronize with each other
+        Reference2BooleanMap<Block> acceptedBlocks = new Reference2BooleanOpenHashMap<>();
+        if (section.hasOnlyAir() || !section.maybeHas(state -> canMine(state, acceptedBlocks))) {
+            //Skip sections that are empty or whose palette doesn't contain anything we may want to mine
+            return;
+        }
+        BlockPos minerPos = tile.getBlockPos();
+        int minX = Math.max(sectionPos.minBlockX(), startingPos.getX());
+        int maxX = Math.min(sectionPos.maxBlockX(), startingPos.getX() + diameter - 1);
+        int minY = Math.max(sectionPos.minBlockY(), this.minY);
+        int maxY = Math.min(sectionPos.maxBlockY(), this.maxY);
+        int minZ = Math.max(sectionPos.minBlockZ(), startingPos.getZ());
+        int maxZ = Math.min(sectionPos.maxBlockZ(), startingPos.getZ() + diameter - 1);
+        BlockPos.MutableBlockPos testPos = new BlockPos.MutableBlockPos();
+        BitSet toMine = null;
+        int count = 0;
+        for (int y = minY; y <= maxY; y++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int x = minX; x <= maxX; x++) {
+                    if (cancelled) {
+                        return;
+                    }
+                    BlockState state = section.getBlockState(x & 15, y & 15, z & 15);
+                    if (!canMine(state, acceptedBlocks)) {
+                        continue;
+                    }
+                    testPos.set(x, y, z);
+                    if (state.getDestroySpeed(chunkCache, testPos) < 0 || minerPos.equals(testPos) ||
+                        WorldUtils.getTileEntity(TileEntityBoundingBlock.class, chunkCache, testPos) != null) {
+                        //Skip unbreakable blocks, the miner itself, and also skip any bounding blocks
+                        continue;
                     }
+                    if (toMine == null) {
+                        toMine = new BitSet();
+                    }
+                    int relativeX = x - startingPos.getX();
+                    int relativeY = y - startingPos.getY();
+                    int relativeZ = z - startingPos.getZ();
+                    toMine.set(relativeY * diameter * diameter + relativeZ * diameter + relativeX);
+                    count++;
                 }
-                acceptedItems.put(info, filterFound);
-            }
-            if (tile.getInverse() == (filterFound == null)) {
-                long chunk = WorldUtils.getChunkPosAsLong(testPos);
-                oresToMine.computeIfAbsent(chunk, k -> new BitSet()).set(i);
-                found++;
             }
         }
+        if (toMine != null && !cancelled) {
+            found.addAndGet(count);
+            pending.addAndGet(count);
+            results.add(new SectionResult(ChunkPos.asLong(sectionPos.x(), sectionPos.z()), toMine, count));
+        }
+    }
 
-        state = State.FINISHED;
-        chunkCache = null;
-        if (tile.searcher == this) {
-            //Only update search if we are still valid and didn't get replaced due to a reset call
-            tile.updateFromSearch(oresToMine, found);
+    /**
+     * Checks if the given state is something the miner may want to mine, ignoring any position specific checks.
+     */
+    private boolean canMine(BlockState state, Reference2BooleanMap<Block> acceptedBlocks) {
+        if (state.isAir() || state.is(MekanismTags.Blocks.MINER_BLACKLIST)) {
+            //Skip air and blacklisted blocks
+            return false;
+        }
+        Block block = state.getBlock();
+        if (acceptedBlocks.containsKey(block)) {
+            return acceptedBlocks.getBoolean(block);
         }
+        boolean accepted;
+        if (block instanceof LiquidBlock || block instanceof IFluidBlock || tile.isReplaceTarget(block.asItem())) {
+            //Skip liquids, and the blocks we are replacing mined blocks with
+            accepted = false;
+        } else {
+            MinerFilter<?> filterFound = null;
+            for (MinerFilter<?> filter : filters) {
+                if (filter.canFilter(state)) {
+                    filterFound = filter;
+                    break;
+                }
+            }
+            accepted = inverse == (filterFound == null);
+        }
+        acceptedBlocks.put(block, accepted);
+        return accepted;
+    }
+
+    private record SectionResult(long chunk, BitSet toMine, int count) {
     }
 
     public enum State implements IHasTextComponent {
@@ -125,4 +286,4 @@ public class ThreadMinerSearch extends Thread {
             return MathUtils.getByIndexMod(MODES, index);
         }
     }
-}
\ No newline at end of file
+}
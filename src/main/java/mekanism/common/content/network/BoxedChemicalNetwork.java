@@ -3,7 +3,6 @@ package mekanism.common.content.network;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -14,6 +13,7 @@ import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.chemical.ChemicalType;
 import mekanism.api.chemical.IChemicalHandler;
 import mekanism.api.chemical.IChemicalTank;
+import mekanism.api.chemical.gas.Gas;
 import mekanism.api.chemical.gas.GasStack;
 import mekanism.api.chemical.gas.IGasTank;
 import mekanism.api.chemical.infuse.IInfusionTank;
@@ -42,7 +42,6 @@ import mekanism.common.util.MekanismUtils;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
 import net.minecraftforge.common.MinecraftForge;
-import net.minecraftforge.common.util.LazyOptional;
 
 /**
  * A DynamicNetwork extension created specifically for the transfer of Chemicals.
@@ -51,6 +50,10 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
       implements IGasTracker, IInfusionTracker, IPigmentTracker, ISlurryTracker {
 
     public final MergedChemicalTank chemicalTank;
+    /**
+     * Target we reuse each tick for emitting to acceptors so that we don't have to reallocate it and the backing arrays each time.
+     */
+    private final ChemicalHandlerTarget<?, ?, ?> emitTarget = new ChemicalHandlerTarget<Gas, GasStack, IChemicalHandler<Gas, GasStack>>();
     private final List<IGasTank> gasTanks;
     private final List<IInfusionTank> infusionTanks;
     private final List<IPigmentTank> pigmentTanks;
@@ -246,19 +249,24 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
 
     private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> long tickEmit(@Nonnull STACK stack) {
         ChemicalType chemicalType = ChemicalType.getTypeFor(stack);
-        Collection<Map<Direction, LazyOptional<BoxedChemicalHandler>>> acceptorValues = acceptorCache.getAcceptorValues();
-        ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target = new ChemicalHandlerTarget<>(stack, acceptorValues.size() * 2);
-        for (Map<Direction, LazyOptional<BoxedChemicalHandler>> acceptors : acceptorValues) {
-            for (LazyOptional<BoxedChemicalHandler> lazyAcceptor : acceptors.values()) {
-                lazyAcceptor.ifPresent(acceptor -> {
-                    IChemicalHandler<CHEMICAL, STACK> handler = acceptor.getHandlerFor(chemicalType);
-                    if (handler != null && ChemicalUtil.canInsert(handler, stack)) {
-                        target.addHandler(handler);
-                    }
-                });
+        ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> target = getEmitTarget();
+        target.setExtra(stack);
+        for (BoxedChemicalHandler acceptor : tickAcceptors) {
+            IChemicalHandler<CHEMICAL, STACK> handler = acceptor.getHandlerFor(chemicalType);
+            if (handler != null && ChemicalUtil.canInsert(handler, stack)) {
+                target.addHandler(handler);
             }
         }
-        return EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
+        long sent = EmitUtils.sendToAcceptors(target, stack.getAmount(), stack);
+        //Clear the target so that we don't hold onto references to the acceptors until the next tick
+        target.clear();
+        return sent;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>> ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>> getEmitTarget() {
+        //Note: The target is always cleared after use, so it is safe to reuse it for whatever chemical type we are currently emitting
+        return (ChemicalHandlerTarget<CHEMICAL, STACK, IChemicalHandler<CHEMICAL, STACK>>) emitTarget;
     }
 
     @Override
@@ -273,9 +281,11 @@ public class BoxedChemicalNetwork extends DynamicBufferedNetwork<BoxedChemicalHa
             prevTransferAmount = 0;
         } else {
             IChemicalTank<?, ?> tank = chemicalTank.getTankFromCurrent(current);
+            collectAcceptors(tickAcceptors);
             prevTransferAmount = tickEmit(tank.getStack());
             MekanismUtils.logMismatchedStackSize(tank.shrinkStack(prevTransferAmount, Action.EXECUTE), prevTransferAmount);
         }
+        tickAcceptors.clear();
     }
 
     @Override
@@ -3,7 +3,6 @@ package mekanism.common.content.network;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -25,11 +24,14 @@ import mekanism.common.util.text.EnergyDisplay;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
 import net.minecraftforge.common.MinecraftForge;
-import net.minecraftforge.common.util.LazyOptional;
 
 public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler, EnergyNetwork, FloatingLong, UniversalCable> implements IMekanismStrictEnergyHandler {
 
     private final List<IEnergyContainer> energyContainers;
+    /**
+     * Target we reuse each tick for emitting to acceptors so that we don't have to reallocate it and the backing arrays each time.
+     */
+    private final EnergyAcceptorTarget emitTarget = new EnergyAcceptorTarget();
     public final VariableCapacityEnergyContainer energyContainer;
     private FloatingLong prevTransferAmount = FloatingLong.ZERO;
     private FloatingLong floatingLongCapacity = FloatingLong.ZERO;
@@ -128,18 +130,17 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
     }
 
     private FloatingLong tickEmit(FloatingLong energyToSend) {
-        Collection<Map<Direction, LazyOptional<IStrictEnergyHandler>>> acceptorValues = acceptorCache.getAcceptorValues();
-        EnergyAcceptorTarget target = new EnergyAcceptorTarget(acceptorValues.size() * 2);
-        for (Map<Direction, LazyOptional<IStrictEnergyHandler>> acceptors : acceptorValues) {
-            for (LazyOptional<IStrictEnergyHandler> lazyAcceptor : acceptors.values()) {
-                lazyAcceptor.ifPresent(acceptor -> {
-                    if (acceptor.insertEnergy(energyToSend, Action.SIMULATE).smallerThan(energyToSend)) {
-                        target.addHandler(acceptor);
-                    }
-                });
+        EnergyAcceptorTarget target = emitTarget;
+        for (IStrictEnergyHandler acceptor : tickAcceptors) {
+            if (acceptor.insertEnergy(energyToSend, Action.SIMULATE).smallerThan(energyToSend)) {
+                target.addHandler(acceptor);
             }
         }
-        return EmitUtils.sendToAcceptors(target, energyToSend.copy());
+        //Note: We copy the energy as it is the live stored amount of our buffer, and we don't want acceptors to be able to modify it
+        FloatingLong sent = EmitUtils.sendToAcceptors(target, energyToSend.copy());
+        //Clear the target so that we don't hold onto references to the acceptors until the next tick
+        target.clear();
+        return sent;
     }
 
     @Override
@@ -157,9 +158,11 @@ public class EnergyNetwork extends DynamicBufferedNetwork<IStrictEnergyHandler,
         if (energyContainer.isEmpty()) {
             prevTransferAmount = FloatingLong.ZERO;
         } else {
+            collectAcceptors(tickAcceptors);
             prevTransferAmount = tickEmit(energyContainer.getEnergy());
             energyContainer.extract(prevTransferAmount, Action.EXECUTE, AutomationType.INTERNAL);
         }
+        tickAcceptors.clear();
     }
 
     @Override
@@ -3,7 +3,6 @@ package mekanism.common.content.network;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -25,12 +24,15 @@ import mekanism.common.util.MekanismUtils;
 import net.minecraft.core.Direction;
 import net.minecraft.network.chat.Component;
 import net.minecraftforge.common.MinecraftForge;
-import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 
 public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNetwork, FluidStack, MechanicalPipe> implements IMekanismFluidHandler {
 
+    /**
+     * Target we reuse each tick for emitting to acceptors so that we don't have to reallocate it and the backing arrays each time.
+     */
+    private final FluidHandlerTarget emitTarget = new FluidHandlerTarget();
     private final List<IExtendedFluidTank> fluidTanks;
     public final VariableCapacityFluidTank fluidTank;
     @Nonnull
@@ -150,18 +152,18 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
     }
 
     private int tickEmit(@Nonnull FluidStack fluidToSend) {
-        Collection<Map<Direction, LazyOptional<IFluidHandler>>> acceptorValues = acceptorCache.getAcceptorValues();
-        FluidHandlerTarget target = new FluidHandlerTarget(fluidToSend, acceptorValues.size() * 2);
-        for (Map<Direction, LazyOptional<IFluidHandler>> acceptors : acceptorValues) {
-            for (LazyOptional<IFluidHandler> lazyAcceptor : acceptors.values()) {
-                lazyAcceptor.ifPresent(acceptor -> {
-                    if (FluidUtils.canFill(acceptor, fluidToSend)) {
-                        target.addHandler(acceptor);
-                    }
-                });
+        FluidHandlerTarget target = emitTarget;
+        target.setExtra(fluidToSend);
+        for (IFluidHandler acceptor : tickAcceptors) {
+            if (FluidUtils.canFill(acceptor, fluidToSend)) {
+                target.addHandler(acceptor);
             }
         }
-        return EmitUtils.sendToAcceptors(target, fluidToSend.getAmount(), fluidToSend);
+        int sent = EmitUtils.sendToAcceptors(target, fluidToSend.getAmount(), fluidToSend);
+        //Clear the target so that we don't hold onto references to the acceptors or fluid until the next tick
+        target.clear();
+        target.setExtra(FluidStack.EMPTY);
+        return sent;
     }
 
     @Override
@@ -174,9 +176,11 @@ public class FluidNetwork extends DynamicBufferedNetwork<IFluidHandler, FluidNet
         if (fluidTank.isEmpty()) {
             prevTransferAmount = 0;
         } else {
+            collectAcceptors(tickAcceptors);
             prevTransferAmount = tickEmit(fluidTank.getFluid());
             MekanismUtils.logMismatchedStackSize(fluidTank.shrinkStack(prevTransferAmount, Action.EXECUTE), prevTransferAmount);
         }
+        tickAcceptors.clear();
     }
 
     @Override
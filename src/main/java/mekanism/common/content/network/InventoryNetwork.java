@@ -12,6 +12,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
 import mekanism.api.RelativeSide;
@@ -176,6 +177,14 @@ public class InventoryNetwork extends DynamicNetwork<IItemHandler, InventoryNetw
         PathfinderCache.onChanged(this);
     }
 
+    @Override
+    protected void transmittersRemoved(@Nonnull LogisticalTransporterBase triggerTransmitter) {
+        super.transmittersRemoved(triggerTransmitter);
+        // update the cache when transmitters were removed without the network being rebuilt
+        //Note: Paths through any parts that got split off get invalidated when they are looked up, as the transporters are no longer in this network
+        PathfinderCache.onTransmittersRemoved(this, List.of(triggerTransmitter.getTilePos()));
+    }
+
     @Override
     public void deregister() {
         super.deregister();
@@ -8,12 +8,12 @@ import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.chemical.ChemicalType;
 import mekanism.api.chemical.merged.BoxedChemicalStack;
 import mekanism.common.content.network.transmitter.BoxedPressurizedTube;
-import mekanism.common.lib.distribution.SplitInfo;
-import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.LongSplitInfo;
+import mekanism.common.lib.distribution.LongTarget;
 import mekanism.common.util.ChemicalUtil;
 
 public class BoxedChemicalTransmitterSaveTarget<CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>>
-      extends Target<BoxedChemicalTransmitterSaveTarget<CHEMICAL, STACK>.SaveHandler, Long, @NonNull STACK> {
+      extends LongTarget<BoxedChemicalTransmitterSaveTarget<CHEMICAL, STACK>.SaveHandler, @NonNull STACK> {
 
     public BoxedChemicalTransmitterSaveTarget(@Nonnull STACK empty, @Nonnull STACK type, Collection<BoxedPressurizedTube> transmitters) {
         super(transmitters.size());
@@ -22,18 +22,18 @@ public class BoxedChemicalTransmitterSaveTarget<CHEMICAL extends Chemical<CHEMIC
     }
 
     @Override
-    protected void acceptAmount(BoxedChemicalTransmitterSaveTarget<CHEMICAL, STACK>.SaveHandler handler, SplitInfo<Long> splitInfo, Long amount) {
+    protected void acceptAmount(BoxedChemicalTransmitterSaveTarget<CHEMICAL, STACK>.SaveHandler handler, LongSplitInfo splitInfo, long amount) {
         handler.acceptAmount(splitInfo, amount);
     }
 
     @Override
-    protected Long simulate(BoxedChemicalTransmitterSaveTarget<CHEMICAL, STACK>.SaveHandler handler, @Nonnull STACK chemicalStack) {
+    protected long simulate(BoxedChemicalTransmitterSaveTarget<CHEMICAL, STACK>.SaveHandler handler, @Nonnull STACK chemicalStack) {
         return handler.simulate(chemicalStack);
     }
 
     public void saveShare() {
-        for (SaveHandler handler : handlers) {
-            handler.saveShare();
+        for (int i = 0, count = getHandlerCount(); i < count; i++) {
+            getHandler(i).saveShare();
         }
     }
 
@@ -47,7 +47,7 @@ public class BoxedChemicalTransmitterSaveTarget<CHEMICAL extends Chemical<CHEMIC
             this.transmitter = transmitter;
         }
 
-        protected void acceptAmount(SplitInfo<Long> splitInfo, Long amount) {
+        protected void acceptAmount(LongSplitInfo splitInfo, long amount) {
             amount = Math.min(amount, transmitter.getCapacity() - currentStored.getAmount());
             if (currentStored.isEmpty()) {
                 currentStored = ChemicalUtil.copyWithAmount(extra, amount);
@@ -57,9 +57,9 @@ public class BoxedChemicalTransmitterSaveTarget<CHEMICAL extends Chemical<CHEMIC
             splitInfo.send(amount);
         }
 
-        protected Long simulate(@Nonnull STACK chemicalStack) {
+        protected long simulate(@Nonnull STACK chemicalStack) {
             if (!currentStored.isEmpty() && !currentStored.isTypeEqual(chemicalStack)) {
-                return 0L;
+                return 0;
             }
             return Math.min(chemicalStack.getAmount(), transmitter.getCapacity() - currentStored.getAmount());
         }
@@ -6,12 +6,15 @@ import mekanism.api.annotations.NonNull;
 import mekanism.api.chemical.Chemical;
 import mekanism.api.chemical.ChemicalStack;
 import mekanism.api.chemical.IChemicalHandler;
-import mekanism.common.lib.distribution.SplitInfo;
-import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.LongSplitInfo;
+import mekanism.common.lib.distribution.LongTarget;
 import mekanism.common.util.ChemicalUtil;
 
 public class ChemicalHandlerTarget<CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>, HANDLER extends IChemicalHandler<CHEMICAL, STACK>>
-      extends Target<HANDLER, Long, @NonNull STACK> {
+      extends LongTarget<HANDLER, @NonNull STACK> {
+
+    public ChemicalHandlerTarget() {
+    }
 
     public ChemicalHandlerTarget(@Nonnull STACK type) {
         this.extra = type;
@@ -23,12 +26,12 @@ public class ChemicalHandlerTarget<CHEMICAL extends Chemical<CHEMICAL>, STACK ex
     }
 
     @Override
-    protected void acceptAmount(HANDLER handler, SplitInfo<Long> splitInfo, Long amount) {
+    protected void acceptAmount(HANDLER handler, LongSplitInfo splitInfo, long amount) {
         splitInfo.send(amount - handler.insertChemical(ChemicalUtil.copyWithAmount(extra, amount), Action.EXECUTE).getAmount());
     }
 
     @Override
-    protected Long simulate(HANDLER handler, @Nonnull STACK stack) {
+    protected long simulate(HANDLER handler, @Nonnull STACK stack) {
         return stack.getAmount() - handler.insertChemical(stack, Action.SIMULATE).getAmount();
     }
 }
\ No newline at end of file
@@ -4,10 +4,10 @@ import java.util.Collection;
 import mekanism.api.Action;
 import mekanism.api.energy.IStrictEnergyHandler;
 import mekanism.api.math.FloatingLong;
-import mekanism.common.lib.distribution.SplitInfo;
-import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.FloatingLongSplitInfo;
+import mekanism.common.lib.distribution.FloatingLongTarget;
 
-public class EnergyAcceptorTarget extends Target<IStrictEnergyHandler, FloatingLong, FloatingLong> {
+public class EnergyAcceptorTarget extends FloatingLongTarget<IStrictEnergyHandler> {
 
     public EnergyAcceptorTarget() {
     }
@@ -21,7 +21,7 @@ public class EnergyAcceptorTarget extends Target<IStrictEnergyHandler, FloatingL
     }
 
     @Override
-    protected void acceptAmount(IStrictEnergyHandler handler, SplitInfo<FloatingLong> splitInfo, FloatingLong amount) {
+    protected void acceptAmount(IStrictEnergyHandler handler, FloatingLongSplitInfo splitInfo, FloatingLong amount) {
         splitInfo.send(amount.subtract(handler.insertEnergy(amount, Action.EXECUTE)));
     }
 
@@ -4,11 +4,11 @@ import java.util.Collection;
 import javax.annotation.ParametersAreNonnullByDefault;
 import mekanism.api.energy.IEnergyContainer;
 import mekanism.api.math.FloatingLong;
-import mekanism.common.lib.distribution.SplitInfo;
-import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.FloatingLongSplitInfo;
+import mekanism.common.lib.distribution.FloatingLongTarget;
 import net.minecraft.MethodsReturnNonnullByDefault;
 
-public class EnergySaveTarget extends Target<EnergySaveTarget.SaveHandler, FloatingLong, FloatingLong> {
+public class EnergySaveTarget extends FloatingLongTarget<EnergySaveTarget.SaveHandler> {
 
     public EnergySaveTarget() {
     }
@@ -22,7 +22,7 @@ public class EnergySaveTarget extends Target<EnergySaveTarget.SaveHandler, Float
     }
 
     @Override
-    protected void acceptAmount(EnergySaveTarget.SaveHandler handler, SplitInfo<FloatingLong> splitInfo, FloatingLong amount) {
+    protected void acceptAmount(EnergySaveTarget.SaveHandler handler, FloatingLongSplitInfo splitInfo, FloatingLong amount) {
         handler.acceptAmount(splitInfo, amount);
     }
 
@@ -32,8 +32,8 @@ public class EnergySaveTarget extends Target<EnergySaveTarget.SaveHandler, Float
     }
 
     public void save() {
-        for (SaveHandler handler : handlers) {
-            handler.save();
+        for (int i = 0, count = getHandlerCount(); i < count; i++) {
+            getHandler(i).save();
         }
     }
 
@@ -52,7 +52,7 @@ public class EnergySaveTarget extends Target<EnergySaveTarget.SaveHandler, Float
             this.delegate = delegate;
         }
 
-        protected void acceptAmount(SplitInfo<FloatingLong> splitInfo, FloatingLong amount) {
+        protected void acceptAmount(FloatingLongSplitInfo splitInfo, FloatingLong amount) {
             amount = amount.min(delegate.getMaxEnergy().subtract(currentStored));
             currentStored = currentStored.plusEqual(amount);
             splitInfo.send(amount);
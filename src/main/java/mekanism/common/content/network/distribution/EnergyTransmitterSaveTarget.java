@@ -3,10 +3,10 @@ package mekanism.common.content.network.distribution;
 import java.util.Collection;
 import mekanism.api.math.FloatingLong;
 import mekanism.common.content.network.transmitter.UniversalCable;
-import mekanism.common.lib.distribution.SplitInfo;
-import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.FloatingLongSplitInfo;
+import mekanism.common.lib.distribution.FloatingLongTarget;
 
-public class EnergyTransmitterSaveTarget extends Target<EnergyTransmitterSaveTarget.SaveHandler, FloatingLong, FloatingLong> {
+public class EnergyTransmitterSaveTarget extends FloatingLongTarget<EnergyTransmitterSaveTarget.SaveHandler> {
 
     public EnergyTransmitterSaveTarget(Collection<UniversalCable> transmitters) {
         super(transmitters.size());
@@ -14,7 +14,7 @@ public class EnergyTransmitterSaveTarget extends Target<EnergyTransmitterSaveTar
     }
 
     @Override
-    protected void acceptAmount(EnergyTransmitterSaveTarget.SaveHandler transmitter, SplitInfo<FloatingLong> splitInfo, FloatingLong amount) {
+    protected void acceptAmount(EnergyTransmitterSaveTarget.SaveHandler transmitter, FloatingLongSplitInfo splitInfo, FloatingLong amount) {
         transmitter.acceptAmount(splitInfo, amount);
     }
 
@@ -24,8 +24,8 @@ public class EnergyTransmitterSaveTarget extends Target<EnergyTransmitterSaveTar
     }
 
     public void saveShare() {
-        for (EnergyTransmitterSaveTarget.SaveHandler cable : handlers) {
-            cable.saveShare();
+        for (int i = 0, count = getHandlerCount(); i < count; i++) {
+            getHandler(i).saveShare();
         }
     }
 
@@ -38,7 +38,7 @@ public class EnergyTransmitterSaveTarget extends Target<EnergyTransmitterSaveTar
             this.transmitter = transmitter;
         }
 
-        protected void acceptAmount(SplitInfo<FloatingLong> splitInfo, FloatingLong amount) {
+        protected void acceptAmount(FloatingLongSplitInfo splitInfo, FloatingLong amount) {
             amount = amount.min(transmitter.getCapacityAsFloatingLong().subtract(currentStored));
             currentStored = currentStored.plusEqual(amount);
             splitInfo.send(amount);
@@ -3,13 +3,15 @@ package mekanism.common.content.network.distribution;
 import java.util.Collection;
 import javax.annotation.Nonnull;
 import mekanism.api.annotations.NonNull;
-import mekanism.common.lib.distribution.SplitInfo;
-import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.IntegerTarget;
 import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.capability.IFluidHandler;
 import net.minecraftforge.fluids.capability.IFluidHandler.FluidAction;
 
-public class FluidHandlerTarget extends Target<IFluidHandler, Integer, @NonNull FluidStack> {
+public class FluidHandlerTarget extends IntegerTarget<IFluidHandler, @NonNull FluidStack> {
+
+    public FluidHandlerTarget() {
+    }
 
     public FluidHandlerTarget(@Nonnull FluidStack type) {
         this.extra = type;
@@ -26,12 +28,12 @@ public class FluidHandlerTarget extends Target<IFluidHandler, Integer, @NonNull
     }
 
     @Override
-    protected void acceptAmount(IFluidHandler handler, SplitInfo<Integer> splitInfo, Integer amount) {
-        splitInfo.send(handler.fill(new FluidStack(extra, amount), FluidAction.EXECUTE));
+    protected int acceptAmount(IFluidHandler handler, int amount) {
+        return handler.fill(new FluidStack(extra, amount), FluidAction.EXECUTE);
     }
 
     @Override
-    protected Integer simulate(IFluidHandler handler, @Nonnull FluidStack fluidStack) {
+    protected long simulate(IFluidHandler handler, @Nonnull FluidStack fluidStack) {
         return handler.fill(fluidStack, FluidAction.SIMULATE);
     }
 }
\ No newline at end of file
@@ -5,12 +5,11 @@ import javax.annotation.Nonnull;
 import mekanism.api.annotations.NonNull;
 import mekanism.api.math.MathUtils;
 import mekanism.common.content.network.transmitter.MechanicalPipe;
-import mekanism.common.lib.distribution.SplitInfo;
-import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.IntegerTarget;
 import net.minecraftforge.fluids.FluidStack;
 
 //TODO: Improve handling for fluid storage as longs
-public class FluidTransmitterSaveTarget extends Target<FluidTransmitterSaveTarget.SaveHandler, Integer, @NonNull FluidStack> {
+public class FluidTransmitterSaveTarget extends IntegerTarget<FluidTransmitterSaveTarget.SaveHandler, @NonNull FluidStack> {
 
     public FluidTransmitterSaveTarget(@Nonnull FluidStack type, Collection<MechanicalPipe> transmitters) {
         super(transmitters.size());
@@ -19,18 +18,18 @@ public class FluidTransmitterSaveTarget extends Target<FluidTransmitterSaveTarge
     }
 
     @Override
-    protected void acceptAmount(FluidTransmitterSaveTarget.SaveHandler handler, SplitInfo<Integer> splitInfo, Integer amount) {
-        handler.acceptAmount(splitInfo, amount);
+    protected int acceptAmount(FluidTransmitterSaveTarget.SaveHandler handler, int amount) {
+        return handler.acceptAmount(amount);
     }
 
     @Override
-    protected Integer simulate(FluidTransmitterSaveTarget.SaveHandler handler, @Nonnull FluidStack fluidStack) {
+    protected long simulate(FluidTransmitterSaveTarget.SaveHandler handler, @Nonnull FluidStack fluidStack) {
         return handler.simulate(fluidStack);
     }
 
     public void saveShare() {
-        for (FluidTransmitterSaveTarget.SaveHandler handler : handlers) {
-            handler.saveShare();
+        for (int i = 0, count = getHandlerCount(); i < count; i++) {
+            getHandler(i).saveShare();
         }
     }
 
@@ -43,17 +42,17 @@ public class FluidTransmitterSaveTarget extends Target<FluidTransmitterSaveTarge
             this.transmitter = transmitter;
         }
 
-        protected void acceptAmount(SplitInfo<Integer> splitInfo, Integer amount) {
+        protected int acceptAmount(int amount) {
             amount = Math.min(amount, MathUtils.clampToInt(transmitter.getCapacity() - currentStored.getAmount()));
             if (currentStored.isEmpty()) {
                 currentStored = new FluidStack(extra, amount);
             } else {
                 currentStored.grow(amount);
             }
-            splitInfo.send(amount);
+            return amount;
         }
 
-        protected Integer simulate(@Nonnull FluidStack fluidStack) {
+        protected int simulate(@Nonnull FluidStack fluidStack) {
             if (!currentStored.isEmpty() && !currentStored.isFluidEqual(fluidStack)) {
                 return 0;
             }
@@ -12,17 +12,16 @@ import java.util.function.IntConsumer;
 import javax.annotation.Nonnull;
 import mekanism.api.NBTConstants;
 import mekanism.api.text.EnumColor;
-import mekanism.common.Mekanism;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.content.transporter.TransporterStack;
 import mekanism.common.content.transporter.TransporterStack.Path;
+import mekanism.common.content.transporter.TransporterUpdateBatcher;
 import mekanism.common.lib.inventory.TransitRequest;
 import mekanism.common.lib.inventory.TransitRequest.TransitResponse;
 import mekanism.common.lib.transmitter.ConnectionType;
 import mekanism.common.lib.transmitter.TransmissionType;
 import mekanism.common.lib.transmitter.acceptor.AcceptorCache;
-import mekanism.common.network.to_client.PacketTransporterUpdate;
 import mekanism.common.tier.TransporterTier;
 import mekanism.common.tile.TileEntityLogisticalSorter;
 import mekanism.common.tile.transmitter.TileEntityTransmitter;
@@ -235,8 +234,8 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
                 }
 
                 if (!deletes.isEmpty() || !needsSync.isEmpty()) {
-                    //Notify clients, so that we send the information before we start clearing our lists
-                    Mekanism.packetHandler().sendToAllTracking(new PacketTransporterUpdate(this, needsSync, deletes), getTransmitterTile());
+                    //Queue the changes to be sent to clients, before we start clearing our lists
+                    TransporterUpdateBatcher.queue(this, needsSync, deletes);
                     // Now remove any entries from transit that have been deleted
                     deletes.forEach((IntConsumer) (this::deleteStack));
 
@@ -408,7 +407,7 @@ public abstract class LogisticalTransporterBase extends Transmitter<IItemHandler
             if (doEmit) {
                 int stackId = nextId++;
                 addStack(stackId, stack);
-                Mekanism.packetHandler().sendToAllTracking(new PacketTransporterUpdate(this, stackId, stack), getTransmitterTile());
+                TransporterUpdateBatcher.queue(this, stackId, stack);
                 WorldUtils.saveChunk(getTransmitterTile());
             }
         }
@@ -3,6 +3,7 @@ package mekanism.common.content.qio;
 import java.util.List;
 import mekanism.api.inventory.IInventorySlot;
 import mekanism.common.Mekanism;
+import net.minecraft.nbt.ListTag;
 import net.minecraft.world.item.ItemStack;
 
 public interface IQIODriveHolder extends IQIOFrequencyHolder {
@@ -19,4 +20,16 @@ public interface IQIODriveHolder extends IQIOFrequencyHolder {
         }
         item.writeItemMap(stack, data);
     }
+
+    /**
+     * @param itemMap Item map that was already serialized by {@link IQIODriveItem#serializeItemMap(it.unimi.dsi.fastutil.objects.Object2LongMap)}.
+     */
+    default void save(int slot, ListTag itemMap) {
+        ItemStack stack = getDriveSlots().get(slot).getStack();
+        if (!(stack.getItem() instanceof IQIODriveItem item)) {
+            Mekanism.logger.error("Tried to save data map to an invalid item. Something has gone very wrong!");
+            return;
+        }
+        item.writeItemMap(stack, itemMap);
+    }
 }
@@ -1,6 +1,9 @@
 package mekanism.common.content.qio;
 
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap.Entry;
+import java.util.ArrayList;
+import java.util.List;
 import mekanism.api.NBTConstants;
 import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.util.ItemDataUtils;
@@ -32,14 +35,37 @@ public interface IQIODriveItem {
     }
 
     default void writeItemMap(ItemStack stack, QIODriveData map) {
+        writeItemMap(stack, serializeItemMap(map.getItemMap()));
+    }
+
+    /**
+     * @param list Item map that was serialized by {@link #serializeItemMap(Object2LongMap)}.
+     */
+    default void writeItemMap(ItemStack stack, ListTag list) {
+        ItemDataUtils.setListOrRemove(stack, NBTConstants.QIO_ITEM_MAP, list);
+    }
+
+    static ListTag serializeItemMap(Object2LongMap<HashedItem> itemMap) {
         ListTag list = new ListTag();
-        for (Entry<HashedItem> entry : map.getItemMap().object2LongEntrySet()) {
+        list.addAll(serializeEntries(itemMap));
+        return list;
+    }
+
+    /**
+     * Serializes each entry of the item map without adding them to a list yet.
+     *
+     * @apiNote Saving item stacks may look up registries and serialize capabilities, so this should only be called on the server thread. The returned tags are not
+     * referenced by anything else, so they can be written out on another thread afterwards.
+     */
+    static List<CompoundTag> serializeEntries(Object2LongMap<HashedItem> itemMap) {
+        List<CompoundTag> entries = new ArrayList<>(itemMap.size());
+        for (Entry<HashedItem> entry : itemMap.object2LongEntrySet()) {
             CompoundTag tag = new CompoundTag();
             tag.put(NBTConstants.ITEM, entry.getKey().getStack().save(new CompoundTag()));
             tag.putLong(NBTConstants.AMOUNT, entry.getLongValue());
-            list.add(tag);
+            entries.add(tag);
         }
-        ItemDataUtils.setListOrRemove(stack, NBTConstants.QIO_ITEM_MAP, list);
+        return entries;
     }
 
     long getCountCapacity(ItemStack stack);
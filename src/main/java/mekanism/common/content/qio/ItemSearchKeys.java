@@ -0,0 +1,37 @@
+package mekanism.common.content.qio;
+
+import java.util.List;
+import mekanism.common.content.qio.SearchQueryParser.QueryType;
+import net.minecraft.world.item.ItemStack;
+
+/**
+ * Lowercase strings of an item type that search queries get matched against. These are computed lazily per query type, and then kept so that the display name, tooltip,
+ * tags, and mod id of an item type only have to be looked up once rather than every time the search changes.
+ *
+ * @apiNote Only use on client-side.
+ */
+public class ItemSearchKeys {
+
+    private static final QueryType[] QUERY_TYPES = QueryType.values();
+
+    private final ItemStack stack;
+    @SuppressWarnings("unchecked")
+    private final List<String>[] keys = new List[QUERY_TYPES.length];
+
+    public ItemSearchKeys(ItemStack stack) {
+        this.stack = stack;
+    }
+
+    public ItemStack getStack() {
+        return stack;
+    }
+
+    public List<String> get(QueryType type) {
+        List<String> typeKeys = keys[type.ordinal()];
+        if (typeKeys == null) {
+            typeKeys = type.getKeys(stack);
+            keys[type.ordinal()] = typeKeys;
+        }
+        return typeKeys;
+    }
+}
\ No newline at end of file
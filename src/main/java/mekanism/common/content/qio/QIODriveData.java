@@ -2,10 +2,13 @@ package mekanism.common.content.qio;
 
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.List;
 import mekanism.api.Action;
 import mekanism.common.Mekanism;
 import mekanism.common.content.qio.IQIODriveItem.DriveMetadata;
 import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
 import net.minecraft.world.item.ItemStack;
 
 public class QIODriveData {
@@ -15,6 +18,9 @@ public class QIODriveData {
     private final int typeCapacity;
     private final Object2LongMap<HashedItem> itemMap = new Object2LongOpenHashMap<>();
     private long itemCount;
+    // incremented every time the item map changes, so that we can tell whether the data saved to the drive stack is outdated
+    private long version;
+    private long savedVersion;
 
     public QIODriveData(QIODriveKey key) {
         this.key = key;
@@ -32,6 +38,14 @@ public class QIODriveData {
     }
 
     public long add(HashedItem type, long amount, Action action) {
+        return add(type, amount, action, true);
+    }
+
+    /**
+     * @param notify {@code false} to skip updating the metadata of the drive and notifying the holder, for when adding many items at once. In that case
+     *               {@link #notifyChanged()} should be called after all the items have been added.
+     */
+    long add(HashedItem type, long amount, Action action, boolean notify) {
         long stored = getStored(type);
         // fail if we've reached item count capacity or adding this item would make us exceed type capacity
         if (itemCount == countCapacity || (stored == 0 && itemMap.size() == typeCapacity)) {
@@ -41,12 +55,19 @@ public class QIODriveData {
         if (action.execute()) {
             itemMap.put(type, stored + toAdd);
             itemCount += toAdd;
-            key.updateMetadata(this);
-            key.dataUpdate();
+            version++;
+            if (notify) {
+                notifyChanged();
+            }
         }
         return amount - toAdd;
     }
 
+    void notifyChanged() {
+        key.updateMetadata(this);
+        key.dataUpdate();
+    }
+
     public long remove(HashedItem type, long amount, Action action) {
         long stored = getStored(type);
         long removed = Math.min(amount, stored);
@@ -58,6 +79,7 @@ public class QIODriveData {
                 itemMap.removeLong(type);
             }
             itemCount -= removed;
+            version++;
             key.updateMetadata(this);
             key.dataUpdate();
         }
@@ -72,6 +94,39 @@ public class QIODriveData {
         return itemMap;
     }
 
+    /**
+     * Serializes the entries of the item map, so that they won't change when items are added or removed and can be written to the drive off the server thread.
+     *
+     * @apiNote Only call this on the server thread.
+     */
+    public List<CompoundTag> snapshotItemMap() {
+        return IQIODriveItem.serializeEntries(itemMap);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return {@code true} if the item map has changed since it was last saved to the drive stack.
+     */
+    public boolean isDirty() {
+        return version != savedVersion;
+    }
+
+    /**
+     * Marks that the item map as it was at the given version is being saved to the drive stack.
+     *
+     * @return {@code false} if a newer version has already been saved, in which case the given version should not be saved.
+     */
+    public boolean markSaved(long version) {
+        if (version < savedVersion) {
+            return false;
+        }
+        savedVersion = version;
+        return true;
+    }
+
     public QIODriveKey getKey() {
         return key;
     }
@@ -106,6 +161,10 @@ public class QIODriveData {
             holder.save(driveSlot, data);
         }
 
+        public void save(ListTag itemMap) {
+            holder.save(driveSlot, itemMap);
+        }
+
         public void dataUpdate() {
             holder.onDataUpdate();
         }
@@ -0,0 +1,130 @@
+package mekanism.common.content.qio;
+
+import com.google.common.io.CountingOutputStream;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import mekanism.api.MekanismAPI;
+import mekanism.common.Mekanism;
+import mekanism.common.lib.inventory.HashedItem;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+
+/**
+ * Serializes the contents of QIO drives. The item stacks always get saved on the server thread, but writing the entries out can happen on a separate thread so that
+ * large drives don't cause the server thread to hitch as much. Also keeps track of how much data has been written and how long it took.
+ */
+public class QIODriveSaver {
+
+    private static final AtomicInteger SAVES = new AtomicInteger();
+    private static final AtomicLong BYTES_WRITTEN = new AtomicLong();
+    private static final AtomicLong TIME_SPENT = new AtomicLong();
+    private static ExecutorService executor;
+
+    private QIODriveSaver() {
+    }
+
+    /**
+     * Writes the given item map entries to a list on a separate thread.
+     *
+     * @param entries Entries of the item map that were already serialized on the server thread, see {@link QIODriveData#snapshotItemMap()}.
+     */
+    static CompletableFuture<ListTag> saveAsync(List<CompoundTag> entries) {
+        return CompletableFuture.supplyAsync(() -> write(entries, 0), getExecutor());
+    }
+
+    /**
+     * Serializes the given item map on the calling thread.
+     *
+     * @apiNote Only call this on the server thread.
+     */
+    static ListTag save(Object2LongMap<HashedItem> itemMap) {
+        long start = System.nanoTime();
+        List<CompoundTag> entries = IQIODriveItem.serializeEntries(itemMap);
+        return write(entries, System.nanoTime() - start);
+    }
+
+    /**
+     * @param serializeTime Time in nanoseconds that was spent serializing the entries on the calling thread.
+     */
+    private static ListTag write(List<CompoundTag> entries, long serializeTime) {
+        long start = System.nanoTime();
+        ListTag list = new ListTag();
+        list.addAll(entries);
+        long bytes = getSize(list);
+        long duration = serializeTime + System.nanoTime() - start;
+        SAVES.incrementAndGet();
+        BYTES_WRITTEN.addAndGet(bytes);
+        TIME_SPENT.addAndGet(duration);
+        if (MekanismAPI.debug) {
+            Mekanism.logger.info("Saved QIO drive with {} item types ({} bytes) in {} µs on {}", entries.size(), bytes, TimeUnit.NANOSECONDS.toMicros(duration),
+                  Thread.currentThread().getName());
+        }
+        return list;
+    }
+
+    private static long getSize(ListTag list) {
+        CountingOutputStream counter = new CountingOutputStream(OutputStream.nullOutputStream());
+        try {
+            list.write(new DataOutputStream(counter));
+        } catch (IOException e) {
+            //Shouldn't happen as we aren't writing anywhere
+            Mekanism.logger.error("Failed to measure the size of a QIO drive.", e);
+        }
+        return counter.getCount();
+    }
+
+    /**
+     * @return Number of drives that have been saved.
+     */
+    public static int getSaves() {
+        return SAVES.get();
+    }
+
+    /**
+     * @return Total size in bytes of the data of all drives that have been saved.
+     */
+    public static long getBytesWritten() {
+        return BYTES_WRITTEN.get();
+    }
+
+    /**
+     * @return Total time in nanoseconds spent saving drives.
+     */
+    public static long getTimeSpent() {
+        return TIME_SPENT.get();
+    }
+
+    /**
+     * Shuts down the thread used for saving drives if it has been created, it will be recreated the next time a drive gets saved asynchronously.
+     *
+     * @apiNote Saves that have already been started still complete.
+     */
+    public static synchronized void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+            executor = null;
+        }
+    }
+
+    private static synchronized ExecutorService getExecutor() {
+        if (executor == null) {
+            AtomicInteger threadCount = new AtomicInteger();
+            executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "Mekanism QIO Save-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                thread.setUncaughtExceptionHandler((t, throwable) -> Mekanism.logger.error("Uncaught exception in {}", t.getName(), throwable));
+                return thread;
+            });
+        }
+        return executor;
+    }
+}
@@ -1,12 +1,28 @@
 package mekanism.common.content.qio;
 
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.SetMultimap;
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.ints.Int2LongMap;
+import it.unimi.dsi.fastutil.ints.Int2LongMaps;
+import it.unimi.dsi.fastutil.ints.Int2LongOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongMaps;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -18,7 +34,11 @@ import java.util.Map;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.ObjLongConsumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import mekanism.api.Action;
@@ -29,19 +49,21 @@ import mekanism.api.text.EnumColor;
 import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.base.TagCache;
+import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.QIODriveData.QIODriveKey;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
 import mekanism.common.lib.WildcardMatcher;
-import mekanism.common.lib.collection.BiMultimap;
+import mekanism.common.lib.collection.RoundRobinIntSet;
 import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.lib.frequency.FrequencyType;
 import mekanism.common.lib.frequency.IColorableFrequency;
 import mekanism.common.lib.inventory.HashedItem;
-import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.network.to_client.PacketQIOItemViewerGuiSync;
 import mekanism.common.util.MekanismUtils;
 import mekanism.common.util.NBTUtils;
+import net.minecraft.Util;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.item.Item;
@@ -53,21 +75,29 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     private static final Random rand = new Random();
 
     private final Map<QIODriveKey, QIODriveData> driveMap = new LinkedHashMap<>();
-    private final Map<HashedItem, QIOItemTypeData> itemDataMap = new LinkedHashMap<>();
+    // saves of drives that are being serialized on a separate thread
+    private final Map<QIODriveKey, PendingSave> pendingSaves = new HashMap<>();
+    // core item data, tracking item types + their respective counts and containing drives, keyed by the id of the item type.
+    // The lookup maps below and viewer sync refer to item types by their id, and insertion order is kept for removing items without a type
+    private final Int2ObjectMap<QIOItemTypeData> itemDataById = new Int2ObjectLinkedOpenHashMap<>();
     private final Set<IQIODriveHolder> driveHolders = new HashSet<>();
     // efficiently keep track of the tags utilized by the items stored
-    private final BiMultimap<String, HashedItem> tagLookupMap = new BiMultimap<>();
+    private final Map<String, IntSet> tagLookupMap = new Object2ObjectOpenHashMap<>();
     // efficiently keep track of the modids utilized by the items stored
-    private final Map<String, Set<HashedItem>> modIDLookupMap = new HashMap<>();
+    private final Map<String, IntSet> modIDLookupMap = new Object2ObjectOpenHashMap<>();
     // efficiently keep track of the items for use in fuzzy lookup utilized by the items stored
-    private final Map<Item, Set<HashedItem>> fuzzyItemLookupMap = new HashMap<>();
-    // keep track of a UUID for each hashed item
-    private final BiMap<HashedItem, UUID> itemTypeLookup = HashBiMap.create();
-    // allows for lazily removing the UUIDs assigned to items in the itemTypeLookup BiMap without having any issues
-    // come up related to updatedItems being a set and UUIDAwareHashedItems server side intentionally not comparing
-    // the UUIDs, so then if multiple add/remove calls happened at once the items in need of updating potentially
-    // would sync using a different UUID to the client, causing the client to not know the old stack needed to be removed
-    private final Set<UUID> uuidsToInvalidate = new HashSet<>();
+    private final Map<Item, IntSet> fuzzyItemLookupMap = new Reference2ObjectOpenHashMap<>();
+    // materialized sets of the item types matching the filters of exporters, kept up to date as item types get added and removed
+    private final Set<TypeSubscription> typeSubscriptions = new ReferenceOpenHashSet<>();
+    // keep track of the id of each hashed item, this is the only place item types are looked up by their hashed item. The ids of removed item types are
+    // kept until the next tick, so that if multiple add/remove calls happen at once the item type keeps its id and UUID. Otherwise, the items in need of updating
+    // could sync using a different id to the client, causing the client to not know the old stack needed to be removed
+    private final Object2IntMap<HashedItem> itemTypeIds = Util.make(new Object2IntOpenHashMap<>(), map -> map.defaultReturnValue(-1));
+    // item types that have been removed, by their id, so that their ids can be released next tick if they haven't been added back
+    private final Int2ObjectMap<HashedItem> removedTypes = new Int2ObjectOpenHashMap<>();
+    // the UUID of an item type is made up of these bits followed by its id, this keeps them unique between frequencies without having to store them
+    private final long typeUUIDBits = rand.nextLong();
+    private int nextTypeId;
     // a sensitive cache for wildcard tag lookups (wildcard -> [matching tags])
     private final SetMultimap<String, String> tagWildcardCache = HashMultimap.create();
     private final Set<String> failedWildcardTags = new HashSet<>();
@@ -75,8 +105,14 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     private final SetMultimap<String, String> modIDWildcardCache = HashMultimap.create();
     private final Set<String> failedWildcardModIDs = new HashSet<>();
 
-    private final Set<UUIDAwareHashedItem> updatedItems = new HashSet<>();
-    private final Set<ServerPlayer> playersViewingItems = new HashSet<>();
+    // ids of the item types in need of syncing to viewing clients
+    private final IntSet updatedItems = new IntOpenHashSet();
+    // ids that have been assigned since viewing clients were last synced, and that the clients therefore don't know the item type of yet
+    private final IntSet unsyncedTypeIds = new IntOpenHashSet();
+    // counts of the item types as viewing clients were last sent them, changes in count are synced as the difference to these
+    private final Int2LongMap syncedCounts = new Int2LongOpenHashMap();
+    private final Map<ServerPlayer, ItemViewerSubscription> itemViewers = new HashMap<>();
+    private int ticksSinceViewerSync;
 
     /** If we need to send a packet to viewing clients with changed item data. */
     private boolean needsUpdate;
@@ -85,7 +121,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
 
     private long totalCount, totalCountCapacity;
     private int totalTypeCapacity;
-    // only used on client side, for server side we can just look at itemDataMap.size()
+    // only used on client side, for server side we can just look at itemDataById.size()
     private int clientTypes;
 
     private EnumColor color = EnumColor.INDIGO;
@@ -102,27 +138,63 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     /**
-     * Dangerous function. Don't mess with this map.
+     * Subscribes to the item types stored in this frequency that match the given predicate. The returned subscription is kept up to date as item types get added and
+     * removed, so that things like exporters don't have to look through all the stored item types to find the ones they care about.
      *
-     * @return core item data map, tracking item types + their respective counts and containing drives
+     * @param matcher Predicate to check if an item type should be part of the subscription. Must only depend on the item type and its tags.
+     *
+     * @apiNote Subscriptions should be {@link #unsubscribeFromTypes(TypeSubscription) unsubscribed} from when they are no longer needed.
      */
-    public Map<HashedItem, QIOItemTypeData> getItemDataMap() {
-        return itemDataMap;
+    public TypeSubscription subscribeToTypes(Predicate<QIOItemTypeData> matcher) {
+        TypeSubscription subscription = new TypeSubscription(matcher);
+        subscription.rebuild();
+        typeSubscriptions.add(subscription);
+        return subscription;
+    }
+
+    public void unsubscribeFromTypes(TypeSubscription subscription) {
+        typeSubscriptions.remove(subscription);
     }
 
     @Override
     public void forAllStored(ObjLongConsumer<ItemStack> consumer) {
-        itemDataMap.forEach((type, data) -> consumer.accept(type.createStack(1), data.getCount()));
+        for (QIOItemTypeData data : itemDataById.values()) {
+            consumer.accept(data.itemType.createStack(1), data.count);
+        }
     }
 
     @Nullable
     public HashedItem getTypeByUUID(@Nullable UUID uuid) {
-        return uuid == null ? null : itemTypeLookup.inverse().get(uuid);
+        if (uuid == null || uuid.getMostSignificantBits() != typeUUIDBits) {
+            return null;
+        }
+        long id = uuid.getLeastSignificantBits();
+        if (id < 0 || id >= nextTypeId) {
+            return null;
+        }
+        QIOItemTypeData data = itemDataById.get((int) id);
+        //Note: Item types that were removed this tick can still be looked up, as they keep their UUID if they get added back
+        return data == null ? removedTypes.get((int) id) : data.itemType;
     }
 
     @Nullable
     public UUID getUUIDForType(HashedItem item) {
-        return itemTypeLookup.get(item);
+        int id = itemTypeIds.getInt(item);
+        return id == -1 ? null : getTypeUUID(id);
+    }
+
+    private UUID getTypeUUID(int id) {
+        return new UUID(typeUUIDBits, id);
+    }
+
+    @Nullable
+    private QIOItemTypeData getTypeData(HashedItem type) {
+        //Note: If there is no id for the type we look up -1 which never has any data
+        return itemDataById.get(itemTypeIds.getInt(type));
+    }
+
+    private boolean canStoreType(HashedItem type) {
+        return itemDataById.size() < totalTypeCapacity || getTypeData(type) != null;
     }
 
     @Override
@@ -132,17 +204,17 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         }
         HashedItem type = action.execute() ? HashedItem.create(stack) : HashedItem.raw(stack);
         // these checks are extremely important; they prevent us from wasting CPU searching for a place to put the new items,
-        // and they also prevent us from adding a ghost type to the itemDataMap if nothing is inserted
-        if (totalCount == totalCountCapacity || (!itemDataMap.containsKey(type) && itemDataMap.size() == totalTypeCapacity)) {
+        // and they also prevent us from adding a ghost type to the item data if nothing is inserted
+        if (totalCount == totalCountCapacity || !canStoreType(type)) {
             return 0;
         }
         // at this point we're guaranteed at least part of the input stack will be inserted
         QIOItemTypeData data;
         if (action.execute()) {
-            data = itemDataMap.computeIfAbsent(type, this::createTypeDataForAbsent);
+            data = getOrCreateTypeData(type);
         } else {
             //If we are simulating, look it up
-            data = itemDataMap.get(type);
+            data = getTypeData(type);
             if (data == null) {
                 // if it doesn't already have that type, fall back to a new item type data that doesn't actually get added
                 data = new QIOItemTypeData(type);
@@ -157,62 +229,137 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         }
         HashedItem type = HashedItem.create(stack);
         // these checks are extremely important; they prevent us from wasting CPU searching for a place to put the new items,
-        // and they also prevent us from adding a ghost type to the itemDataMap if nothing is inserted
-        if (totalCount == totalCountCapacity || (!itemDataMap.containsKey(type) && itemDataMap.size() == totalTypeCapacity)) {
+        // and they also prevent us from adding a ghost type to the item data if nothing is inserted
+        if (totalCount == totalCountCapacity || !canStoreType(type)) {
             return stack;
         }
         // at this point we're guaranteed at least part of the input stack will be inserted
-        QIOItemTypeData data = itemDataMap.computeIfAbsent(type, this::createTypeDataForAbsent);
+        QIOItemTypeData data = getOrCreateTypeData(type);
         return type.createStack(MathUtils.clampToInt(data.add(stack.getCount(), Action.EXECUTE)));
     }
 
-    private QIOItemTypeData createTypeDataForAbsent(HashedItem type) {
-        ItemStack stack = type.getStack();
-        List<String> tags = TagCache.getItemTags(stack);
-        if (!tags.isEmpty()) {
-            boolean hasAllKeys = tagLookupMap.hasAllKeys(tags);
-            if (tagLookupMap.putAll(tags, type) && !hasAllKeys) {
-                //If we added any tag item combinations, and we didn't have all the keys for tags this item has,
-                // then we need to clear our wildcard cache as our new tags may be valid for some of our wildcards
-                tagWildcardCache.clear();
-                failedWildcardTags.clear();
+    /**
+     * Adds multiple stacks at once, only updating the metadata of the drives that changed and notifying their holders once all the stacks have been added.
+     *
+     * @param stacks Stacks to add, the same item type may be included multiple times.
+     *
+     * @return The amount of each stack that was accepted, indexed the same as the given stacks.
+     */
+    public int[] addItems(List<ItemStack> stacks) {
+        int[] accepted = new int[stacks.size()];
+        Set<QIODriveData> changedDrives = new ReferenceOpenHashSet<>();
+        for (int i = 0, size = stacks.size(); i < size; i++) {
+            if (totalCount == totalCountCapacity) {
+                //Every drive is full, so nothing else will fit
+                break;
+            }
+            ItemStack stack = stacks.get(i);
+            if (!stack.isEmpty()) {
+                HashedItem type = HashedItem.create(stack);
+                if (canStoreType(type)) {
+                    QIOItemTypeData data = getOrCreateTypeData(type);
+                    accepted[i] = stack.getCount() - MathUtils.clampToInt(data.add(stack.getCount(), Action.EXECUTE, changedDrives));
+                }
+            }
+        }
+        for (QIODriveData drive : changedDrives) {
+            drive.notifyChanged();
+        }
+        return accepted;
+    }
+
+    /**
+     * @param type Item type, must not be a {@link HashedItem#raw(ItemStack) raw} hashed item as it may be stored.
+     */
+    private QIOItemTypeData getOrCreateTypeData(HashedItem type) {
+        int id = itemTypeIds.getInt(type);
+        if (id == -1) {
+            // create a new id for use with this item type, which viewing clients will be sent the item type for the next time they are synced
+            id = nextTypeId++;
+            itemTypeIds.put(type, id);
+            unsyncedTypeIds.add(id);
+        } else {
+            QIOItemTypeData data = itemDataById.get(id);
+            if (data != null) {
+                return data;
             }
+            //If the item type was removed this tick, stop its id from being released so that it is able to continue being used/sync'd to the client
+            removedTypes.remove(id);
+        }
+        ItemStack stack = type.getStack();
+        QIOItemTypeData data = new QIOItemTypeData(type, id, TagCache.getItemTags(stack));
+        itemDataById.put(id, data);
+        if (addTagLookups(data)) {
+            //If we added any new tags, then we need to clear our wildcard cache as our new tags may be valid for some of our wildcards
+            tagWildcardCache.clear();
+            failedWildcardTags.clear();
         }
-        modIDLookupMap.computeIfAbsent(MekanismUtils.getModId(stack), modID -> {
+        if (addToLookup(modIDLookupMap, MekanismUtils.getModId(stack), id)) {
             //If we added a new modid to the lookup map we also want to make sure that we clear our modid wildcard cache
             // as our new modid may be valid for some of our wildcards
             modIDWildcardCache.clear();
             failedWildcardModIDs.clear();
-            return new HashSet<>();
-        }).add(type);
+        }
         //Fuzzy item lookup has no wildcard cache related to it
-        fuzzyItemLookupMap.computeIfAbsent(stack.getItem(), item -> new HashSet<>()).add(type);
-        UUID oldUUID = getUUIDForType(type);
-        if (oldUUID != null) {
-            //If there was a UUID stored and prepped to be invalidated, remove it from the UUIDS we are trying to invalidate
-            // so that it is able to continue being used/sync'd to the client
-            uuidsToInvalidate.remove(oldUUID);
-        } else {
-            // otherwise, create a new uuid for use with this item type
-            itemTypeLookup.put(type, UUID.randomUUID());
+        addToLookup(fuzzyItemLookupMap, stack.getItem(), id);
+        for (TypeSubscription subscription : typeSubscriptions) {
+            subscription.onTypeAdded(data);
+        }
+        return data;
+    }
+
+    /**
+     * @return {@code true} if any of the tags were not in the tag lookup map yet.
+     */
+    private boolean addTagLookups(QIOItemTypeData data) {
+        boolean added = false;
+        for (String tag : data.tags) {
+            added |= addToLookup(tagLookupMap, tag, data.id);
+        }
+        return added;
+    }
+
+    /**
+     * @return {@code true} if the key was not in the lookup map yet.
+     */
+    private static <KEY> boolean addToLookup(Map<KEY, IntSet> lookupMap, KEY key, int id) {
+        IntSet types = lookupMap.get(key);
+        boolean added = types == null;
+        if (added) {
+            types = new IntOpenHashSet();
+            lookupMap.put(key, types);
+        }
+        types.add(id);
+        return added;
+    }
+
+    /**
+     * @return {@code true} if the key was removed from the lookup map as there are no item types left that correspond to it.
+     */
+    private static <KEY> boolean removeFromLookup(Map<KEY, IntSet> lookupMap, KEY key, int id) {
+        IntSet types = lookupMap.get(key);
+        //In theory if we are removing an item, and it existed we should have a set corresponding to it,
+        // but double check that it is not null just in case
+        if (types != null && types.remove(id) && types.isEmpty()) {
+            lookupMap.remove(key);
+            return true;
         }
-        return new QIOItemTypeData(type);
+        return false;
     }
 
     @Override
     public long massExtract(ItemStack stack, long amount, Action action) {
-        if (amount <= 0 || stack.isEmpty() || itemDataMap.isEmpty()) {
+        if (amount <= 0 || stack.isEmpty() || itemDataById.isEmpty()) {
             return 0;
         }
-        HashedItem type = HashedItem.raw(stack);
-        QIOItemTypeData data = itemDataMap.get(type);
+        QIOItemTypeData data = getTypeData(HashedItem.raw(stack));
         if (data == null) {
             return 0;
         }
         long removed = data.remove(amount, action);
         // remove this item type if it's now empty
         if (action.execute() && data.count == 0) {
-            removeItemData(data.itemType);
+            removeItemData(data);
         }
         return removed;
     }
@@ -229,17 +376,15 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public ItemStack removeByType(@Nullable HashedItem itemType, int amount) {
-        if (itemDataMap.isEmpty() || amount <= 0) {
+        if (itemDataById.isEmpty() || amount <= 0) {
             return ItemStack.EMPTY;
         }
 
         QIOItemTypeData data;
         if (itemType == null) {
-            Map.Entry<HashedItem, QIOItemTypeData> entry = itemDataMap.entrySet().iterator().next();
-            itemType = entry.getKey();
-            data = entry.getValue();
+            data = itemDataById.values().iterator().next();
         } else {
-            data = itemDataMap.get(itemType);
+            data = getTypeData(itemType);
             if (data == null) {
                 return ItemStack.EMPTY;
             }
@@ -248,53 +393,49 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         ItemStack removed = data.remove(amount);
         // remove this item type if it's now empty
         if (data.count == 0) {
-            removeItemData(data.itemType);
+            removeItemData(data);
         }
         return removed;
     }
 
-    private void removeItemData(HashedItem type) {
-        itemDataMap.remove(type);
-        //If the item has a UUID that corresponds to it, add that UUID to our list of uuids to invalidate
-        UUID toInvalidate = getUUIDForType(type);
-        if (toInvalidate != null) {
-            uuidsToInvalidate.add(toInvalidate);
+    private void removeItemData(QIOItemTypeData data) {
+        HashedItem type = data.itemType;
+        itemDataById.remove(data.id);
+        for (TypeSubscription subscription : typeSubscriptions) {
+            subscription.onTypeRemoved(data.id);
+        }
+        //Release the id of the item type next tick, unless it gets added back before then
+        removedTypes.put(data.id, type);
+        boolean removedTag = false;
+        for (String tag : data.tags) {
+            removedTag |= removeFromLookup(tagLookupMap, tag, data.id);
         }
-        //Note: We need to copy the tags to a new collection as otherwise when we start removing them from the lookup
-        // they will also get removed from this view
-        Set<String> tags = new HashSet<>(tagLookupMap.getKeys(type));
-        if (tagLookupMap.removeValue(type) && !tagLookupMap.hasAllKeys(tags)) {
+        if (removedTag) {
             //If we completely removed any tags clear our wildcard cache as it may have some wildcards that are
             // matching a tag that is no longer stored
             tagWildcardCache.clear();
             //Note: We don't need to clear the failed wildcard tags as if we are removing tags they still won't have any matches
         }
         ItemStack stack = type.getStack();
-        String modID = MekanismUtils.getModId(stack);
-        Set<HashedItem> itemsForMod = modIDLookupMap.get(modID);
-        //In theory if we are removing an item, and it existed we should have a set corresponding to it,
-        // but double check that it is not null just in case
-        // Next if we removed the item successfully, check if the items for that mod is now empty, and if they are
-        // remove the modid from the lookup map, and clear our wildcard cache as it may have some wildcards that are
-        // matching a modid that is no longer stored
-        if (itemsForMod != null && itemsForMod.remove(type) && itemsForMod.isEmpty()) {
-            modIDLookupMap.remove(modID);
+        if (removeFromLookup(modIDLookupMap, MekanismUtils.getModId(stack), data.id)) {
+            //If there are no items left for that mod, clear our wildcard cache as it may have some wildcards that are
+            // matching a modid that is no longer stored
             modIDWildcardCache.clear();
             //Note: We don't need to clear the failed wildcard modids as if we are removing tags they still won't have any matches
         }
-        Item item = stack.getItem();
-        Set<HashedItem> itemsByFuzzy = fuzzyItemLookupMap.get(item);
-        //In theory if we are removing an item, and it existed we should have a set corresponding to it,
-        // but double check that it is not null just in case
-        // Next if we removed the item successfully, check if the "fuzzy" items for that item is now empty, and if they are
-        // remove the item completely from the lookup map
-        if (itemsByFuzzy != null && itemsByFuzzy.remove(type) && itemsByFuzzy.isEmpty()) {
-            fuzzyItemLookupMap.remove(item);
-        }
+        removeFromLookup(fuzzyItemLookupMap, stack.getItem(), data.id);
     }
 
-    public Set<HashedItem> getTypesForItem(Item item) {
-        return Collections.unmodifiableSet(fuzzyItemLookupMap.getOrDefault(item, Collections.emptySet()));
+    public List<HashedItem> getTypesForItem(Item item) {
+        IntSet types = fuzzyItemLookupMap.get(item);
+        if (types == null) {
+            return Collections.emptyList();
+        }
+        List<HashedItem> ret = new ArrayList<>(types.size());
+        for (IntIterator iter = types.iterator(); iter.hasNext(); ) {
+            ret.add(itemDataById.get(iter.nextInt()).itemType);
+        }
+        return ret;
     }
 
     public Object2LongMap<HashedItem> getStacksByItem(Item item) {
@@ -302,50 +443,47 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public Object2LongMap<HashedItem> getStacksByTag(String tag) {
-        return getStacksWithCounts(tagLookupMap.getValues(tag));
+        return getStacksWithCounts(tagLookupMap.get(tag));
     }
 
     public Object2LongMap<HashedItem> getStacksByModID(String modID) {
         return getStacksWithCounts(modIDLookupMap.get(modID));
     }
 
-    private Object2LongMap<HashedItem> getStacksWithCounts(@Nullable Set<HashedItem> items) {
-        if (items == null || items.isEmpty()) {
+    private Object2LongMap<HashedItem> getStacksWithCounts(@Nullable IntSet types) {
+        if (types == null || types.isEmpty()) {
             return Object2LongMaps.emptyMap();
         }
-        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-        for (HashedItem item : items) {
-            ret.put(item, getStored(item));
-        }
+        Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>(types.size());
+        addStacksWithCounts(ret, types);
         return ret;
     }
 
-    public Object2LongMap<HashedItem> getStacksByTagWildcard(String wildcard) {
-        if (hasMatchingElements(tagWildcardCache, failedWildcardTags, wildcard, tagLookupMap::getAllKeys)) {
-            Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-            for (String match : tagWildcardCache.get(wildcard)) {
-                for (HashedItem item : tagLookupMap.getValues(match)) {
-                    //If our return map doesn't already have the stored value in it, calculate it.
-                    // The case where it may have the stored value in it is if an item has multiple
-                    // tags that all match the wildcard
-                    ret.computeIfAbsent(item, (HashedItem type) -> getStored(type));
-                }
+    private void addStacksWithCounts(Object2LongMap<HashedItem> ret, @Nullable IntSet types) {
+        if (types != null) {
+            for (IntIterator iter = types.iterator(); iter.hasNext(); ) {
+                QIOItemTypeData data = itemDataById.get(iter.nextInt());
+                //Note: If an item has multiple tags that all match a wildcard we may end up putting it multiple times,
+                // but as we already have the count on hand that is cheaper than checking if it is already present
+                ret.put(data.itemType, data.count);
             }
-            return ret;
         }
-        return Object2LongMaps.emptyMap();
+    }
+
+    public Object2LongMap<HashedItem> getStacksByTagWildcard(String wildcard) {
+        return getStacksByWildcard(tagLookupMap, tagWildcardCache, failedWildcardTags, wildcard);
     }
 
     public Object2LongMap<HashedItem> getStacksByModIDWildcard(String wildcard) {
-        if (hasMatchingElements(modIDWildcardCache, failedWildcardModIDs, wildcard, modIDLookupMap::keySet)) {
+        return getStacksByWildcard(modIDLookupMap, modIDWildcardCache, failedWildcardModIDs, wildcard);
+    }
+
+    private Object2LongMap<HashedItem> getStacksByWildcard(Map<String, IntSet> lookupMap, SetMultimap<String, String> wildcardCache, Set<String> failedWildcards,
+          String wildcard) {
+        if (hasMatchingElements(wildcardCache, failedWildcards, wildcard, lookupMap::keySet)) {
             Object2LongMap<HashedItem> ret = new Object2LongOpenHashMap<>();
-            for (String match : modIDWildcardCache.get(wildcard)) {
-                for (HashedItem item : modIDLookupMap.get(match)) {
-                    //Note: Unlike in getStacksByTagWildcard, we don't use computeLongIfAbsent here because
-                    // each stack only has one modid, so while we may have multiple modids that match our
-                    // wildcard, the stacks that correspond to said modids will be unique
-                    ret.put(item, getStored(item));
-                }
+            for (String match : wildcardCache.get(wildcard)) {
+                addStacksWithCounts(ret, lookupMap.get(match));
             }
             return ret;
         }
@@ -380,16 +518,182 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public void openItemViewer(ServerPlayer player) {
-        playersViewingItems.add(player);
-        Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>();
-        for (QIOItemTypeData data : itemDataMap.values()) {
-            map.put(new UUIDAwareHashedItem(data.itemType, getUUIDForType(data.itemType)), data.count);
+        itemViewers.put(player, new ItemViewerSubscription());
+        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        int types = 0;
+        for (QIOItemTypeData data : itemDataById.values()) {
+            //Note: We send the counts other viewers were last synced, so that the next changes we sync are relative to what this viewer has as well.
+            // Item types that haven't been synced yet will be sent to this viewer alongside all the other viewers the next time they are synced
+            if (syncedCounts.containsKey(data.id)) {
+                PacketQIOItemViewerGuiSync.writeChange(buffer, data.id, data.itemType, getTypeUUID(data.id), syncedCounts.get(data.id));
+                types++;
+            }
         }
-        Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.batch(map, totalCountCapacity, totalTypeCapacity), player);
+        Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.batch(totalCountCapacity, totalTypeCapacity, types, readBytes(buffer)), player);
     }
 
     public void closeItemViewer(ServerPlayer player) {
-        playersViewingItems.remove(player);
+        itemViewers.remove(player);
+    }
+
+    /**
+     * Updates the item types that are visible to the given player, and syncs any changes to the count of those item types that were held back while they were not
+     * visible.
+     *
+     * @apiNote Only has an effect if windowed viewer sync is enabled.
+     */
+    public void updateItemViewerWindow(ServerPlayer player, IntSet visibleTypes) {
+        ItemViewerSubscription subscription = itemViewers.get(player);
+        if (subscription != null && MekanismConfig.general.qioWindowedViewerSync.get()) {
+            subscription.visibleTypes = visibleTypes;
+            syncDeferred(player, subscription);
+        }
+    }
+
+    /**
+     * Syncs the changes that were held back from the given player because the item types were not visible, and that now are visible.
+     */
+    private void syncDeferred(ServerPlayer player, ItemViewerSubscription subscription) {
+        if (subscription.deferred.isEmpty()) {
+            return;
+        }
+        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        int changes = 0;
+        for (ObjectIterator<Int2LongMap.Entry> iter = Int2LongMaps.fastIterator(subscription.deferred); iter.hasNext(); ) {
+            Int2LongMap.Entry entry = iter.next();
+            int id = entry.getIntKey();
+            if (subscription.isVisible(id)) {
+                iter.remove();
+                //Note: Deferred changes of item types that have been removed get dropped when the removal is synced, as the removal is always sent
+                PacketQIOItemViewerGuiSync.writeChange(buffer, id, null, null, entry.getLongValue());
+                changes++;
+            }
+        }
+        if (changes > 0) {
+            Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.update(totalCountCapacity, totalTypeCapacity, changes, readBytes(buffer)), player);
+        }
+    }
+
+    /**
+     * Syncs all the changes that have been collected since viewing clients were last synced. Each change is only encoded once, and all players that are meant to
+     * receive all the changes are sent the same encoded changes.
+     */
+    private void syncItemViewers() {
+        // flush players that somehow didn't send a container close packet
+        itemViewers.keySet().removeIf(player -> !(player.containerMenu instanceof QIOItemViewerContainer));
+        if (itemViewers.isEmpty()) {
+            //Nobody to sync to, but keep the synced counts up to date so that viewers that get opened later are sent changes relative to the correct counts
+            for (IntIterator iter = updatedItems.iterator(); iter.hasNext(); ) {
+                int id = iter.nextInt();
+                QIOItemTypeData data = itemDataById.get(id);
+                if (data == null) {
+                    syncedCounts.remove(id);
+                } else {
+                    syncedCounts.put(id, data.count);
+                }
+            }
+        } else {
+            boolean windowed = MekanismConfig.general.qioWindowedViewerSync.get();
+            int[] ids = new int[updatedItems.size()];
+            long[] countChanges = new long[ids.length];
+            //Changes that every viewer needs to be sent, as they change which item types are stored rather than just the count of an item type
+            boolean[] structural = new boolean[ids.length];
+            //Where in the buffer each encoded change ends
+            int[] ends = new int[ids.length];
+            FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+            int changes = 0;
+            for (IntIterator iter = updatedItems.iterator(); iter.hasNext(); ) {
+                int id = iter.nextInt();
+                //Note: If there is no data for the id, the item type was removed (and may have been added back under a new id) since it changed
+                QIOItemTypeData data = itemDataById.get(id);
+                boolean unsynced = unsyncedTypeIds.contains(id);
+                if (data == null) {
+                    if (unsynced) {
+                        //Viewers were never told about the item type, so they don't need to be told it was removed
+                        continue;
+                    }
+                    syncedCounts.remove(id);
+                    PacketQIOItemViewerGuiSync.writeRemoval(buffer, id);
+                    structural[changes] = true;
+                } else {
+                    long countChange = data.count - syncedCounts.get(id);
+                    if (countChange == 0 && !unsynced) {
+                        //The count changed back to what the viewers already have
+                        continue;
+                    }
+                    syncedCounts.put(id, data.count);
+                    if (unsynced) {
+                        PacketQIOItemViewerGuiSync.writeChange(buffer, id, data.itemType, getTypeUUID(data.id), countChange);
+                    } else {
+                        PacketQIOItemViewerGuiSync.writeChange(buffer, id, null, null, countChange);
+                    }
+                    countChanges[changes] = countChange;
+                    structural[changes] = unsynced;
+                }
+                ids[changes] = id;
+                ends[changes] = buffer.writerIndex();
+                changes++;
+            }
+            byte[] encoded = readBytes(buffer);
+            PacketQIOItemViewerGuiSync sharedUpdate = null;
+            for (Map.Entry<ServerPlayer, ItemViewerSubscription> entry : itemViewers.entrySet()) {
+                ServerPlayer player = entry.getKey();
+                ItemViewerSubscription subscription = entry.getValue();
+                if (!windowed) {
+                    //If windowed sync got disabled make sure we don't keep holding back any changes
+                    subscription.visibleTypes = null;
+                    syncDeferred(player, subscription);
+                }
+                FriendlyByteBuf filtered = null;
+                int filteredChanges = 0;
+                for (int i = 0; i < changes; i++) {
+                    if (structural[i] || subscription.isVisible(ids[i])) {
+                        //Note: Item types only have deferred changes while they aren't visible, and structural changes are never deferred, so unless something
+                        // went wrong this will be zero, and we can send the viewer the shared encoded change
+                        long deferred = subscription.deferred.remove(ids[i]);
+                        if (deferred != 0 && !structural[i]) {
+                            if (filtered == null) {
+                                filtered = copyChanges(encoded, ends, i);
+                            }
+                            PacketQIOItemViewerGuiSync.writeChange(filtered, ids[i], null, null, countChanges[i] + deferred);
+                        } else if (filtered != null) {
+                            int start = i == 0 ? 0 : ends[i - 1];
+                            filtered.writeBytes(encoded, start, ends[i] - start);
+                        }
+                        filteredChanges++;
+                    } else {
+                        subscription.deferred.addTo(ids[i], countChanges[i]);
+                        if (filtered == null) {
+                            filtered = copyChanges(encoded, ends, i);
+                        }
+                    }
+                }
+                if (filtered == null) {
+                    if (sharedUpdate == null) {
+                        sharedUpdate = PacketQIOItemViewerGuiSync.update(totalCountCapacity, totalTypeCapacity, changes, encoded);
+                    }
+                    Mekanism.packetHandler().sendTo(sharedUpdate, player);
+                } else {
+                    Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.update(totalCountCapacity, totalTypeCapacity, filteredChanges, readBytes(filtered)), player);
+                }
+            }
+        }
+        updatedItems.clear();
+        unsyncedTypeIds.clear();
+        needsUpdate = false;
+    }
+
+    /**
+     * Copies the encoded changes before the given change into a new buffer.
+     */
+    private static FriendlyByteBuf copyChanges(byte[] encoded, int[] ends, int change) {
+        FriendlyByteBuf buffer = new FriendlyByteBuf(Unpooled.buffer());
+        buffer.writeBytes(encoded, 0, change == 0 ? 0 : ends[change - 1]);
+        return buffer;
+    }
+
+    private static byte[] readBytes(FriendlyByteBuf buffer) {
+        return Arrays.copyOf(buffer.array(), buffer.writerIndex());
     }
 
     @Override
@@ -412,7 +716,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public int getTotalItemTypes(boolean remote) {
-        return remote ? clientTypes : itemDataMap.size();
+        return remote ? clientTypes : itemDataById.size();
     }
 
     public int getTotalItemTypeCapacity() {
@@ -425,7 +729,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     }
 
     public long getStored(HashedItem itemType) {
-        QIOItemTypeData data = itemDataMap.get(itemType);
+        QIOItemTypeData data = getTypeData(itemType);
         return data == null ? 0 : data.count;
     }
 
@@ -443,39 +747,45 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
     @Override
     public void tick() {
         super.tick();
-        if (!uuidsToInvalidate.isEmpty()) {
-            //If we have uuids we need to invalidate the Item UUID pairing of them
-            for (UUID uuidToInvalidate : uuidsToInvalidate) {
-                itemTypeLookup.inverse().remove(uuidToInvalidate);
+        if (!removedTypes.isEmpty()) {
+            //If we have item types that were removed and not added back, release their ids (and with that their UUIDs)
+            for (HashedItem type : removedTypes.values()) {
+                itemTypeIds.removeInt(type);
             }
-            uuidsToInvalidate.clear();
+            removedTypes.clear();
         }
         if (!updatedItems.isEmpty() || needsUpdate) {
-            Object2LongMap<UUIDAwareHashedItem> map = new Object2LongOpenHashMap<>();
-            updatedItems.forEach(type -> {
-                QIOItemTypeData data = itemDataMap.get(type);
-                map.put(type, data == null ? 0 : data.count);
-            });
-            // flush players that somehow didn't send a container close packet
-            playersViewingItems.removeIf(player -> !(player.containerMenu instanceof QIOItemViewerContainer));
-            playersViewingItems.forEach(player -> Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.update(map, totalCountCapacity, totalTypeCapacity), player));
-            updatedItems.clear();
-            needsUpdate = false;
+            //Collect changes for a few ticks before syncing them, so that items that change every tick don't get synced every tick
+            if (++ticksSinceViewerSync >= MekanismConfig.general.qioViewerSyncInterval.get()) {
+                ticksSinceViewerSync = 0;
+                syncItemViewers();
+            }
         }
         // if something has changed, we'll subsequently randomly run a save operation in the next 100 ticks.
         // the random factor helps us avoid bogging down the CPU by saving all QIO frequencies at once
         // this isn't a fully necessary operation, but it'll help avoid all item data getting lost if the server
         // is forcibly shut down.
         if (isDirty && rand.nextInt(100) == 0) {
-            saveAll();
+            saveChangedAsync();
             isDirty = false;
         }
+        if (!pendingSaves.isEmpty()) {
+            applyCompletedSaves();
+        }
 
         if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
             //Note: We only need to clear tags here as the modids cannot change just because a reload happened
             tagLookupMap.clear();
             tagWildcardCache.clear();
-            itemDataMap.values().forEach(item -> tagLookupMap.putAll(TagCache.getItemTags(item.itemType.getStack()), item.itemType));
+            failedWildcardTags.clear();
+            for (QIOItemTypeData data : itemDataById.values()) {
+                data.tags = TagCache.getItemTags(data.itemType.getStack());
+                addTagLookups(data);
+            }
+            //The tags changed so which types match tag based filters may have as well
+            for (TypeSubscription subscription : typeSubscriptions) {
+                subscription.rebuild();
+            }
         }
     }
 
@@ -507,7 +817,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         Set<QIODriveKey> keys = new HashSet<>(driveMap.keySet());
         keys.forEach(key -> removeDrive(key, false));
         driveMap.clear();
-        playersViewingItems.forEach(player -> Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.kill(), player));
+        itemViewers.keySet().forEach(player -> Mekanism.packetHandler().sendTo(PacketQIOItemViewerGuiSync.kill(), player));
     }
 
     @Override
@@ -515,7 +825,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         int code = super.getSyncHash();
         code = 31 * code + Long.hashCode(totalCount);
         code = 31 * code + Long.hashCode(totalCountCapacity);
-        code = 31 * code + itemDataMap.size();
+        code = 31 * code + itemDataById.size();
         code = 31 * code + totalTypeCapacity;
         code = 31 * code + color.ordinal();
         return code;
@@ -526,7 +836,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         super.write(buf);
         buf.writeVarLong(totalCount);
         buf.writeVarLong(totalCountCapacity);
-        buf.writeVarInt(itemDataMap.size());
+        buf.writeVarInt(itemDataById.size());
         buf.writeVarInt(totalTypeCapacity);
         buf.writeEnum(color);
     }
@@ -565,8 +875,9 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             totalTypeCapacity += data.getTypeCapacity();
             driveMap.put(key, data);
             data.getItemMap().forEach((storedKey, value) -> {
-                itemDataMap.computeIfAbsent(storedKey, this::createTypeDataForAbsent).addFromDrive(data, value);
-                updatedItems.add(new UUIDAwareHashedItem(storedKey, getUUIDForType(storedKey)));
+                QIOItemTypeData itemData = getOrCreateTypeData(storedKey);
+                itemData.addFromDrive(data, value);
+                markUpdated(itemData);
             });
             setNeedsUpdate();
         }
@@ -579,36 +890,97 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         QIODriveData data = driveMap.get(key);
         if (updateItemMap) {
             data.getItemMap().forEach((storedKey, value) -> {
-                QIOItemTypeData itemData = itemDataMap.get(storedKey);
+                QIOItemTypeData itemData = getTypeData(storedKey);
                 if (itemData != null) {
                     itemData.containingDrives.remove(key);
                     itemData.count -= value;
                     totalCount -= value;
-                    updatedItems.add(new UUIDAwareHashedItem(storedKey, getUUIDForType(storedKey)));
+                    markUpdated(itemData);
                     // remove this entry from the item data map if it's now empty
                     if (itemData.containingDrives.isEmpty() || itemData.count == 0) {
-                        removeItemData(storedKey);
+                        removeItemData(itemData);
                     }
                 }
             });
             setNeedsUpdate();
         }
+        // save the item list onto the physical drive
+        //Note: This has to happen before the drive is removed from the drive map, as otherwise a save in progress wouldn't be written to it
+        saveDrive(key, data);
         // remove drive and capacity info from core tracking
         totalCountCapacity -= data.getCountCapacity();
         totalTypeCapacity -= data.getTypeCapacity();
         driveMap.remove(key);
-        // save the item list onto the physical drive
-        key.updateMetadata(data);
-        key.save(data);
     }
 
+    /**
+     * Saves all drives that have changed since they were last saved, on the calling thread.
+     */
     public void saveAll() {
-        driveMap.forEach((key, value) -> {
-            key.updateMetadata(value);
-            key.save(value);
+        driveMap.forEach(this::saveDrive);
+    }
+
+    private void saveDrive(QIODriveKey key, QIODriveData data) {
+        key.updateMetadata(data);
+        PendingSave pending = pendingSaves.remove(key);
+        if (pending != null && pending.data() == data && pending.version() == data.getVersion() && applySave(key, pending)) {
+            //If a save that is in progress already has the latest data, wait for it rather than serializing everything again
+            return;
+        }
+        if (data.isDirty()) {
+            data.markSaved(data.getVersion());
+            key.save(QIODriveSaver.save(data.getItemMap()));
+        }
+    }
+
+    /**
+     * Starts saving the drives that have changed since they were last saved on a separate thread. The data only gets written to the drives once the saves complete,
+     * see {@link #applyCompletedSaves()}.
+     */
+    private void saveChangedAsync() {
+        driveMap.forEach((key, data) -> {
+            //Note: If a drive is still being saved, we wait for that to finish before starting another save of it
+            if (data.isDirty() && !pendingSaves.containsKey(key)) {
+                pendingSaves.put(key, new PendingSave(data, data.getVersion(), QIODriveSaver.saveAsync(data.snapshotItemMap())));
+            }
         });
     }
 
+    private void applyCompletedSaves() {
+        for (Iterator<Map.Entry<QIODriveKey, PendingSave>> iter = pendingSaves.entrySet().iterator(); iter.hasNext(); ) {
+            Map.Entry<QIODriveKey, PendingSave> entry = iter.next();
+            PendingSave pending = entry.getValue();
+            if (pending.future().isDone()) {
+                iter.remove();
+                if (applySave(entry.getKey(), pending) && pending.data().isDirty()) {
+                    //If the drive changed while it was being saved, make sure it gets saved again
+                    isDirty = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Waits for the given save to complete if it hasn't yet, and writes the saved data to the drive.
+     *
+     * @return {@code true} if the saved data was written to the drive, {@code false} if the save failed or the data was not written.
+     */
+    private boolean applySave(QIODriveKey key, PendingSave pending) {
+        ListTag itemMap;
+        try {
+            itemMap = pending.future().join();
+        } catch (CompletionException | CancellationException e) {
+            Mekanism.logger.error("Failed to save QIO drive.", e);
+            return false;
+        }
+        //Only write the data if the drive hasn't been removed from the frequency, and we didn't already write newer data to it
+        if (driveMap.get(key) == pending.data() && pending.data().markSaved(pending.version())) {
+            key.save(itemMap);
+            return true;
+        }
+        return false;
+    }
+
     private void addHolder(IQIODriveHolder holder) {
         driveHolders.add(holder);
         for (int i = 0; i < holder.getDriveSlots().size(); i++) {
@@ -616,11 +988,17 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         }
     }
 
-    private void setNeedsUpdate(@Nullable HashedItem changedItem) {
+    private void setNeedsUpdate(@Nullable QIOItemTypeData changedItem) {
         needsUpdate = true;
         isDirty = true;
         if (changedItem != null) {
-            updatedItems.add(new UUIDAwareHashedItem(changedItem, getUUIDForType(changedItem)));
+            markUpdated(changedItem);
+        }
+    }
+
+    private void markUpdated(QIOItemTypeData data) {
+        if (data.id != -1) {
+            updatedItems.add(data.id);
         }
     }
 
@@ -628,14 +1006,45 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         setNeedsUpdate(null);
     }
 
+    private record PendingSave(QIODriveData data, long version, CompletableFuture<ListTag> future) {
+    }
+
+    private static class ItemViewerSubscription {
+
+        /**
+         * Changes in count of item types that changed while not visible to the player, and that still need to be synced once they become visible.
+         */
+        private final Int2LongOpenHashMap deferred = new Int2LongOpenHashMap();
+        /**
+         * Item types currently visible to the player, or {@code null} if the player should be synced all changes.
+         */
+        @Nullable
+        private IntSet visibleTypes;
+
+        private boolean isVisible(int id) {
+            return visibleTypes == null || visibleTypes.contains(id);
+        }
+    }
+
     public class QIOItemTypeData {
 
         private final HashedItem itemType;
+        /**
+         * Id of the item type, or {@code -1} if this data is only used for simulating and isn't actually stored.
+         */
+        private final int id;
+        private List<String> tags;
         private long count = 0;
         private final Set<QIODriveKey> containingDrives = new HashSet<>();
 
         public QIOItemTypeData(HashedItem itemType) {
+            this(itemType, -1, Collections.emptyList());
+        }
+
+        private QIOItemTypeData(HashedItem itemType, int id, List<String> tags) {
             this.itemType = itemType;
+            this.id = id;
+            this.tags = tags;
         }
 
         private void addFromDrive(QIODriveData data, long toAdd) {
@@ -646,10 +1055,18 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         }
 
         private long add(long amount, Action action) {
+            return add(amount, action, null);
+        }
+
+        /**
+         * @param changedDrives If not {@code null}, the drives that items get added to are collected into this set instead of being notified of the change
+         *                      immediately.
+         */
+        private long add(long amount, Action action, @Nullable Set<QIODriveData> changedDrives) {
             long toAdd = amount;
             // first we try to add the items to an already-containing drive
             for (QIODriveKey key : containingDrives) {
-                toAdd = addItemsToDrive(toAdd, driveMap.get(key), action);
+                toAdd = addItemsToDrive(toAdd, driveMap.get(key), action, changedDrives);
                 if (toAdd == 0) {
                     break;
                 }
@@ -658,7 +1075,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             if (toAdd > 0) {
                 for (QIODriveData data : driveMap.values()) {
                     if (!containingDrives.contains(data.getKey())) {
-                        toAdd = addItemsToDrive(toAdd, data, action);
+                        toAdd = addItemsToDrive(toAdd, data, action, changedDrives);
                         if (toAdd == 0) {
                             break;
                         }
@@ -669,15 +1086,18 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
                 // update internal/core values
                 count += amount - toAdd;
                 totalCount += amount - toAdd;
-                setNeedsUpdate(itemType);
+                setNeedsUpdate(this);
             }
             return toAdd;
         }
 
-        private long addItemsToDrive(long toAdd, QIODriveData data, Action action) {
-            long rejects = data.add(itemType, toAdd, action);
+        private long addItemsToDrive(long toAdd, QIODriveData data, Action action, @Nullable Set<QIODriveData> changedDrives) {
+            long rejects = data.add(itemType, toAdd, action, changedDrives == null);
             if (action.execute() && rejects < toAdd) {
                 containingDrives.add(data.getKey());
+                if (changedDrives != null) {
+                    changedDrives.add(data);
+                }
             }
             return rejects;
         }
@@ -699,7 +1119,7 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
             if (action.execute()) {
                 count -= removed;
                 totalCount -= removed;
-                setNeedsUpdate(itemType);
+                setNeedsUpdate(this);
             }
             return removed;
         }
@@ -712,5 +1132,62 @@ public class QIOFrequency extends Frequency implements IColorableFrequency, IQIO
         public long getCount() {
             return count;
         }
+
+        public HashedItem getItemType() {
+            return itemType;
+        }
+
+        public List<String> getTags() {
+            return tags;
+        }
+    }
+
+    /**
+     * Ids of the stored item types that match a predicate, along with a cursor to go through them in a round-robin order.
+     */
+    public class TypeSubscription {
+
+        private final RoundRobinIntSet typeIds = new RoundRobinIntSet();
+        private final Predicate<QIOItemTypeData> matcher;
+
+        private TypeSubscription(Predicate<QIOItemTypeData> matcher) {
+            this.matcher = matcher;
+        }
+
+        private void rebuild() {
+            typeIds.clear();
+            for (QIOItemTypeData data : itemDataById.values()) {
+                onTypeAdded(data);
+            }
+        }
+
+        private void onTypeAdded(QIOItemTypeData data) {
+            if (matcher.test(data)) {
+                typeIds.add(data.id);
+            }
+        }
+
+        private void onTypeRemoved(int id) {
+            typeIds.remove(id);
+        }
+
+        public int size() {
+            return typeIds.size();
+        }
+
+        public boolean isEmpty() {
+            return typeIds.isEmpty();
+        }
+
+        /**
+         * Gets the next matching item type, wrapping back around to the first matching item type after the last one.
+         *
+         * @return The next item type, or {@code null} if no stored item types match.
+         */
+        @Nullable
+        public QIOItemTypeData next() {
+            int id = typeIds.next();
+            return id == -1 ? null : itemDataById.get(id);
+        }
     }
 }
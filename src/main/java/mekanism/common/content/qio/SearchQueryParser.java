@@ -11,7 +11,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.BiPredicate;
+import java.util.function.Function;
 import javax.annotation.Nullable;
 import mekanism.common.base.TagCache;
 import mekanism.common.util.MekanismUtils;
@@ -180,11 +180,10 @@ public class SearchQueryParser {
 
     public enum QueryType {
         // ~ is a dummy char, not actually used by parser
-        NAME('~', (key, stack) -> stack.getHoverName().getString().toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT))),
-        MOD_ID('@', (key, stack) -> MekanismUtils.getModId(stack).toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT))),
-        TOOLTIP('$', (key, stack) -> stack.getTooltipLines(null, TooltipFlag.Default.NORMAL).stream().map(t -> t.getString().toLowerCase(Locale.ROOT))
-              .anyMatch(tooltip -> tooltip.contains(key.toLowerCase(Locale.ROOT)))),
-        TAG('#', (key, stack) -> TagCache.getItemTags(stack).stream().anyMatch(itemTag -> itemTag.toLowerCase(Locale.ROOT).contains(key.toLowerCase(Locale.ROOT))));
+        NAME('~', stack -> List.of(stack.getHoverName().getString().toLowerCase(Locale.ROOT))),
+        MOD_ID('@', stack -> List.of(MekanismUtils.getModId(stack).toLowerCase(Locale.ROOT))),
+        TOOLTIP('$', stack -> stack.getTooltipLines(null, TooltipFlag.Default.NORMAL).stream().map(t -> t.getString().toLowerCase(Locale.ROOT)).toList()),
+        TAG('#', stack -> TagCache.getItemTags(stack).stream().map(itemTag -> itemTag.toLowerCase(Locale.ROOT)).toList());
 
         private static final Char2ObjectMap<QueryType> charLookupMap;
 
@@ -205,27 +204,67 @@ public class SearchQueryParser {
         }
 
         private final char prefix;
-        private final BiPredicate<String, ItemStack> checker;
+        private final Function<ItemStack, List<String>> keysGetter;
 
-        QueryType(char prefix, BiPredicate<String, ItemStack> checker) {
+        QueryType(char prefix, Function<ItemStack, List<String>> keysGetter) {
             this.prefix = prefix;
-            this.checker = checker;
+            this.keysGetter = keysGetter;
+        }
+
+        /**
+         * @return The lowercase strings of the given stack that keys of this type are matched against.
+         */
+        public List<String> getKeys(ItemStack stack) {
+            return keysGetter.apply(stack);
         }
 
         public boolean matches(String key, ItemStack stack) {
-            return checker.test(key, stack);
+            return matchesLowerCase(key.toLowerCase(Locale.ROOT), getKeys(stack));
+        }
+
+        private static boolean matchesLowerCase(String lowerCaseKey, List<String> stackKeys) {
+            for (String stackKey : stackKeys) {
+                if (stackKey.contains(lowerCaseKey)) {
+                    return true;
+                }
+            }
+            return false;
         }
     }
 
     public static class SearchQuery implements ISearchQuery {
 
         private final Map<QueryType, List<String>> queryStrings = new LinkedHashMap<>();
+        @Nullable
+        private Map<QueryType, List<String>> lowerCaseQueryStrings;
 
         @Override
         public boolean matches(ItemStack stack) {
             return queryStrings.entrySet().stream().allMatch(entry -> entry.getValue().stream().anyMatch(key -> entry.getKey().matches(key, stack)));
         }
 
+        @Override
+        public boolean matches(ItemSearchKeys keys) {
+            if (lowerCaseQueryStrings == null) {
+                lowerCaseQueryStrings = new LinkedHashMap<>();
+                queryStrings.forEach((type, typeKeys) -> lowerCaseQueryStrings.put(type, typeKeys.stream().map(key -> key.toLowerCase(Locale.ROOT)).toList()));
+            }
+            for (Map.Entry<QueryType, List<String>> entry : lowerCaseQueryStrings.entrySet()) {
+                List<String> stackKeys = keys.get(entry.getKey());
+                boolean matched = false;
+                for (String key : entry.getValue()) {
+                    if (QueryType.matchesLowerCase(key, stackKeys)) {
+                        matched = true;
+                        break;
+                    }
+                }
+                if (!matched) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         private boolean isEmpty() {
             return queryStrings.isEmpty();
         }
@@ -254,6 +293,45 @@ public class SearchQueryParser {
             return queries.isEmpty() || queries.stream().anyMatch(query -> query.matches(stack));
         }
 
+        @Override
+        public boolean matches(ItemSearchKeys keys) {
+            if (queries.isEmpty()) {
+                return true;
+            }
+            for (SearchQuery query : queries) {
+                if (query.matches(keys)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Checks if this query can only match stacks that the given query also matches. This is the case if neither query has alternatives, this query has keys for
+         * all the query types the other query has, and each of those keys contain the key of the other query. For example {@code "iron ing"} refines {@code "iron"},
+         * and {@code "@mek iron"} refines {@code "@me"}.
+         */
+        public boolean refines(ISearchQuery other) {
+            if (!(other instanceof SearchQueryList otherList) || otherList.queries.size() > 1 || queries.size() > 1) {
+                return false;
+            } else if (otherList.queries.isEmpty()) {
+                //Everything matches the empty query
+                return true;
+            } else if (queries.isEmpty()) {
+                return false;
+            }
+            Map<QueryType, List<String>> queryMap = queries.get(0).getQueryMap();
+            for (Map.Entry<QueryType, List<String>> entry : otherList.queries.get(0).getQueryMap().entrySet()) {
+                List<String> keys = queryMap.get(entry.getKey());
+                List<String> otherKeys = entry.getValue();
+                if (keys == null || keys.size() != 1 || otherKeys.size() != 1 ||
+                    !keys.get(0).toLowerCase(Locale.ROOT).contains(otherKeys.get(0).toLowerCase(Locale.ROOT))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         @Override
         public String toString() {
             return queries.toString();
@@ -268,6 +346,13 @@ public class SearchQueryParser {
 
         boolean matches(ItemStack stack);
 
+        /**
+         * Matches this query against the precomputed search keys of a stack.
+         */
+        default boolean matches(ItemSearchKeys keys) {
+            return matches(keys.getStack());
+        }
+
         default boolean isInvalid() {
             return this == INVALID;
         }
@@ -1,21 +1,48 @@
 package mekanism.common.content.transporter;
 
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
+import mekanism.api.MekanismAPI;
+import mekanism.common.Mekanism;
 import mekanism.common.content.network.InventoryNetwork;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 
+/**
+ * Caches the paths found by the transporter pathfinder across ticks. Rather than clearing all the paths of a network whenever transporters are removed from it, each
+ * network keeps a revision number that gets incremented whenever transporters in it are removed, along with the revision each position was last removed at. Cached paths
+ * are then only invalidated if they cross a position that was removed after they were cached.
+ *
+ * @implNote Changes that may make new paths possible, such as transporters being added or changing color, still invalidate all the paths of the network, as any cached
+ * path may no longer be the cheapest one.
+ */
 public class PathfinderCache {
 
+    /**
+     * Maximum number of paths to cache per network, after which the least recently used paths get evicted.
+     */
+    static final int MAX_CACHED_PATHS = 1_024;
+    /**
+     * Maximum number of changed positions to keep track of per network, after which we just invalidate all the paths of the network.
+     */
+    static final int MAX_TRACKED_CHANGES = 4_096;
+
     private PathfinderCache() {
     }
 
-    private static final Map<UUID, Map<PathData, CachedPath>> cachedPaths = new Object2ObjectOpenHashMap<>();
+    private static final Map<UUID, NetworkPaths> cachedPaths = new Object2ObjectOpenHashMap<>();
+    private static long hits;
+    private static long misses;
 
     public static void onChanged(InventoryNetwork... networks) {
         for (InventoryNetwork network : networks) {
@@ -23,32 +50,148 @@ public class PathfinderCache {
         }
     }
 
+    /**
+     * Invalidates any cached paths that cross the given positions, for when transporters are removed from the network.
+     *
+     * @apiNote This is only valid for removals, as removing transporters can't make any other path cheaper. Use {@link #onChanged(InventoryNetwork...)} for any changes
+     * that may allow for new paths.
+     */
+    public static void onTransmittersRemoved(InventoryNetwork network, Collection<BlockPos> positions) {
+        NetworkPaths paths = cachedPaths.get(network.getUUID());
+        if (paths != null && !positions.isEmpty() && !paths.markRemoved(positions)) {
+            //Too many changes to keep track of, just invalidate everything
+            cachedPaths.remove(network.getUUID());
+        }
+    }
+
     public static void addCachedPath(LogisticalTransporterBase start, PathData data, List<BlockPos> positions, double cost) {
-        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new Object2ObjectOpenHashMap<>()).put(data, new CachedPath(positions, cost));
+        cachedPaths.computeIfAbsent(start.getTransmitterNetwork().getUUID(), uuid -> new NetworkPaths()).put(data, new CachedPath(positions, cost));
     }
 
-    public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides) {
+    /**
+     * Gets the cheapest cached path from the start transporter to the given end position, ending at one of the given sides.
+     *
+     * @param pathValidator Checks if a cached path can be used by the stack we are looking up the path for. Paths that are not valid are evicted.
+     */
+    @Nullable
+    public static CachedPath getCache(LogisticalTransporterBase start, BlockPos end, Set<Direction> sides, Predicate<List<BlockPos>> pathValidator) {
         CachedPath ret = null;
-        UUID uuid = start.getTransmitterNetwork().getUUID();
-        if (cachedPaths.containsKey(uuid)) {
-            Map<PathData, CachedPath> pathMap = cachedPaths.get(uuid);
+        NetworkPaths paths = cachedPaths.get(start.getTransmitterNetwork().getUUID());
+        if (paths != null) {
             for (Direction side : sides) {
-                CachedPath test = pathMap.get(new PathData(start.getTilePos(), end, side));
-                if (ret == null || (test != null && test.cost() < ret.cost())) {
-                    ret = test;
+                CachedPath path = paths.get(new PathData(start.getTilePos(), end, side), pathValidator);
+                if (path != null && (ret == null || path.cost() < ret.cost())) {
+                    ret = path;
                 }
             }
         }
+        if (ret == null) {
+            misses++;
+        } else {
+            hits++;
+        }
         return ret;
     }
 
+    /**
+     * @return Number of path lookups since the server started that were able to use a cached path.
+     */
+    public static long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return Number of path lookups since the server started that had to find a new path.
+     */
+    public static long getMisses() {
+        return misses;
+    }
+
     public static void reset() {
+        if (MekanismAPI.debug && hits + misses > 0) {
+            Mekanism.logger.info("Transporter path lookups: {} cached, {} found ({}% hit ratio)", hits, misses, 100 * hits / (hits + misses));
+        }
         cachedPaths.clear();
+        hits = 0;
+        misses = 0;
     }
 
     public record CachedPath(List<BlockPos> path, double cost) {
     }
 
+    private static class CacheEntry {
+
+        private final CachedPath path;
+        //Revision of the network the path was last known to be valid at
+        private int revision;
+
+        private CacheEntry(CachedPath path, int revision) {
+            this.path = path;
+            this.revision = revision;
+        }
+    }
+
+    static class NetworkPaths {
+
+        private final Object2ObjectLinkedOpenHashMap<PathData, CacheEntry> paths = new Object2ObjectLinkedOpenHashMap<>();
+        private final Long2IntMap changedAt = new Long2IntOpenHashMap();
+        private int revision;
+
+        void put(PathData data, CachedPath path) {
+            paths.putAndMoveToLast(data, new CacheEntry(path, revision));
+            if (paths.size() > MAX_CACHED_PATHS) {
+                paths.removeFirst();
+            }
+        }
+
+        /**
+         * Gets the cached path for the given path data if it is still valid, evicting it if it is not.
+         *
+         * @param pathValidator Checks if the cached path can be used by the stack we are looking up the path for.
+         */
+        @Nullable
+        CachedPath get(PathData data, Predicate<List<BlockPos>> pathValidator) {
+            CacheEntry entry = paths.getAndMoveToLast(data);
+            if (entry == null) {
+                return null;
+            } else if (isStale(entry) || !pathValidator.test(entry.path.path())) {
+                paths.remove(data);
+                return null;
+            }
+            return entry.path;
+        }
+
+        /**
+         * Starts a new revision in which the given positions were removed.
+         *
+         * @return {@code false} if there are now too many changed positions to keep track of, and all the paths should be invalidated instead.
+         */
+        boolean markRemoved(Collection<BlockPos> positions) {
+            revision++;
+            for (BlockPos pos : positions) {
+                changedAt.put(pos.asLong(), revision);
+            }
+            return changedAt.size() <= MAX_TRACKED_CHANGES;
+        }
+
+        int size() {
+            return paths.size();
+        }
+
+        private boolean isStale(CacheEntry entry) {
+            if (entry.revision != revision) {
+                for (BlockPos pos : entry.path.path()) {
+                    if (changedAt.get(pos.asLong()) > entry.revision) {
+                        return true;
+                    }
+                }
+                //None of the positions the path crosses changed, so it is still valid at the current revision
+                entry.revision = revision;
+            }
+            return false;
+        }
+    }
+
     public static class PathData {
 
         private final BlockPos startTransporter;
@@ -78,8 +78,8 @@ public final class TransporterPathfinder {
         TransitResponse response = data.getResponse();
         if (response.getSendingAmount() >= min) {
             BlockPos dest = data.getLocation();
-            CachedPath test = PathfinderCache.getCache(start, dest, data.getSides());
-            if (test != null && checkPath(network, test.path(), stack)) {
+            CachedPath test = PathfinderCache.getCache(start, dest, data.getSides(), path -> checkPath(network, path, stack));
+            if (test != null) {
                 return new Destination(test.path(), false, response, test.cost());
             }
             Pathfinder p = new Pathfinder(new DestChecker() {
@@ -0,0 +1,245 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.ints.IntSets;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import javax.annotation.Nullable;
+import mekanism.common.Mekanism;
+import mekanism.common.config.MekanismConfig;
+import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
+import mekanism.common.network.to_client.PacketTransporterUpdate;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.players.PlayerList;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraftforge.server.ServerLifecycleHooks;
+
+/**
+ * Collects the changes to the stacks in logistical transporters during a tick, and sends them at the end of the tick as a single packet per chunk to the players
+ * tracking that chunk. Players that are far away from the chunk only get sent the changes every {@link mekanism.common.config.GeneralConfig#transporterDistantUpdateRate}
+ * ticks, with all the changes since the last time they were sent merged together.
+ *
+ * @implNote Deferred changes are dropped whenever the client gets the state of the transporters some other way (starting to track the chunk, respawning, or changing
+ * dimensions), and sent before any newer changes if the player moves close enough to get changes immediately, so that older changes are never applied on top of newer
+ * state.
+ */
+public class TransporterUpdateBatcher {
+
+    private static final Map<ServerLevel, Long2ObjectMap<ChunkChanges>> pendingChanges = new Reference2ObjectOpenHashMap<>();
+    private static final Map<UUID, Long2ObjectMap<ChunkChanges>> deferredChanges = new Object2ObjectOpenHashMap<>();
+    private static int ticks;
+
+    private TransporterUpdateBatcher() {
+    }
+
+    public static void reset() {
+        pendingChanges.clear();
+        deferredChanges.clear();
+        ticks = 0;
+    }
+
+    /**
+     * Drops any changes that are being held back for the given player.
+     */
+    public static void clearPlayer(UUID player) {
+        deferredChanges.remove(player);
+    }
+
+    /**
+     * Drops any changes that are being held back for the given player in the given chunk, for use when the player starts or stops tracking the chunk.
+     */
+    public static void clearChunk(UUID player, ChunkPos chunkPos) {
+        takeDeferred(player, chunkPos);
+    }
+
+    /**
+     * Queues changes to the stacks of the given transporter to be sent to the client at the end of the tick.
+     *
+     * @param updates Stacks that got added or changed. The entries are copied into our own map so the given map may be reused, but the stacks themselves are not copied,
+     *                so any further changes to them before the changes are sent will be included.
+     * @param deletes Ids of stacks that got removed.
+     */
+    public static void queue(LogisticalTransporterBase transporter, Int2ObjectMap<TransporterStack> updates, IntSet deletes) {
+        if (transporter.getTileWorld() instanceof ServerLevel level) {
+            BlockPos pos = transporter.getTilePos();
+            long chunk = ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.getX()), SectionPos.blockToSectionCoord(pos.getZ()));
+            pendingChanges.computeIfAbsent(level, l -> new Long2ObjectOpenHashMap<>())
+                  .computeIfAbsent(chunk, c -> new ChunkChanges(level, new ChunkPos(c)))
+                  .getOrCreate(pos, transporter)
+                  .add(updates, deletes);
+        }
+    }
+
+    public static void queue(LogisticalTransporterBase transporter, int stackId, TransporterStack stack) {
+        Int2ObjectMap<TransporterStack> updates = new Int2ObjectOpenHashMap<>(1);
+        updates.put(stackId, stack);
+        queue(transporter, updates, IntSets.EMPTY_SET);
+    }
+
+    /**
+     * Sends all the changes that were queued this tick, and any deferred changes that are due to be sent.
+     */
+    public static void flush() {
+        boolean sendDeferred = ++ticks % MekanismConfig.general.transporterDistantUpdateRate.get() == 0;
+        if (!pendingChanges.isEmpty()) {
+            int detailDistance = MekanismConfig.general.transporterDetailDistance.get();
+            for (Map.Entry<ServerLevel, Long2ObjectMap<ChunkChanges>> entry : pendingChanges.entrySet()) {
+                ServerLevel level = entry.getKey();
+                for (ChunkChanges changes : entry.getValue().values()) {
+                    PacketTransporterUpdate packet = null;
+                    //Only send the changes to players that are tracking the chunk, which are the ones within render distance of it
+                    for (ServerPlayer player : level.getChunkSource().chunkMap.getPlayers(changes.chunkPos, false)) {
+                        ChunkPos playerChunk = player.chunkPosition();
+                        if (Math.max(Math.abs(playerChunk.x - changes.chunkPos.x), Math.abs(playerChunk.z - changes.chunkPos.z)) > detailDistance) {
+                            //Player is far away, hold back the changes so that they only receive them at the coarser update rate
+                            defer(player.getUUID(), changes);
+                        } else {
+                            //If we were holding back changes for this player because they used to be far away, send those first so that they don't get applied
+                            // on top of the newer changes
+                            ChunkChanges heldBack = takeDeferred(player.getUUID(), changes.chunkPos);
+                            if (heldBack != null) {
+                                Mekanism.packetHandler().sendTo(new PacketTransporterUpdate(heldBack.chunkPos, heldBack.getTransporters()), player);
+                            }
+                            if (packet == null) {
+                                packet = new PacketTransporterUpdate(changes.chunkPos, changes.getTransporters());
+                            }
+                            Mekanism.packetHandler().sendTo(packet, player);
+                        }
+                    }
+                }
+            }
+            pendingChanges.clear();
+        }
+        if (sendDeferred && !deferredChanges.isEmpty()) {
+            PlayerList playerList = ServerLifecycleHooks.getCurrentServer().getPlayerList();
+            for (Map.Entry<UUID, Long2ObjectMap<ChunkChanges>> entry : takeAllDeferred().entrySet()) {
+                ServerPlayer player = playerList.getPlayer(entry.getKey());
+                if (player != null) {
+                    for (ChunkChanges changes : entry.getValue().values()) {
+                        //Skip changes for chunks in levels the player has since left, as the client will have unloaded them
+                        if (changes.level == player.getLevel()) {
+                            Mekanism.packetHandler().sendTo(new PacketTransporterUpdate(changes.chunkPos, changes.getTransporters()), player);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Holds back changes to a chunk for a player that is far away from it, merging them with any changes that are already being held back for them in that chunk.
+     */
+    static void defer(UUID player, ChunkChanges changes) {
+        deferredChanges.computeIfAbsent(player, p -> new Long2ObjectOpenHashMap<>())
+              .computeIfAbsent(changes.chunkPos.toLong(), c -> new ChunkChanges(changes.level, changes.chunkPos))
+              .merge(changes);
+    }
+
+    /**
+     * Removes the changes that are being held back for the given player in the given chunk, so that they can be sent before any newer changes to the chunk.
+     *
+     * @return The held back changes, or {@code null} if there are none.
+     */
+    @Nullable
+    static ChunkChanges takeDeferred(UUID player, ChunkPos chunkPos) {
+        Long2ObjectMap<ChunkChanges> deferred = deferredChanges.get(player);
+        if (deferred == null) {
+            return null;
+        }
+        ChunkChanges heldBack = deferred.remove(chunkPos.toLong());
+        if (deferred.isEmpty()) {
+            deferredChanges.remove(player);
+        }
+        return heldBack;
+    }
+
+    /**
+     * Removes all the changes that are being held back, so that they can be sent.
+     *
+     * @return The held back changes for each player, keyed by chunk.
+     */
+    static Map<UUID, Long2ObjectMap<ChunkChanges>> takeAllDeferred() {
+        Map<UUID, Long2ObjectMap<ChunkChanges>> deferred = new Object2ObjectOpenHashMap<>(deferredChanges);
+        deferredChanges.clear();
+        return deferred;
+    }
+
+    static class ChunkChanges {
+
+        private final Map<BlockPos, TransporterChanges> transporters = new Object2ObjectLinkedOpenHashMap<>();
+        private final ServerLevel level;
+        private final ChunkPos chunkPos;
+
+        ChunkChanges(ServerLevel level, ChunkPos chunkPos) {
+            this.level = level;
+            this.chunkPos = chunkPos;
+        }
+
+        TransporterChanges getOrCreate(BlockPos pos, @Nullable LogisticalTransporterBase transporter) {
+            TransporterChanges changes = transporters.get(pos);
+            if (changes == null || changes.transporter != transporter) {
+                //If the transporter at the position was replaced, just replace the changes as the new transporter will sync its full state anyway
+                changes = new TransporterChanges(pos, transporter);
+                transporters.put(pos, changes);
+            }
+            return changes;
+        }
+
+        private void merge(ChunkChanges other) {
+            for (TransporterChanges changes : other.transporters.values()) {
+                getOrCreate(changes.pos, changes.transporter).add(changes.updates, changes.deletes);
+            }
+        }
+
+        Collection<TransporterChanges> getTransporters() {
+            return transporters.values();
+        }
+    }
+
+    /**
+     * Changes to the stacks of a single transporter. On the server this is built from the queued changes, and on the client it is read from the update packet.
+     */
+    public static class TransporterChanges {
+
+        public final Int2ObjectMap<TransporterStack> updates;
+        public final IntSet deletes;
+        public final BlockPos pos;
+        @Nullable
+        public final LogisticalTransporterBase transporter;
+
+        private TransporterChanges(BlockPos pos, @Nullable LogisticalTransporterBase transporter) {
+            this(pos, transporter, new Int2ObjectOpenHashMap<>(), new IntOpenHashSet());
+        }
+
+        public TransporterChanges(BlockPos pos, @Nullable LogisticalTransporterBase transporter, Int2ObjectMap<TransporterStack> updates, IntSet deletes) {
+            this.pos = pos;
+            this.transporter = transporter;
+            this.updates = updates;
+            this.deletes = deletes;
+        }
+
+        void add(Int2ObjectMap<TransporterStack> updates, IntSet deletes) {
+            //Note: Updates are applied before deletes, so stacks that are both updated and deleted end up deleted
+            for (Int2ObjectMap.Entry<TransporterStack> entry : updates.int2ObjectEntrySet()) {
+                this.updates.put(entry.getIntKey(), entry.getValue());
+                this.deletes.remove(entry.getIntKey());
+            }
+            for (int stackId : deletes) {
+                this.updates.remove(stackId);
+                this.deletes.add(stackId);
+            }
+        }
+    }
+}
\ No newline at end of file
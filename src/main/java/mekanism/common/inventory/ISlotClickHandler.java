@@ -8,6 +8,15 @@ public interface ISlotClickHandler {
 
     void onClick(IScrollableSlot slot, int button, boolean hasShiftDown, ItemStack heldItem);
 
+    /**
+     * Called when the range of slots that are visible changes, for example because the slots were scrolled or resized.
+     *
+     * @param start Index of the first visible slot.
+     * @param end   Index after the last visible slot, may be larger than the size of the list.
+     */
+    default void onVisibleSlots(int start, int end) {
+    }
+
     interface IScrollableSlot {
 
         HashedItem getItem();
@@ -636,6 +636,13 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
         }
     }
 
+    public <TYPE> void handleWindowPropertyChange(short property, int start, int removed, @Nonnull List<TYPE> value) {
+        ISyncableData data = trackedData.get(property);
+        if (data instanceof SyncableList) {
+            ((SyncableList<TYPE>) data).applyChange(start, removed, value);
+        }
+    }
+
     @Override
     public void broadcastChanges() {
         super.broadcastChanges();
@@ -644,15 +651,19 @@ public abstract class MekanismContainer extends AbstractContainerMenu implements
         // they need it for before we add a bunch of extra logic to handle them
         if (inv.player instanceof ServerPlayer player) {
             //Only check tracked data for changes if we actually have any listeners
-            List<PropertyData> dirtyData = new ArrayList<>();
+            // and batch all the changed data into a single packet
+            List<PropertyData> dirtyData = null;
             for (short i = 0; i < trackedData.size(); i++) {
                 ISyncableData data = trackedData.get(i);
                 DirtyType dirtyType = data.isDirty();
                 if (dirtyType != DirtyType.CLEAN) {
+                    if (dirtyData == null) {
+                        dirtyData = new ArrayList<>();
+                    }
                     dirtyData.add(data.getPropertyData(i, dirtyType));
                 }
             }
-            if (!dirtyData.isEmpty()) {
+            if (dirtyData != null) {
                 Mekanism.packetHandler().sendTo(new PacketUpdateContainer((short) containerId, dirtyData), player);
             }
         }
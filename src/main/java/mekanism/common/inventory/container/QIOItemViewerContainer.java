@@ -1,12 +1,18 @@
 package mekanism.common.inventory.container;
 
+import it.unimi.dsi.fastutil.ints.Int2BooleanMap;
+import it.unimi.dsi.fastutil.ints.Int2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.ints.IntSets;
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -16,11 +22,13 @@ import mekanism.common.Mekanism;
 import mekanism.common.MekanismLang;
 import mekanism.common.config.MekanismConfig;
 import mekanism.common.content.qio.IQIOCraftingWindowHolder;
+import mekanism.common.content.qio.ItemSearchKeys;
 import mekanism.common.content.qio.QIOCraftingTransferHelper;
 import mekanism.common.content.qio.QIOCraftingWindow;
 import mekanism.common.content.qio.QIOFrequency;
 import mekanism.common.content.qio.SearchQueryParser;
 import mekanism.common.content.qio.SearchQueryParser.ISearchQuery;
+import mekanism.common.content.qio.SearchQueryParser.SearchQueryList;
 import mekanism.common.inventory.GuiComponents.IDropdownEnum;
 import mekanism.common.inventory.GuiComponents.IToggleEnum;
 import mekanism.common.inventory.ISlotClickHandler;
@@ -31,8 +39,10 @@ import mekanism.common.inventory.container.slot.VirtualInventoryContainerSlot;
 import mekanism.common.inventory.slot.CraftingWindowInventorySlot;
 import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
+import mekanism.common.network.to_client.PacketQIOItemViewerGuiSync.ItemChange;
 import mekanism.common.network.to_server.PacketGuiItemDataRequest;
 import mekanism.common.network.to_server.PacketQIOItemViewerSlotInteract;
+import mekanism.common.network.to_server.PacketQIOItemViewerWindow;
 import mekanism.common.registration.impl.ContainerTypeRegistryObject;
 import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.MekanismUtils;
@@ -51,6 +61,7 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     public static final int SLOTS_X_MIN = 8, SLOTS_X_MAX = 16, SLOTS_Y_MIN = 2, SLOTS_Y_MAX = 48;
     public static final int SLOTS_START_Y = 43;
     private static final int DOUBLE_CLICK_TRANSFER_DURATION = 20;
+    private static final int MAX_CACHED_SEARCHES = 32;
 
     public static int getSlotsYMax() {
         int maxY = (int) Math.ceil(Minecraft.getInstance().getWindow().getGuiScaledHeight() * 0.05 - 8) + 1;
@@ -61,6 +72,8 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private SortDirection sortDirection = MekanismConfig.client.qioItemViewerSortDirection.get();
 
     private Object2LongMap<UUIDAwareHashedItem> cachedInventory = new Object2LongOpenHashMap<>();
+    //The item types by the id the server uses to refer to them
+    private Int2ObjectMap<UUIDAwareHashedItem> cachedTypes = new Int2ObjectOpenHashMap<>();
     private long cachedCountCapacity;
     private int cachedTypeCapacity;
     private long totalItems;
@@ -68,9 +81,16 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private List<IScrollableSlot> itemList;
     private List<IScrollableSlot> searchList;
 
-    private Map<String, List<IScrollableSlot>> searchCache = new Object2ObjectOpenHashMap<>();
+    //Client side: lazily computed search keys of each item type, by type id
+    private Int2ObjectMap<ItemSearchKeys> searchKeys = new Int2ObjectOpenHashMap<>();
+    //Client side: which item types recent searches matched, most recently used last
+    private Object2ObjectLinkedOpenHashMap<String, SearchResults> searchCache = new Object2ObjectLinkedOpenHashMap<>();
     private String searchQuery = "";
 
+    //Range of the slots in the current item or search list that are visible
+    private int visibleStart, visibleEnd;
+    private IntSet visibleTypes = IntSets.EMPTY_SET;
+
     private int doubleClickTransferTicks = 0;
     private int lastSlot = -1;
     private ItemStack lastStack = ItemStack.EMPTY;
@@ -114,11 +134,16 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     protected void sync(QIOItemViewerContainer container) {
         container.sortType = sortType;
         container.cachedInventory = cachedInventory;
+        container.cachedTypes = cachedTypes;
+        container.visibleTypes = visibleTypes;
+        container.visibleStart = visibleStart;
+        container.visibleEnd = visibleEnd;
         container.cachedCountCapacity = cachedCountCapacity;
         container.cachedTypeCapacity = cachedTypeCapacity;
         container.totalItems = totalItems;
         container.itemList = itemList;
         container.searchList = searchList;
+        container.searchKeys = searchKeys;
         container.searchCache = searchCache;
         container.searchQuery = searchQuery;
         container.selectedWindow = getSelectedWindow();
@@ -295,22 +320,42 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         return transferSuccess(currentSlot, player, currentSlot.getItem(), ret);
     }
 
-    public void handleBatchUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        cachedInventory = itemMap;
-        cachedCountCapacity = countCapacity;
-        cachedTypeCapacity = typeCapacity;
-        syncItemList();
-    }
-
-    public void handleUpdate(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        itemMap.object2LongEntrySet().forEach(entry -> {
-            long value = entry.getLongValue();
-            if (value == 0) {
-                cachedInventory.removeLong(entry.getKey());
+    public void handleBatchUpdate(List<ItemChange> changes, long countCapacity, int typeCapacity) {
+        cachedInventory = new Object2LongOpenHashMap<>(changes.size());
+        cachedTypes = new Int2ObjectOpenHashMap<>(changes.size());
+        //Type ids are only unique for a given frequency, so we have to forget what we know about them
+        searchKeys.clear();
+        searchCache.clear();
+        handleUpdate(changes, countCapacity, typeCapacity);
+    }
+
+    public void handleUpdate(List<ItemChange> changes, long countCapacity, int typeCapacity) {
+        for (ItemChange change : changes) {
+            if (change.removed()) {
+                UUIDAwareHashedItem itemType = cachedTypes.remove(change.id());
+                if (itemType != null) {
+                    cachedInventory.removeLong(itemType);
+                    searchKeys.remove(change.id());
+                    //The server may reuse the id for a different item type, so forget whether it matched any of our cached searches
+                    for (SearchResults results : searchCache.values()) {
+                        results.matches.remove(change.id());
+                    }
+                }
+                continue;
+            }
+            UUIDAwareHashedItem itemType = change.itemType();
+            if (itemType == null) {
+                itemType = cachedTypes.get(change.id());
+                if (itemType == null) {
+                    //Should never happen unless something went wrong, as the server sends us any item types we don't know about yet
+                    continue;
+                }
             } else {
-                cachedInventory.put(entry.getKey(), value);
+                cachedTypes.put(change.id(), itemType);
             }
-        });
+            //Note: The count of item types we didn't know about yet starts at zero, so the change is the full count
+            cachedInventory.put(itemType, cachedInventory.getLong(itemType) + change.countChange());
+        }
         cachedCountCapacity = countCapacity;
         cachedTypeCapacity = typeCapacity;
         syncItemList();
@@ -320,6 +365,9 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         itemList = null;
         searchList = null;
         cachedInventory.clear();
+        cachedTypes.clear();
+        searchKeys.clear();
+        searchCache.clear();
     }
 
     public QIOCraftingTransferHelper getTransferHelper(Player player, QIOCraftingWindow craftingWindow) {
@@ -331,14 +379,16 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
             itemList = new ArrayList<>();
         }
         itemList.clear();
-        searchCache.clear();
         totalItems = 0;
-        cachedInventory.forEach((key, value) -> {
-            itemList.add(new ItemSlotData(key, key.getUUID(), value));
-            totalItems += value;
-        });
+        for (Int2ObjectMap.Entry<UUIDAwareHashedItem> entry : cachedTypes.int2ObjectEntrySet()) {
+            UUIDAwareHashedItem itemType = entry.getValue();
+            long count = cachedInventory.getLong(itemType);
+            itemList.add(new ItemSlotData(itemType, itemType.getUUID(), entry.getIntKey(), count));
+            totalItems += count;
+        }
         sortItemList();
         if (!searchQuery.isEmpty()) {
+            //Note: We keep the search cache, as whether an item type matches doesn't depend on its count, so only new item types need to be checked
             updateSearch(searchQuery);
         }
     }
@@ -346,6 +396,9 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
     private void sortItemList() {
         if (itemList != null) {
             sortType.sort(itemList, sortDirection);
+            if (searchQuery.isEmpty()) {
+                updateVisibleTypes();
+            }
         }
     }
 
@@ -434,22 +487,77 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
             return;
         }
 
-        List<IScrollableSlot> list = searchCache.get(queryText);
-        if (list != null) {
-            searchList = list;
-            searchQuery = queryText;
-            return;
+        SearchResults results = searchCache.getAndMoveToLast(queryText);
+        if (results == null) {
+            ISearchQuery query = SearchQueryParser.parse(queryText);
+            results = new SearchResults(query);
+            SearchResults previous = searchQuery.isEmpty() ? null : searchCache.get(searchQuery);
+            if (previous != null && query instanceof SearchQueryList queryList && queryList.refines(previous.query)) {
+                //If the new query only narrows down the previous one (for example by typing more characters),
+                // then anything the previous query didn't match won't be matched by the new one either
+                for (Int2BooleanMap.Entry entry : previous.matches.int2BooleanEntrySet()) {
+                    if (!entry.getBooleanValue()) {
+                        results.matches.put(entry.getIntKey(), false);
+                    }
+                }
+            }
+            searchCache.putAndMoveToLast(queryText, results);
+            if (searchCache.size() > MAX_CACHED_SEARCHES) {
+                searchCache.removeFirst();
+            }
         }
-        list = new ArrayList<>();
-        ISearchQuery query = SearchQueryParser.parse(queryText);
+        List<IScrollableSlot> list = new ArrayList<>();
         for (IScrollableSlot slot : itemList) {
-            if (query.matches(slot.getItem().getStack())) {
+            if (slot instanceof ItemSlotData slotData && matches(results, slotData)) {
                 list.add(slot);
             }
         }
         searchList = list;
         searchQuery = queryText;
-        searchCache.put(queryText, searchList);
+        updateVisibleTypes();
+    }
+
+    private boolean matches(SearchResults results, ItemSlotData slotData) {
+        int typeId = slotData.typeId;
+        if (results.matches.containsKey(typeId)) {
+            return results.matches.get(typeId);
+        }
+        ItemSearchKeys keys = searchKeys.get(typeId);
+        if (keys == null) {
+            keys = new ItemSearchKeys(slotData.getItem().getStack());
+            searchKeys.put(typeId, keys);
+        }
+        boolean matches = results.query.matches(keys);
+        results.matches.put(typeId, matches);
+        return matches;
+    }
+
+    @Override
+    public void onVisibleSlots(int start, int end) {
+        visibleStart = start;
+        visibleEnd = end;
+        updateVisibleTypes();
+    }
+
+    /**
+     * Lets the server know which item types are visible if they changed, either because the visible range of slots changed or because the list being viewed changed.
+     */
+    private void updateVisibleTypes() {
+        List<IScrollableSlot> slots = getQIOItemList();
+        if (slots == null || !isRemote() || !MekanismConfig.general.qioWindowedViewerSync.get()) {
+            //Nothing to do if the server isn't using the visible item types
+            return;
+        }
+        IntSet types = new IntOpenHashSet();
+        for (int i = visibleStart, max = Math.min(visibleEnd, slots.size()); i < max; i++) {
+            if (slots.get(i) instanceof ItemSlotData slotData) {
+                types.add(slotData.typeId);
+            }
+        }
+        if (!types.equals(visibleTypes)) {
+            visibleTypes = types;
+            Mekanism.packetHandler().sendToServer(new PacketQIOItemViewerWindow(types));
+        }
     }
 
     @Override
@@ -478,15 +586,27 @@ public abstract class QIOItemViewerContainer extends MekanismContainer implement
         }
     }
 
+    private static class SearchResults {
+
+        private final Int2BooleanMap matches = new Int2BooleanOpenHashMap();
+        private final ISearchQuery query;
+
+        private SearchResults(ISearchQuery query) {
+            this.query = query;
+        }
+    }
+
     public static class ItemSlotData implements IScrollableSlot {
 
         private final HashedItem itemType;
         private final UUID typeUUID;
+        private final int typeId;
         private final long count;
 
-        private ItemSlotData(HashedItem itemType, UUID typeUUID, long count) {
+        private ItemSlotData(HashedItem itemType, UUID typeUUID, int typeId, long count) {
             this.itemType = itemType;
             this.typeUUID = typeUUID;
+            this.typeId = typeId;
             this.count = count;
         }
 
@@ -3,6 +3,7 @@ package mekanism.common.inventory.container.sync.list;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import javax.annotation.Nonnull;
 import mekanism.api.annotations.NonNull;
 import mekanism.common.content.filter.IFilter;
 import mekanism.common.network.to_client.container.property.list.FilterListPropertyData;
@@ -22,7 +23,7 @@ public class SyncableFilterList<FILTER extends IFilter<?>> extends SyncableList<
     }
 
     @Override
-    public ListPropertyData<FILTER> getPropertyData(short property, DirtyType dirtyType) {
-        return new FilterListPropertyData<>(property, get());
+    protected ListPropertyData<FILTER> createPropertyData(short property, @Nonnull List<FILTER> values, int changeStart, int changeRemoved) {
+        return new FilterListPropertyData<>(property, values, changeStart, changeRemoved);
     }
 }
\ No newline at end of file
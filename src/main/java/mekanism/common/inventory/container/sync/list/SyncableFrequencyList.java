@@ -4,6 +4,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import javax.annotation.Nonnull;
 import mekanism.api.annotations.NonNull;
 import mekanism.common.lib.frequency.Frequency;
 import mekanism.common.network.to_client.container.property.list.FrequencyListPropertyData;
@@ -24,19 +25,7 @@ public class SyncableFrequencyList<FREQUENCY extends Frequency> extends Syncable
     }
 
     @Override
-    protected int getValueHashCode() {
-        //Reimplementation/copy of AbstractList#hashCode, which is what we would have if we wrapped the
-        // collection into an ArrayList, but we want to avoid creating so many excess objects, so we just
-        // implement it directly here
-        int hashCode = 1;
-        for (FREQUENCY frequency : getRaw()) {
-            hashCode = 31 * hashCode + frequency.hashCode();
-        }
-        return hashCode;
-    }
-
-    @Override
-    public ListPropertyData<FREQUENCY> getPropertyData(short property, DirtyType dirtyType) {
-        return new FrequencyListPropertyData<>(property, get());
+    protected ListPropertyData<FREQUENCY> createPropertyData(short property, @Nonnull List<FREQUENCY> values, int changeStart, int changeRemoved) {
+        return new FrequencyListPropertyData<>(property, values, changeStart, changeRemoved);
     }
 }
\ No newline at end of file
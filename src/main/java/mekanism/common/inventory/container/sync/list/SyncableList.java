@@ -1,23 +1,40 @@
 package mekanism.common.inventory.container.sync.list;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import mekanism.api.annotations.NonNull;
 import mekanism.common.inventory.container.sync.ISyncableData;
 import mekanism.common.network.to_client.container.property.list.ListPropertyData;
 
 /**
  * Version of {@link net.minecraft.world.inventory.DataSlot} for handling lists
+ *
+ * @implNote Changes are synced as the range of elements that got replaced, which is found by comparing the hash codes of the elements against the ones that were last
+ * synced. This means that adding, removing, or changing a single element only syncs that element rather than the entire list.
  */
 public abstract class SyncableList<TYPE> implements ISyncableData {
 
+    private static final int[] EMPTY_HASH_CODES = new int[0];
+
     private final Supplier<@NonNull ? extends Collection<TYPE>> getter;
     private final Consumer<@NonNull List<TYPE>> setter;
-    private int lastKnownHashCode;
+    //Server side: hash codes of the elements as of the last sync, or null if we haven't synced anything yet
+    @Nullable
+    private int[] lastHashCodes;
+    private int[] currentHashCodes = EMPTY_HASH_CODES;
+    //Server side: range of the last synced hash codes that got replaced, and how many elements replaced them; changeStart is -1 if there is no pending change
+    private int changeStart = -1;
+    private int changeRemoved;
+    private int changeAdded;
+    //Client side: copy of the last list we received, so that we have something to apply changes to
+    @Nullable
+    private List<TYPE> lastReceived;
 
     protected SyncableList(Supplier<@NonNull ? extends Collection<TYPE>> getter, Consumer<@NonNull List<TYPE>> setter) {
         this.getter = getter;
@@ -38,27 +55,97 @@ public abstract class SyncableList<TYPE> implements ISyncableData {
         return getter.get();
     }
 
-    protected int getValueHashCode() {
-        return getRaw().hashCode();
-    }
-
     public void set(@Nonnull List<TYPE> value) {
+        lastReceived = new ArrayList<>(value);
         setter.accept(value);
     }
 
+    /**
+     * Applies a change to the last list that was received, replacing {@code removed} elements starting at {@code start} with the given elements.
+     */
+    public void applyChange(int start, int removed, @Nonnull List<TYPE> added) {
+        List<TYPE> current = lastReceived == null ? get() : lastReceived;
+        if (start + removed > current.size()) {
+            //Shouldn't happen as we always receive the full list before any changes, but if it does just ignore the change
+            return;
+        }
+        List<TYPE> updated = new ArrayList<>(current.size() - removed + added.size());
+        updated.addAll(current.subList(0, start));
+        updated.addAll(added);
+        updated.addAll(current.subList(start + removed, current.size()));
+        set(updated);
+    }
+
+    /**
+     * Creates the property data to sync.
+     *
+     * @param values        The elements to sync. If {@code changeStart} is -1 this is the full list, otherwise it is the elements that replace the removed ones.
+     * @param changeStart   Index of the first element that got replaced, or -1 if the full list is being synced.
+     * @param changeRemoved Number of elements that got replaced.
+     */
+    protected abstract ListPropertyData<TYPE> createPropertyData(short property, @Nonnull List<TYPE> values, int changeStart, int changeRemoved);
+
     @Override
-    public abstract ListPropertyData<TYPE> getPropertyData(short property, DirtyType dirtyType);
+    public ListPropertyData<TYPE> getPropertyData(short property, DirtyType dirtyType) {
+        List<TYPE> values = get();
+        if (changeStart == -1) {
+            //No pending change (for example when syncing all data to a new listener), sync the full list
+            //Note: Update the hash codes before copying them, as updating them may replace the array
+            int size = updateHashCodes();
+            lastHashCodes = Arrays.copyOf(currentHashCodes, size);
+            return createPropertyData(property, values, -1, 0);
+        }
+        int start = changeStart;
+        changeStart = -1;
+        return createPropertyData(property, new ArrayList<>(values.subList(start, start + changeAdded)), start, changeRemoved);
+    }
+
+    /**
+     * Updates the current hash codes to match the elements in the list.
+     *
+     * @return The number of elements in the list.
+     */
+    private int updateHashCodes() {
+        Collection<TYPE> values = getRaw();
+        int size = values.size();
+        if (currentHashCodes.length < size) {
+            currentHashCodes = new int[Math.max(size, 2 * currentHashCodes.length)];
+        }
+        int index = 0;
+        for (TYPE value : values) {
+            currentHashCodes[index++] = value.hashCode();
+        }
+        return size;
+    }
 
     @Override
     public DirtyType isDirty() {
-        int valuesHashCode = getValueHashCode();
-        if (lastKnownHashCode == valuesHashCode) {
+        changeStart = -1;
+        int size = updateHashCodes();
+        if (lastHashCodes == null) {
+            //Sync the full list as we haven't synced anything yet
+            return DirtyType.DIRTY;
+        }
+        int lastSize = lastHashCodes.length;
+        int common = Math.min(size, lastSize);
+        int prefix = 0;
+        while (prefix < common && currentHashCodes[prefix] == lastHashCodes[prefix]) {
+            prefix++;
+        }
+        if (prefix == size && size == lastSize) {
             return DirtyType.CLEAN;
         }
-        //TODO: Create a way to declare changes so we don't have to sync the entire list, when a single element changes
-        // Both for removal as well as addition. Note that GuiFrequencySelector makes some assumptions based on the fact
-        // that this is not currently possible so a new list will occur each time
-        lastKnownHashCode = valuesHashCode;
+        int suffix = 0;
+        while (suffix < common - prefix && currentHashCodes[size - 1 - suffix] == lastHashCodes[lastSize - 1 - suffix]) {
+            suffix++;
+        }
+        if (prefix > 0 || suffix > 0) {
+            //Only sync the changed range if some elements are unchanged, otherwise just sync the full list
+            changeStart = prefix;
+            changeRemoved = lastSize - prefix - suffix;
+            changeAdded = size - prefix - suffix;
+            lastHashCodes = Arrays.copyOf(currentHashCodes, size);
+        }
         return DirtyType.DIRTY;
     }
 }
\ No newline at end of file
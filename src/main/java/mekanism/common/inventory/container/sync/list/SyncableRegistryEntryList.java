@@ -3,6 +3,7 @@ package mekanism.common.inventory.container.sync.list;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
+import javax.annotation.Nonnull;
 import mekanism.api.annotations.NonNull;
 import mekanism.common.network.to_client.container.property.list.ListPropertyData;
 import mekanism.common.network.to_client.container.property.list.RegistryEntryListPropertyData;
@@ -22,7 +23,7 @@ public class SyncableRegistryEntryList<V extends IForgeRegistryEntry<V>> extends
     }
 
     @Override
-    public ListPropertyData<V> getPropertyData(short property, DirtyType dirtyType) {
-        return new RegistryEntryListPropertyData<>(property, get());
+    protected ListPropertyData<V> createPropertyData(short property, @Nonnull List<V> values, int changeStart, int changeRemoved) {
+        return new RegistryEntryListPropertyData<>(property, values, changeStart, changeRemoved);
     }
 }
\ No newline at end of file
@@ -0,0 +1,139 @@
+package mekanism.common.lib.collection;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+
+/**
+ * Set of block positions stored as a bitmap per chunk section, for keeping track of large and mostly contiguous areas of positions (such as all the positions a fluid
+ * search has visited) without boxing each position.
+ */
+public class BlockPosBitSet {
+
+    private static final int WORDS_PER_SECTION = 16 * 16 * 16 / Long.SIZE;
+
+    private final Long2ObjectMap<long[]> sections = new Long2ObjectOpenHashMap<>();
+    private int size;
+
+    /**
+     * @param pos Position packed using {@link BlockPos#asLong()}.
+     *
+     * @return {@code true} if the position was not in the set yet.
+     */
+    public boolean add(long pos) {
+        long[] words = sections.computeIfAbsent(getSectionKey(pos), key -> new long[WORDS_PER_SECTION]);
+        int index = getIndex(pos);
+        long mask = 1L << index;
+        if ((words[index >> 6] & mask) == 0) {
+            words[index >> 6] |= mask;
+            size++;
+            return true;
+        }
+        return false;
+    }
+
+    public boolean add(BlockPos pos) {
+        return add(pos.asLong());
+    }
+
+    /**
+     * @param pos Position packed using {@link BlockPos#asLong()}.
+     *
+     * @return {@code true} if the position was in the set.
+     */
+    public boolean remove(long pos) {
+        long sectionKey = getSectionKey(pos);
+        long[] words = sections.get(sectionKey);
+        if (words == null) {
+            return false;
+        }
+        int index = getIndex(pos);
+        long mask = 1L << index;
+        if ((words[index >> 6] & mask) == 0) {
+            return false;
+        }
+        words[index >> 6] &= ~mask;
+        size--;
+        if (isEmpty(words)) {
+            //Don't keep empty sections around
+            sections.remove(sectionKey);
+        }
+        return true;
+    }
+
+    /**
+     * @param pos Position packed using {@link BlockPos#asLong()}.
+     */
+    public boolean contains(long pos) {
+        long[] words = sections.get(getSectionKey(pos));
+        if (words == null) {
+            return false;
+        }
+        int index = getIndex(pos);
+        return (words[index >> 6] & 1L << index) != 0;
+    }
+
+    public boolean contains(BlockPos pos) {
+        return contains(pos.asLong());
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        sections.clear();
+        size = 0;
+    }
+
+    /**
+     * Writes the set as the key of each section followed by its bitmap, which is much smaller than writing the positions when they are contiguous.
+     */
+    public long[] toLongArray() {
+        long[] data = new long[sections.size() * (WORDS_PER_SECTION + 1)];
+        int i = 0;
+        for (Long2ObjectMap.Entry<long[]> entry : sections.long2ObjectEntrySet()) {
+            data[i++] = entry.getLongKey();
+            System.arraycopy(entry.getValue(), 0, data, i, WORDS_PER_SECTION);
+            i += WORDS_PER_SECTION;
+        }
+        return data;
+    }
+
+    /**
+     * Reads data written by {@link #toLongArray()}, adding it to this set.
+     */
+    public void addFromLongArray(long[] data) {
+        for (int i = 0; i + WORDS_PER_SECTION < data.length; i += WORDS_PER_SECTION + 1) {
+            long[] words = sections.computeIfAbsent(data[i], key -> new long[WORDS_PER_SECTION]);
+            for (int j = 0; j < WORDS_PER_SECTION; j++) {
+                long added = data[i + 1 + j] & ~words[j];
+                words[j] |= added;
+                size += Long.bitCount(added);
+            }
+        }
+    }
+
+    private static boolean isEmpty(long[] words) {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long getSectionKey(long pos) {
+        return SectionPos.asLong(SectionPos.blockToSectionCoord(BlockPos.getX(pos)), SectionPos.blockToSectionCoord(BlockPos.getY(pos)),
+              SectionPos.blockToSectionCoord(BlockPos.getZ(pos)));
+    }
+
+    private static int getIndex(long pos) {
+        return (BlockPos.getY(pos) & 15) << 8 | (BlockPos.getZ(pos) & 15) << 4 | BlockPos.getX(pos) & 15;
+    }
+}
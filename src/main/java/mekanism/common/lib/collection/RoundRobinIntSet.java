@@ -0,0 +1,60 @@
+package mekanism.common.lib.collection;
+
+import it.unimi.dsi.fastutil.ints.IntLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntListIterator;
+
+/**
+ * Set of non-negative ints that can be cycled through in insertion order, continuing from where it left off even when elements get added or removed in between.
+ */
+public class RoundRobinIntSet {
+
+    private final IntLinkedOpenHashSet elements = new IntLinkedOpenHashSet();
+    //Element that was last returned by next, or -1 to start from the first element
+    private int cursor = -1;
+
+    public void add(int element) {
+        elements.add(element);
+    }
+
+    public void remove(int element) {
+        if (element == cursor && elements.contains(element)) {
+            //Move the cursor back to the previous element so that we continue with the element after the removed one
+            IntListIterator iter = elements.iterator(element);
+            iter.previousInt();
+            cursor = iter.hasPrevious() ? iter.previousInt() : -1;
+        }
+        elements.remove(element);
+    }
+
+    /**
+     * Removes all elements. The cursor is kept so that if the element it is at gets added back, cycling continues from it.
+     */
+    public void clear() {
+        elements.clear();
+    }
+
+    public int size() {
+        return elements.size();
+    }
+
+    public boolean isEmpty() {
+        return elements.isEmpty();
+    }
+
+    /**
+     * Gets the next element, wrapping back around to the first element after the last one.
+     *
+     * @return The next element, or {@code -1} if there are no elements.
+     */
+    public int next() {
+        if (elements.isEmpty()) {
+            return -1;
+        }
+        if (cursor == -1 || cursor == elements.lastInt() || !elements.contains(cursor)) {
+            cursor = elements.firstInt();
+        } else {
+            cursor = elements.iterator(cursor).nextInt();
+        }
+        return cursor;
+    }
+}
\ No newline at end of file
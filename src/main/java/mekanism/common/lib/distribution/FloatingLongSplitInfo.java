@@ -1,51 +1,70 @@
 package mekanism.common.lib.distribution;
 
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLong.FloatingLongMath;
 
-public class FloatingLongSplitInfo extends SplitInfo<FloatingLong> {
+public class FloatingLongSplitInfo extends SplitInfo {
 
-    private FloatingLong amountToSplit;
+    //Note: The amounts that change as we send are kept as accumulators so that sending doesn't have to create any objects
+    private final FloatingLongMath amountToSplit = new FloatingLongMath();
+    private final FloatingLongMath sentSoFar = new FloatingLongMath();
+    private final FloatingLongMath scratch = new FloatingLongMath();
     private FloatingLong amountPerTarget;
-    private FloatingLong sentSoFar;
+
+    public FloatingLongSplitInfo() {
+        super(0);
+        amountPerTarget = FloatingLong.ZERO;
+    }
 
     public FloatingLongSplitInfo(FloatingLong amountToSplit, int totalTargets) {
         super(totalTargets);
-        this.amountToSplit = amountToSplit.copy();
+        reset(amountToSplit, totalTargets);
+    }
+
+    /**
+     * Resets this split info so that it can be reused for another distribution.
+     *
+     * @param amountToSplit Amount to split.
+     * @param totalTargets  Number of targets to split among.
+     *
+     * @return this
+     */
+    public FloatingLongSplitInfo reset(FloatingLong amountToSplit, int totalTargets) {
+        reset(totalTargets);
+        this.amountToSplit.set(amountToSplit);
         amountPerTarget = toSplitAmong == 0 ? FloatingLong.ZERO : amountToSplit.divide(toSplitAmong);
-        sentSoFar = FloatingLong.ZERO;
+        sentSoFar.setZero();
+        return this;
     }
 
-    @Override
     public void send(FloatingLong amountNeeded) {
         //If we are giving it, then lower the amount we are checking/splitting
-        amountToSplit = amountToSplit.minusEqual(amountNeeded);
-        sentSoFar = sentSoFar.plusEqual(amountNeeded);
+        amountToSplit.minus(amountNeeded);
+        sentSoFar.plus(amountNeeded);
         toSplitAmong--;
         //Only recalculate it if it is not willing to accept/doesn't want the
         // full per side split
         if (!amountNeeded.equals(amountPerTarget) && toSplitAmong != 0) {
-            FloatingLong amountPerLast = amountPerTarget;
-            amountPerTarget = amountToSplit.divide(toSplitAmong);
-            if (!amountPerChanged && !amountPerTarget.equals(amountPerLast)) {
+            FloatingLongMath newAmountPer = scratch.set(amountToSplit).divide(toSplitAmong);
+            //Only create a new object for the amount per target if it actually changed
+            if (!newAmountPer.isEqualTo(amountPerTarget)) {
+                amountPerTarget = newAmountPer.toFloatingLong();
                 amountPerChanged = true;
             }
         }
     }
 
-    @Override
     public FloatingLong getShareAmount() {
         return amountPerTarget;
     }
 
-    @Override
     public FloatingLong getRemainderAmount() {
         //TODO: Decide if we want to try and adjust for the very small amount that may get lost/be a remainder
         // currently we just ignore it
         return amountPerTarget;
     }
 
-    @Override
     public FloatingLong getTotalSent() {
-        return sentSoFar;
+        return sentSoFar.toFloatingLong();
     }
-}
\ No newline at end of file
+}
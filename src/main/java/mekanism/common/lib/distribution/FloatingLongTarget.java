@@ -0,0 +1,138 @@
+package mekanism.common.lib.distribution;
+
+import java.util.Arrays;
+import java.util.Collection;
+import mekanism.api.math.FloatingLong;
+
+/**
+ * {@link Target} that distributes {@link FloatingLong} amounts.
+ *
+ * @param <HANDLER> The Handler this target keeps track of.
+ */
+public abstract class FloatingLongTarget<HANDLER> extends Target<HANDLER, FloatingLong> {
+
+    private final FloatingLongSplitInfo splitInfo = new FloatingLongSplitInfo();
+    /**
+     * Amounts wanted by the handlers in {@link #needed}.
+     */
+    private FloatingLong[] neededAmounts;
+
+    protected FloatingLongTarget() {
+        super();
+    }
+
+    protected FloatingLongTarget(Collection<HANDLER> allHandlers) {
+        super(allHandlers);
+    }
+
+    protected FloatingLongTarget(int expectedSize) {
+        super(expectedSize);
+    }
+
+    @Override
+    protected void growNeeded(int newSize) {
+        if (neededAmounts != null) {
+            neededAmounts = Arrays.copyOf(neededAmounts, newSize);
+        }
+    }
+
+    @Override
+    protected void clearNeeded() {
+        if (neededAmounts != null) {
+            Arrays.fill(neededAmounts, null);
+        }
+    }
+
+    /**
+     * Gets the reusable split info for this target, reset to split the given amount among all our handlers.
+     */
+    public FloatingLongSplitInfo getSplitInfo(FloatingLong amountToSplit) {
+        return splitInfo.reset(amountToSplit, getHandlerCount());
+    }
+
+    /**
+     * Sends the remaining amount to each handler we still have not settled on an amount for. We increment the amount sent in splitInfo as well as adjust the split as
+     * needed if one ends up accepting less than it originally wanted. (The most likely case this would change is with multi-blocks where it may return the same desire to
+     * all connections, but get satisfied by our first connection).
+     *
+     * @param splitInfo Keeps track of the current amount sent and the default each one can get.
+     */
+    public void sendRemainingSplit(FloatingLongSplitInfo splitInfo) {
+        //If needed is not empty then we default it to the given calculated fair split amount of remaining amount
+        for (int i = 0; i < neededCount; i++) {
+            acceptAmount(getHandler(needed[i]), splitInfo, splitInfo.getRemainderAmount());
+        }
+    }
+
+    /**
+     * Gives the handler on the specified side the given amount.
+     *
+     * @param handler   Handler to give to.
+     * @param splitInfo Information about current overall split. The given split will be increased by the actual amount accepted, in case it is less than the offered
+     *                  amount.
+     * @param amount    Amount to give.
+     *
+     * @implNote Must call {@link FloatingLongSplitInfo#send(FloatingLong)} with the amount actually accepted.
+     */
+    protected abstract void acceptAmount(HANDLER handler, FloatingLongSplitInfo splitInfo, FloatingLong amount);
+
+    /**
+     * Simulate inserting into the handler.
+     *
+     * @param handler The handler (should correspond with the side we are simulating).
+     * @param energyToSend The amount we are trying to insert.
+     *
+     * @return The amount it was actually willing to accept.
+     */
+    protected abstract FloatingLong simulate(HANDLER handler, FloatingLong energyToSend);
+
+    /**
+     * Calculates how much each handler can take of toSend. If the amount requested is less than the amount per handler/target in splitInfo it immediately sends the
+     * requested amount to the handler via {@link #acceptAmount(Object, FloatingLongSplitInfo, FloatingLong)}
+     *
+     * @param toSend    The total amount getting sent.
+     * @param splitInfo Information about current overall split.
+     */
+    public void sendPossible(FloatingLong toSend, FloatingLongSplitInfo splitInfo) {
+        int handlerCount = getHandlerCount();
+        neededCount = 0;
+        if (neededAmounts == null || neededAmounts.length < needed.length) {
+            neededAmounts = new FloatingLong[needed.length];
+        }
+        for (int i = 0; i < handlerCount; i++) {
+            HANDLER entry = getHandler(i);
+            FloatingLong amountNeeded = simulate(entry, toSend);
+            if (amountNeeded.smallerOrEqual(splitInfo.getShareAmount())) {
+                //Add the amount, in case something changed from simulation only mark actual sent amount
+                // in split info
+                acceptAmount(entry, splitInfo, amountNeeded);
+            } else {
+                neededAmounts[addNeeded(i)] = amountNeeded;
+            }
+        }
+    }
+
+    /**
+     * Rechecks to see if any of the needed amounts is able to fit under the new split and if so gives them the requested amount.
+     *
+     * @param splitInfo The new split to (re)check.
+     */
+    public void shiftNeeded(FloatingLongSplitInfo splitInfo) {
+        //Compact the needed arrays in place as we go rather than removing from a list
+        int kept = 0;
+        for (int i = 0; i < neededCount; i++) {
+            FloatingLong amountNeeded = neededAmounts[i];
+            if (amountNeeded.smallerOrEqual(splitInfo.getShareAmount())) {
+                acceptAmount(getHandler(needed[i]), splitInfo, amountNeeded);
+                //Continue checking things in case we happen to be
+                // getting things in a bad order so that we don't recheck
+                // the same values many times
+            } else {
+                needed[kept] = needed[i];
+                neededAmounts[kept] = amountNeeded;
+                kept++;
+            }
+        }
+        neededCount = kept;
+    }
+}
@@ -0,0 +1,41 @@
+package mekanism.common.lib.distribution;
+
+import java.util.Collection;
+
+/**
+ * {@link Target} that distributes primitive integer amounts. The distribution logic is shared with {@link LongTarget}, as amounts are never larger than the integer
+ * amount being split, and they only get narrowed back to integers when given to a handler.
+ *
+ * @param <HANDLER> The Handler this target keeps track of.
+ * @param <EXTRA>   Any extra information this target may need to keep track of.
+ */
+public abstract class IntegerTarget<HANDLER, EXTRA> extends LongTarget<HANDLER, EXTRA> {
+
+    protected IntegerTarget() {
+        super();
+    }
+
+    protected IntegerTarget(Collection<HANDLER> allHandlers) {
+        super(allHandlers);
+    }
+
+    protected IntegerTarget(int expectedSize) {
+        super(expectedSize);
+    }
+
+    @Override
+    protected final void acceptAmount(HANDLER handler, LongSplitInfo splitInfo, long amount) {
+        //Note: This cast is safe as we never offer more than the amount being split
+        splitInfo.send(acceptAmount(handler, (int) amount));
+    }
+
+    /**
+     * Gives the handler on the specified side the given amount.
+     *
+     * @param handler Handler to give to.
+     * @param amount  Amount to give.
+     *
+     * @return The amount actually accepted, in case it is less than the offered amount.
+     */
+    protected abstract int acceptAmount(HANDLER handler, int amount);
+}
@@ -1,19 +1,37 @@
 package mekanism.common.lib.distribution;
 
-public class LongSplitInfo extends SplitInfo<Long> {
+public class LongSplitInfo extends SplitInfo {
 
     private long amountToSplit;
     private long amountPerTarget;
     private long sentSoFar;
 
+    public LongSplitInfo() {
+        super(0);
+    }
+
     public LongSplitInfo(long amountToSplit, int totalTargets) {
         super(totalTargets);
+        reset(amountToSplit, totalTargets);
+    }
+
+    /**
+     * Resets this split info so that it can be reused for another distribution.
+     *
+     * @param amountToSplit Amount to split.
+     * @param totalTargets  Number of targets to split among.
+     *
+     * @return this
+     */
+    public LongSplitInfo reset(long amountToSplit, int totalTargets) {
+        reset(totalTargets);
         this.amountToSplit = amountToSplit;
         amountPerTarget = toSplitAmong == 0 ? 0 : amountToSplit / toSplitAmong;
+        sentSoFar = 0;
+        return this;
     }
 
-    @Override
-    public void send(Long amountNeeded) {
+    public void send(long amountNeeded) {
         //If we are giving it, then lower the amount we are checking/splitting
         amountToSplit -= amountNeeded;
         sentSoFar += amountNeeded;
@@ -29,21 +47,18 @@ public class LongSplitInfo extends SplitInfo<Long> {
         }
     }
 
-    @Override
-    public Long getShareAmount() {
+    public long getShareAmount() {
         return amountPerTarget;
     }
 
-    @Override
-    public Long getRemainderAmount() {
+    public long getRemainderAmount() {
         //Add to the remainder amount the entire remainder so that we try to use it up if we can
         // The remainder then if it cannot be fully accepted slowly shrinks across each target we are distributing to
         //TODO: Evaluate making a more even distribution of the remainder
         return toSplitAmong == 0 ? amountPerTarget : amountPerTarget + (amountToSplit % toSplitAmong);
     }
 
-    @Override
-    public Long getTotalSent() {
+    public long getTotalSent() {
         return sentSoFar;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,131 @@
+package mekanism.common.lib.distribution;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * {@link Target} that distributes primitive long amounts.
+ *
+ * @param <HANDLER> The Handler this target keeps track of.
+ * @param <EXTRA>   Any extra information this target may need to keep track of.
+ */
+public abstract class LongTarget<HANDLER, EXTRA> extends Target<HANDLER, EXTRA> {
+
+    private final LongSplitInfo splitInfo = new LongSplitInfo();
+    /**
+     * Amounts wanted by the handlers in {@link #needed}.
+     */
+    private long[] neededAmounts;
+
+    protected LongTarget() {
+        super();
+    }
+
+    protected LongTarget(Collection<HANDLER> allHandlers) {
+        super(allHandlers);
+    }
+
+    protected LongTarget(int expectedSize) {
+        super(expectedSize);
+    }
+
+    @Override
+    protected void growNeeded(int newSize) {
+        if (neededAmounts != null) {
+            neededAmounts = Arrays.copyOf(neededAmounts, newSize);
+        }
+    }
+
+    /**
+     * Gets the reusable split info for this target, reset to split the given amount among all our handlers.
+     */
+    public LongSplitInfo getSplitInfo(long amountToSplit) {
+        return splitInfo.reset(amountToSplit, getHandlerCount());
+    }
+
+    /**
+     * Sends the remaining amount to each handler we still have not settled on an amount for. We increment the amount sent in splitInfo as well as adjust the split as
+     * needed if one ends up accepting less than it originally wanted. (The most likely case this would change is with multi-blocks where it may return the same desire to
+     * all connections, but get satisfied by our first connection).
+     *
+     * @param splitInfo Keeps track of the current amount sent and the default each one can get.
+     */
+    public void sendRemainingSplit(LongSplitInfo splitInfo) {
+        //If needed is not empty then we default it to the given calculated fair split amount of remaining amount
+        for (int i = 0; i < neededCount; i++) {
+            acceptAmount(getHandler(needed[i]), splitInfo, splitInfo.getRemainderAmount());
+        }
+    }
+
+    /**
+     * Gives the handler on the specified side the given amount.
+     *
+     * @param handler   Handler to give to.
+     * @param splitInfo Information about current overall split. The given split will be increased by the actual amount accepted, in case it is less than the offered
+     *                  amount.
+     * @param amount    Amount to give.
+     *
+     * @implNote Must call {@link LongSplitInfo#send(long)} with the amount actually accepted.
+     */
+    protected abstract void acceptAmount(HANDLER handler, LongSplitInfo splitInfo, long amount);
+
+    /**
+     * Simulate inserting into the handler.
+     *
+     * @param handler The handler (should correspond with the side we are simulating).
+     * @param extra   All the information we are inserting.
+     *
+     * @return The amount it was actually willing to accept.
+     */
+    protected abstract long simulate(HANDLER handler, EXTRA extra);
+
+    /**
+     * Calculates how much each handler can take of toSend. If the amount requested is less than the amount per handler/target in splitInfo it immediately sends the
+     * requested amount to the handler via {@link #acceptAmount(Object, LongSplitInfo, long)}
+     *
+     * @param toSend    The total amount getting sent.
+     * @param splitInfo Information about current overall split.
+     */
+    public void sendPossible(EXTRA toSend, LongSplitInfo splitInfo) {
+        int handlerCount = getHandlerCount();
+        neededCount = 0;
+        if (neededAmounts == null || neededAmounts.length < needed.length) {
+            neededAmounts = new long[needed.length];
+        }
+        for (int i = 0; i < handlerCount; i++) {
+            HANDLER entry = getHandler(i);
+            long amountNeeded = simulate(entry, toSend);
+            if (amountNeeded <= splitInfo.getShareAmount()) {
+                //Add the amount, in case something changed from simulation only mark actual sent amount
+                // in split info
+                acceptAmount(entry, splitInfo, amountNeeded);
+            } else {
+                neededAmounts[addNeeded(i)] = amountNeeded;
+            }
+        }
+    }
+
+    /**
+     * Rechecks to see if any of the needed amounts is able to fit under the new split and if so gives them the requested amount.
+     *
+     * @param splitInfo The new split to (re)check.
+     */
+    public void shiftNeeded(LongSplitInfo splitInfo) {
+        //Compact the needed arrays in place as we go rather than removing from a list
+        int kept = 0;
+        for (int i = 0; i < neededCount; i++) {
+            long amountNeeded = neededAmounts[i];
+            if (amountNeeded <= splitInfo.getShareAmount()) {
+                acceptAmount(getHandler(needed[i]), splitInfo, amountNeeded);
+                //Continue checking things in case we happen to be
+                // getting things in a bad order so that we don't recheck
+                // the same values many times
+            } else {
+                needed[kept] = needed[i];
+                neededAmounts[kept] = amountNeeded;
+                kept++;
+            }
+        }
+        neededCount = kept;
+    }
+}
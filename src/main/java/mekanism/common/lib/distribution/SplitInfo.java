@@ -1,6 +1,6 @@
 package mekanism.common.lib.distribution;
 
-public abstract class SplitInfo<TYPE extends Number & Comparable<TYPE>> {
+public abstract class SplitInfo {
 
     protected int toSplitAmong;
     public boolean amountPerChanged = false;
@@ -9,11 +9,13 @@ public abstract class SplitInfo<TYPE extends Number & Comparable<TYPE>> {
         this.toSplitAmong = totalTargets;
     }
 
-    public abstract void send(TYPE amountNeeded);
-
-    public abstract TYPE getShareAmount();
-
-    public abstract TYPE getRemainderAmount();
-
-    public abstract TYPE getTotalSent();
-}
\ No newline at end of file
+    /**
+     * Resets the shared state of this split info so that it can be reused.
+     *
+     * @param totalTargets Number of targets to split among.
+     */
+    protected void reset(int totalTargets) {
+        this.toSplitAmong = totalTargets;
+        this.amountPerChanged = false;
+    }
+}
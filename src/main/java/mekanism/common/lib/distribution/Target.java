@@ -1,137 +1,110 @@
 package mekanism.common.lib.distribution;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Iterator;
-import java.util.LinkedList;
 
 /**
- * Keeps track of a target for emitting from various networks.
+ * Keeps track of a target for emitting from various networks. Handlers and the handlers that want more than the current share are kept in flat arrays that get reused
+ * between calls to {@link #clear()}, so that a target can be held by a network and reused every tick without allocating.
  *
  * @param <HANDLER> The Handler this target keeps track of.
- * @param <TYPE>    The type that is being transferred.
  * @param <EXTRA>   Any extra information this target may need to keep track of.
+ *
+ * @implNote The type specific parts (amounts and how they get sent) are handled by {@link IntegerTarget}, {@link LongTarget}, and {@link FloatingLongTarget} so that
+ * amounts never have to be boxed.
  */
-public abstract class Target<HANDLER, TYPE extends Number & Comparable<TYPE>, EXTRA> {
+public abstract class Target<HANDLER, EXTRA> {
+
+    private static final int DEFAULT_SIZE = 8;
 
     /**
-     * Collection of handlers
+     * Array of handlers, only the first {@link #handlerCount} elements are valid.
      */
-    protected final Collection<HANDLER> handlers;
+    private Object[] handlers;
     /**
-     * Collection of handler type pairs that want more than we can/are willing to provide. Value is the amount they want.
+     * Indices into {@link #handlers} of handlers that want more than we can/are willing to provide, only the first {@link #neededCount} elements are valid. The amount
+     * they want is stored at the same position in the type specific needed amounts array.
      */
-    protected final Collection<HandlerType<HANDLER, TYPE>> needed;
-
-    private int handlerCount = 0;
+    protected int[] needed;
+    protected int neededCount;
+    private int handlerCount;
 
     protected EXTRA extra;
 
     protected Target() {
-        handlers = new LinkedList<>();
-        needed = new LinkedList<>();
+        this(DEFAULT_SIZE);
     }
 
     protected Target(Collection<HANDLER> allHandlers) {
-        this.handlers = Collections.unmodifiableCollection(allHandlers);
-        this.needed = new ArrayList<>(allHandlers.size() / 2);
+        this(allHandlers.size());
+        for (HANDLER handler : allHandlers) {
+            addHandler(handler);
+        }
     }
 
     protected Target(int expectedSize) {
-        this.handlers = new ArrayList<>(expectedSize);
-        this.needed = new ArrayList<>(expectedSize / 2);
+        expectedSize = Math.max(expectedSize, 1);
+        this.handlers = new Object[expectedSize];
+        this.needed = new int[expectedSize];
     }
 
     public void addHandler(HANDLER handler) {
-        handlers.add(handler);
-        handlerCount++;
+        if (handlerCount == handlers.length) {
+            int newSize = handlers.length << 1;
+            handlers = Arrays.copyOf(handlers, newSize);
+            needed = Arrays.copyOf(needed, newSize);
+            growNeeded(newSize);
+        }
+        handlers[handlerCount++] = handler;
     }
 
     public int getHandlerCount() {
         return handlerCount;
     }
 
-    /**
-     * Sends the remaining amount to each handler we still have not settled on an amount for. We increment the amount sent in splitInfo as well as adjust the split as
-     * needed if one ends up accepting less than it originally wanted. (The most likely case this would change is with multi-blocks where it may return the same desire to
-     * all connections, but get satisfied by our first connection).
-     *
-     * @param splitInfo Keeps track of the current amount sent and the default each one can get.
-     */
-    public void sendRemainingSplit(SplitInfo<TYPE> splitInfo) {
-        //If needed is not empty then we default it to the given calculated fair split amount of remaining energy
-        for (HandlerType<HANDLER, TYPE> recipient : needed) {
-            acceptAmount(recipient.handler(), splitInfo, splitInfo.getRemainderAmount());
-        }
+    @SuppressWarnings("unchecked")
+    protected HANDLER getHandler(int index) {
+        return (HANDLER) handlers[index];
+    }
+
+    public void setExtra(EXTRA extra) {
+        this.extra = extra;
     }
 
     /**
-     * Gives the handler on the specified side the given amount.
-     *
-     * @param handler   Handler to give to.
-     * @param splitInfo Information about current overall split. The given split will be increased by the actual amount accepted, in case it is less than the offered
-     *                  amount.
-     * @param amount    Amount to give.
-     *
-     * @implNote Must call {@link SplitInfo#send(Number)} with the amount actually accepted.
+     * Removes all handlers from this target so that it can be reused, while keeping the backing arrays around. References to handlers are cleared so that we don't keep
+     * any handlers loaded that have since been invalidated.
      */
-    protected abstract void acceptAmount(HANDLER handler, SplitInfo<TYPE> splitInfo, TYPE amount);
+    public void clear() {
+        Arrays.fill(handlers, 0, handlerCount, null);
+        handlerCount = 0;
+        neededCount = 0;
+        clearNeeded();
+    }
 
     /**
-     * Simulate inserting into the handler.
+     * Marks the handler at the given index as needing more than the current share.
      *
-     * @param handler The handler (should correspond with the side we are simulating).
-     * @param extra   All the information we are inserting.
+     * @param handlerIndex Index of the handler.
      *
-     * @return The amount it was actually willing to accept.
+     * @return Index into the needed arrays the amount should be stored at.
      */
-    protected abstract TYPE simulate(HANDLER handler, EXTRA extra);
+    protected int addNeeded(int handlerIndex) {
+        int index = neededCount++;
+        needed[index] = handlerIndex;
+        return index;
+    }
 
     /**
-     * Calculates how much each handler can take of toSend. If the amount requested is less than the amount per handler/target in splitInfo it immediately sends the
-     * requested amount to the handler via {@link #acceptAmount(HANDLER, SplitInfo, Number)}
+     * Called when the backing arrays get resized so that the type specific needed amount array can grow with them.
      *
-     * @param toSend    The total amount getting sent.
-     * @param splitInfo Information about current overall split.
+     * @param newSize New size of the backing arrays.
      */
-    public void sendPossible(EXTRA toSend, SplitInfo<TYPE> splitInfo) {
-        for (HANDLER entry : handlers) {
-            TYPE amountNeeded = simulate(entry, toSend);
-            if (amountNeeded.compareTo(splitInfo.getShareAmount()) <= 0) {
-                //Add the amount, in case something changed from simulation only mark actual sent amount
-                // in split info
-                acceptAmount(entry, splitInfo, amountNeeded);
-            } else {
-                needed.add(new HandlerType<>(entry, amountNeeded));
-            }
-        }
-    }
+    protected abstract void growNeeded(int newSize);
 
     /**
-     * Rechecks to see if any of the needed amounts is able to fit under the new split and if so gives them the requested amount.
-     *
-     * @param splitInfo The new split to (re)check.
+     * Called when this target is cleared so that the type specific needed amount array can release any references it holds.
      */
-    public void shiftNeeded(SplitInfo<TYPE> splitInfo) {
-        Iterator<HandlerType<HANDLER, TYPE>> iterator = needed.iterator();
-        //Use an iterator rather than a copy of the keySet of the needed subMap
-        // This allows for us to remove it once we find it without  having to
-        // start looping again or make a large number of copies of the set
-        while (iterator.hasNext()) {
-            HandlerType<HANDLER, TYPE> needInfo = iterator.next();
-            TYPE amountNeeded = needInfo.amount();
-            if (amountNeeded.compareTo(splitInfo.getShareAmount()) <= 0) {
-                acceptAmount(needInfo.handler(), splitInfo, amountNeeded);
-                //Remove it as it has now been sent
-                iterator.remove();
-                //Continue checking things in case we happen to be
-                // getting things in a bad order so that we don't recheck
-                // the same values many times
-            }
-        }
-    }
-
-    protected record HandlerType<HANDLER, TYPE extends Number & Comparable<TYPE>>(HANDLER handler, TYPE amount) {
+    protected void clearNeeded() {
     }
-}
\ No newline at end of file
+}
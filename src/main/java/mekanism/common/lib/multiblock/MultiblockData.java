@@ -99,8 +99,12 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
     private boolean dirty;
 
     public MultiblockData(BlockEntity tile) {
-        remoteSupplier = () -> tile.getLevel().isClientSide();
-        worldSupplier = tile::getLevel;
+        this(() -> tile.getLevel().isClientSide(), tile::getLevel);
+    }
+
+    protected MultiblockData(BooleanSupplier remoteSupplier, Supplier<Level> worldSupplier) {
+        this.remoteSupplier = remoteSupplier;
+        this.worldSupplier = worldSupplier;
     }
 
     public boolean isDirty() {
@@ -370,6 +374,32 @@ public class MultiblockData implements IMekanismInventory, IMekanismFluidHandler
         return locations.contains(pos) || internalLocations.contains(pos);
     }
 
+    /**
+     * Checks if a change to the block at the given position inside the multiblock may change whether the multiblock is formed. This is the case when a known block
+     * became air, when a block that isn't known got placed, or when a non-air block of the frame ({@link #locations}) changed. Positions that were and still are air, or
+     * {@link #internalLocations internal blocks} that just changed state, can't change it. If the multiblock isn't formed the known locations may be outdated, so any
+     * change may affect it.
+     *
+     * @apiNote See the java docs on {@link #internalLocations} for the caveats of this check. This only decides whether the formation check needs to run again, the
+     * check itself still validates the entire structure.
+     */
+    public boolean mayAffectFormation(Level world, BlockPos pos) {
+        return mayAffectFormation(pos, world.isEmptyBlock(pos));
+    }
+
+    /**
+     * @param empty {@code true} if the position is now air.
+     */
+    boolean mayAffectFormation(BlockPos pos, boolean empty) {
+        if (!isFormed()) {
+            return true;
+        } else if (empty) {
+            //A known block got broken, as every non-air inner block is known, unknown inner positions were already air and can't change anything
+            return isKnownLocation(pos);
+        }
+        return !internalLocations.contains(pos);
+    }
+
     public Collection<ValveData> getValveData() {
         return valves;
     }
@@ -103,11 +103,32 @@ public class Structure {
         }
     }
 
+    /**
+     * Marks the structure as needing to check if it is still formed, because a block inside of it changed. Blocks inside the structure are not nodes of the structure,
+     * so the nodes and planes that make up the shape of the structure are still accurate. This means that unlike invalidating the structure, we don't have to explore
+     * and merge all the nodes again, and only have to rerun the formation check against the cached shape.
+     *
+     * @apiNote Changes to the nodes themselves still need to invalidate the structure, which happens when they are added or removed.
+     * @implNote The formation check itself still validates every position of the structure, as the validators aggregate the contents of the structure while checking
+     * it. This only skips re-exploring and merging the nodes.
+     */
+    public void markInternalChange(Level world) {
+        markForUpdate(world, !isValid());
+    }
+
+    /**
+     * Immediately checks if the structure is still formed, because a block inside of it changed. See {@link #markInternalChange(Level)} for more details.
+     */
     public <TILE extends BlockEntity & IMultiblockBase> void doImmediateUpdate(TILE tile, boolean tryValidate) {
         //Pretend it got marked for update last tick so that when we call tick it will update
         updateTimestamp = tile.getLevel().getGameTime() - 1;
         didUpdate = false;
-        invalidate(tile.getLevel());
+        if (isValid()) {
+            //The shape of the structure didn't change, so we only need to remove the multiblock before checking if it is still formed
+            removeMultiblock(tile.getLevel());
+        } else {
+            invalidate(tile.getLevel());
+        }
         tick(tile, tryValidate);
     }
 
@@ -0,0 +1,62 @@
+package mekanism.common.lib.radiation;
+
+import java.util.Map;
+import mekanism.api.Chunk3D;
+import mekanism.api.Coord4D;
+
+/**
+ * Keeps track of the total magnitude of the radiation sources in a chunk, and where the center of that radiation is, so that the exposure from chunks that are not near
+ * the position being checked can be calculated without looking at each source in the chunk. The totals are updated incrementally as sources radiate and decay.
+ */
+class RadiationChunkField {
+
+    final Chunk3D chunk;
+    /**
+     * Live view of the sources in the chunk.
+     */
+    final Map<Coord4D, RadiationSource> sources;
+    private double magnitude;
+    //Sum of the positions of the sources weighted by their magnitude, used to calculate the center of the radiation
+    private double weightedX;
+    private double weightedY;
+    private double weightedZ;
+
+    RadiationChunkField(Chunk3D chunk, Map<Coord4D, RadiationSource> sources) {
+        this.chunk = chunk;
+        this.sources = sources;
+    }
+
+    /**
+     * Updates the totals for a source in this chunk whose magnitude changed.
+     *
+     * @param pos   Position of the source.
+     * @param delta Amount the magnitude of the source changed by.
+     */
+    void change(Coord4D pos, double delta) {
+        magnitude += delta;
+        weightedX += delta * pos.getX();
+        weightedY += delta * pos.getY();
+        weightedZ += delta * pos.getZ();
+    }
+
+    double getMagnitude() {
+        return magnitude;
+    }
+
+    /**
+     * Calculates the exposure at the given position from all sources in this chunk, treating them as a single source at the center of their radiation.
+     */
+    double computeExposure(Coord4D coord, int maxRange) {
+        if (magnitude <= 0) {
+            return 0;
+        }
+        double subX = coord.getX() - weightedX / magnitude;
+        double subY = coord.getY() - weightedY / magnitude;
+        double subZ = coord.getZ() - weightedZ / magnitude;
+        double distanceSquared = subX * subX + subY * subY + subZ * subZ;
+        if (distanceSquared > (double) maxRange * maxRange) {
+            return 0;
+        }
+        return magnitude / Math.max(1, distanceSquared);
+    }
+}
@@ -3,19 +3,24 @@ package mekanism.common.lib.radiation;
 import com.google.common.collect.HashBasedTable;
 import com.google.common.collect.Table;
 import com.google.common.collect.Tables;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2DoubleMap;
 import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.IntSupplier;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -62,6 +67,7 @@ import net.minecraft.world.entity.EquipmentSlot;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.saveddata.SavedData;
 import net.minecraft.world.level.storage.DimensionDataStorage;
@@ -104,6 +110,11 @@ public class RadiationManager implements IRadiationManager {
     private static final String DATA_HANDLER_NAME = "radiation_manager";
     private static final IntSupplier MAX_RANGE = () -> MekanismConfig.general.radiationChunkCheckRadius.get() * 16;
     private static final Random RAND = new Random();
+    private static final RadiationChunkField[] NO_FIELDS = new RadiationChunkField[0];
+    /**
+     * Maximum number of chunks per dimension to keep nearby chunk fields cached for, before we just start over.
+     */
+    private static final int MAX_CACHED_CHUNKS = 8_192;
 
     public static final double BASELINE = 0.0000001; // 100 nSv/h
     public static final double MIN_MAGNITUDE = 0.00001; // 10 uSv/h
@@ -113,6 +124,23 @@ public class RadiationManager implements IRadiationManager {
     private final Table<Chunk3D, Coord4D, RadiationSource> radiationTable = HashBasedTable.create();
     private final Table<Chunk3D, Coord4D, IRadiationSource> radiationView = Tables.unmodifiableTable(radiationTable);
     private final Map<ResourceLocation, List<Meltdown>> meltdowns = new Object2ObjectOpenHashMap<>();
+    /**
+     * Per dimension fields of the chunks that have radiation sources in them, keyed by the packed chunk position.
+     */
+    private final Map<ResourceKey<Level>, Long2ObjectMap<RadiationChunkField>> chunkFields = new Object2ObjectOpenHashMap<>();
+    /**
+     * Per dimension cache of the chunk fields that are in range of a chunk, keyed by the packed chunk position. Entries are built lazily and only invalidated when a
+     * chunk near the chunk gains its first source or loses its last one. As the fields are stored by reference and updated in place, changes to the magnitude of sources
+     * (including decay) don't require any invalidation.
+     */
+    private final Map<ResourceKey<Level>, Long2ObjectMap<RadiationChunkField[]>> nearbySources = new Object2ObjectOpenHashMap<>();
+    private int nearbySourcesRadius = -1;
+    /**
+     * Sources that are being decayed in the current round when amortized decay is enabled, and the dimensions that had sources decay this round.
+     */
+    private final List<RadiationSource> decayQueue = new ArrayList<>();
+    private final Set<ResourceKey<Level>> decayedDimensions = new ObjectOpenHashSet<>();
+    private int decayIndex;
 
     private final Object2DoubleMap<UUID> playerExposureMap = new Object2DoubleOpenHashMap<>();
 
@@ -160,6 +188,7 @@ public class RadiationManager implements IRadiationManager {
         Map<Coord4D, RadiationSource> chunkSources = radiationTable.row(chunk);
         if (!chunkSources.isEmpty()) {
             chunkSources.clear();
+            removeField(chunk.dimension, chunk.x, chunk.z);
             markDirty();
             updateClientRadiationForAll(chunk.dimension);
         }
@@ -167,9 +196,9 @@ public class RadiationManager implements IRadiationManager {
 
     @Override
     public void removeRadiationSource(Coord4D coord) {
-        Chunk3D chunk = new Chunk3D(coord);
-        if (radiationTable.contains(chunk, coord)) {
-            radiationTable.remove(chunk, coord);
+        RadiationSource removed = radiationTable.remove(new Chunk3D(coord), coord);
+        if (removed != null) {
+            sourceRemoved(removed, removed.getMagnitude());
             markDirty();
             updateClientRadiationForAll(coord.dimension);
         }
@@ -177,19 +206,133 @@ public class RadiationManager implements IRadiationManager {
 
     @Override
     public double getRadiationLevel(Coord4D coord) {
-        Set<Chunk3D> checkChunks = new Chunk3D(coord).expand(MekanismConfig.general.radiationChunkCheckRadius.get());
         double level = BASELINE;
-        for (Chunk3D chunk : checkChunks) {
-            for (Map.Entry<Coord4D, RadiationSource> entry : radiationTable.row(chunk).entrySet()) {
-                // we only compute exposure when within the MAX_RANGE bounds
-                if (entry.getKey().distanceTo(coord) <= MAX_RANGE.getAsInt()) {
-                    level += computeExposure(coord, entry.getValue());
+        RadiationChunkField[] fields = getNearbySources(coord);
+        if (fields.length > 0) {
+            int maxRange = MAX_RANGE.getAsInt();
+            int chunkX = coord.getX() >> 4;
+            int chunkZ = coord.getZ() >> 4;
+            for (RadiationChunkField field : fields) {
+                if (Math.abs(field.chunk.x - chunkX) <= 1 && Math.abs(field.chunk.z - chunkZ) <= 1) {
+                    //The sources in chunks right next to us may be far apart relative to how far away they are, so check each of them
+                    for (RadiationSource source : field.sources.values()) {
+                        // we only compute exposure when within the MAX_RANGE bounds
+                        if (source.getPos().distanceTo(coord) <= maxRange) {
+                            level += computeExposure(coord, source);
+                        }
+                    }
+                } else {
+                    level += field.computeExposure(coord, maxRange);
                 }
             }
         }
         return level;
     }
 
+    /**
+     * Gets the fields of the chunks that are checked when calculating the radiation level at the given position, building and caching them if necessary.
+     */
+    private RadiationChunkField[] getNearbySources(Coord4D coord) {
+        int radius = MekanismConfig.general.radiationChunkCheckRadius.get();
+        if (radius != nearbySourcesRadius) {
+            //The check radius changed, all cached entries are invalid
+            nearbySources.clear();
+            nearbySourcesRadius = radius;
+        }
+        Long2ObjectMap<RadiationChunkField> fields = chunkFields.get(coord.dimension);
+        if (fields == null || fields.isEmpty()) {
+            return NO_FIELDS;
+        }
+        Long2ObjectMap<RadiationChunkField[]> dimensionSources = nearbySources.computeIfAbsent(coord.dimension, dimension -> new Long2ObjectOpenHashMap<>());
+        long chunkKey = ChunkPos.asLong(coord.getX() >> 4, coord.getZ() >> 4);
+        RadiationChunkField[] sources = dimensionSources.get(chunkKey);
+        if (sources == null) {
+            List<RadiationChunkField> found = new ArrayList<>();
+            for (Chunk3D chunk : new Chunk3D(coord).expand(radius)) {
+                RadiationChunkField field = fields.get(chunk.toLong());
+                if (field != null) {
+                    found.add(field);
+                }
+            }
+            sources = found.isEmpty() ? NO_FIELDS : found.toArray(NO_FIELDS);
+            if (dimensionSources.size() >= MAX_CACHED_CHUNKS) {
+                //Don't let the cache grow unbounded as players explore, just start over
+                dimensionSources.clear();
+            }
+            dimensionSources.put(chunkKey, sources);
+        }
+        return sources;
+    }
+
+    /**
+     * Updates the field of the chunk the given source is in after the magnitude of the source changed, creating the field if the chunk didn't have any sources yet.
+     */
+    private void sourceChanged(RadiationSource source, double delta) {
+        Coord4D pos = source.getPos();
+        Long2ObjectMap<RadiationChunkField> fields = chunkFields.computeIfAbsent(pos.dimension, dimension -> new Long2ObjectOpenHashMap<>());
+        int chunkX = pos.getX() >> 4;
+        int chunkZ = pos.getZ() >> 4;
+        long chunkKey = ChunkPos.asLong(chunkX, chunkZ);
+        RadiationChunkField field = fields.get(chunkKey);
+        if (field == null) {
+            Chunk3D chunk = new Chunk3D(pos.dimension, chunkX, chunkZ);
+            field = new RadiationChunkField(chunk, radiationTable.row(chunk));
+            fields.put(chunkKey, field);
+            invalidateNearbySources(pos.dimension, chunkX, chunkZ);
+        }
+        field.change(pos, delta);
+    }
+
+    /**
+     * Updates the field of the chunk the given source was in after the source was removed, removing the field if it was the last source in the chunk.
+     *
+     * @param magnitude Magnitude the source had before it was removed.
+     */
+    private void sourceRemoved(RadiationSource source, double magnitude) {
+        Coord4D pos = source.getPos();
+        Long2ObjectMap<RadiationChunkField> fields = chunkFields.get(pos.dimension);
+        if (fields != null) {
+            RadiationChunkField field = fields.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+            if (field != null) {
+                if (field.sources.isEmpty()) {
+                    removeField(pos.dimension, field.chunk.x, field.chunk.z);
+                } else {
+                    field.change(pos, -magnitude);
+                }
+            }
+        }
+    }
+
+    private void removeField(ResourceKey<Level> dimension, int chunkX, int chunkZ) {
+        Long2ObjectMap<RadiationChunkField> fields = chunkFields.get(dimension);
+        if (fields != null && fields.remove(ChunkPos.asLong(chunkX, chunkZ)) != null) {
+            invalidateNearbySources(dimension, chunkX, chunkZ);
+        }
+    }
+
+    /**
+     * Invalidates the cached nearby fields of all chunks that check the given chunk for sources.
+     */
+    private void invalidateNearbySources(ResourceKey<Level> dimension, int chunkX, int chunkZ) {
+        Long2ObjectMap<RadiationChunkField[]> dimensionSources = nearbySources.get(dimension);
+        if (dimensionSources == null || dimensionSources.isEmpty()) {
+            return;
+        }
+        //Note: Chunk3D#expand treats a radius of one as only the chunk itself
+        int radius = nearbySourcesRadius == 1 ? 0 : nearbySourcesRadius;
+        int diameter = 2 * radius + 1;
+        if (diameter * diameter >= dimensionSources.size()) {
+            //Fewer cached entries than chunks in range, check the cached entries instead of every chunk in range
+            dimensionSources.keySet().removeIf((long chunk) -> Math.abs(ChunkPos.getX(chunk) - chunkX) <= radius && Math.abs(ChunkPos.getZ(chunk) - chunkZ) <= radius);
+        } else {
+            for (int x = chunkX - radius; x <= chunkX + radius; x++) {
+                for (int z = chunkZ - radius; z <= chunkZ + radius; z++) {
+                    dimensionSources.remove(ChunkPos.asLong(x, z));
+                }
+            }
+        }
+    }
+
     @Override
     public void radiate(Coord4D coord, double magnitude) {
         if (!isRadiationEnabled()) {
@@ -198,10 +341,12 @@ public class RadiationManager implements IRadiationManager {
         Map<Coord4D, RadiationSource> radiationSourceMap = radiationTable.row(new Chunk3D(coord));
         RadiationSource src = radiationSourceMap.get(coord);
         if (src == null) {
-            radiationSourceMap.put(coord, new RadiationSource(coord, magnitude));
+            src = new RadiationSource(coord, magnitude);
+            radiationSourceMap.put(coord, src);
         } else {
             src.radiate(magnitude);
         }
+        sourceChanged(src, magnitude);
         markDirty();
         //Update radiation levels immediately
         updateClientRadiationForAll(coord.dimension);
@@ -253,6 +398,8 @@ public class RadiationManager implements IRadiationManager {
     public void clearSources() {
         if (!radiationTable.isEmpty()) {
             radiationTable.clear();
+            chunkFields.clear();
+            nearbySources.clear();
             markDirty();
             updateClientRadiationForAll(player -> true);
         }
@@ -290,18 +437,49 @@ public class RadiationManager implements IRadiationManager {
         }
     }
 
+    /**
+     * Updates the environmental radiation of players in the given dimensions that may have had their radiation level changed by sources in those dimensions decaying.
+     */
+    private void updateClientRadiationForDecayed(Set<ResourceKey<Level>> dimensions) {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server != null) {
+            for (ServerPlayer player : server.getPlayerList().getPlayers()) {
+                if (dimensions.contains(player.getLevel().dimension())) {
+                    //Skip players that aren't near any sources and were already synced as being at the baseline, as nothing can have changed for them
+                    if (getNearbySources(new Coord4D(player)).length > 0 || playerExposureMap.getOrDefault(player.getUUID(), 0) != 1) {
+                        updateClientRadiation(player);
+                    }
+                }
+            }
+        }
+    }
+
     public void updateClientRadiation(ServerPlayer player) {
         double magnitude = getRadiationLevel(player);
         double scaledMagnitude = Math.ceil(magnitude / BASELINE);
         //If the last sync radiation value is different in magnitude by over the baseline, sync
         // Note: If it is not present this will always be marked as needing a sync as it is not possible for scaledMagnitude
         // to be zero as magnitude will always be at least BASELINE
-        if (scaledMagnitude != playerExposureMap.getOrDefault(player.getUUID(), 0)) {
+        double lastScaledMagnitude = playerExposureMap.getOrDefault(player.getUUID(), 0);
+        if (scaledMagnitude != lastScaledMagnitude && shouldSync(lastScaledMagnitude, scaledMagnitude)) {
             playerExposureMap.put(player.getUUID(), scaledMagnitude);
             Mekanism.packetHandler().sendTo(PacketRadiationData.createEnvironmental(magnitude), player);
         }
     }
 
+    private boolean shouldSync(double lastScaledMagnitude, double scaledMagnitude) {
+        if (lastScaledMagnitude == 0) {
+            //Never synced
+            return true;
+        }
+        double threshold = MekanismConfig.general.radiationSyncThreshold.get();
+        if (threshold == 0 || Math.abs(scaledMagnitude - lastScaledMagnitude) >= threshold * lastScaledMagnitude) {
+            return true;
+        }
+        //Always sync if the change would change how severe the radiation is displayed as
+        return RadiationScale.get(lastScaledMagnitude * BASELINE) != RadiationScale.get(scaledMagnitude * BASELINE);
+    }
+
     public void setClientEnvironmentalRadiation(double radiation) {
         clientEnvironmentalRadiation = radiation;
         clientRadiationScale = RadiationScale.get(clientEnvironmentalRadiation);
@@ -381,12 +559,23 @@ public class RadiationManager implements IRadiationManager {
         if (!isRadiationEnabled()) {
             return;
         }
-        // each tick, there's a 1/20 chance we'll decay radiation sources (averages to 1 decay operation per second)
-        if (RAND.nextInt(20) == 0) {
+        if (MekanismConfig.general.radiationAmortizedDecay.get()) {
+            decaySourceSlice();
+        } else if (RAND.nextInt(20) == 0) {
+            // each tick, there's a 1/20 chance we'll decay radiation sources (averages to 1 decay operation per second)
             Collection<RadiationSource> sources = radiationTable.values();
             if (!sources.isEmpty()) {
                 // remove if source gets too low
-                sources.removeIf(RadiationSource::decay);
+                for (Iterator<RadiationSource> iterator = sources.iterator(); iterator.hasNext(); ) {
+                    RadiationSource source = iterator.next();
+                    double magnitude = source.getMagnitude();
+                    if (source.decay()) {
+                        iterator.remove();
+                        sourceRemoved(source, magnitude);
+                    } else {
+                        sourceChanged(source, source.getMagnitude() - magnitude);
+                    }
+                }
                 //Mark dirty regardless if we have any sources as magnitude changes or radiation sources change
                 markDirty();
                 //Update radiation levels for any players where it has changed
@@ -395,6 +584,57 @@ public class RadiationManager implements IRadiationManager {
         }
     }
 
+    /**
+     * Decays the next slice of radiation sources. Each round of decay is spread out over twenty ticks so that sources still decay roughly once per second, but we stop
+     * early if we run out of our time budget and continue on the next tick. Players are only updated once a round is finished.
+     */
+    private void decaySourceSlice() {
+        if (decayIndex >= decayQueue.size()) {
+            //Start a new round with all the current sources
+            decayQueue.clear();
+            decayIndex = 0;
+            decayQueue.addAll(radiationTable.values());
+            if (decayQueue.isEmpty()) {
+                return;
+            }
+        }
+        int end = Math.min(decayQueue.size(), decayIndex + Math.max(1, (decayQueue.size() + 19) / 20));
+        long deadline = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(MekanismConfig.general.radiationDecayBudget.get());
+        while (decayIndex < end) {
+            RadiationSource source = decayQueue.get(decayIndex);
+            //Release the reference as we go, so we don't keep removed sources around until the end of the round
+            decayQueue.set(decayIndex++, null);
+            Coord4D pos = source.getPos();
+            Chunk3D chunk = new Chunk3D(pos);
+            //Make sure the source wasn't removed or replaced since the round started
+            if (radiationTable.get(chunk, pos) == source) {
+                decayedDimensions.add(pos.dimension);
+                double magnitude = source.getMagnitude();
+                if (source.decay()) {
+                    // remove if source gets too low
+                    radiationTable.remove(chunk, pos);
+                    sourceRemoved(source, magnitude);
+                } else {
+                    sourceChanged(source, source.getMagnitude() - magnitude);
+                }
+            }
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+        if (decayIndex >= decayQueue.size()) {
+            decayQueue.clear();
+            decayIndex = 0;
+            if (!decayedDimensions.isEmpty()) {
+                //Mark dirty as magnitude changes or radiation sources change
+                markDirty();
+                //Update radiation levels for any players where it may have changed
+                updateClientRadiationForDecayed(decayedDimensions);
+                decayedDimensions.clear();
+            }
+        }
+    }
+
     /**
      * Note: This should only be called from the server side
      */
@@ -417,6 +657,11 @@ public class RadiationManager implements IRadiationManager {
     public void reset() {
         //Clear the table directly instead of via the method, so it doesn't mark it as dirty
         radiationTable.clear();
+        chunkFields.clear();
+        nearbySources.clear();
+        decayQueue.clear();
+        decayedDimensions.clear();
+        decayIndex = 0;
         playerExposureMap.clear();
         meltdowns.clear();
         dataHandler = null;
@@ -522,6 +767,11 @@ public class RadiationManager implements IRadiationManager {
                 for (RadiationSource source : loadedSources) {
                     manager.radiationTable.put(new Chunk3D(source.getPos()), source.getPos(), source);
                 }
+                manager.chunkFields.clear();
+                manager.nearbySources.clear();
+                for (RadiationSource source : manager.radiationTable.values()) {
+                    manager.sourceChanged(source, source.getMagnitude());
+                }
                 for (Map.Entry<ResourceLocation, List<Meltdown>> entry : savedMeltdowns.entrySet()) {
                     List<Meltdown> meltdowns = entry.getValue();
                     manager.meltdowns.computeIfAbsent(entry.getKey(), id -> new ArrayList<>(meltdowns.size())).addAll(meltdowns);
@@ -2,6 +2,7 @@ package mekanism.common.lib.transmitter;
 
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
@@ -18,6 +19,10 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
       TRANSMITTER extends BufferedTransmitter<ACCEPTOR, NETWORK, BUFFER, TRANSMITTER>> extends DynamicNetwork<ACCEPTOR, NETWORK, TRANSMITTER> {
 
     protected final LongSet chunks = new LongOpenHashSet();
+    /**
+     * Acceptors collected on the server thread during {@link #onUpdate()} that should be emitted to. Reused between ticks and cleared after emitting.
+     */
+    protected final List<ACCEPTOR> tickAcceptors = new ArrayList<>();
     @Nullable
     protected Range3D packetRange;
     protected long capacity;
@@ -34,8 +39,8 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
     protected abstract float computeContentScale();
 
     @Override
-    public void onUpdate() {
-        super.onUpdate();
+    public void onPreUpdate() {
+        super.onPreUpdate();
         float scale = computeContentScale();
         if (scale != currentScale) {
             currentScale = scale;
@@ -92,6 +97,29 @@ public abstract class DynamicBufferedNetwork<ACCEPTOR, NETWORK extends DynamicBu
         updateSaveShares(triggerTransmitter);
     }
 
+    @Override
+    protected void beforeSplitOff(@Nonnull TRANSMITTER triggerTransmitter) {
+        super.beforeSplitOff(triggerTransmitter);
+        //Update the shares while the parts that are getting split off are still part of the network, so they take their part of the buffer with them
+        updateSaveShares(triggerTransmitter);
+    }
+
+    @Override
+    protected void transmittersRemoved(@Nonnull TRANSMITTER triggerTransmitter) {
+        super.transmittersRemoved(triggerTransmitter);
+        updateCapacity();
+        //Recalculate the chunks the network is in, as the transmitters that were removed may have been the only ones in some chunks
+        chunks.clear();
+        for (TRANSMITTER transmitter : transmitters) {
+            chunks.add(WorldUtils.getChunkPosAsLong(transmitter.getTilePos()));
+        }
+        //Update all shares, this also lets networks deal with anything that no longer fits before we clamp the buffer
+        updateSaveShares(triggerTransmitter);
+        clampBuffer();
+        needsUpdate = true;
+        packetRange = null;
+    }
+
     @Override
     public void deregister() {
         super.deregister();
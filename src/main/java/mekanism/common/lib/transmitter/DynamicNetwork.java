@@ -1,20 +1,28 @@
 package mekanism.common.lib.transmitter;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.text.IHasTextComponent;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.acceptor.NetworkAcceptorCache;
+import mekanism.common.tile.transmitter.TileEntityTransmitter;
 import mekanism.common.util.EnumUtils;
+import mekanism.common.util.WorldUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraftforge.common.util.LazyOptional;
 import net.minecraftforge.fml.util.thread.EffectiveSide;
 
 public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<ACCEPTOR, NETWORK, TRANSMITTER>,
@@ -118,6 +126,89 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
         deregister();
     }
 
+    /**
+     * Tries to remove a transmitter that is no longer valid from this network without invalidating the entire network. Only the parts of the network that got split off
+     * by removing the transmitter are orphaned and re-flooded, the rest of the network keeps its identity, buffer, and acceptors.
+     *
+     * @param removed Transmitter that is no longer valid.
+     *
+     * @return {@code true} if the transmitter was removed, {@code false} if the network needs to be fully invalidated instead.
+     *
+     * @apiNote Only call this on the server.
+     */
+    public boolean removeInvalidIncrementally(@Nonnull TRANSMITTER removed) {
+        if (removed.isValid() || world == null || isRemote()) {
+            //Connection changes (for example redstone sensitivity) still go through a full invalidation
+            return false;
+        } else if (!transmitters.contains(removed)) {
+            //Already removed by an earlier removal, nothing left to do
+            return true;
+        } else if (transmitters.size() == 1) {
+            //Last transmitter in the network, let the network get invalidated normally
+            return false;
+        }
+        Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
+        List<TRANSMITTER> neighbors = new ArrayList<>(EnumUtils.DIRECTIONS.length);
+        forEachConnectedTransmitter(removed, chunkMap, neighbors::add);
+        if (neighbors.isEmpty()) {
+            //We couldn't find any of the remaining transmitters, fall back to rebuilding the network
+            return false;
+        }
+        removeTransmitter(removed);
+        acceptorCache.removeTransmitter(removed);
+        List<Set<TRANSMITTER>> disconnected = NetworkSplitFinder.findDisconnected(neighbors, (transmitter, consumer) ->
+              forEachConnectedTransmitter(transmitter, chunkMap, consumer));
+        if (!disconnected.isEmpty()) {
+            //Let the network prepare before orphaning anything, so that the parts that got split off take the correct amount with them
+            beforeSplitOff(removed);
+            for (Set<TRANSMITTER> component : disconnected) {
+                //Orphan the parts that got split off, so that only they get re-flooded into new networks
+                for (TRANSMITTER transmitter : component) {
+                    transmitter.takeShare();
+                    transmitter.setTransmitterNetwork(null);
+                    removeTransmitter(transmitter);
+                    acceptorCache.removeTransmitter(transmitter);
+                    TransmitterNetworkRegistry.registerOrphanTransmitter(transmitter);
+                }
+            }
+        }
+        transmittersRemoved(removed);
+        return true;
+    }
+
+    private void forEachConnectedTransmitter(TRANSMITTER transmitter, Long2ObjectMap<ChunkAccess> chunkMap, Consumer<TRANSMITTER> consumer) {
+        BlockPos pos = transmitter.getTilePos();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            if (Transmitter.connectionMapContainsSide(transmitter.currentTransmitterConnections, side)) {
+                TileEntityTransmitter tile = WorldUtils.getTileEntity(TileEntityTransmitter.class, world, chunkMap, pos.relative(side));
+                if (tile != null) {
+                    Transmitter<?, ?, ?> neighbor = tile.getTransmitter();
+                    //Note: We skip transmitters that are not valid as they are queued to be removed and will be dealt with separately
+                    if (neighbor.isValid() && neighbor.getTransmitterNetwork() == this) {
+                        consumer.accept((TRANSMITTER) neighbor);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Called by {@link #removeInvalidIncrementally(Transmitter)} when removing a transmitter split off parts of this network, after the invalid transmitter has been
+     * removed but before the parts that got split off are orphaned.
+     *
+     * @param triggerTransmitter The transmitter that was removed.
+     */
+    protected void beforeSplitOff(@Nonnull TRANSMITTER triggerTransmitter) {
+    }
+
+    /**
+     * Called once after transmitters have been removed from this network by {@link #removeInvalidIncrementally(Transmitter)}, including any parts that got split off.
+     *
+     * @param triggerTransmitter The transmitter that was removed.
+     */
+    protected void transmittersRemoved(@Nonnull TRANSMITTER triggerTransmitter) {
+    }
+
     protected void onLastTransmitterRemoved(@Nonnull TRANSMITTER triggerTransmitter) {
     }
 
@@ -189,11 +280,41 @@ public abstract class DynamicNetwork<ACCEPTOR, NETWORK extends DynamicNetwork<AC
     }
 
     /**
+     * Compute phase of a network tick, called before {@link #onUpdate()} for all networks.
+     *
+     * @apiNote Only called on the server. Implementations should only read and write state owned by this network, and must not insert into acceptors.
+     */
+    public void onPreUpdate() {
+    }
+
+    /**
+     * Apply phase of a network tick, this is where contents actually get transferred to acceptors.
+     *
      * @apiNote Only called on the server
      */
     public void onUpdate() {
     }
 
+    /**
+     * Collects all currently present acceptors of this network into the given list.
+     *
+     * @apiNote Must only be called on the server thread (for example from {@link #onUpdate()}), as resolving the cached acceptor capabilities may call into the tiles
+     * that provide them.
+     *
+     * @param acceptors List to add the acceptors to.
+     */
+    protected void collectAcceptors(List<ACCEPTOR> acceptors) {
+        for (Map<Direction, LazyOptional<ACCEPTOR>> sides : acceptorCache.getAcceptorValues()) {
+            for (LazyOptional<ACCEPTOR> lazyAcceptor : sides.values()) {
+                //Note: We use orElse rather than ifPresent so that we don't have to create a capturing lambda for every acceptor
+                ACCEPTOR acceptor = lazyAcceptor.orElse(null);
+                if (acceptor != null) {
+                    acceptors.add(acceptor);
+                }
+            }
+        }
+    }
+
     public Set<TRANSMITTER> getTransmitters() {
         return transmitters;
     }
@@ -0,0 +1,151 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Helper for figuring out whether removing a node from a connected graph split the graph apart, without having to walk the entire graph.
+ * <p>
+ * A breadth first search is started from every node that was adjacent to the removed node, and the searches are advanced in lockstep one node at a time. Whenever two
+ * searches meet they get merged, as the nodes they started from are still connected. Once all but one search has either merged or run out of nodes to visit, every
+ * search that ran out of nodes found a component that is no longer connected to the rest of the graph. This means the amount of work done is bounded by the number of
+ * starting nodes times the size of the smaller components, rather than by the size of the entire graph.
+ */
+public class NetworkSplitFinder<NODE> implements Consumer<NODE> {
+
+    /**
+     * @param starts    Nodes that were adjacent to the removed node and are still part of the graph.
+     * @param neighbors Provides the nodes that are connected to a given node. The removed node must not be provided as a neighbor.
+     *
+     * @return The components that are no longer connected to the remainder of the graph. The component that is kept (the one the last remaining search was still
+     * exploring) is not included.
+     */
+    public static <NODE> List<Set<NODE>> findDisconnected(List<NODE> starts, NeighborProvider<NODE> neighbors) {
+        if (starts.size() < 2) {
+            //Removing a node with at most one neighbor can't split the graph
+            return Collections.emptyList();
+        }
+        return new NetworkSplitFinder<>(starts, neighbors).search();
+    }
+
+    private final NeighborProvider<NODE> neighbors;
+    private final Object2IntMap<NODE> owners = new Object2IntOpenHashMap<>();
+    private final List<ArrayDeque<NODE>> queues;
+    private final IntList exhausted = new IntArrayList();
+    private final int[] parents;
+    private final boolean[] active;
+    private int activeCount;
+    private int current;
+
+    private NetworkSplitFinder(List<NODE> starts, NeighborProvider<NODE> neighbors) {
+        this.neighbors = neighbors;
+        int count = starts.size();
+        owners.defaultReturnValue(-1);
+        queues = new ArrayList<>(count);
+        parents = new int[count];
+        active = new boolean[count];
+        for (int i = 0; i < count; i++) {
+            parents[i] = i;
+            ArrayDeque<NODE> queue = new ArrayDeque<>();
+            queues.add(queue);
+            NODE start = starts.get(i);
+            int owner = owners.getInt(start);
+            if (owner == -1) {
+                owners.put(start, i);
+                queue.add(start);
+                active[i] = true;
+                activeCount++;
+            } else {
+                //Duplicate start node, just treat it as part of the search that already owns it
+                parents[i] = find(owner);
+            }
+        }
+    }
+
+    private List<Set<NODE>> search() {
+        while (activeCount > 1) {
+            for (current = 0; current < active.length && activeCount > 1; current++) {
+                if (active[current]) {
+                    NODE node = queues.get(current).poll();
+                    if (node == null) {
+                        //This search ran out of nodes without running into any other search, so it is disconnected from the others
+                        active[current] = false;
+                        activeCount--;
+                        exhausted.add(current);
+                    } else {
+                        neighbors.forEachNeighbor(node, this);
+                    }
+                }
+            }
+        }
+        if (exhausted.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Set<NODE>> disconnected = new ArrayList<>(exhausted.size());
+        //Offset the indices by one so that zero means the node is part of the component that is being kept
+        int[] componentIndices = new int[active.length];
+        for (int i = 0; i < exhausted.size(); i++) {
+            componentIndices[exhausted.getInt(i)] = i + 1;
+            disconnected.add(new ObjectOpenHashSet<>());
+        }
+        for (Object2IntMap.Entry<NODE> entry : owners.object2IntEntrySet()) {
+            int componentIndex = componentIndices[find(entry.getIntValue())];
+            if (componentIndex > 0) {
+                disconnected.get(componentIndex - 1).add(entry.getKey());
+            }
+        }
+        return disconnected;
+    }
+
+    /**
+     * Visits a neighbor of the node the current search is expanding.
+     */
+    @Override
+    public void accept(NODE neighbor) {
+        int owner = owners.getInt(neighbor);
+        if (owner == -1) {
+            owners.put(neighbor, current);
+            queues.get(current).add(neighbor);
+        } else {
+            int root = find(owner);
+            if (root != current) {
+                //We ran into another search, merge it into the current one as they are connected
+                parents[root] = current;
+                ArrayDeque<NODE> otherQueue = queues.get(root);
+                queues.get(current).addAll(otherQueue);
+                otherQueue.clear();
+                if (active[root]) {
+                    active[root] = false;
+                    activeCount--;
+                } else {
+                    //Note: This can only happen if the neighbor relation isn't symmetric, but if it does then the other component isn't actually disconnected
+                    exhausted.rem(root);
+                }
+            }
+        }
+    }
+
+    private int find(int search) {
+        while (parents[search] != search) {
+            //Path halving
+            parents[search] = parents[parents[search]];
+            search = parents[search];
+        }
+        return search;
+    }
+
+    @FunctionalInterface
+    public interface NeighborProvider<NODE> {
+
+        void forEachNeighbor(NODE node, Consumer<NODE> consumer);
+    }
+}
@@ -4,8 +4,8 @@ import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayDeque;
 import java.util.Deque;
-import java.util.LinkedList;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -110,6 +110,10 @@ public class TransmitterNetworkRegistry {
             removeInvalidTransmitters();
             assignOrphans();
             commitChanges();
+            //Run the compute phase of all networks before any network transfers anything
+            for (DynamicNetwork<?, ?, ?> net : networks) {
+                net.onPreUpdate();
+            }
             for (DynamicNetwork<?, ?, ?> net : networks) {
                 net.onUpdate();
             }
@@ -137,7 +141,10 @@ public class TransmitterNetworkRegistry {
         if (!invalid.isOrphan() || !invalid.isValid()) {
             NETWORK n = invalid.getTransmitterNetwork();
             if (n != null) {
-                n.invalidate((TRANSMITTER) invalid);
+                //Try to only split off the parts of the network that are no longer connected before falling back to rebuilding the entire network
+                if (!n.removeInvalidIncrementally((TRANSMITTER) invalid)) {
+                    n.invalidate((TRANSMITTER) invalid);
+                }
                 if (!invalid.isValid()) {
                     //If the transmitter isn't valid, then we need to make sure we clear the network from it
                     // after invalidating the network, so that we can make sure that if this transmitter somehow
@@ -197,7 +204,7 @@ public class TransmitterNetworkRegistry {
         private final Long2ObjectMap<ChunkAccess> chunkMap = new Long2ObjectOpenHashMap<>();
         private final Set<NETWORK> networksFound = new ObjectOpenHashSet<>();
         private final Set<BlockPos> iterated = new ObjectOpenHashSet<>();
-        private final Deque<BlockPos> queue = new LinkedList<>();
+        private final Deque<BlockPos> queue = new ArrayDeque<>();
         private final TRANSMITTER startPoint;
         private final Level world;
 
@@ -9,6 +9,7 @@ import java.util.Map.Entry;
 import java.util.Set;
 import mekanism.common.content.network.transmitter.Transmitter;
 import mekanism.common.lib.transmitter.TransmitterNetworkRegistry;
+import mekanism.common.util.EnumUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraftforge.common.util.LazyOptional;
@@ -34,6 +35,21 @@ public class NetworkAcceptorCache<ACCEPTOR> {
         }
     }
 
+    /**
+     * Removes all acceptors that were cached for the given transmitter. Used when a transmitter leaves the network without the network being rebuilt.
+     */
+    public void removeTransmitter(Transmitter<ACCEPTOR, ?, ?> transmitter) {
+        BlockPos pos = transmitter.getTilePos();
+        for (Direction side : EnumUtils.DIRECTIONS) {
+            BlockPos acceptorPos = pos.relative(side);
+            Map<Direction, LazyOptional<ACCEPTOR>> cached = cachedAcceptors.get(acceptorPos);
+            if (cached != null && cached.remove(side.getOpposite()) != null && cached.isEmpty()) {
+                cachedAcceptors.remove(acceptorPos);
+            }
+        }
+        changedAcceptors.remove(transmitter);
+    }
+
     public void adoptAcceptors(NetworkAcceptorCache<ACCEPTOR> other) {
         for (Entry<BlockPos, Map<Direction, LazyOptional<ACCEPTOR>>> entry : other.cachedAcceptors.entrySet()) {
             BlockPos pos = entry.getKey();
@@ -33,6 +33,7 @@ import mekanism.common.network.to_server.PacketOpenGui;
 import mekanism.common.network.to_server.PacketPortableTeleporterTeleport;
 import mekanism.common.network.to_server.PacketQIOFillCraftingWindow;
 import mekanism.common.network.to_server.PacketQIOItemViewerSlotInteract;
+import mekanism.common.network.to_server.PacketQIOItemViewerWindow;
 import mekanism.common.network.to_server.PacketRadialModeChange;
 import mekanism.common.network.to_server.PacketRemoveModule;
 import mekanism.common.network.to_server.PacketRobit;
@@ -72,6 +73,7 @@ public class PacketHandler extends BasePacketHandler {
         registerClientToServer(PacketPortableTeleporterTeleport.class, PacketPortableTeleporterTeleport::decode);
         registerClientToServer(PacketQIOFillCraftingWindow.class, PacketQIOFillCraftingWindow::decode);
         registerClientToServer(PacketQIOItemViewerSlotInteract.class, PacketQIOItemViewerSlotInteract::decode);
+        registerClientToServer(PacketQIOItemViewerWindow.class, PacketQIOItemViewerWindow::decode);
         registerClientToServer(PacketRadialModeChange.class, PacketRadialModeChange::decode);
         registerClientToServer(PacketRemoveModule.class, PacketRemoveModule::decode);
         registerClientToServer(PacketRobit.class, PacketRobit::decode);
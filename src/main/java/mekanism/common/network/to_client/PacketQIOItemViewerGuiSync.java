@@ -1,8 +1,12 @@
 package mekanism.common.network.to_client;
 
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import javax.annotation.Nullable;
 import mekanism.common.inventory.container.QIOItemViewerContainer;
+import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.lib.inventory.HashedItem.UUIDAwareHashedItem;
 import mekanism.common.network.BasePacketHandler;
 import mekanism.common.network.IMekanismPacket;
@@ -13,28 +17,86 @@ import net.minecraftforge.network.NetworkEvent;
 
 public class PacketQIOItemViewerGuiSync implements IMekanismPacket {
 
+    //Flags stored in the lowest bits of the header of each change, the id of the item type is stored in the remaining bits
+    private static final int TYPE_INCLUDED = 1;
+    private static final int REMOVED = 2;
+
     private final Type type;
-    private final Object2LongMap<UUIDAwareHashedItem> itemMap;
     private final long countCapacity;
     private final int typeCapacity;
+    //Server side: the changes already encoded, so that they only have to be encoded once no matter how many players they get sent to
+    private final int changeCount;
+    private final byte[] encodedChanges;
+    //Client side: the decoded changes
+    private final List<ItemChange> changes;
 
-    private PacketQIOItemViewerGuiSync(Type type, Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
+    private PacketQIOItemViewerGuiSync(Type type, long countCapacity, int typeCapacity, int changeCount, byte[] encodedChanges) {
         this.type = type;
-        this.itemMap = itemMap;
         this.countCapacity = countCapacity;
         this.typeCapacity = typeCapacity;
+        this.changeCount = changeCount;
+        this.encodedChanges = encodedChanges;
+        this.changes = Collections.emptyList();
     }
 
-    public static PacketQIOItemViewerGuiSync batch(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        return new PacketQIOItemViewerGuiSync(Type.BATCH, itemMap, countCapacity, typeCapacity);
+    private PacketQIOItemViewerGuiSync(Type type, long countCapacity, int typeCapacity, List<ItemChange> changes) {
+        this.type = type;
+        this.countCapacity = countCapacity;
+        this.typeCapacity = typeCapacity;
+        this.changeCount = changes.size();
+        this.encodedChanges = null;
+        this.changes = changes;
     }
 
-    public static PacketQIOItemViewerGuiSync update(Object2LongMap<UUIDAwareHashedItem> itemMap, long countCapacity, int typeCapacity) {
-        return new PacketQIOItemViewerGuiSync(Type.UPDATE, itemMap, countCapacity, typeCapacity);
+    /**
+     * @param changeCount    Number of changes that have been written to encodedChanges.
+     * @param encodedChanges Changes written by {@link #writeChange(FriendlyByteBuf, int, HashedItem, UUID, long)}, each of which has to include the item type and have
+     *                       the full count of the item type as its change.
+     */
+    public static PacketQIOItemViewerGuiSync batch(long countCapacity, int typeCapacity, int changeCount, byte[] encodedChanges) {
+        return new PacketQIOItemViewerGuiSync(Type.BATCH, countCapacity, typeCapacity, changeCount, encodedChanges);
+    }
+
+    /**
+     * @param changeCount    Number of changes that have been written to encodedChanges.
+     * @param encodedChanges Changes written by {@link #writeChange(FriendlyByteBuf, int, HashedItem, UUID, long)} and {@link #writeRemoval(FriendlyByteBuf, int)}.
+     */
+    public static PacketQIOItemViewerGuiSync update(long countCapacity, int typeCapacity, int changeCount, byte[] encodedChanges) {
+        return new PacketQIOItemViewerGuiSync(Type.UPDATE, countCapacity, typeCapacity, changeCount, encodedChanges);
     }
 
     public static PacketQIOItemViewerGuiSync kill() {
-        return new PacketQIOItemViewerGuiSync(Type.UPDATE, null, 0, 0);
+        return new PacketQIOItemViewerGuiSync(Type.KILL, 0, 0, Collections.emptyList());
+    }
+
+    /**
+     * Writes a change to the count of an item type. Item types are referred to by their id, and the item type itself only has to be written if the client does not
+     * know about the id yet.
+     *
+     * @param id          Id of the item type.
+     * @param itemType    The item type if the client does not know about the id yet, otherwise {@code null}.
+     * @param uuid        UUID of the item type, only written if the item type is.
+     * @param countChange Amount the count of the item type changed by since the client was last sent it, or the full count if the client does not know about the id
+     *                    yet.
+     */
+    public static void writeChange(FriendlyByteBuf buffer, int id, @Nullable HashedItem itemType, @Nullable UUID uuid, long countChange) {
+        buffer.writeVarInt(itemType == null ? id << 2 : id << 2 | TYPE_INCLUDED);
+        if (itemType != null) {
+            buffer.writeItem(itemType.getStack());
+            //Shouldn't be null unless something failed, but if it does try to handle it relatively gracefully
+            BasePacketHandler.writeOptional(buffer, uuid, FriendlyByteBuf::writeUUID);
+        }
+        //Zigzag encode the change so that small decreases don't take up the full ten bytes of a negative var long
+        buffer.writeVarLong(countChange << 1 ^ countChange >> 63);
+    }
+
+    /**
+     * Writes that an item type was removed, after which the client will no longer be sent any changes for the id.
+     *
+     * @param id Id of the item type.
+     */
+    public static void writeRemoval(FriendlyByteBuf buffer, int id) {
+        buffer.writeVarInt(id << 2 | REMOVED);
     }
 
     @Override
@@ -42,8 +104,8 @@ public class PacketQIOItemViewerGuiSync implements IMekanismPacket {
         LocalPlayer player = Minecraft.getInstance().player;
         if (player != null && player.containerMenu instanceof QIOItemViewerContainer container) {
             switch (type) {
-                case BATCH -> container.handleBatchUpdate(itemMap, countCapacity, typeCapacity);
-                case UPDATE -> container.handleUpdate(itemMap, countCapacity, typeCapacity);
+                case BATCH -> container.handleBatchUpdate(changes, countCapacity, typeCapacity);
+                case UPDATE -> container.handleUpdate(changes, countCapacity, typeCapacity);
                 case KILL -> container.handleKill();
             }
         }
@@ -55,12 +117,8 @@ public class PacketQIOItemViewerGuiSync implements IMekanismPacket {
         if (type == Type.BATCH || type == Type.UPDATE) {
             buffer.writeVarLong(countCapacity);
             buffer.writeVarInt(typeCapacity);
-            BasePacketHandler.writeMap(buffer, itemMap, (key, value, buf) -> {
-                buf.writeItem(key.getStack());
-                //Shouldn't be null unless something failed, but if it does try to handle it relatively gracefully
-                BasePacketHandler.writeOptional(buf, key.getUUID(), FriendlyByteBuf::writeUUID);
-                buf.writeVarLong(value);
-            });
+            buffer.writeVarInt(changeCount);
+            buffer.writeBytes(encodedChanges);
         }
     }
 
@@ -68,14 +126,35 @@ public class PacketQIOItemViewerGuiSync implements IMekanismPacket {
         Type type = buffer.readEnum(Type.class);
         long countCapacity = 0;
         int typeCapacity = 0;
-        Object2LongMap<UUIDAwareHashedItem> map = null;
+        List<ItemChange> changes = Collections.emptyList();
         if (type == Type.BATCH || type == Type.UPDATE) {
             countCapacity = buffer.readVarLong();
             typeCapacity = buffer.readVarInt();
-            map = BasePacketHandler.readMap(buffer, Object2LongOpenHashMap::new,
-                  buf -> new UUIDAwareHashedItem(buf.readItem(), BasePacketHandler.readOptional(buf, FriendlyByteBuf::readUUID)), FriendlyByteBuf::readVarLong);
+            int changeCount = buffer.readVarInt();
+            changes = new ArrayList<>(changeCount);
+            for (int i = 0; i < changeCount; i++) {
+                int header = buffer.readVarInt();
+                if ((header & REMOVED) != 0) {
+                    changes.add(new ItemChange(header >>> 2, null, true, 0));
+                    continue;
+                }
+                UUIDAwareHashedItem itemType = null;
+                if ((header & TYPE_INCLUDED) != 0) {
+                    itemType = new UUIDAwareHashedItem(buffer.readItem(), BasePacketHandler.readOptional(buffer, FriendlyByteBuf::readUUID));
+                }
+                long encodedChange = buffer.readVarLong();
+                changes.add(new ItemChange(header >>> 2, itemType, false, encodedChange >>> 1 ^ -(encodedChange & 1)));
+            }
         }
-        return new PacketQIOItemViewerGuiSync(type, map, countCapacity, typeCapacity);
+        return new PacketQIOItemViewerGuiSync(type, countCapacity, typeCapacity, changes);
+    }
+
+    /**
+     * @param itemType    The item type, or {@code null} if the server expects the client to already know the item type that corresponds to the id.
+     * @param removed     {@code true} if the item type was removed.
+     * @param countChange Amount to change the count of the item type by, if the item type is included this is the full count.
+     */
+    public record ItemChange(int id, @Nullable UUIDAwareHashedItem itemType, boolean removed, long countChange) {
     }
 
     public enum Type {
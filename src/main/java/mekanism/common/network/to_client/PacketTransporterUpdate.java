@@ -4,10 +4,14 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import mekanism.common.content.network.transmitter.DiversionTransporter;
 import mekanism.common.content.network.transmitter.DiversionTransporter.DiversionControl;
 import mekanism.common.content.network.transmitter.LogisticalTransporterBase;
 import mekanism.common.content.transporter.TransporterStack;
+import mekanism.common.content.transporter.TransporterUpdateBatcher.TransporterChanges;
 import mekanism.common.network.BasePacketHandler;
 import mekanism.common.network.IMekanismPacket;
 import mekanism.common.tile.transmitter.TileEntityLogisticalTransporterBase;
@@ -16,117 +20,97 @@ import mekanism.common.util.WorldUtils;
 import net.minecraft.client.Minecraft;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraftforge.network.NetworkEvent;
 
+/**
+ * Batched changes to the stacks of all the logistical transporters in a single chunk that changed during a tick.
+ */
 public class PacketTransporterUpdate implements IMekanismPacket {
 
-    //Generic
-    private final boolean isDiversion;
-    private final boolean isSync;
-    private final BlockPos pos;
+    private final ChunkPos chunkPos;
+    private final Collection<TransporterChanges> changes;
+    //Client side, the modes of any diversion transporters, indexed the same as changes
+    private List<DiversionControl[]> modes;
 
-    private LogisticalTransporterBase transporter;
-    private DiversionControl[] modes;
-
-    //Sync
-    private int stackId;
-    private TransporterStack stack;
-    //Batch
-    private Int2ObjectMap<TransporterStack> updates;
-    private IntSet deletes;
-
-    public PacketTransporterUpdate(LogisticalTransporterBase tile, int stackId, TransporterStack stack) {
-        this(tile, true);
-        this.stackId = stackId;
-        this.stack = stack;
-    }
-
-    public PacketTransporterUpdate(LogisticalTransporterBase tile, Int2ObjectMap<TransporterStack> updates, IntSet deletes) {
-        this(tile, false);
-        this.updates = updates;
-        this.deletes = deletes;
-    }
-
-    private PacketTransporterUpdate(LogisticalTransporterBase transporter, boolean isSync) {
-        this.isSync = isSync;
-        this.pos = transporter.getTilePos();
-        this.isDiversion = transporter instanceof DiversionTransporter;
-        if (this.isDiversion) {
-            this.modes = ((DiversionTransporter) transporter).modes;
-        }
-        this.transporter = transporter;
-    }
-
-    private PacketTransporterUpdate(BlockPos pos, boolean isSync, boolean isDiversion) {
-        this.pos = pos;
-        this.isSync = isSync;
-        this.isDiversion = isDiversion;
+    public PacketTransporterUpdate(ChunkPos chunkPos, Collection<TransporterChanges> changes) {
+        this.chunkPos = chunkPos;
+        this.changes = changes;
     }
 
     @Override
     public void handle(NetworkEvent.Context context) {
-        TileEntityLogisticalTransporterBase tile = WorldUtils.getTileEntity(TileEntityLogisticalTransporterBase.class, Minecraft.getInstance().level, pos);
-        if (tile != null) {
-            LogisticalTransporterBase transporter = tile.getTransmitter();
-            if (isSync) {
-                transporter.addStack(stackId, stack);
-            } else {
-                for (Int2ObjectMap.Entry<TransporterStack> entry : updates.int2ObjectEntrySet()) {
+        int index = 0;
+        for (TransporterChanges change : changes) {
+            DiversionControl[] diversionModes = modes.get(index++);
+            TileEntityLogisticalTransporterBase tile = WorldUtils.getTileEntity(TileEntityLogisticalTransporterBase.class, Minecraft.getInstance().level, change.pos);
+            if (tile != null) {
+                LogisticalTransporterBase transporter = tile.getTransmitter();
+                for (Int2ObjectMap.Entry<TransporterStack> entry : change.updates.int2ObjectEntrySet()) {
                     transporter.addStack(entry.getIntKey(), entry.getValue());
                 }
-                for (int toDelete : deletes) {
+                for (int toDelete : change.deletes) {
                     transporter.deleteStack(toDelete);
                 }
-            }
-            if (isDiversion && transporter instanceof DiversionTransporter diversionTransporter) {
-                //Copy the values of modes, without replacing the actual array
-                System.arraycopy(modes, 0, diversionTransporter.modes, 0, modes.length);
+                if (diversionModes != null && transporter instanceof DiversionTransporter diversionTransporter) {
+                    //Copy the values of modes, without replacing the actual array
+                    System.arraycopy(diversionModes, 0, diversionTransporter.modes, 0, diversionModes.length);
+                }
             }
         }
     }
 
     @Override
     public void encode(FriendlyByteBuf buffer) {
-        buffer.writeBlockPos(pos);
-        buffer.writeBoolean(isSync);
-        buffer.writeBoolean(isDiversion);
-        if (isSync) {
-            //Sync
-            buffer.writeVarInt(stackId);
-            stack.write(transporter, buffer);
-        } else {
-            //Batch
-            BasePacketHandler.writeMap(buffer, updates, (key, value, buf) -> {
+        buffer.writeVarInt(chunkPos.x);
+        buffer.writeVarInt(chunkPos.z);
+        buffer.writeVarInt(changes.size());
+        for (TransporterChanges change : changes) {
+            LogisticalTransporterBase transporter = change.transporter;
+            //Note: We only need to write the position within the chunk, which fits in a single byte, and the y level
+            buffer.writeByte((change.pos.getX() & 15) << 4 | change.pos.getZ() & 15);
+            buffer.writeVarInt(change.pos.getY());
+            BasePacketHandler.writeMap(buffer, change.updates, (key, value, buf) -> {
                 buf.writeVarInt(key);
                 value.write(transporter, buf);
             });
-            buffer.writeCollection(deletes, FriendlyByteBuf::writeVarInt);
-        }
-        if (isDiversion) {
-            //Note: Doesn't make use of read/write array as we know the size so can skip sending it
-            for (DiversionControl mode : modes) {
-                buffer.writeEnum(mode);
+            buffer.writeCollection(change.deletes, FriendlyByteBuf::writeVarInt);
+            if (transporter instanceof DiversionTransporter diversionTransporter) {
+                buffer.writeBoolean(true);
+                //Note: Doesn't make use of read/write array as we know the size so can skip sending it
+                for (DiversionControl mode : diversionTransporter.modes) {
+                    buffer.writeEnum(mode);
+                }
+            } else {
+                buffer.writeBoolean(false);
             }
         }
     }
 
     public static PacketTransporterUpdate decode(FriendlyByteBuf buffer) {
-        PacketTransporterUpdate packet = new PacketTransporterUpdate(buffer.readBlockPos(), buffer.readBoolean(), buffer.readBoolean());
-        if (packet.isSync) {
-            //Sync
-            packet.stackId = buffer.readVarInt();
-            packet.stack = TransporterStack.readFromPacket(buffer);
-        } else {
-            //Batch
-            packet.updates = BasePacketHandler.readMap(buffer, Int2ObjectOpenHashMap::new, FriendlyByteBuf::readVarInt, TransporterStack::readFromPacket);
-            packet.deletes = buffer.readCollection(IntOpenHashSet::new, FriendlyByteBuf::readVarInt);
-        }
-        if (packet.isDiversion) {
-            packet.modes = new DiversionControl[EnumUtils.DIRECTIONS.length];
-            for (int i = 0; i < packet.modes.length; i++) {
-                packet.modes[i] = buffer.readEnum(DiversionControl.class);
+        ChunkPos chunkPos = new ChunkPos(buffer.readVarInt(), buffer.readVarInt());
+        int size = buffer.readVarInt();
+        List<TransporterChanges> changes = new ArrayList<>(size);
+        List<DiversionControl[]> modes = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int packedXZ = buffer.readUnsignedByte();
+            BlockPos pos = new BlockPos(chunkPos.getMinBlockX() + (packedXZ >> 4), buffer.readVarInt(), chunkPos.getMinBlockZ() + (packedXZ & 15));
+            Int2ObjectMap<TransporterStack> updates = BasePacketHandler.readMap(buffer, Int2ObjectOpenHashMap::new, FriendlyByteBuf::readVarInt,
+                  TransporterStack::readFromPacket);
+            IntSet deletes = buffer.readCollection(IntOpenHashSet::new, FriendlyByteBuf::readVarInt);
+            changes.add(new TransporterChanges(pos, null, updates, deletes));
+            if (buffer.readBoolean()) {
+                DiversionControl[] diversionModes = new DiversionControl[EnumUtils.DIRECTIONS.length];
+                for (int j = 0; j < diversionModes.length; j++) {
+                    diversionModes[j] = buffer.readEnum(DiversionControl.class);
+                }
+                modes.add(diversionModes);
+            } else {
+                modes.add(null);
             }
         }
+        PacketTransporterUpdate packet = new PacketTransporterUpdate(chunkPos, changes);
+        packet.modes = modes;
         return packet;
     }
 }
\ No newline at end of file
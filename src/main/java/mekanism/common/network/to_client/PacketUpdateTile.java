@@ -1,5 +1,7 @@
 package mekanism.common.network.to_client;
 
+import java.util.List;
+import javax.annotation.Nullable;
 import mekanism.common.Mekanism;
 import mekanism.common.network.IMekanismPacket;
 import mekanism.common.tile.base.TileEntityUpdateable;
@@ -15,14 +17,24 @@ public class PacketUpdateTile implements IMekanismPacket {
 
     private final CompoundTag updateTag;
     private final BlockPos pos;
+    /**
+     * Keys that were removed from the update tag, or {@code null} if this packet contains the full update tag instead of just the elements that changed.
+     */
+    @Nullable
+    private final List<String> removedKeys;
 
-    public PacketUpdateTile(TileEntityUpdateable tile) {
-        this(tile.getBlockPos(), tile.getReducedUpdateTag());
+    public PacketUpdateTile(BlockPos pos, CompoundTag updateTag) {
+        this(pos, updateTag, null);
     }
 
-    private PacketUpdateTile(BlockPos pos, CompoundTag updateTag) {
+    /**
+     * @param changed     Elements of the update tag that changed.
+     * @param removedKeys Keys that were removed from the update tag.
+     */
+    public PacketUpdateTile(BlockPos pos, CompoundTag changed, @Nullable List<String> removedKeys) {
         this.pos = pos;
-        this.updateTag = updateTag;
+        this.updateTag = changed;
+        this.removedKeys = removedKeys;
     }
 
     @Override
@@ -34,8 +46,10 @@ public class PacketUpdateTile implements IMekanismPacket {
             if (tile == null) {
                 Mekanism.logger.warn("Update tile packet received for position: {} in world: {}, but no valid tile was found.", pos,
                       world.dimension().location());
+            } else if (removedKeys == null) {
+                tile.handleFullUpdatePacket(updateTag);
             } else {
-                tile.handleUpdatePacket(updateTag);
+                tile.handlePartialUpdatePacket(updateTag, removedKeys);
             }
         }
     }
@@ -44,9 +58,16 @@ public class PacketUpdateTile implements IMekanismPacket {
     public void encode(FriendlyByteBuf buffer) {
         buffer.writeBlockPos(pos);
         buffer.writeNbt(updateTag);
+        buffer.writeBoolean(removedKeys != null);
+        if (removedKeys != null) {
+            buffer.writeCollection(removedKeys, FriendlyByteBuf::writeUtf);
+        }
     }
 
     public static PacketUpdateTile decode(FriendlyByteBuf buffer) {
-        return new PacketUpdateTile(buffer.readBlockPos(), buffer.readNbt());
+        BlockPos pos = buffer.readBlockPos();
+        CompoundTag updateTag = buffer.readNbt();
+        List<String> removedKeys = buffer.readBoolean() ? buffer.readList(FriendlyByteBuf::readUtf) : null;
+        return new PacketUpdateTile(pos, updateTag == null ? new CompoundTag() : updateTag, removedKeys);
     }
 }
\ No newline at end of file
@@ -34,15 +34,25 @@ public class PacketUpdateContainer implements IMekanismPacket {
     @Override
     public void encode(FriendlyByteBuf buffer) {
         buffer.writeByte(windowId);
-        buffer.writeCollection(data, (buf, data) -> data.writeToPacket(buf));
+        buffer.writeVarInt(data.size());
+        //Note: The data is added in order of the property index, so we write each index as the distance to the previous one
+        // which means that it almost always fits in a single byte
+        int lastProperty = 0;
+        for (PropertyData propertyData : data) {
+            buffer.writeVarInt(propertyData.getProperty() - lastProperty);
+            lastProperty = propertyData.getProperty();
+            propertyData.writeToPacket(buffer);
+        }
     }
 
     public static PacketUpdateContainer decode(FriendlyByteBuf buffer) {
         short windowId = buffer.readUnsignedByte();
         int size = buffer.readVarInt();
         List<PropertyData> data = new ArrayList<>(size);
+        short lastProperty = 0;
         for (int i = 0; i < size; i++) {
-            PropertyData propertyData = PropertyData.fromBuffer(buffer);
+            lastProperty += buffer.readVarInt();
+            PropertyData propertyData = PropertyData.fromBuffer(lastProperty, buffer);
             if (propertyData != null) {
                 data.add(propertyData);
             }
@@ -23,14 +23,16 @@ public abstract class PropertyData {
 
     public abstract void handleWindowProperty(MekanismContainer container);
 
+    /**
+     * Writes the type and value of this property data. The property index is written by {@link mekanism.common.network.to_client.container.PacketUpdateContainer} so
+     * that it can be encoded relative to the previous property in the packet.
+     */
     public void writeToPacket(FriendlyByteBuf buffer) {
         buffer.writeEnum(type);
-        buffer.writeShort(property);
     }
 
-    public static PropertyData fromBuffer(FriendlyByteBuf buffer) {
+    public static PropertyData fromBuffer(short property, FriendlyByteBuf buffer) {
         PropertyType type = buffer.readEnum(PropertyType.class);
-        short property = buffer.readShort();
         return type.createData(property, buffer);
     }
 }
\ No newline at end of file
@@ -12,9 +12,13 @@ public class FilterListPropertyData<FILTER extends IFilter<?>> extends ListPrope
         super(property, ListType.FILTER, values);
     }
 
+    public FilterListPropertyData(short property, @Nonnull List<FILTER> values, int changeStart, int changeRemoved) {
+        super(property, ListType.FILTER, values, changeStart, changeRemoved);
+    }
+
     @SuppressWarnings("unchecked")
-    static <FILTER extends IFilter<?>> FilterListPropertyData<FILTER> read(short property, ListPropertyReader<FILTER> reader) {
-        return new FilterListPropertyData<>(property, reader.apply(buf -> (FILTER) BaseFilter.readFromPacket(buf)));
+    static <FILTER extends IFilter<?>> FilterListPropertyData<FILTER> read(short property, int changeStart, int changeRemoved, ListPropertyReader<FILTER> reader) {
+        return new FilterListPropertyData<>(property, reader.apply(buf -> (FILTER) BaseFilter.readFromPacket(buf)), changeStart, changeRemoved);
     }
 
     @Override
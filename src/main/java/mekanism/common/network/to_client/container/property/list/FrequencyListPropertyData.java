@@ -11,8 +11,13 @@ public class FrequencyListPropertyData<FREQUENCY extends Frequency> extends List
         super(property, ListType.FREQUENCY, values);
     }
 
-    static <FREQUENCY extends Frequency> FrequencyListPropertyData<FREQUENCY> read(short property, ListPropertyReader<FREQUENCY> reader) {
-        return new FrequencyListPropertyData<>(property, reader.apply(Frequency::readFromPacket));
+    public FrequencyListPropertyData(short property, @Nonnull List<FREQUENCY> values, int changeStart, int changeRemoved) {
+        super(property, ListType.FREQUENCY, values, changeStart, changeRemoved);
+    }
+
+    static <FREQUENCY extends Frequency> FrequencyListPropertyData<FREQUENCY> read(short property, int changeStart, int changeRemoved,
+          ListPropertyReader<FREQUENCY> reader) {
+        return new FrequencyListPropertyData<>(property, reader.apply(Frequency::readFromPacket), changeStart, changeRemoved);
     }
 
     @Override
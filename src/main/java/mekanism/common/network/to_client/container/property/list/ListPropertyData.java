@@ -13,32 +13,53 @@ public abstract class ListPropertyData<TYPE> extends PropertyData {
     @Nonnull
     protected final List<TYPE> values;
     private final ListType listType;
+    //Index of the first element that got replaced by the values, or -1 if the values are the full list
+    private final int changeStart;
+    private final int changeRemoved;
 
     public ListPropertyData(short property, ListType listType, @Nonnull List<TYPE> values) {
+        this(property, listType, values, -1, 0);
+    }
+
+    public ListPropertyData(short property, ListType listType, @Nonnull List<TYPE> values, int changeStart, int changeRemoved) {
         super(PropertyType.LIST, property);
         this.listType = listType;
         this.values = values;
+        this.changeStart = changeStart;
+        this.changeRemoved = changeRemoved;
     }
 
     @SuppressWarnings("unchecked")
     public static <TYPE> ListPropertyData<TYPE> readList(short property, FriendlyByteBuf buffer) {
-        return (ListPropertyData<TYPE>) switch (buffer.readEnum(ListType.class)) {
-            case STRING -> StringListPropertyData.read(property, buffer::readList);
-            case FILTER -> FilterListPropertyData.read(property, buffer::readList);
-            case FREQUENCY -> FrequencyListPropertyData.read(property, buffer::readList);
-            case REGISTRY_ENTRY -> RegistryEntryListPropertyData.read(property, buffer::readList);
+        ListType listType = buffer.readEnum(ListType.class);
+        int changeStart = buffer.readVarInt() - 1;
+        int changeRemoved = changeStart == -1 ? 0 : buffer.readVarInt();
+        return (ListPropertyData<TYPE>) switch (listType) {
+            case STRING -> StringListPropertyData.read(property, changeStart, changeRemoved, buffer::readList);
+            case FILTER -> FilterListPropertyData.read(property, changeStart, changeRemoved, buffer::readList);
+            case FREQUENCY -> FrequencyListPropertyData.read(property, changeStart, changeRemoved, buffer::readList);
+            case REGISTRY_ENTRY -> RegistryEntryListPropertyData.read(property, changeStart, changeRemoved, buffer::readList);
         };
     }
 
     @Override
     public void handleWindowProperty(MekanismContainer container) {
-        container.handleWindowProperty(getProperty(), values);
+        if (changeStart == -1) {
+            container.handleWindowProperty(getProperty(), values);
+        } else {
+            container.handleWindowPropertyChange(getProperty(), changeStart, changeRemoved, values);
+        }
     }
 
     @Override
     public void writeToPacket(FriendlyByteBuf buffer) {
         super.writeToPacket(buffer);
         buffer.writeEnum(listType);
+        //Offset the start by one so that full lists (-1) only take a single byte
+        buffer.writeVarInt(changeStart + 1);
+        if (changeStart != -1) {
+            buffer.writeVarInt(changeRemoved);
+        }
         buffer.writeCollection(values, this::writeListElement);
     }
 
@@ -12,8 +12,12 @@ public class RegistryEntryListPropertyData<V extends IForgeRegistryEntry<V>> ext
         super(property, ListType.REGISTRY_ENTRY, values);
     }
 
-    static <V extends IForgeRegistryEntry<V>> RegistryEntryListPropertyData<V> read(short property, ListPropertyReader<V> reader) {
-        return new RegistryEntryListPropertyData<>(property, reader.apply(IForgeFriendlyByteBuf::readRegistryId));
+    public RegistryEntryListPropertyData(short property, @Nonnull List<V> values, int changeStart, int changeRemoved) {
+        super(property, ListType.REGISTRY_ENTRY, values, changeStart, changeRemoved);
+    }
+
+    static <V extends IForgeRegistryEntry<V>> RegistryEntryListPropertyData<V> read(short property, int changeStart, int changeRemoved, ListPropertyReader<V> reader) {
+        return new RegistryEntryListPropertyData<>(property, reader.apply(IForgeFriendlyByteBuf::readRegistryId), changeStart, changeRemoved);
     }
 
     @Override
@@ -11,8 +11,12 @@ public class StringListPropertyData extends ListPropertyData<String> {
         super(property, ListType.STRING, values);
     }
 
-    static StringListPropertyData read(short property, ListPropertyReader<String> reader) {
-        return new StringListPropertyData(property, reader.apply(BasePacketHandler::readString));
+    public StringListPropertyData(short property, @Nonnull List<String> values, int changeStart, int changeRemoved) {
+        super(property, ListType.STRING, values, changeStart, changeRemoved);
+    }
+
+    static StringListPropertyData read(short property, int changeStart, int changeRemoved, ListPropertyReader<String> reader) {
+        return new StringListPropertyData(property, reader.apply(BasePacketHandler::readString), changeStart, changeRemoved);
     }
 
     @Override
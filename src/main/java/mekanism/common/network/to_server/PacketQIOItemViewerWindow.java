@@ -0,0 +1,53 @@
+package mekanism.common.network.to_server;
+
+import it.unimi.dsi.fastutil.ints.IntIterator;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import mekanism.common.content.qio.QIOFrequency;
+import mekanism.common.inventory.container.QIOItemViewerContainer;
+import mekanism.common.network.IMekanismPacket;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.network.NetworkEvent;
+
+/**
+ * Lets the server know which item types a player is currently able to see in their QIO item viewer, so that when windowed viewer sync is enabled the server only has
+ * to sync changes in count for those item types.
+ */
+public class PacketQIOItemViewerWindow implements IMekanismPacket {
+
+    private final IntSet visibleTypes;
+
+    public PacketQIOItemViewerWindow(IntSet visibleTypes) {
+        this.visibleTypes = visibleTypes;
+    }
+
+    @Override
+    public void handle(NetworkEvent.Context context) {
+        ServerPlayer player = context.getSender();
+        if (player != null && player.containerMenu instanceof QIOItemViewerContainer container) {
+            QIOFrequency freq = container.getFrequency();
+            if (freq != null) {
+                freq.updateItemViewerWindow(player, visibleTypes);
+            }
+        }
+    }
+
+    @Override
+    public void encode(FriendlyByteBuf buffer) {
+        buffer.writeVarInt(visibleTypes.size());
+        for (IntIterator iter = visibleTypes.iterator(); iter.hasNext(); ) {
+            buffer.writeVarInt(iter.nextInt());
+        }
+    }
+
+    public static PacketQIOItemViewerWindow decode(FriendlyByteBuf buffer) {
+        int size = buffer.readVarInt();
+        //Note: We don't trust the size to pre-size the set, so that a client can't make us allocate a large set
+        IntSet visibleTypes = new IntOpenHashSet();
+        for (int i = 0; i < size; i++) {
+            visibleTypes.add(buffer.readVarInt());
+        }
+        return new PacketQIOItemViewerWindow(visibleTypes);
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Optional;
 import java.util.function.Function;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import mekanism.api.MekanismAPI;
 import mekanism.api.chemical.gas.Gas;
 import mekanism.api.chemical.gas.GasStack;
 import mekanism.api.chemical.infuse.InfuseType;
@@ -46,6 +47,7 @@ import mekanism.api.recipes.ingredients.creator.IngredientCreatorAccess;
 import mekanism.client.MekanismClient;
 import mekanism.common.Mekanism;
 import mekanism.common.recipe.impl.SmeltingIRecipe;
+import mekanism.common.recipe.lookup.cache.AbstractInputRecipeCache;
 import mekanism.common.recipe.lookup.cache.ChemicalCrystallizerInputRecipeCache;
 import mekanism.common.recipe.lookup.cache.IInputRecipeCache;
 import mekanism.common.recipe.lookup.cache.InputRecipeCache.DoubleItem;
@@ -56,6 +58,7 @@ import mekanism.common.recipe.lookup.cache.InputRecipeCache.ItemFluidChemical;
 import mekanism.common.recipe.lookup.cache.InputRecipeCache.SingleChemical;
 import mekanism.common.recipe.lookup.cache.InputRecipeCache.SingleFluid;
 import mekanism.common.recipe.lookup.cache.InputRecipeCache.SingleItem;
+import mekanism.common.recipe.lookup.cache.InputRecipeMemo;
 import mekanism.common.recipe.lookup.cache.RotaryInputRecipeCache;
 import mekanism.common.registration.impl.RecipeTypeDeferredRegister;
 import mekanism.common.registration.impl.RecipeTypeRegistryObject;
@@ -173,6 +176,7 @@ public class MekanismRecipeType<RECIPE extends MekanismRecipe, INPUT_CACHE exten
     private List<RECIPE> cachedRecipes = Collections.emptyList();
     private final ResourceLocation registryName;
     private final INPUT_CACHE inputCache;
+    private final InputRecipeMemo<RECIPE> factoryDecisions = new InputRecipeMemo<>();
 
     private MekanismRecipeType(String name, Function<MekanismRecipeType<RECIPE, INPUT_CACHE>, INPUT_CACHE> inputCacheCreator) {
         this.registryName = Mekanism.rl(name);
@@ -196,9 +200,29 @@ public class MekanismRecipeType<RECIPE extends MekanismRecipe, INPUT_CACHE exten
 
     private void clearCaches() {
         cachedRecipes = Collections.emptyList();
+        factoryDecisions.clear();
+        if (MekanismAPI.debug && inputCache instanceof AbstractInputRecipeCache<?> cache) {
+            long hits = cache.getMemoHits();
+            long misses = cache.getMemoMisses();
+            if (hits + misses > 0) {
+                Mekanism.logger.info("Recipe lookups for {}: {} memoized, {} looked up", registryName, hits, misses);
+            }
+        }
         inputCache.clear();
     }
 
+    /**
+     * Gets the first recipes of this recipe type that accept the types of the inputs factories recently looked up, keyed by the types of the main and secondary inputs.
+     * This is shared between all processes of all factories that use this recipe type so that factories processing the same items don't each have to look up the recipe
+     * for every process.
+     *
+     * @apiNote As these are the first recipes that accept the input types, they are only valid for a process if they are also valid for its outputs. Otherwise, a full
+     * lookup has to be done.
+     */
+    public InputRecipeMemo<RECIPE> getFactoryDecisions() {
+        return factoryDecisions;
+    }
+
     @Override
     public INPUT_CACHE getInputCache() {
         return inputCache;
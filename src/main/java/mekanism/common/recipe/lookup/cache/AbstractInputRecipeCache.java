@@ -9,6 +9,8 @@ import javax.annotation.Nullable;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.ingredients.InputIngredient;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.cache.InputRecipeMemo.Entry;
+import mekanism.common.recipe.lookup.cache.InputRecipeMemo.Key;
 import mekanism.common.recipe.lookup.cache.type.IInputCache;
 import net.minecraft.world.level.Level;
 
@@ -18,6 +20,9 @@ import net.minecraft.world.level.Level;
 public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe> implements IInputRecipeCache {
 
     protected final MekanismRecipeType<RECIPE, ?> recipeType;
+    protected final InputRecipeMemo<RECIPE> memo = new InputRecipeMemo<>();
+    //Note: Sized for the max number of inputs any of our recipe caches have
+    private final Key memoKey = new Key(3);
     protected boolean initialized;
 
     protected AbstractInputRecipeCache(MekanismRecipeType<RECIPE, ?> recipeType) {
@@ -28,6 +33,21 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe> im
     public void clear() {
         //Mark the cache as no longer being initialized
         initialized = false;
+        memo.clear();
+    }
+
+    /**
+     * @return Number of recipe lookups that were answered by the memo of recent lookups since the cache was last cleared.
+     */
+    public long getMemoHits() {
+        return memo.getHits();
+    }
+
+    /**
+     * @return Number of recipe lookups that had to check the cache since the cache was last cleared.
+     */
+    public long getMemoMisses() {
+        return memo.getMisses();
     }
 
     /**
@@ -35,11 +55,22 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe> im
      */
     protected void initCacheIfNeeded(@Nullable Level world) {
         if (!initialized) {
-            initialized = true;
-            initCache(recipeType.getRecipes(world));
+            initialize(recipeType.getRecipes(world));
         }
     }
 
+    /**
+     * Marks the cache as initialized and initializes it based on the given recipes.
+     *
+     * @param recipes Recipes to build the cache for.
+     *
+     * @apiNote Only exposed directly for cases that don't have a world to get the recipes from, such as benchmarks.
+     */
+    protected void initialize(List<RECIPE> recipes) {
+        initialized = true;
+        initCache(recipes);
+    }
+
     /**
      * Initializes the recipe cache based on the given recipes.
      *
@@ -55,6 +86,61 @@ public abstract class AbstractInputRecipeCache<RECIPE extends MekanismRecipe> im
         return recipes == null ? null : recipes.stream().filter(matchCriteria).findFirst().orElse(null);
     }
 
+    /**
+     * Gets the reusable key for querying the memo of recent lookups, so that the types of the inputs can be added to it.
+     *
+     * @return Empty key, or {@code null} if the memo can't be used from the current thread.
+     *
+     * @implNote Lookups from any thread other than the server thread, such as the client thread in single player, just don't make use of the memo.
+     */
+    @Nullable
+    protected Key getMemoKey() {
+        if (!InputRecipeMemo.canAccess()) {
+            return null;
+        }
+        memoKey.clear();
+        return memoKey;
+    }
+
+    /**
+     * Helper to look up a recipe making use of and updating the memo of recent lookups.
+     *
+     * @param key            Key representing the types of the inputs from {@link #getMemoKey()}, or {@code null} to not use the memo.
+     * @param matchPredicate Predicate that the recipe has to match.
+     * @param typePredicate  Predicate that checks if a recipe accepts the types of the inputs ignoring amounts.
+     * @param lookup         Looks up the first recipe that matches the given predicate. This must check recipes in the same order regardless of the predicate.
+     *
+     * @implNote We memoize the first recipe that accepts the types of the inputs. As none of the recipes before it can match inputs of this type, it is the recipe a full
+     * lookup would return whenever it matches the exact inputs, and if no recipe accepts the types of the inputs then no recipe can match them either. When the
+     * memoized recipe doesn't match the exact inputs (for example because there isn't enough of one of the inputs yet), a later recipe might still match, so we fall back
+     * to a single full lookup.
+     */
+    @Nullable
+    protected RECIPE findFirstRecipe(@Nullable Key key, Predicate<RECIPE> matchPredicate, Predicate<RECIPE> typePredicate,
+          Function<Predicate<RECIPE>, RECIPE> lookup) {
+        if (key == null) {
+            return lookup.apply(matchPredicate);
+        }
+        Entry<RECIPE> memoized = memo.find(key);
+        if (memoized != null) {
+            RECIPE recipe = memoized.recipe();
+            if (recipe == null || matchPredicate.test(recipe)) {
+                memo.markHit();
+                return recipe;
+            }
+            memo.markMiss();
+            return lookup.apply(matchPredicate);
+        }
+        memo.markMiss();
+        RECIPE firstTypeMatch = lookup.apply(typePredicate);
+        memo.put(key.copy(), firstTypeMatch);
+        if (firstTypeMatch == null || matchPredicate.test(firstTypeMatch)) {
+            return firstTypeMatch;
+        }
+        //Only happens the first time the inputs are looked up, after which we skip straight to the full lookup if the memoized recipe doesn't match
+        return lookup.apply(matchPredicate);
+    }
+
     /**
      * Helper to check if a cache contains a given input, or if not, if the complex recipe fallback set contains a matching recipe.
      */
@@ -11,6 +11,7 @@ import javax.annotation.Nullable;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.ingredients.InputIngredient;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.cache.InputRecipeMemo.Key;
 import mekanism.common.recipe.lookup.cache.type.IInputCache;
 import net.minecraft.world.level.Level;
 
@@ -143,16 +144,24 @@ public abstract class DoubleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
             return null;
         }
         initCacheIfNeeded(world);
-        Predicate<RECIPE> matchPredicate = r -> r.test(inputA, inputB);
-        //Lookup a recipe from the specified input map
-        RECIPE recipe;
-        if (useCacheA) {
-            recipe = cacheA.findFirstRecipe(inputA, matchPredicate);
-        } else {
-            recipe = cacheB.findFirstRecipe(inputB, matchPredicate);
+        Key memoKey = getMemoKey();
+        if (memoKey != null) {
+            cacheA.addToMemoKey(inputA, memoKey);
+            cacheB.addToMemoKey(inputB, memoKey);
         }
-        // if there is no recipe, then check if any of our complex recipes (either a or b being complex) match
-        return recipe == null ? findFirstRecipe(complexRecipes, matchPredicate) : recipe;
+        Predicate<RECIPE> matchPredicate = r -> r.test(inputA, inputB);
+        Predicate<RECIPE> typePredicate = r -> inputAExtractor.apply(r).testType(inputA) && inputBExtractor.apply(r).testType(inputB);
+        return findFirstRecipe(memoKey, matchPredicate, typePredicate, predicate -> {
+            //Lookup a recipe from the specified input map
+            RECIPE recipe;
+            if (useCacheA) {
+                recipe = cacheA.findFirstRecipe(inputA, predicate);
+            } else {
+                recipe = cacheB.findFirstRecipe(inputB, predicate);
+            }
+            // if there is no recipe, then check if any of our complex recipes (either a or b being complex) match
+            return recipe == null ? findFirstRecipe(complexRecipes, predicate) : recipe;
+        });
     }
 
     /**
@@ -10,6 +10,7 @@ import javax.annotation.Nullable;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.ingredients.InputIngredient;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.cache.InputRecipeMemo.Key;
 import mekanism.common.recipe.lookup.cache.type.IInputCache;
 import net.minecraft.world.level.Level;
 
@@ -115,12 +116,24 @@ public abstract class EitherSideInputRecipeCache<INPUT, INGREDIENT extends Input
             return null;
         }
         initCacheIfNeeded(world);
+        Key memoKey = getMemoKey();
+        if (memoKey != null) {
+            cache.addToMemoKey(inputA, memoKey);
+            cache.addToMemoKey(inputB, memoKey);
+        }
         //Note: The recipe's test method checks both directions
         Predicate<RECIPE> matchPredicate = r -> r.test(inputA, inputB);
-        //Lookup a recipe from the input map
-        RECIPE recipe = cache.findFirstRecipe(inputA, matchPredicate);
-        // if there is no recipe, then check if any of our complex recipes match
-        return recipe == null ? findFirstRecipe(complexRecipes, matchPredicate) : recipe;
+        Predicate<RECIPE> typePredicate = r -> {
+            INGREDIENT ingredientA = inputAExtractor.apply(r);
+            INGREDIENT ingredientB = inputBExtractor.apply(r);
+            return ingredientA.testType(inputA) && ingredientB.testType(inputB) || ingredientB.testType(inputA) && ingredientA.testType(inputB);
+        };
+        return findFirstRecipe(memoKey, matchPredicate, typePredicate, predicate -> {
+            //Lookup a recipe from the input map
+            RECIPE recipe = cache.findFirstRecipe(inputA, predicate);
+            // if there is no recipe, then check if any of our complex recipes match
+            return recipe == null ? findFirstRecipe(complexRecipes, predicate) : recipe;
+        });
     }
 
     @Override
@@ -0,0 +1,180 @@
+package mekanism.common.recipe.lookup.cache;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import java.util.Objects;
+import javax.annotation.Nullable;
+import mekanism.api.recipes.MekanismRecipe;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.server.MinecraftServer;
+import net.minecraftforge.server.ServerLifecycleHooks;
+
+/**
+ * Bounded memo of the results of recent recipe lookups, keyed by the types of the inputs (ignoring amounts). This allows machines that keep getting the same inputs,
+ * and especially ones that keep getting inputs that have no recipe, to skip checking the complex recipes every time their contents change.
+ *
+ * @apiNote What gets memoized and how memoized recipes get checked against the exact inputs is up to the caller, but it has to ensure that anything it memoizes is
+ * the same result a full lookup would return for any input of the same type that the recipe matches.
+ * @implNote This is not synchronized, and should only be accessed from the server thread. Use {@link #canAccess()} to check if that is the current thread.
+ */
+public class InputRecipeMemo<RECIPE extends MekanismRecipe> {
+
+    private static final int MAX_SIZE = 256;
+    private static final Entry<?> NO_RECIPE = new Entry<>(null);
+
+    private final Object2ObjectLinkedOpenHashMap<Object, Entry<RECIPE>> entries = new Object2ObjectLinkedOpenHashMap<>();
+    private long hits;
+    private long misses;
+
+    /**
+     * @return {@code true} if the current thread is the server thread, and memos can be accessed.
+     */
+    public static boolean canAccess() {
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        return server != null && server.isSameThread();
+    }
+
+    /**
+     * Looks up the memoized result for the given key.
+     *
+     * @param key Key representing the types of the inputs, may be a "raw" key as it is only used for querying.
+     *
+     * @return The memoized entry, or {@code null} if nothing is memoized for the key.
+     *
+     * @apiNote Callers should {@link #markHit() mark} whether the entry ended up being usable, as that depends on the exact inputs.
+     */
+    @Nullable
+    public Entry<RECIPE> find(Object key) {
+        return entries.getAndMoveToLast(key);
+    }
+
+    /**
+     * Marks that a lookup was able to use a memoized result.
+     */
+    public void markHit() {
+        hits++;
+    }
+
+    /**
+     * Marks that a lookup was not able to use a memoized result, and had to do a full lookup.
+     */
+    public void markMiss() {
+        misses++;
+    }
+
+    /**
+     * Memoizes the result of a lookup, evicting the least recently used entry if the memo is full.
+     *
+     * @param key    Key representing the types of the inputs. Must not be a "raw" key as we are persisting it.
+     * @param recipe The recipe that was found, or {@code null} if no recipe accepts the types of the inputs.
+     */
+    @SuppressWarnings("unchecked")
+    public void put(Object key, @Nullable RECIPE recipe) {
+        entries.putAndMoveToLast(key, recipe == null ? (Entry<RECIPE>) NO_RECIPE : new Entry<>(recipe));
+        if (entries.size() > MAX_SIZE) {
+            entries.removeFirst();
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+    /**
+     * @return Number of lookups that were able to use a memoized result since the memo was last cleared.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return Number of lookups that were not able to use a memoized result since the memo was last cleared.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @param recipe The memoized recipe, or {@code null} if no recipe accepts the types of the inputs.
+     */
+    public record Entry<RECIPE extends MekanismRecipe>(@Nullable RECIPE recipe) {
+    }
+
+    /**
+     * Key representing the types and NBT of a fixed number of inputs. This is mutable so that a single instance can be reused for querying, and only gets copied when it
+     * is persisted in the memo.
+     *
+     * @implNote The hash code only includes the types and whether each input has NBT, as a new key gets built for every lookup and hashing the NBT is deep. Inputs of
+     * the same type with different NBT are instead told apart by {@link #equals(Object)}.
+     */
+    public static final class Key {
+
+        private final Object[] types;
+        private final CompoundTag[] tags;
+        private int size;
+        private int hashCode = 1;
+
+        public Key(int capacity) {
+            this.types = new Object[capacity];
+            this.tags = new CompoundTag[capacity];
+        }
+
+        /**
+         * Adds an input to this key.
+         *
+         * @param type Type of the input, compared by identity.
+         * @param tag  NBT of the input. This does not get copied unless the key gets copied via {@link #copy()}, so should not be modified while this key is in use.
+         */
+        public void add(Object type, @Nullable CompoundTag tag) {
+            types[size] = type;
+            tags[size] = tag;
+            size++;
+            hashCode = 31 * (31 * hashCode + type.hashCode()) + (tag == null ? 0 : 1);
+        }
+
+        /**
+         * Removes all inputs from this key so that it can be reused.
+         */
+        public void clear() {
+            for (int i = 0; i < size; i++) {
+                types[i] = null;
+                tags[i] = null;
+            }
+            size = 0;
+            hashCode = 1;
+        }
+
+        /**
+         * @return A copy of this key that is safe to persist, as it has its own copies of the NBT.
+         */
+        public Key copy() {
+            Key copy = new Key(size);
+            for (int i = 0; i < size; i++) {
+                CompoundTag tag = tags[i];
+                copy.add(types[i], tag == null ? null : tag.copy());
+            }
+            return copy;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            } else if (!(obj instanceof Key other) || size != other.size || hashCode != other.hashCode) {
+                return false;
+            }
+            for (int i = 0; i < size; i++) {
+                if (types[i] != other.types[i] || !Objects.equals(tags[i], other.tags[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
\ No newline at end of file
@@ -9,6 +9,7 @@ import javax.annotation.Nullable;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.ingredients.InputIngredient;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.cache.InputRecipeMemo.Key;
 import mekanism.common.recipe.lookup.cache.type.IInputCache;
 import net.minecraft.world.level.Level;
 
@@ -62,9 +63,16 @@ public abstract class SingleInputRecipeCache<INPUT, INGREDIENT extends InputIngr
             return null;
         }
         initCacheIfNeeded(world);
+        Key memoKey = getMemoKey();
+        if (memoKey != null) {
+            cache.addToMemoKey(input, memoKey);
+        }
         Predicate<RECIPE> matchPredicate = recipe -> recipe.test(input);
-        RECIPE recipe = cache.findFirstRecipe(input, matchPredicate);
-        return recipe == null ? findFirstRecipe(complexRecipes, matchPredicate) : recipe;
+        Predicate<RECIPE> typePredicate = recipe -> inputExtractor.apply(recipe).testType(input);
+        return findFirstRecipe(memoKey, matchPredicate, typePredicate, predicate -> {
+            RECIPE recipe = cache.findFirstRecipe(input, predicate);
+            return recipe == null ? findFirstRecipe(complexRecipes, predicate) : recipe;
+        });
     }
 
     /**
@@ -9,6 +9,7 @@ import javax.annotation.Nullable;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.ingredients.InputIngredient;
 import mekanism.common.recipe.MekanismRecipeType;
+import mekanism.common.recipe.lookup.cache.InputRecipeMemo.Key;
 import mekanism.common.recipe.lookup.cache.type.IInputCache;
 import net.minecraft.world.level.Level;
 import net.minecraftforge.common.util.TriPredicate;
@@ -213,11 +214,21 @@ public abstract class TripleInputRecipeCache<INPUT_A, INGREDIENT_A extends Input
             return null;
         }
         initCacheIfNeeded(world);
+        Key memoKey = getMemoKey();
+        if (memoKey != null) {
+            cacheA.addToMemoKey(inputA, memoKey);
+            cacheB.addToMemoKey(inputB, memoKey);
+            cacheC.addToMemoKey(inputC, memoKey);
+        }
         Predicate<RECIPE> matchPredicate = r -> r.test(inputA, inputB, inputC);
-        //Lookup a recipe from the A input map (the fact that it is A is arbitrary, it just as well could be B or C)
-        RECIPE recipe = cacheA.findFirstRecipe(inputA, matchPredicate);
-        // if there is no recipe, then check if any of our complex recipes (either a, b, or c being complex) match
-        return recipe == null ? findFirstRecipe(complexRecipes, matchPredicate) : recipe;
+        Predicate<RECIPE> typePredicate = r -> inputAExtractor.apply(r).testType(inputA) && inputBExtractor.apply(r).testType(inputB) &&
+                                               inputCExtractor.apply(r).testType(inputC);
+        return findFirstRecipe(memoKey, matchPredicate, typePredicate, predicate -> {
+            //Lookup a recipe from the A input map (the fact that it is A is arbitrary, it just as well could be B or C)
+            RECIPE recipe = cacheA.findFirstRecipe(inputA, predicate);
+            // if there is no recipe, then check if any of our complex recipes (either a, b, or c being complex) match
+            return recipe == null ? findFirstRecipe(complexRecipes, predicate) : recipe;
+        });
     }
 
     @Override
@@ -7,6 +7,7 @@ import mekanism.api.recipes.ingredients.ChemicalStackIngredient;
 import mekanism.common.recipe.ingredient.chemical.MultiChemicalStackIngredient;
 import mekanism.common.recipe.ingredient.chemical.SingleChemicalStackIngredient;
 import mekanism.common.recipe.ingredient.chemical.TaggedChemicalStackIngredient;
+import mekanism.common.recipe.lookup.cache.InputRecipeMemo.Key;
 
 public class ChemicalInputCache<CHEMICAL extends Chemical<CHEMICAL>, STACK extends ChemicalStack<CHEMICAL>, RECIPE extends MekanismRecipe>
       extends BaseInputCache<CHEMICAL, STACK, ChemicalStackIngredient<CHEMICAL, STACK>, RECIPE> {
@@ -35,6 +36,12 @@ public class ChemicalInputCache<CHEMICAL extends Chemical<CHEMICAL>, STACK exten
         return stack.getType();
     }
 
+    @Override
+    public void addToMemoKey(STACK stack, Key key) {
+        //Note: Chemicals don't have NBT, so the type is all we need
+        key.add(stack.getType(), null);
+    }
+
     @Override
     public boolean isEmpty(STACK input) {
         return input.isEmpty();
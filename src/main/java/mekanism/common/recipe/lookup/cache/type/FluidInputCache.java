@@ -6,6 +6,7 @@ import mekanism.common.lib.HashedFluid;
 import mekanism.common.recipe.ingredient.creator.FluidStackIngredientCreator.MultiFluidStackIngredient;
 import mekanism.common.recipe.ingredient.creator.FluidStackIngredientCreator.SingleFluidStackIngredient;
 import mekanism.common.recipe.ingredient.creator.FluidStackIngredientCreator.TaggedFluidStackIngredient;
+import mekanism.common.recipe.lookup.cache.InputRecipeMemo.Key;
 import net.minecraft.world.level.material.Fluid;
 import net.minecraftforge.fluids.FluidStack;
 
@@ -40,6 +41,11 @@ public class FluidInputCache<RECIPE extends MekanismRecipe> extends NBTSensitive
         return HashedFluid.raw(stack);
     }
 
+    @Override
+    public void addToMemoKey(FluidStack stack, Key key) {
+        key.add(stack.getFluid(), stack.getTag());
+    }
+
     @Override
     public boolean isEmpty(FluidStack input) {
         return input.isEmpty();
@@ -5,6 +5,7 @@ import javax.annotation.Nullable;
 import mekanism.api.recipes.MekanismRecipe;
 import mekanism.api.recipes.ingredients.InputIngredient;
 import mekanism.common.recipe.ingredient.IMultiIngredient;
+import mekanism.common.recipe.lookup.cache.InputRecipeMemo.Key;
 
 /**
  * Base interface describing how a specific input type is cached to allow for quick lookup of recipes by input both for finding the recipes and checking if any even exist
@@ -73,6 +74,14 @@ public interface IInputCache<INPUT, INGREDIENT extends InputIngredient<INPUT>, R
      */
     void clear();
 
+    /**
+     * Adds the type of the given input, including any NBT data, to the given key for use in memoizing the results of recipe lookups.
+     *
+     * @param input Input to add to the key.
+     * @param key   Key to add the input to.
+     */
+    void addToMemoKey(INPUT input, Key key);
+
     /**
      * Helper method that is not actually used by the caches themselves, but allows for the broader {@link mekanism.common.recipe.lookup.cache.IInputRecipeCache} to
      * easily check if an input is empty without requiring a bunch of extra dummy classes implementing empty checks based on the given generics.
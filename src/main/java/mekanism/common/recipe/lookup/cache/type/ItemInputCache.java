@@ -5,6 +5,7 @@ import mekanism.api.recipes.ingredients.ItemStackIngredient;
 import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.recipe.ingredient.creator.ItemStackIngredientCreator.MultiItemStackIngredient;
 import mekanism.common.recipe.ingredient.creator.ItemStackIngredientCreator.SingleItemStackIngredient;
+import mekanism.common.recipe.lookup.cache.InputRecipeMemo.Key;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.crafting.Ingredient;
@@ -62,6 +63,11 @@ public class ItemInputCache<RECIPE extends MekanismRecipe> extends NBTSensitiveI
         return HashedItem.raw(stack);
     }
 
+    @Override
+    public void addToMemoKey(ItemStack stack, Key key) {
+        key.add(stack.getItem(), stack.getTag());
+    }
+
     @Override
     public boolean isEmpty(ItemStack input) {
         return input.isEmpty();
@@ -32,10 +32,12 @@ import mekanism.api.heat.IHeatHandler;
 import mekanism.api.inventory.IInventorySlot;
 import mekanism.api.inventory.IMekanismInventory;
 import mekanism.api.math.FloatingLong;
+import mekanism.api.math.FloatingLong.FloatingLongMath;
 import mekanism.api.providers.IBlockProvider;
 import mekanism.api.security.SecurityMode;
 import mekanism.api.text.TextComponentUtil;
 import mekanism.client.sound.SoundHandler;
+import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.block.attribute.Attribute;
 import mekanism.common.block.attribute.AttributeGui;
@@ -153,10 +155,23 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
      */
     public final Set<Player> playersUsing = new ObjectOpenHashSet<>();
 
+    /**
+     * How often low priority work, such as refreshing the radiation scale, is done. Tiles are spread out across this many ticks based on their position.
+     */
+    private static final int STAGGERED_UPDATE_RATE = 20;
+
     /**
      * A timer used to send packets to clients.
      */
     public int ticker;
+    /**
+     * Offset for when this tile does its low priority work so that not all tiles do it on the same tick.
+     */
+    private final int staggerOffset;
+    /**
+     * Keeps track of whether this tile can skip running {@link #onUpdateServer()} as it has nothing to do.
+     */
+    private final TileSleepTracker sleepTracker = new TileSleepTracker();
     private final List<ICapabilityHandlerManager<?>> capabilityHandlerManagers = new ArrayList<>();
     private final List<ITileComponent> components = new ArrayList<>();
 
@@ -266,6 +281,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     public TileEntityMekanism(IBlockProvider blockProvider, BlockPos pos, BlockState state) {
         super(((IHasTileEntity<? extends BlockEntity>) blockProvider.getBlock()).getTileType(), pos, state);
         this.blockProvider = blockProvider;
+        this.staggerOffset = Math.floorMod(pos.hashCode(), STAGGERED_UPDATE_RATE);
         Block block = this.blockProvider.getBlock();
         setSupportedTypes(block);
         presetVariables();
@@ -567,9 +583,16 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
                 }
             }
         }
-        tile.onUpdateServer();
-        tile.updateRadiationScale();
-        //TODO - 1.18: More generic "needs update" flag that we set that then means we don't end up sending an update packet more than once per tick
+        //Note: We don't sleep through recipes being reloaded, so that we can see if we now have a recipe
+        if (tile.sleepTracker.startUpdate(CommonWorldTickHandler.flushTagAndRecipeCaches)) {
+            tile.onUpdateServer();
+            //If nothing changed while updating, and we have nothing to do, skip updating until something about us changes
+            tile.sleepTracker.finishUpdate(tile.canSleep());
+        }
+        if ((tile.ticker + tile.staggerOffset) % STAGGERED_UPDATE_RATE == 0) {
+            tile.updateRadiationScale();
+        }
+        //Note: Update packets requested while ticking are batched and sent once at the end of the tick, see TileEntityUpdateable#sendUpdatePacket
         if (tile.persists(SubstanceType.HEAT)) {
             // update heat after server tick as we now have simulated changes
             // we use persists, as only one reference should update
@@ -630,11 +653,34 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     }
 
     /**
-     * Update call for machines. Use instead of updateEntity -- it's called every tick on the server side.
+     * Update call for machines. Use instead of updateEntity -- it's called every tick on the server side, unless the machine is sleeping.
      */
     protected void onUpdateServer() {
     }
 
+    /**
+     * Checks if this tile currently has nothing to do, so that it can skip calling {@link #onUpdateServer()} until something about it changes, such as its contents or
+     * its neighbors.
+     *
+     * @implNote This is only checked if nothing about the tile changed while running {@link #onUpdateServer()}.
+     */
+    protected boolean canSleep() {
+        return false;
+    }
+
+    /**
+     * Wakes this tile up if it is sleeping so that {@link #onUpdateServer()} is called again next tick.
+     */
+    public void wakeUp() {
+        sleepTracker.wakeUp();
+    }
+
+    @Override
+    protected void setChanged(boolean updateComparator) {
+        super.setChanged(updateComparator);
+        wakeUp();
+    }
+
     @Override
     @Deprecated
     public void setBlockState(@Nonnull BlockState newState) {
@@ -810,8 +856,14 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
     }
 
     public void onNeighborChange(Block block, BlockPos neighborPos) {
-        if (!isRemote() && supportsRedstone()) {
-            updatePower();
+        if (!isRemote()) {
+            wakeUp();
+            if (supportsRedstone()) {
+                updatePower();
+            }
+            for (ITileComponent component : components) {
+                component.onNeighborChange(neighborPos);
+            }
         }
     }
 
@@ -962,6 +1014,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
 
     @Override
     public void recalculateUpgrades(Upgrade upgrade) {
+        wakeUp();
         if (upgrade == Upgrade.SPEED) {
             for (IEnergyContainer energyContainer : getEnergyContainers(null)) {
                 if (energyContainer instanceof MachineEnergyContainer<?> machineEnergy) {
@@ -1104,7 +1157,7 @@ public abstract class TileEntityMekanism extends CapabilityTileEntity implements
         }
         FloatingLong remainder = energyContainer.insert(amount, action, side == null ? AutomationType.INTERNAL : AutomationType.EXTERNAL);
         if (action.execute()) {
-            lastEnergyReceived = lastEnergyReceived.plusEqual(amount.subtract(remainder));
+            lastEnergyReceived = new FloatingLongMath(amount).minus(remainder).plus(lastEnergyReceived).writeTo(lastEnergyReceived);
         }
         return remainder;
     }
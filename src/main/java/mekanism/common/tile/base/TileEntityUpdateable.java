@@ -1,6 +1,10 @@
 package mekanism.common.tile.base;
 
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Coord4D;
@@ -24,9 +28,23 @@ import net.minecraft.world.level.block.state.BlockState;
  */
 public abstract class TileEntityUpdateable extends BlockEntity implements ITileWrapper {
 
+    /**
+     * Tiles that requested an update packet be sent this tick.
+     */
+    private static final Set<TileEntityUpdateable> PENDING_UPDATES = new ReferenceLinkedOpenHashSet<>();
+
     @Nullable
     private Coord4D cachedCoord;
     private boolean cacheCoord;
+    /**
+     * On the server this is the last update tag we sent to clients via {@link PacketUpdateTile}, and on the client it is the last update tag we received via
+     * {@link PacketUpdateTile}, so that we only have to send the parts of the update tag that changed.
+     *
+     * @implNote The full update tags used for chunk and block entity data packets are never used as the baseline on either side, as they may contain more than the
+     * reduced update tag that partial updates are based on. Instead, producing one resets the server's baseline so that the next {@link PacketUpdateTile} is a full one.
+     */
+    @Nullable
+    private CompoundTag lastUpdateTag;
 
     public TileEntityUpdateable(TileEntityTypeRegistryObject<?> type, BlockPos pos, BlockState state) {
         super(type.get(), pos, state);
@@ -107,6 +125,10 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
     @Nonnull
     @Override
     public CompoundTag getUpdateTag() {
+        if (level != null && !isRemote()) {
+            //A full update tag is being sent to some clients, so the next update packet we send should also be a full one so that all clients are in sync again
+            lastUpdateTag = null;
+        }
         return getReducedUpdateTag();
     }
 
@@ -131,21 +153,84 @@ public abstract class TileEntityUpdateable extends BlockEntity implements ITileW
         handleUpdateTag(tag);
     }
 
-    public void sendUpdatePacket() {
-        sendUpdatePacket(this);
+    /**
+     * Handles an update packet that contains the full reduced update tag, keeping track of it so that we can apply partial updates to it.
+     *
+     * @param tag Reduced update tag.
+     */
+    public void handleFullUpdatePacket(@Nonnull CompoundTag tag) {
+        lastUpdateTag = tag;
+        handleUpdatePacket(tag);
     }
 
-    public void sendUpdatePacket(BlockEntity tracking) {
+    /**
+     * Handles an update packet that only contains the parts of the reduced update tag that changed since the last update packet by applying the changes to the last
+     * update tag we received.
+     *
+     * @param changed Elements of the update tag that changed.
+     * @param removed Keys of the elements that are no longer in the update tag.
+     */
+    public void handlePartialUpdatePacket(@Nonnull CompoundTag changed, @Nonnull List<String> removed) {
+        handleUpdatePacket(new UpdateTagDiff(changed, removed).applyTo(lastUpdateTag));
+    }
+
+    /**
+     * Queues an update packet to be sent to all players tracking this tile at the end of the tick, so that no matter how many times this is called in a tick we only
+     * send one update packet.
+     */
+    public void sendUpdatePacket() {
         if (isRemote()) {
             Mekanism.logger.warn("Update packet call requested from client side", new IllegalStateException());
         } else if (isRemoved()) {
             Mekanism.logger.warn("Update packet call requested for removed tile", new IllegalStateException());
         } else {
-            //Note: We use our own update packet/channel to avoid chunk trashing and minecraft attempting to rerender
-            // the entire chunk when most often we are just updating a TileEntityRenderer, so the chunk itself
-            // does not need to and should not be redrawn
-            Mekanism.packetHandler().sendToAllTracking(new PacketUpdateTile(this), tracking);
+            PENDING_UPDATES.add(this);
+        }
+    }
+
+    /**
+     * Forgets any tiles that requested an update packet without one being sent, so that we don't hold onto them after the server stops.
+     */
+    public static void clearPendingUpdates() {
+        PENDING_UPDATES.clear();
+    }
+
+    /**
+     * Sends the update packets for all the tiles that requested one this tick.
+     */
+    public static void flushUpdatePackets() {
+        if (!PENDING_UPDATES.isEmpty()) {
+            //Copy the pending updates in case sending any of them causes another update to be requested
+            List<TileEntityUpdateable> tiles = new ArrayList<>(PENDING_UPDATES);
+            PENDING_UPDATES.clear();
+            for (TileEntityUpdateable tile : tiles) {
+                //Note: We skip any tiles that got removed or unloaded after requesting an update
+                if (!tile.isRemoved() && tile.level != null) {
+                    tile.flushUpdatePacket();
+                }
+            }
+        }
+    }
+
+    private void flushUpdatePacket() {
+        CompoundTag updateTag = getReducedUpdateTag();
+        PacketUpdateTile packet;
+        if (lastUpdateTag == null) {
+            packet = new PacketUpdateTile(worldPosition, updateTag);
+        } else {
+            //Only send the elements of the update tag that changed since the last one we sent
+            UpdateTagDiff diff = UpdateTagDiff.between(lastUpdateTag, updateTag);
+            if (diff == null) {
+                //Nothing changed since the last update we sent, so we don't need to send anything
+                return;
+            }
+            packet = new PacketUpdateTile(worldPosition, diff.changed(), diff.removed());
         }
+        lastUpdateTag = updateTag;
+        //Note: We use our own update packet/channel to avoid chunk trashing and minecraft attempting to rerender
+        // the entire chunk when most often we are just updating a TileEntityRenderer, so the chunk itself
+        // does not need to and should not be redrawn
+        Mekanism.packetHandler().sendToAllTracking(packet, this);
     }
 
     @Override
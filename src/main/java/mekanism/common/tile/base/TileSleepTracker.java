@@ -0,0 +1,62 @@
+package mekanism.common.tile.base;
+
+/**
+ * Keeps track of whether a tile that has nothing to do can skip running its server update, and for how long.
+ */
+class TileSleepTracker {
+
+    /**
+     * How many ticks a tile that has nothing to do can skip running its update for before checking again even if nothing changed.
+     */
+    static final int MAX_SLEEP_TICKS = 20;
+
+    /**
+     * How many more ticks the tile can skip running its update for, unless something about it changes first.
+     */
+    private int sleepTicks;
+    /**
+     * Whether something about the tile changed since it last started running its update.
+     */
+    private boolean changedSinceUpdate;
+
+    /**
+     * Checks if the tile should run its update this tick, and if so marks that the update started.
+     *
+     * @param forceUpdate {@code true} to update even if the tile is sleeping.
+     *
+     * @return {@code true} if the tile should run its update.
+     */
+    boolean startUpdate(boolean forceUpdate) {
+        if (sleepTicks > 0 && !forceUpdate) {
+            sleepTicks--;
+            return false;
+        }
+        //Note: A forced update ends any sleep, finishUpdate puts the tile back to sleep if it still has nothing to do
+        sleepTicks = 0;
+        changedSinceUpdate = false;
+        return true;
+    }
+
+    /**
+     * Called after the tile ran its update. If nothing changed while updating, and the tile has nothing to do, it goes to sleep until something about it changes.
+     *
+     * @param canSleep {@code true} if the tile currently has nothing to do.
+     */
+    void finishUpdate(boolean canSleep) {
+        if (!changedSinceUpdate && canSleep) {
+            sleepTicks = MAX_SLEEP_TICKS;
+        }
+    }
+
+    /**
+     * Wakes the tile up if it is sleeping, and marks that something about it changed.
+     */
+    void wakeUp() {
+        sleepTicks = 0;
+        changedSinceUpdate = true;
+    }
+
+    boolean isSleeping() {
+        return sleepTicks > 0;
+    }
+}
@@ -0,0 +1,63 @@
+package mekanism.common.tile.base;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+
+/**
+ * Top level elements of an update tag that changed since the last update tag, so that only they have to be synced.
+ *
+ * @param changed Elements of the update tag that were added or changed.
+ * @param removed Keys of the elements that are no longer in the update tag.
+ */
+record UpdateTagDiff(CompoundTag changed, List<String> removed) {
+
+    /**
+     * Finds the top level elements that differ between two update tags.
+     *
+     * @param previous Last update tag that was sent.
+     * @param current  New update tag.
+     *
+     * @return The differences, or {@code null} if nothing changed.
+     */
+    @Nullable
+    static UpdateTagDiff between(@Nonnull CompoundTag previous, @Nonnull CompoundTag current) {
+        CompoundTag changed = new CompoundTag();
+        for (String key : current.getAllKeys()) {
+            Tag value = current.get(key);
+            if (!Objects.equals(value, previous.get(key))) {
+                changed.put(key, value);
+            }
+        }
+        List<String> removed = new ArrayList<>();
+        for (String key : previous.getAllKeys()) {
+            if (!current.contains(key)) {
+                removed.add(key);
+            }
+        }
+        return changed.isEmpty() && removed.isEmpty() ? null : new UpdateTagDiff(changed, removed);
+    }
+
+    /**
+     * Applies the differences to the last update tag that was received.
+     *
+     * @param previous Last update tag that was received, or {@code null} if none was received. This tag is modified in place.
+     *
+     * @return The updated update tag.
+     */
+    CompoundTag applyTo(@Nullable CompoundTag previous) {
+        CompoundTag tag = previous == null ? new CompoundTag() : previous;
+        for (String key : removed) {
+            tag.remove(key);
+        }
+        for (String key : changed.getAllKeys()) {
+            //Note: We replace the elements rather than merging them as merging would keep any elements that were removed from nested compounds
+            tag.put(key, changed.get(key));
+        }
+        return tag;
+    }
+}
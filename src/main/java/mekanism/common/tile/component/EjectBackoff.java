@@ -0,0 +1,81 @@
+package mekanism.common.tile.component;
+
+/**
+ * Keeps track of how long to wait between attempts at ejecting a single transmission type, waiting longer while our neighbors keep refusing everything we try to eject.
+ */
+class EjectBackoff {
+
+    /**
+     * Maximum number of extra ticks to wait between attempts at ejecting when our neighbors keep refusing what we try to eject.
+     */
+    static final int MAX_BACKOFF = 20;
+
+    private final int baseDelay;
+    /**
+     * Number of ticks until we next try to eject.
+     */
+    private int delay;
+    /**
+     * Number of extra ticks we are waiting between attempts, doubled each time our neighbors refuse everything we try to eject.
+     */
+    private int backoff;
+    private boolean hadContentsToEject;
+
+    /**
+     * @param baseDelay Number of ticks to always wait between attempts at ejecting.
+     */
+    EjectBackoff(int baseDelay) {
+        this.baseDelay = baseDelay;
+    }
+
+    /**
+     * Counts down the delay until the next attempt.
+     *
+     * @return {@code true} if we should try to eject this tick.
+     */
+    boolean tick() {
+        if (delay > 0) {
+            delay--;
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Updates the delay until the next attempt based on the outcome of the current attempt.
+     */
+    void onResult(EjectResult result) {
+        hadContentsToEject = result != EjectResult.NOTHING_TO_EJECT;
+        if (result == EjectResult.REFUSED) {
+            //If our neighbors didn't accept anything we tried to eject, wait longer before trying again as they are likely still full
+            backoff = Math.min(Math.max(1, 2 * backoff), MAX_BACKOFF);
+        } else {
+            //Even if only part of what we tried to eject was accepted, our neighbors have room again, so go back to trying at the normal rate
+            backoff = 0;
+        }
+        delay = backoff + baseDelay;
+    }
+
+    /**
+     * Stops waiting any longer than the base delay, for when our neighbors may now be able to accept what they refused before.
+     */
+    void reset() {
+        backoff = 0;
+        delay = Math.min(delay, baseDelay);
+    }
+
+    /**
+     * Marks that we are not currently ejecting this type at all.
+     */
+    void disabled() {
+        hadContentsToEject = false;
+    }
+
+    boolean hadContentsToEject() {
+        return hadContentsToEject;
+    }
+
+    int getDelay() {
+        return delay;
+    }
+}
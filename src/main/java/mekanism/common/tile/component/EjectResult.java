@@ -0,0 +1,19 @@
+package mekanism.common.tile.component;
+
+/**
+ * Outcome of a single attempt at ejecting a transmission type.
+ */
+enum EjectResult {
+    /**
+     * There was nothing that could be ejected.
+     */
+    NOTHING_TO_EJECT,
+    /**
+     * At least part of what we tried to eject was accepted.
+     */
+    EJECTED,
+    /**
+     * Our neighbors didn't accept anything we tried to eject.
+     */
+    REFUSED
+}
@@ -3,7 +3,7 @@ package mekanism.common.tile.component;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.EnumSet;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -46,12 +46,18 @@ import mekanism.common.util.InventoryUtils;
 import mekanism.common.util.NBTUtils;
 import mekanism.common.util.TransporterUtils;
 import mekanism.common.util.WorldUtils;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.level.block.entity.BlockEntity;
 
 public class TileComponentEjector implements ITileComponent, ISpecificContainerTracker {
 
+    /**
+     * How many ticks to wait between attempts at ejecting items.
+     */
+    private static final int ITEM_EJECT_DELAY = 10;
+
     private final TileEntityMekanism tile;
     private final Map<TransmissionType, ConfigInfo> configInfo = new EnumMap<>(TransmissionType.class);
     private final EnumColor[] inputColors = new EnumColor[6];
@@ -65,7 +71,13 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
     private Predicate<IChemicalTank<?, ?>> canTankEject;
     private boolean strictInput;
     private EnumColor outputColor;
-    private int tickDelay = 0;
+    /**
+     * How long to wait until we next try to eject each transmission type.
+     */
+    private final EjectBackoff[] ejectBackoffs = new EjectBackoff[EnumUtils.TRANSMISSION_TYPES.length];
+    //Note: We reuse these between ticks to avoid having to allocate new maps and sets each time we eject
+    private final Map<Object, Set<Direction>> outputData = new IdentityHashMap<>();
+    private final List<Set<Direction>> outputSides = new ArrayList<>();
 
     public TileComponentEjector(TileEntityMekanism tile) {
         this(tile, MekanismConfig.general.chemicalAutoEjectRate);
@@ -88,6 +100,9 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
         this.chemicalEjectRate = chemicalEjectRate;
         this.fluidEjectRate = fluidEjectRate;
         this.energyEjectRate = energyEjectRate;
+        for (TransmissionType type : EnumUtils.TRANSMISSION_TYPES) {
+            ejectBackoffs[type.ordinal()] = new EjectBackoff(type == TransmissionType.ITEM ? ITEM_EJECT_DELAY : 0);
+        }
         tile.addComponent(this);
     }
 
@@ -115,77 +130,122 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
         for (Map.Entry<TransmissionType, ConfigInfo> entry : configInfo.entrySet()) {
             TransmissionType type = entry.getKey();
             ConfigInfo info = entry.getValue();
-            if (info.isEjecting() && (canEject == null || canEject.test(type))) {
-                if (type == TransmissionType.ITEM) {
-                    if (tickDelay == 0) {
-                        outputItems(info);
-                    } else {
-                        tickDelay--;
-                    }
-                } else if (type != TransmissionType.HEAT) {
-                    eject(type, info);
+            EjectBackoff backoff = ejectBackoffs[type.ordinal()];
+            if (type != TransmissionType.HEAT && info.isEjecting() && (canEject == null || canEject.test(type))) {
+                if (backoff.tick()) {
+                    backoff.onResult(type == TransmissionType.ITEM ? outputItems(info) : eject(type, info));
                 }
+            } else {
+                backoff.disabled();
             }
         }
     }
 
+    /**
+     * @return {@code true} if the last attempts at ejecting didn't find anything to eject.
+     */
+    public boolean isIdle() {
+        for (EjectBackoff backoff : ejectBackoffs) {
+            if (backoff.hadContentsToEject()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void onNeighborChange(BlockPos neighborPos) {
+        //Our neighbors changed, so they may now be able to accept what they refused before
+        for (EjectBackoff backoff : ejectBackoffs) {
+            backoff.reset();
+        }
+    }
+
+    /**
+     * Gets the set of sides the given tank or container should output to, reusing sets from previous ticks where possible.
+     */
+    private Set<Direction> getOutputSides(Object handler) {
+        Set<Direction> sides = outputData.get(handler);
+        if (sides == null) {
+            int used = outputData.size();
+            if (used < outputSides.size()) {
+                sides = outputSides.get(used);
+                sides.clear();
+            } else {
+                sides = EnumSet.noneOf(Direction.class);
+                outputSides.add(sides);
+            }
+            outputData.put(handler, sides);
+        }
+        return sides;
+    }
+
+    private boolean hasContentsToEject(TransmissionType type, Object handler) {
+        if (type.isChemical()) {
+            IChemicalTank<?, ?> tank = (IChemicalTank<?, ?>) handler;
+            return !tank.isEmpty() && (canTankEject == null || canTankEject.test(tank));
+        } else if (type == TransmissionType.FLUID) {
+            return !((IExtendedFluidTank) handler).isEmpty();
+        }
+        return !((IEnergyContainer) handler).isEmpty();
+    }
+
     /**
      * @apiNote Ensure that it can eject before calling this method.
      */
-    private void eject(TransmissionType type, ConfigInfo info) {
-        //Used to keep track of tanks to what sides they output to
-        Map<Object, Set<Direction>> outputData = null;
+    private EjectResult eject(TransmissionType type, ConfigInfo info) {
         for (DataType dataType : info.getSupportedDataTypes()) {
             if (dataType.canOutput()) {
                 ISlotInfo slotInfo = info.getSlotInfo(dataType);
-                if (slotInfo != null) {
-                    Set<Direction> outputSides = info.getSidesForData(dataType);
-                    if (!outputSides.isEmpty()) {
-                        if (outputData == null) {
-                            //Lazy init outputData
-                            outputData = new HashMap<>();
-                        }
-                        if (type.isChemical() && slotInfo instanceof ChemicalSlotInfo<?, ?, ?> chemicalSlotInfo) {
-                            for (IChemicalTank<?, ?> tank : chemicalSlotInfo.getTanks()) {
-                                if (!tank.isEmpty() && (canTankEject == null || canTankEject.test(tank))) {
-                                    outputData.computeIfAbsent(tank, t -> EnumSet.noneOf(Direction.class)).addAll(outputSides);
-                                }
-                            }
-                        } else if (type == TransmissionType.FLUID && slotInfo instanceof FluidSlotInfo fluidSlotInfo) {
-                            for (IExtendedFluidTank tank : fluidSlotInfo.getTanks()) {
-                                if (!tank.isEmpty()) {
-                                    outputData.computeIfAbsent(tank, t -> EnumSet.noneOf(Direction.class)).addAll(outputSides);
-                                }
-                            }
-                        } else if (type == TransmissionType.ENERGY && slotInfo instanceof EnergySlotInfo energySlotInfo) {
-                            for (IEnergyContainer container : energySlotInfo.getContainers()) {
-                                if (!container.isEmpty()) {
-                                    outputData.computeIfAbsent(container, t -> EnumSet.noneOf(Direction.class)).addAll(outputSides);
-                                }
+                List<?> handlers;
+                if (type.isChemical() && slotInfo instanceof ChemicalSlotInfo<?, ?, ?> chemicalSlotInfo) {
+                    handlers = chemicalSlotInfo.getTanks();
+                } else if (type == TransmissionType.FLUID && slotInfo instanceof FluidSlotInfo fluidSlotInfo) {
+                    handlers = fluidSlotInfo.getTanks();
+                } else if (type == TransmissionType.ENERGY && slotInfo instanceof EnergySlotInfo energySlotInfo) {
+                    handlers = energySlotInfo.getContainers();
+                } else {
+                    continue;
+                }
+                Set<Direction> sides = null;
+                for (Object handler : handlers) {
+                    if (hasContentsToEject(type, handler)) {
+                        if (sides == null) {
+                            //Lazily look up the sides so that we don't bother when there is nothing to eject
+                            sides = info.getSidesForData(dataType);
+                            if (sides.isEmpty()) {
+                                break;
                             }
                         }
+                        getOutputSides(handler).addAll(sides);
                     }
                 }
             }
         }
-        if (outputData != null && !outputData.isEmpty()) {
-            for (Map.Entry<Object, Set<Direction>> entry : outputData.entrySet()) {
-                if (type.isChemical()) {
-                    ChemicalUtil.emit(entry.getValue(), (IChemicalTank<?, ?>) entry.getKey(), tile, chemicalEjectRate.getAsLong());
-                } else if (type == TransmissionType.FLUID) {
-                    FluidUtils.emit(entry.getValue(), (IExtendedFluidTank) entry.getKey(), tile, fluidEjectRate.getAsInt());
-                } else if (type == TransmissionType.ENERGY) {
-                    IEnergyContainer container = (IEnergyContainer) entry.getKey();
-                    CableUtils.emit(entry.getValue(), container, tile, energyEjectRate == null ? container.getMaxEnergy() : energyEjectRate.get());
-                }
+        if (outputData.isEmpty()) {
+            return EjectResult.NOTHING_TO_EJECT;
+        }
+        boolean ejected = false;
+        for (Map.Entry<Object, Set<Direction>> entry : outputData.entrySet()) {
+            if (type.isChemical()) {
+                ejected |= ChemicalUtil.emit(entry.getValue(), (IChemicalTank<?, ?>) entry.getKey(), tile, chemicalEjectRate.getAsLong()) > 0;
+            } else if (type == TransmissionType.FLUID) {
+                ejected |= FluidUtils.emit(entry.getValue(), (IExtendedFluidTank) entry.getKey(), tile, fluidEjectRate.getAsInt()) > 0;
+            } else if (type == TransmissionType.ENERGY) {
+                IEnergyContainer container = (IEnergyContainer) entry.getKey();
+                ejected |= !CableUtils.emit(entry.getValue(), container, tile, energyEjectRate == null ? container.getMaxEnergy() : energyEjectRate.get()).isZero();
             }
         }
+        outputData.clear();
+        return ejected ? EjectResult.EJECTED : EjectResult.REFUSED;
     }
 
     /**
      * @apiNote Ensure that it can eject before calling this method.
      */
-    private void outputItems(ConfigInfo info) {
+    private EjectResult outputItems(ConfigInfo info) {
+        boolean hadItems = false;
+        boolean ejected = false;
         for (DataType dataType : info.getSupportedDataTypes()) {
             if (!dataType.canOutput()) {
                 continue;
@@ -197,6 +257,7 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
                 if (!outputs.isEmpty()) {
                     EjectTransitRequest ejectMap = InventoryUtils.getEjectItemMap(new EjectTransitRequest(tile, outputs.iterator().next()), inventorySlotInfo.getSlots());
                     if (!ejectMap.isEmpty()) {
+                        hadItems = true;
                         for (Direction side : outputs) {
                             BlockEntity target = WorldUtils.getTileEntity(tile.getLevel(), tile.getBlockPos().relative(side));
                             if (target != null) {
@@ -212,6 +273,7 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
                                 if (!response.isEmpty()) {
                                     // use the items returned by the TransitResponse; will be visible next loop
                                     response.useAll();
+                                    ejected = true;
                                     if (ejectMap.isEmpty()) {
                                         //If we are out of items to eject, break
                                         break;
@@ -223,8 +285,10 @@ public class TileComponentEjector implements ITileComponent, ISpecificContainerT
                 }
             }
         }
-
-        tickDelay = 10;
+        if (!hadItems) {
+            return EjectResult.NOTHING_TO_EJECT;
+        }
+        return ejected ? EjectResult.EJECTED : EjectResult.REFUSED;
     }
 
     @ComputerMethod
@@ -1,6 +1,7 @@
 package mekanism.common.tile.factory;
 
 import java.util.Map;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.IContentsListener;
@@ -24,6 +25,7 @@ import mekanism.common.recipe.IMekanismRecipeTypeProvider;
 import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.recipe.lookup.IDoubleRecipeLookupHandler.DoubleItemRecipeLookupHandler;
 import mekanism.common.recipe.lookup.cache.InputRecipeCache.DoubleItem;
+import mekanism.common.recipe.lookup.cache.InputRecipeMemo.Key;
 import mekanism.common.upgrade.CombinerUpgradeData;
 import mekanism.common.upgrade.IUpgradeData;
 import mekanism.common.util.InventoryUtils;
@@ -85,12 +87,21 @@ public class TileEntityCombiningFactory extends TileEntityItemToItemFactory<Comb
     }
 
     @Override
-    protected CombinerRecipe findRecipe(int process, @Nonnull ItemStack fallbackInput, @Nonnull IInventorySlot outputSlot, @Nullable IInventorySlot secondaryOutputSlot) {
+    protected CombinerRecipe findRecipe(@Nonnull ItemStack fallbackInput, Predicate<CombinerRecipe> matchCriteria) {
+        return getRecipeType().getInputCache().findTypeBasedRecipe(level, fallbackInput, extraSlot.getStack(), matchCriteria);
+    }
+
+    @Override
+    protected void addSecondaryInputToKey(Key key) {
         ItemStack extra = extraSlot.getStack();
-        ItemStack output = outputSlot.getStack();
+        key.add(extra.getItem(), extra.getTag());
+    }
+
+    @Override
+    protected boolean isRecipeValidForOutputs(CombinerRecipe recipe, @Nonnull ItemStack input, @Nonnull IInventorySlot outputSlot,
+          @Nullable IInventorySlot secondaryOutputSlot) {
         //TODO: Give it something that is not empty when we don't have a stored secondary stack for getting the output?
-        return getRecipeType().getInputCache().findTypeBasedRecipe(level, fallbackInput, extra,
-              recipe -> InventoryUtils.areItemsStackable(recipe.getOutput(fallbackInput, extra), output));
+        return InventoryUtils.areItemsStackable(recipe.getOutput(input, extraSlot.getStack()), outputSlot.getStack());
     }
 
     @Nonnull
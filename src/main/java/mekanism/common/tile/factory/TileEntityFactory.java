@@ -6,12 +6,14 @@ import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.function.BooleanSupplier;
 import java.util.function.IntSupplier;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Action;
@@ -47,6 +49,8 @@ import mekanism.common.inventory.slot.FactoryInputInventorySlot;
 import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.lib.transmitter.TransmissionType;
 import mekanism.common.recipe.lookup.IRecipeLookupHandler;
+import mekanism.common.recipe.lookup.cache.InputRecipeMemo;
+import mekanism.common.recipe.lookup.cache.InputRecipeMemo.Key;
 import mekanism.common.recipe.lookup.monitor.FactoryRecipeCacheLookupMonitor;
 import mekanism.common.registries.MekanismTileEntityTypes;
 import mekanism.common.tier.FactoryTier;
@@ -100,6 +104,18 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
     private int ticksRequired = 200;
     private boolean sorting;
     private boolean sortingNeeded = true;
+    /**
+     * Whether something other than the contents of the input slots changed since the last sort, meaning all the input slots have to be sorted.
+     */
+    private boolean fullSortNeeded = true;
+    /**
+     * Which processes had their input slot change since the last sort.
+     */
+    private final boolean[] changedInputs;
+    /**
+     * Reusable key for looking up the recipes decided on for the inputs of a process.
+     */
+    private final Key decisionKey = new Key(2);
     private FloatingLong lastUsage = FloatingLong.ZERO;
 
     /**
@@ -144,6 +160,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
 
         progress = new int[tier.processes];
         activeStates = new boolean[tier.processes];
+        changedInputs = new boolean[tier.processes];
         recheckAllRecipeErrors = new BooleanSupplier[tier.processes];
         for (int i = 0; i < recheckAllRecipeErrors.length; i++) {
             //Note: We store one per slot so that we can recheck the different slots at different times to reduce the load on the server
@@ -170,13 +187,32 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
     protected void presetVariables() {
         super.presetVariables();
         tier = Attribute.getTier(getBlockType(), FactoryTier.class);
-        Runnable setSortingNeeded = () -> sortingNeeded = true;
         recipeCacheLookupMonitors = new FactoryRecipeCacheLookupMonitor[tier.processes];
         for (int i = 0; i < recipeCacheLookupMonitors.length; i++) {
-            recipeCacheLookupMonitors[i] = new FactoryRecipeCacheLookupMonitor<>(this, i, setSortingNeeded);
+            int process = i;
+            recipeCacheLookupMonitors[i] = new FactoryRecipeCacheLookupMonitor<>(this, i, () -> setInputSortingNeeded(process));
+        }
+    }
+
+    /**
+     * Marks sorting as being needed for the items in the input slot of the given process.
+     */
+    private void setInputSortingNeeded(int process) {
+        sortingNeeded = true;
+        //Note: Guard against this being called while we are still being constructed, in which case a full sort is already needed
+        if (changedInputs != null) {
+            changedInputs[process] = true;
         }
     }
 
+    /**
+     * Marks sorting as being needed for all the input slots.
+     */
+    private void setFullSortingNeeded() {
+        sortingNeeded = true;
+        fullSortNeeded = true;
+    }
+
     @Nonnull
     @Override
     protected IEnergyContainerHolder getInitialEnergyContainers(IContentsListener listener) {
@@ -192,7 +228,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         addSlots(builder, listener, () -> {
             listener.onContentsChanged();
             //Mark sorting as being needed again
-            sortingNeeded = true;
+            setFullSortingNeeded();
         });
         //Add the energy slot after adding the other slots so that it has the lowest priority in shift clicking
         //Note: We can just pass ourselves as the listener instead of the listener that updates sorting as well,
@@ -234,7 +270,7 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
             //Otherwise, if sorting isn't currently needed and the recipe cache is invalid
             // Mark sorting as being needed again for the next check as recipes may
             // have changed so our current sort may be incorrect
-            sortingNeeded = true;
+            setFullSortingNeeded();
         }
 
         //Copy this so that if it changes we still have the original amount. Don't bother making it a constant though as this way
@@ -260,6 +296,20 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         lastUsage = isActive ? prev.minusEqual(energyContainer.getEnergy()) : FloatingLong.ZERO;
     }
 
+    @Override
+    protected boolean canSleep() {
+        if (sortingNeeded && isSorting() || !ejectorComponent.isIdle()) {
+            return false;
+        }
+        //Only sleep if none of our processes have a recipe to process
+        for (int i = 0; i < recipeCacheLookupMonitors.length; i++) {
+            if (recipeCacheLookupMonitors[i].getCachedRecipe(i) != null || !recipeCacheLookupMonitors[i].hasNoRecipe(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Checks if the cached recipe (or recipe for current factory if the cache is out of date) can produce a specific output.
      *
@@ -290,7 +340,37 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
             }
         }
         //If there is no cached item input, or it doesn't match our fallback then it is an out of date cache, so we ignore the fact that we have a cache
-        RECIPE foundRecipe = findRecipe(process, fallbackInput, outputSlot, secondaryOutputSlot);
+        // and look up a recipe that is valid for our outputs
+        Predicate<RECIPE> outputPredicate = recipe -> isRecipeValidForOutputs(recipe, fallbackInput, outputSlot, secondaryOutputSlot);
+        RECIPE foundRecipe;
+        //Note: The decisions are only shared on the server thread, as that is the only place they can safely be accessed from
+        InputRecipeMemo<RECIPE> decisions = InputRecipeMemo.canAccess() ? getRecipeType().getRecipeType().getFactoryDecisions() : null;
+        if (decisions == null) {
+            foundRecipe = findRecipe(fallbackInput, outputPredicate);
+        } else {
+            //Check what the first recipe for this type of input and our secondary input is, regardless of what is in our outputs. This is shared between all
+            // processes and factories of this recipe type, and as it is the first recipe any lookup would check, if it is valid for our outputs then it is also
+            // the recipe a full lookup would have found
+            decisionKey.clear();
+            decisionKey.add(fallbackInput.getItem(), fallbackInput.getTag());
+            addSecondaryInputToKey(decisionKey);
+            RECIPE firstTypeMatch;
+            InputRecipeMemo.Entry<RECIPE> decision = decisions.find(decisionKey);
+            if (decision == null) {
+                decisions.markMiss();
+                firstTypeMatch = findRecipe(fallbackInput, recipe -> true);
+                decisions.put(decisionKey.copy(), firstTypeMatch);
+            } else {
+                decisions.markHit();
+                firstTypeMatch = decision.recipe();
+            }
+            if (firstTypeMatch == null || outputPredicate.test(firstTypeMatch)) {
+                //Note: If no recipe accepts this type of input, then no recipe will be valid for our outputs either
+                foundRecipe = firstTypeMatch;
+            } else {
+                foundRecipe = findRecipe(fallbackInput, outputPredicate);
+            }
+        }
         if (foundRecipe == null) {
             //We could not find any valid recipe for the given item that matches the items in the current output slots
             return null;
@@ -302,8 +382,37 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
         return foundRecipe;
     }
 
+    /**
+     * Finds the first recipe that accepts the type of the given input and the type of any secondary input the factory has.
+     *
+     * @param fallbackInput Input to find the recipe for.
+     * @param matchCriteria Extra criteria the recipe has to match.
+     *
+     * @return The recipe, or {@code null} if there is no matching recipe.
+     *
+     * @implNote Must check the recipes in the same order regardless of the match criteria.
+     */
     @Nullable
-    protected abstract RECIPE findRecipe(int process, @Nonnull ItemStack fallbackInput, @Nonnull IInventorySlot outputSlot,
+    protected abstract RECIPE findRecipe(@Nonnull ItemStack fallbackInput, Predicate<RECIPE> matchCriteria);
+
+    /**
+     * Adds the type of any secondary input that {@link #findRecipe(ItemStack, Predicate)} takes into account to the given key, so that recipes decided on for one
+     * secondary input don't get used for another.
+     */
+    protected void addSecondaryInputToKey(Key key) {
+    }
+
+    /**
+     * Checks if a recipe is valid for the current contents of the given output slots.
+     *
+     * @param recipe              Recipe to check.
+     * @param input               Input to check the recipe for.
+     * @param outputSlot          The output slot for the process.
+     * @param secondaryOutputSlot The secondary output slot or null if we only have one output slot
+     *
+     * @return {@code true} if the recipe can be used.
+     */
+    protected abstract boolean isRecipeValidForOutputs(RECIPE recipe, @Nonnull ItemStack input, @Nonnull IInventorySlot outputSlot,
           @Nullable IInventorySlot secondaryOutputSlot);
 
     protected abstract int getNeededInput(RECIPE recipe, ItemStack inputStack);
@@ -515,7 +624,33 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
     }
     //End methods IComputerTile
 
+    /**
+     * Gets the types of the items in the input slots that changed since the last sort.
+     *
+     * @return The changed types, or {@code null} if all the input slots need to be sorted.
+     */
+    @Nullable
+    private Set<HashedItem> getChangedInputTypes() {
+        Set<HashedItem> changedTypes = fullSortNeeded ? null : new HashSet<>();
+        for (int i = 0; i < changedInputs.length && changedTypes != null; i++) {
+            if (changedInputs[i]) {
+                IInventorySlot inputSlot = processInfoSlots[i].inputSlot();
+                if (inputSlot.isEmpty()) {
+                    //If an input slot became empty, then items of any type may be able to be moved into it
+                    changedTypes = null;
+                } else {
+                    changedTypes.add(HashedItem.raw(inputSlot.getStack()));
+                }
+            }
+        }
+        fullSortNeeded = false;
+        Arrays.fill(changedInputs, false);
+        return changedTypes;
+    }
+
     private void sortInventory() {
+        //Only redistribute the types of items that changed since the last sort, as the slots of all other types are still distributed
+        Set<HashedItem> changedTypes = getChangedInputTypes();
         Map<HashedItem, RecipeProcessInfo> processes = new HashMap<>();
         List<ProcessInfo> emptyProcesses = new ArrayList<>();
         for (ProcessInfo processInfo : processInfoSlots) {
@@ -525,6 +660,9 @@ public abstract class TileEntityFactory<RECIPE extends MekanismRecipe> extends T
             } else {
                 ItemStack inputStack = inputSlot.getStack();
                 HashedItem item = HashedItem.raw(inputStack);
+                if (changedTypes != null && !changedTypes.contains(item)) {
+                    continue;
+                }
                 RecipeProcessInfo recipeProcessInfo = processes.computeIfAbsent(item, i -> new RecipeProcessInfo());
                 recipeProcessInfo.processes.add(processInfo);
                 recipeProcessInfo.totalCount += inputStack.getCount();
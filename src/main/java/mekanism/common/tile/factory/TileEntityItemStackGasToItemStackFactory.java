@@ -2,6 +2,7 @@ package mekanism.common.tile.factory;
 
 import java.util.Arrays;
 import java.util.Map;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.IContentsListener;
@@ -39,6 +40,7 @@ import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.recipe.lookup.IDoubleRecipeLookupHandler.ItemChemicalRecipeLookupHandler;
 import mekanism.common.recipe.lookup.IRecipeLookupHandler.ConstantUsageRecipeLookupHandler;
 import mekanism.common.recipe.lookup.cache.InputRecipeCache.ItemChemical;
+import mekanism.common.recipe.lookup.cache.InputRecipeMemo.Key;
 import mekanism.common.tile.interfaces.IHasDumpButton;
 import mekanism.common.tile.prefab.TileEntityAdvancedElectricMachine;
 import mekanism.common.upgrade.AdvancedMachineUpgradeData;
@@ -152,13 +154,20 @@ public class TileEntityItemStackGasToItemStackFactory extends TileEntityItemToIt
     }
 
     @Override
-    protected ItemStackGasToItemStackRecipe findRecipe(int process, @Nonnull ItemStack fallbackInput, @Nonnull IInventorySlot outputSlot,
+    protected ItemStackGasToItemStackRecipe findRecipe(@Nonnull ItemStack fallbackInput, Predicate<ItemStackGasToItemStackRecipe> matchCriteria) {
+        return getRecipeType().getInputCache().findTypeBasedRecipe(level, fallbackInput, gasTank.getStack(), matchCriteria);
+    }
+
+    @Override
+    protected void addSecondaryInputToKey(Key key) {
+        key.add(gasTank.getType(), null);
+    }
+
+    @Override
+    protected boolean isRecipeValidForOutputs(ItemStackGasToItemStackRecipe recipe, @Nonnull ItemStack input, @Nonnull IInventorySlot outputSlot,
           @Nullable IInventorySlot secondaryOutputSlot) {
-        GasStack stored = gasTank.getStack();
-        ItemStack output = outputSlot.getStack();
         //TODO: Give it something that is not empty when we don't have a stored gas stack for getting the output?
-        return getRecipeType().getInputCache().findTypeBasedRecipe(level, fallbackInput, stored,
-              recipe -> InventoryUtils.areItemsStackable(recipe.getOutput(fallbackInput, stored), output));
+        return InventoryUtils.areItemsStackable(recipe.getOutput(input, gasTank.getStack()), outputSlot.getStack());
     }
 
     @Override
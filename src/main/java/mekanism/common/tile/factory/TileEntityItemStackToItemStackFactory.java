@@ -1,6 +1,7 @@
 package mekanism.common.tile.factory;
 
 import java.util.Map;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.inventory.IInventorySlot;
@@ -52,11 +53,14 @@ public class TileEntityItemStackToItemStackFactory extends TileEntityItemToItemF
     }
 
     @Override
-    protected ItemStackToItemStackRecipe findRecipe(int process, @Nonnull ItemStack fallbackInput, @Nonnull IInventorySlot outputSlot,
+    protected ItemStackToItemStackRecipe findRecipe(@Nonnull ItemStack fallbackInput, Predicate<ItemStackToItemStackRecipe> matchCriteria) {
+        return getRecipeType().getInputCache().findTypeBasedRecipe(level, fallbackInput, matchCriteria);
+    }
+
+    @Override
+    protected boolean isRecipeValidForOutputs(ItemStackToItemStackRecipe recipe, @Nonnull ItemStack input, @Nonnull IInventorySlot outputSlot,
           @Nullable IInventorySlot secondaryOutputSlot) {
-        ItemStack output = outputSlot.getStack();
-        return getRecipeType().getInputCache().findTypeBasedRecipe(level, fallbackInput,
-              recipe -> InventoryUtils.areItemsStackable(recipe.getOutput(fallbackInput), output));
+        return InventoryUtils.areItemsStackable(recipe.getOutput(input), outputSlot.getStack());
     }
 
     @Nonnull
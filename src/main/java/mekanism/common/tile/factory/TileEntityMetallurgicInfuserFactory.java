@@ -1,6 +1,7 @@
 package mekanism.common.tile.factory;
 
 import java.util.Map;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.IContentsListener;
@@ -34,6 +35,7 @@ import mekanism.common.recipe.IMekanismRecipeTypeProvider;
 import mekanism.common.recipe.MekanismRecipeType;
 import mekanism.common.recipe.lookup.IDoubleRecipeLookupHandler.ItemChemicalRecipeLookupHandler;
 import mekanism.common.recipe.lookup.cache.InputRecipeCache.ItemChemical;
+import mekanism.common.recipe.lookup.cache.InputRecipeMemo.Key;
 import mekanism.common.tile.interfaces.IHasDumpButton;
 import mekanism.common.tile.machine.TileEntityMetallurgicInfuser;
 import mekanism.common.upgrade.IUpgradeData;
@@ -119,13 +121,20 @@ public class TileEntityMetallurgicInfuserFactory extends TileEntityItemToItemFac
     }
 
     @Override
-    protected MetallurgicInfuserRecipe findRecipe(int process, @Nonnull ItemStack fallbackInput, @Nonnull IInventorySlot outputSlot,
+    protected MetallurgicInfuserRecipe findRecipe(@Nonnull ItemStack fallbackInput, Predicate<MetallurgicInfuserRecipe> matchCriteria) {
+        return getRecipeType().getInputCache().findTypeBasedRecipe(level, fallbackInput, infusionTank.getStack(), matchCriteria);
+    }
+
+    @Override
+    protected void addSecondaryInputToKey(Key key) {
+        key.add(infusionTank.getType(), null);
+    }
+
+    @Override
+    protected boolean isRecipeValidForOutputs(MetallurgicInfuserRecipe recipe, @Nonnull ItemStack input, @Nonnull IInventorySlot outputSlot,
           @Nullable IInventorySlot secondaryOutputSlot) {
-        InfusionStack stored = infusionTank.getStack();
-        ItemStack output = outputSlot.getStack();
         //TODO: Give it something that is not empty when we don't have a stored infusion stack for getting the output?
-        return getRecipeType().getInputCache().findTypeBasedRecipe(level, fallbackInput, stored,
-              recipe -> InventoryUtils.areItemsStackable(recipe.getOutput(fallbackInput, stored), output));
+        return InventoryUtils.areItemsStackable(recipe.getOutput(input, infusionTank.getStack()), outputSlot.getStack());
     }
 
     @Override
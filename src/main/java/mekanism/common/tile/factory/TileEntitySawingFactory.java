@@ -1,6 +1,7 @@
 package mekanism.common.tile.factory;
 
 import java.util.Map;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.IContentsListener;
@@ -97,22 +98,24 @@ public class TileEntitySawingFactory extends TileEntityFactory<SawmillRecipe> im
     }
 
     @Override
-    protected SawmillRecipe findRecipe(int process, @Nonnull ItemStack fallbackInput, @Nonnull IInventorySlot outputSlot, @Nullable IInventorySlot secondaryOutputSlot) {
-        ItemStack output = outputSlot.getStack();
-        ItemStack extra = secondaryOutputSlot == null ? ItemStack.EMPTY : secondaryOutputSlot.getStack();
-        return getRecipeType().getInputCache().findTypeBasedRecipe(level, fallbackInput, recipe -> {
-            ChanceOutput chanceOutput = recipe.getOutput(fallbackInput);
-            if (InventoryUtils.areItemsStackable(chanceOutput.getMainOutput(), output)) {
-                //If the input is good and the primary output matches, make sure that the secondary
-                // output of this recipe will stack with what is currently in the secondary slot
-                if (extra.isEmpty()) {
-                    return true;
-                }
-                ItemStack secondaryOutput = chanceOutput.getMaxSecondaryOutput();
-                return secondaryOutput.isEmpty() || ItemHandlerHelper.canItemStacksStack(secondaryOutput, extra);
+    protected SawmillRecipe findRecipe(@Nonnull ItemStack fallbackInput, Predicate<SawmillRecipe> matchCriteria) {
+        return getRecipeType().getInputCache().findTypeBasedRecipe(level, fallbackInput, matchCriteria);
+    }
+
+    @Override
+    protected boolean isRecipeValidForOutputs(SawmillRecipe recipe, @Nonnull ItemStack input, @Nonnull IInventorySlot outputSlot,
+          @Nullable IInventorySlot secondaryOutputSlot) {
+        ChanceOutput chanceOutput = recipe.getOutput(input);
+        if (InventoryUtils.areItemsStackable(chanceOutput.getMainOutput(), outputSlot.getStack())) {
+            //If the input is good and the primary output matches, make sure that the secondary
+            // output of this recipe will stack with what is currently in the secondary slot
+            if (secondaryOutputSlot == null || secondaryOutputSlot.isEmpty()) {
+                return true;
             }
-            return false;
-        });
+            ItemStack secondaryOutput = chanceOutput.getMaxSecondaryOutput();
+            return secondaryOutput.isEmpty() || ItemHandlerHelper.canItemStacksStack(secondaryOutput, secondaryOutputSlot.getStack());
+        }
+        return false;
     }
 
     @Nonnull
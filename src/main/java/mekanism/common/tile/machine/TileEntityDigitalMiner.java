@@ -3,7 +3,7 @@ package mekanism.common.tile.machine;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArraySet;
 import it.unimi.dsi.fastutil.objects.ObjectIterator;
@@ -120,7 +120,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
     public static final int DEFAULT_HEIGHT_RANGE = 60;
     public static final int DEFAULT_RADIUS = 10;
 
-    private Long2ObjectMap<BitSet> oresToMine = Long2ObjectMaps.emptyMap();
+    private final Long2ObjectMap<BitSet> oresToMine = new Long2ObjectOpenHashMap<>();
     private HashList<MinerFilter<?>> filters = new HashList<>();
     public ThreadMinerSearch searcher = new ThreadMinerSearch(this);
 
@@ -221,8 +221,10 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         }
 
         energySlot.fillContainerOrConvert();
+        //Collect any parts of the search that finished, so we can start mining them even if the rest of the area is still being searched
+        searcher.collectResults();
 
-        if (MekanismUtils.canFunction(this) && running && searcher.state == State.FINISHED && !oresToMine.isEmpty()) {
+        if (MekanismUtils.canFunction(this) && running && searcher.state != State.IDLE && !oresToMine.isEmpty()) {
             FloatingLong energyPerTick = energyContainer.getEnergyPerTick();
             if (energyContainer.extract(energyPerTick, Action.SIMULATE, AutomationType.INTERNAL).equals(energyPerTick)) {
                 setActive(true);
@@ -265,10 +267,26 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         }
     }
 
-    public void updateFromSearch(Long2ObjectMap<BitSet> oresToMine, int found) {
-        this.oresToMine = oresToMine;
-        cachedToMine = found;
-        updateTargetChunk(null);
+    /**
+     * Adds blocks to mine that were found by the searcher.
+     *
+     * @param chunk  Chunk the blocks are in.
+     * @param toMine Indices of the blocks to mine.
+     * @param count  Number of blocks to mine.
+     */
+    public void addSearchResult(long chunk, BitSet toMine, int count) {
+        BitSet existing = oresToMine.get(chunk);
+        if (existing == null) {
+            oresToMine.put(chunk, toMine);
+        } else {
+            //Part of the chunk was already found, merge the newly found sections into it
+            existing.or(toMine);
+        }
+        cachedToMine += count;
+        if (running && targetChunk == null) {
+            //Start loading the first chunk we have found something in, so that it is ready to be mined while the rest of the area is searched
+            updateTargetChunk(new ChunkPos(chunk));
+        }
         markForSave();
     }
 
@@ -673,8 +691,7 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         }
         if (searcher.state == State.IDLE) {
             BlockPos startingPos = getStartingPos();
-            searcher.setChunkCache(new PathNavigationRegion(getLevel(), startingPos, startingPos.offset(getDiameter(), getMaxY() - getMinY() + 1, getDiameter())));
-            searcher.start();
+            searcher.start(new PathNavigationRegion(getLevel(), startingPos, startingPos.offset(getDiameter(), getMaxY() - getMinY() + 1, getDiameter())));
         }
         running = true;
         markForSave();
@@ -682,7 +699,6 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     public void stop() {
         if (searcher.state == State.SEARCHING) {
-            searcher.interrupt();
             reset();
         } else if (searcher.state == State.FINISHED) {
             running = false;
@@ -693,12 +709,20 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
         }
     }
 
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        //Stop searching when the miner is broken or unloaded, if it gets loaded again it will restart the search
+        searcher.cancel();
+    }
+
     public void reset() {
-        //TODO: Should the old searcher thread be terminated somehow?
+        //Stop the old search so that it doesn't keep using the shared search threads
+        searcher.cancel();
         searcher = new ThreadMinerSearch(this);
         running = false;
         cachedToMine = 0;
-        oresToMine = Long2ObjectMaps.emptyMap();
+        oresToMine.clear();
         missingStack = ItemStack.EMPTY;
         setActive(false);
         updateTargetChunk(null);
@@ -1056,7 +1080,8 @@ public class TileEntityDigitalMiner extends TileEntityMekanism implements ISusta
 
     @ComputerMethod
     public int getToMine() {
-        return !isRemote() && searcher.state == State.SEARCHING ? searcher.found : cachedToMine;
+        //Note: While searching, include the blocks that were found by the search threads but have not been collected by the miner yet
+        return !isRemote() && searcher.state == State.SEARCHING ? cachedToMine + searcher.getPending() : cachedToMine;
     }
 
     @ComputerMethod
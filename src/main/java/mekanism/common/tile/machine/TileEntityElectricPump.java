@@ -1,11 +1,9 @@
 package mekanism.common.tile.machine;
 
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
-import java.util.ArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Action;
@@ -37,6 +35,7 @@ import mekanism.common.integration.computer.annotation.WrappingComputerMethod;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.inventory.slot.FluidInventorySlot;
 import mekanism.common.inventory.slot.OutputInventorySlot;
+import mekanism.common.lib.collection.BlockPosBitSet;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.registries.MekanismFluids;
 import mekanism.common.tile.base.SubstanceType;
@@ -76,6 +75,10 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
      * How many ticks it takes to run an operation.
      */
     private static final int BASE_TICKS_REQUIRED = 19;
+    /**
+     * Maximum number of recurring nodes to check for fluid in a single operation.
+     */
+    private static final int MAX_NODES_PER_OPERATION = 256;
     public static final int HEAVY_WATER_AMOUNT = FluidAttributes.BUCKET_VOLUME / 100;
     /**
      * This pump's tank
@@ -95,7 +98,9 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
     /**
      * The nodes that have full sources near them or in them
      */
-    private final Set<BlockPos> recurringNodes = new ObjectOpenHashSet<>();
+    private final LongArrayFIFOQueue recurringNodes = new LongArrayFIFOQueue();
+    //The same nodes as recurringNodes, so that we don't add nodes to the queue multiple times when fluids flow back into them
+    private final BlockPosBitSet queuedNodes = new BlockPosBitSet();
 
     private MachineEnergyContainer<TileEntityElectricPump> energyContainer;
     @WrappingComputerMethod(wrapper = ComputerIInventorySlotWrapper.class, methodNames = "getInputItem")
@@ -150,7 +155,8 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
                     operatingTicks = 0;
                     if (suck()) {
                         energyContainer.extract(energyPerTick, Action.EXECUTE, AutomationType.INTERNAL);
-                    } else {
+                    } else if (recurringNodes.isEmpty()) {
+                        //Only reset if we ran out of nodes to check rather than just running out of nodes we can check this operation
                         reset();
                     }
                 }
@@ -170,24 +176,31 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
             }
         }
         //Even though we can add to recurring in the above for loop, we always then exit and don't get to here if we did so
-        List<BlockPos> tempPumpList = new ArrayList<>(recurringNodes);
-        Collections.shuffle(tempPumpList);
-        //Finally, go over the recurring list of nodes and see if there is a fluid block available to suck - if not, will iterate around the recurring block, attempt to suck,
-        //and then add the adjacent block to the recurring list
-        for (BlockPos tempPumpPos : tempPumpList) {
+        //Finally, go over the recurring nodes in order and see if there is a fluid block available to suck - if not, will iterate around the recurring block, attempt
+        //to suck, and then add the adjacent block to the recurring nodes. We only look at a limited number of nodes each operation so that huge bodies of fluid don't
+        //take too long to search through
+        int maxPumpRange = MekanismConfig.general.maxPumpRange.get();
+        for (int checked = 0; checked < MAX_NODES_PER_OPERATION && !recurringNodes.isEmpty(); checked++) {
+            long tempPumpNode = recurringNodes.dequeueLong();
+            queuedNodes.remove(tempPumpNode);
+            BlockPos tempPumpPos = BlockPos.of(tempPumpNode);
             if (suck(tempPumpPos, hasFilter, false)) {
+                //Keep the node around, as there may still be fluid around it
+                addRecurringNode(tempPumpNode);
                 return true;
             }
-            //Add all the blocks surrounding this recurring node to the recurring node list
+            //Add all the blocks surrounding this recurring node to the recurring nodes
             for (Direction orientation : EnumUtils.DIRECTIONS) {
                 BlockPos side = tempPumpPos.relative(orientation);
-                if (WorldUtils.distanceBetween(worldPosition, side) <= MekanismConfig.general.maxPumpRange.get()) {
+                if (WorldUtils.distanceBetween(worldPosition, side) <= maxPumpRange) {
                     if (suck(side, hasFilter, true)) {
+                        //Keep the node around, as there may still be fluid around it
+                        addRecurringNode(tempPumpNode);
                         return true;
                     }
                 }
             }
-            recurringNodes.remove(tempPumpPos);
+            //Otherwise, there is no fluid left around the node, so it doesn't get added back to the recurring nodes
         }
         return false;
     }
@@ -254,12 +267,18 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
         //Size doesn't matter, but we do want to take the NBT into account
         activeType = new FluidStack(fluidStack, 1);
         if (addRecurring) {
-            recurringNodes.add(pos);
+            addRecurringNode(pos.asLong());
         }
         fluidTank.insert(fluidStack, Action.EXECUTE, AutomationType.INTERNAL);
         level.gameEvent(GameEvent.FLUID_PICKUP, pos);
     }
 
+    private void addRecurringNode(long node) {
+        if (queuedNodes.add(node)) {
+            recurringNodes.enqueue(node);
+        }
+    }
+
     private boolean validFluid(@Nonnull FluidStack fluidStack, boolean recheckSize) {
         if (!fluidStack.isEmpty() && (activeType.isEmpty() || activeType.isFluidEqual(fluidStack))) {
             if (fluidTank.isEmpty()) {
@@ -274,6 +293,7 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
     public void reset() {
         activeType = FluidStack.EMPTY;
         recurringNodes.clear();
+        queuedNodes.clear();
     }
 
     @Override
@@ -284,11 +304,13 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
             nbtTags.put(NBTConstants.FLUID_STORED, activeType.writeToNBT(new CompoundTag()));
         }
         if (!recurringNodes.isEmpty()) {
-            ListTag recurringList = new ListTag();
-            for (BlockPos nodePos : recurringNodes) {
-                recurringList.add(NbtUtils.writeBlockPos(nodePos));
+            long[] nodes = new long[recurringNodes.size()];
+            for (int i = 0; i < nodes.length; i++) {
+                //Cycle through the queue to copy it without changing the order
+                nodes[i] = recurringNodes.dequeueLong();
+                recurringNodes.enqueue(nodes[i]);
             }
-            nbtTags.put(NBTConstants.RECURRING_NODES, recurringList);
+            nbtTags.putLongArray(NBTConstants.RECURRING_NODES, nodes);
         }
     }
 
@@ -297,10 +319,17 @@ public class TileEntityElectricPump extends TileEntityMekanism implements IConfi
         super.load(nbt);
         operatingTicks = nbt.getInt(NBTConstants.PROGRESS);
         NBTUtils.setFluidStackIfPresent(nbt, NBTConstants.FLUID_STORED, fluid -> activeType = fluid);
-        if (nbt.contains(NBTConstants.RECURRING_NODES, Tag.TAG_LIST)) {
+        recurringNodes.clear();
+        queuedNodes.clear();
+        if (nbt.contains(NBTConstants.RECURRING_NODES, Tag.TAG_LONG_ARRAY)) {
+            for (long node : nbt.getLongArray(NBTConstants.RECURRING_NODES)) {
+                addRecurringNode(node);
+            }
+        } else if (nbt.contains(NBTConstants.RECURRING_NODES, Tag.TAG_LIST)) {
+            //Legacy format that stored each node as a compound
             ListTag tagList = nbt.getList(NBTConstants.RECURRING_NODES, Tag.TAG_COMPOUND);
             for (int i = 0; i < tagList.size(); i++) {
-                recurringNodes.add(NbtUtils.readBlockPos(tagList.getCompound(i)));
+                addRecurringNode(NbtUtils.readBlockPos(tagList.getCompound(i)).asLong());
             }
         }
     }
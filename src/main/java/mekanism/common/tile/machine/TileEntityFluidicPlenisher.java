@@ -1,10 +1,8 @@
 package mekanism.common.tile.machine;
 
-import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
-import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
 import java.util.EnumSet;
 import java.util.List;
-import java.util.Set;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import mekanism.api.Action;
@@ -37,6 +35,7 @@ import mekanism.common.inventory.container.sync.SyncableBoolean;
 import mekanism.common.inventory.slot.EnergyInventorySlot;
 import mekanism.common.inventory.slot.FluidInventorySlot;
 import mekanism.common.inventory.slot.OutputInventorySlot;
+import mekanism.common.lib.collection.BlockPosBitSet;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.tile.base.SubstanceType;
 import mekanism.common.tile.base.TileEntityMekanism;
@@ -68,8 +67,13 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
      * How many ticks it takes to run an operation.
      */
     public static final int BASE_TICKS_REQUIRED = 20;
-    private final Set<BlockPos> activeNodes = new ObjectLinkedOpenHashSet<>();
-    private final Set<BlockPos> usedNodes = new ObjectOpenHashSet<>();
+    /**
+     * Maximum number of active nodes to skip over in a single operation because they are not loaded.
+     */
+    private static final int MAX_NODES_PER_OPERATION = 256;
+    private final LongArrayFIFOQueue activeNodes = new LongArrayFIFOQueue();
+    //Nodes that have been added to the active nodes, including the ones that have since been used
+    private final BlockPosBitSet visitedNodes = new BlockPosBitSet();
     public boolean finishedCalc;
     public int ticksRequired = BASE_TICKS_REQUIRED;
     /**
@@ -158,27 +162,29 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
     }
 
     private void doPlenish() {
-        if (usedNodes.size() >= MekanismConfig.general.maxPlenisherNodes.get()) {
+        //Note: The visited nodes that are no longer active are the ones we have used
+        if (visitedNodes.size() - activeNodes.size() >= MekanismConfig.general.maxPlenisherNodes.get()) {
             finishedCalc = true;
             return;
         }
         if (activeNodes.isEmpty()) {
-            if (usedNodes.isEmpty()) {
+            if (visitedNodes.isEmpty()) {
                 BlockPos below = getBlockPos().below();
                 if (!canReplace(below, true, true)) {
                     finishedCalc = true;
                     return;
                 }
-                activeNodes.add(below);
+                addActiveNode(below);
             } else {
                 finishedCalc = true;
                 return;
             }
         }
-        Set<BlockPos> toRemove = new ObjectOpenHashSet<>();
-        for (BlockPos nodePos : activeNodes) {
+        for (int checked = 0; checked < MAX_NODES_PER_OPERATION && !activeNodes.isEmpty(); checked++) {
+            BlockPos nodePos = BlockPos.of(activeNodes.dequeueLong());
             if (WorldUtils.isBlockLoaded(level, nodePos)) {
-                if (canReplace(nodePos, true, false) && canExtractBucket() &&
+                //Note: We don't check the nodes when checking the node itself, as it has been visited by definition
+                if (canReplace(nodePos, false, false) && canExtractBucket() &&
                     WorldUtils.tryPlaceContainedLiquid(null, level, nodePos, fluidTank.getFluid(), null)) {
                     level.gameEvent(GameEvent.FLUID_PLACE, nodePos);
                     fluidTank.extract(FluidAttributes.BUCKET_VOLUME, Action.EXECUTE, AutomationType.INTERNAL);
@@ -186,21 +192,23 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
                 for (Direction dir : dirs) {
                     BlockPos sidePos = nodePos.relative(dir);
                     if (WorldUtils.isBlockLoaded(level, sidePos) && canReplace(sidePos, true, true)) {
-                        activeNodes.add(sidePos);
+                        addActiveNode(sidePos);
                     }
                 }
-                toRemove.add(nodePos);
                 break;
-            } else {
-                toRemove.add(nodePos);
             }
+            //Otherwise, the node isn't loaded so just skip it
+        }
+    }
+
+    private void addActiveNode(BlockPos pos) {
+        if (visitedNodes.add(pos)) {
+            activeNodes.enqueue(pos.asLong());
         }
-        usedNodes.addAll(toRemove);
-        activeNodes.removeAll(toRemove);
     }
 
     private boolean canReplace(BlockPos pos, boolean checkNodes, boolean isPathfinding) {
-        if (checkNodes && usedNodes.contains(pos)) {
+        if (checkNodes && visitedNodes.contains(pos)) {
             return false;
         }
         BlockState state = level.getBlockState(pos);
@@ -237,18 +245,16 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
         nbtTags.putInt(NBTConstants.PROGRESS, operatingTicks);
         nbtTags.putBoolean(NBTConstants.FINISHED, finishedCalc);
         if (!activeNodes.isEmpty()) {
-            ListTag activeList = new ListTag();
-            for (BlockPos wrapper : activeNodes) {
-                activeList.add(NbtUtils.writeBlockPos(wrapper));
+            long[] nodes = new long[activeNodes.size()];
+            for (int i = 0; i < nodes.length; i++) {
+                //Cycle through the queue to copy it without changing the order
+                nodes[i] = activeNodes.dequeueLong();
+                activeNodes.enqueue(nodes[i]);
             }
-            nbtTags.put(NBTConstants.ACTIVE_NODES, activeList);
+            nbtTags.putLongArray(NBTConstants.ACTIVE_NODES, nodes);
         }
-        if (!usedNodes.isEmpty()) {
-            ListTag usedList = new ListTag();
-            for (BlockPos obj : usedNodes) {
-                usedList.add(NbtUtils.writeBlockPos(obj));
-            }
-            nbtTags.put(NBTConstants.USED_NODES, usedList);
+        if (!visitedNodes.isEmpty()) {
+            nbtTags.putLongArray(NBTConstants.USED_NODES, visitedNodes.toLongArray());
         }
     }
 
@@ -257,23 +263,34 @@ public class TileEntityFluidicPlenisher extends TileEntityMekanism implements IC
         super.load(nbt);
         operatingTicks = nbt.getInt(NBTConstants.PROGRESS);
         finishedCalc = nbt.getBoolean(NBTConstants.FINISHED);
-        if (nbt.contains(NBTConstants.ACTIVE_NODES, Tag.TAG_LIST)) {
-            ListTag tagList = nbt.getList(NBTConstants.ACTIVE_NODES, Tag.TAG_COMPOUND);
+        activeNodes.clear();
+        visitedNodes.clear();
+        if (nbt.contains(NBTConstants.USED_NODES, Tag.TAG_LONG_ARRAY)) {
+            visitedNodes.addFromLongArray(nbt.getLongArray(NBTConstants.USED_NODES));
+        } else if (nbt.contains(NBTConstants.USED_NODES, Tag.TAG_LIST)) {
+            //Legacy format that stored each node as a compound
+            ListTag tagList = nbt.getList(NBTConstants.USED_NODES, Tag.TAG_COMPOUND);
             for (int i = 0; i < tagList.size(); i++) {
-                activeNodes.add(NbtUtils.readBlockPos(tagList.getCompound(i)));
+                visitedNodes.add(NbtUtils.readBlockPos(tagList.getCompound(i)));
             }
         }
-        if (nbt.contains(NBTConstants.USED_NODES, Tag.TAG_LIST)) {
-            ListTag tagList = nbt.getList(NBTConstants.USED_NODES, Tag.TAG_COMPOUND);
+        if (nbt.contains(NBTConstants.ACTIVE_NODES, Tag.TAG_LONG_ARRAY)) {
+            for (long node : nbt.getLongArray(NBTConstants.ACTIVE_NODES)) {
+                //Note: Active nodes are already part of the visited nodes, unless we are loading legacy data
+                visitedNodes.add(node);
+                activeNodes.enqueue(node);
+            }
+        } else if (nbt.contains(NBTConstants.ACTIVE_NODES, Tag.TAG_LIST)) {
+            ListTag tagList = nbt.getList(NBTConstants.ACTIVE_NODES, Tag.TAG_COMPOUND);
             for (int i = 0; i < tagList.size(); i++) {
-                usedNodes.add(NbtUtils.readBlockPos(tagList.getCompound(i)));
+                addActiveNode(NbtUtils.readBlockPos(tagList.getCompound(i)));
             }
         }
     }
 
     public void reset() {
         activeNodes.clear();
-        usedNodes.clear();
+        visitedNodes.clear();
         finishedCalc = false;
     }
 
@@ -64,7 +64,7 @@ public class TileEntityInternalMultiblock extends TileEntityMekanism implements
         //Note: We handle when an internal multiblock is removed that isn't touching anything in BlockMekanism#onRemove
         if (!isRemote() && multiblock != null) {
             //If the neighbor change happened to a block inside a multiblock, and it isn't a block that is part of the multiblock
-            if (level.isEmptyBlock(neighborPos) || !multiblock.isKnownLocation(neighborPos)) {
+            if (multiblock.mayAffectFormation(level, neighborPos)) {
                 //And we are not already an internal part of the structure, or we are changing an internal part to air
                 // then we mark the structure as needing to be re-validated
                 //Note: This isn't a super accurate check as if a node gets replaced by command or mod with say dirt
@@ -395,12 +395,13 @@ public abstract class TileEntityMultiblock<T extends MultiblockData> extends Til
             T multiblock = getMultiblock();
             if (multiblock.isPositionInsideBounds(getStructure(), neighborPos)) {
                 //If the neighbor change happened from inside the bounds of the multiblock,
-                if (level.isEmptyBlock(neighborPos) || !multiblock.internalLocations.contains(neighborPos)) {
+                if (multiblock.mayAffectFormation(level, neighborPos)) {
                     //And we are not already an internal part of the structure, or we are changing an internal part to air
-                    // then we mark the structure as needing to be re-validated
+                    // then we mark the structure as needing to be re-validated. As the block isn't part of the frame of the
+                    // structure, we don't need to invalidate the structure itself and only need to check if it is still formed
                     //Note: This isn't a super accurate check as if a node gets replaced by command or mod with say dirt
                     // it won't know to invalidate it but oh well. (See java docs on internalLocations for more caveats)
-                    getStructure().markForUpdate(level, true);
+                    getStructure().markInternalChange(level);
                 }
             }
         }
@@ -82,6 +82,12 @@ public abstract class TileEntityRecipeMachine<RECIPE extends MekanismRecipe> ext
         return recipeCacheLookupMonitor;
     }
 
+    @Override
+    protected boolean canSleep() {
+        //Only sleep if we don't have a recipe to process and don't have anything left to eject
+        return recipeCacheLookupMonitor.getCachedRecipe(0) == null && recipeCacheLookupMonitor.hasNoRecipe(0) && (ejectorComponent == null || ejectorComponent.isIdle());
+    }
+
     @Override
     public void addContainerTrackers(MekanismContainer container) {
         super.addContainerTrackers(container);
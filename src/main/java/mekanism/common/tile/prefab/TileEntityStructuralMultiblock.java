@@ -156,12 +156,13 @@ public abstract class TileEntityStructuralMultiblock extends TileEntityMekanism
                 if (s.getController() != null) {
                     MultiblockData multiblockData = getMultiblockData(s);
                     if (multiblockData.isPositionInsideBounds(s, neighborPos)) {
-                        if (level.isEmptyBlock(neighborPos) || !multiblockData.internalLocations.contains(neighborPos)) {
+                        if (multiblockData.mayAffectFormation(level, neighborPos)) {
                             //And we are not already an internal part of the structure, or we are changing an internal part to air
-                            // then we mark the structure as needing to be re-validated
+                            // then we mark the structure as needing to be re-validated. As the block isn't part of the frame of the
+                            // structure, we don't need to invalidate the structure itself and only need to check if it is still formed
                             //Note: This isn't a super accurate check as if a node gets replaced by command or mod with say dirt
                             // it won't know to invalidate it but oh well. (See java docs on internalLocations for more caveats)
-                            s.markForUpdate(level, true);
+                            s.markInternalChange(level);
                         }
                     }
                 }
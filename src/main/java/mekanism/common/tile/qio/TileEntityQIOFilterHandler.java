@@ -1,6 +1,9 @@
 package mekanism.common.tile.qio;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import mekanism.api.NBTConstants;
 import mekanism.api.Upgrade;
@@ -26,6 +29,8 @@ import net.minecraft.world.level.block.state.BlockState;
 public class TileEntityQIOFilterHandler extends TileEntityQIOComponent implements ITileFilterHolder<QIOFilter<?>>, IHasSortableFilters, ISustainedData {
 
     private HashList<QIOFilter<?>> filters = new HashList<>();
+    //Copy of the filters from the last time we checked if they changed
+    private List<QIOFilter<?>> checkedFilters = Collections.emptyList();
 
     public TileEntityQIOFilterHandler(IBlockProvider blockProvider, BlockPos pos, BlockState state) {
         super(blockProvider, pos, state);
@@ -37,6 +42,22 @@ public class TileEntityQIOFilterHandler extends TileEntityQIOComponent implement
         return filters;
     }
 
+    /**
+     * Checks if the filters changed since the last time this was called, so that anything derived from the filters can be cached until they change.
+     */
+    protected boolean haveFiltersChanged() {
+        if (checkedFilters.equals(filters)) {
+            return false;
+        }
+        //Note: We copy the filters so that we can tell if any of them get modified
+        List<QIOFilter<?>> copy = new ArrayList<>(filters.size());
+        for (QIOFilter<?> filter : filters) {
+            copy.add(filter.clone());
+        }
+        checkedFilters = copy;
+        return true;
+    }
+
     @Override
     public void writeSustainedData(CompoundTag dataMap) {
         if (!filters.isEmpty()) {
@@ -1,18 +1,26 @@
 package mekanism.common.tile.qio;
 
-import java.util.HashSet;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import it.unimi.dsi.fastutil.objects.Object2BooleanMap;
+import it.unimi.dsi.fastutil.objects.Object2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
+import javax.annotation.Nullable;
 import mekanism.api.NBTConstants;
+import mekanism.common.CommonWorldTickHandler;
 import mekanism.common.Mekanism;
 import mekanism.common.content.qio.QIOFrequency;
-import mekanism.common.content.qio.filter.QIOFilter;
-import mekanism.common.content.transporter.TransporterManager;
 import mekanism.common.integration.computer.ComputerException;
 import mekanism.common.integration.computer.annotation.ComputerMethod;
 import mekanism.common.inventory.container.MekanismContainer;
 import mekanism.common.inventory.container.sync.SyncableBoolean;
+import mekanism.common.lib.inventory.Finder;
 import mekanism.common.lib.inventory.HashedItem;
 import mekanism.common.registries.MekanismBlocks;
 import mekanism.common.util.CapabilityUtils;
@@ -32,8 +40,16 @@ import net.minecraftforge.items.IItemHandler;
 public class TileEntityQIOImporter extends TileEntityQIOFilterHandler {
 
     private static final int MAX_DELAY = 10;
+    /**
+     * Maximum number of item types to remember whether our filters match, after which we forget them all.
+     */
+    private static final int MAX_CACHED_TYPES = 256;
     private int delay = 0;
     private boolean importWithoutFilter = true;
+    //Compiled form of our filters, and whether they matched the item types we have seen since the filters last changed
+    @Nullable
+    private Predicate<ItemStack> filterMatcher;
+    private final Object2BooleanMap<HashedItem> filterResults = new Object2BooleanOpenHashMap<>();
 
     public TileEntityQIOImporter(BlockPos pos, BlockState state) {
         super(MekanismBlocks.QIO_IMPORTER, pos, state);
@@ -42,6 +58,10 @@ public class TileEntityQIOImporter extends TileEntityQIOFilterHandler {
     @Override
     protected void onUpdateServer() {
         super.onUpdateServer();
+        if (CommonWorldTickHandler.flushTagAndRecipeCaches) {
+            //Tags may have changed which means the items our tag filters match may have as well
+            filterResults.clear();
+        }
         if (MekanismUtils.canFunction(this)) {
             if (delay > 0) {
                 delay--;
@@ -67,45 +87,101 @@ public class TileEntityQIOImporter extends TileEntityQIOFilterHandler {
             return;
         }
         IItemHandler inventory = capability.get();
-        Set<HashedItem> typesAdded = new HashSet<>();
-        int maxTypes = getMaxTransitTypes(), maxCount = getMaxTransitCount(), countAdded = 0;
+        updateFilterMatcher();
+        Set<HashedItem> typesToAdd = new ObjectOpenHashSet<>();
+        IntList slots = new IntArrayList();
+        List<ItemStack> toAdd = new ArrayList<>();
+        int maxTypes = getMaxTransitTypes(), maxCount = getMaxTransitCount(), countToAdd = 0;
 
-        for (int i = inventory.getSlots() - 1; i >= 0; i--) {
-            ItemStack stack = inventory.extractItem(i, maxCount - countAdded, true);
+        for (int i = inventory.getSlots() - 1; i >= 0 && countToAdd < maxCount; i--) {
+            ItemStack stack = inventory.extractItem(i, maxCount - countToAdd, true);
             if (stack.isEmpty()) {
                 continue;
             }
-            HashedItem type = HashedItem.create(stack);
+            //Note: We can use a raw type as we only persist it in our filter results after copying it
+            HashedItem type = HashedItem.raw(stack);
             // if we don't have room for another item type, skip
-            if (!typesAdded.contains(type) && typesAdded.size() == maxTypes) {
+            if (!typesToAdd.contains(type) && typesToAdd.size() == maxTypes) {
                 continue;
             }
             // if we can't filter this item type, skip
-            if (!canFilter(stack)) {
+            if (!canFilter(type, stack)) {
                 continue;
             }
-            ItemStack used = TransporterManager.getToUse(stack, freq.addItem(stack));
-            ItemStack ret = inventory.extractItem(i, used.getCount(), false);
-            if (!InventoryUtils.areItemsStackable(used, ret) || used.getCount() != ret.getCount()) {
-                Mekanism.logger.error("QIO insertion error: item handler {} returned {} during simulated extraction, "
-                                      + "but returned {} during execution. This is wrong!", back, stack, ret);
+            typesToAdd.add(type);
+            slots.add(i);
+            toAdd.add(stack);
+            countToAdd += stack.getCount();
+        }
+        if (toAdd.isEmpty()) {
+            return;
+        }
+        // add everything to the frequency in one go, and then extract what it actually accepted
+        int[] accepted = freq.addItems(toAdd);
+        for (int i = 0; i < accepted.length; i++) {
+            if (accepted[i] > 0) {
+                ItemStack stack = toAdd.get(i);
+                ItemStack ret = inventory.extractItem(slots.getInt(i), accepted[i], false);
+                int extracted = InventoryUtils.areItemsStackable(stack, ret) ? ret.getCount() : 0;
+                if (extracted < accepted[i]) {
+                    //Note: This can happen if multiple slots are backed by the same storage, as each slot's simulated extraction doesn't take the others into
+                    // account, so remove what we didn't actually extract from the frequency to avoid duplicating it
+                    freq.removeItem(stack, accepted[i] - extracted);
+                }
+                if (extracted != ret.getCount() || accepted[i] != ret.getCount()) {
+                    Mekanism.logger.error("QIO insertion error: item handler {} returned {} during simulated extraction, "
+                                          + "but returned {} during execution. This is wrong!", back, stack, ret);
+                }
             }
-            typesAdded.add(type);
-            countAdded += used.getCount();
         }
     }
 
-    private boolean canFilter(ItemStack stack) {
+    /**
+     * Recompiles our filters if they changed since we last compiled them.
+     */
+    private void updateFilterMatcher() {
+        if (importWithoutFilter && getFilters().isEmpty()) {
+            //No need to compile the filters as everything is allowed
+            return;
+        }
+        if (haveFiltersChanged() || filterMatcher == null) {
+            filterMatcher = compileFilters();
+            filterResults.clear();
+        }
+    }
+
+    private boolean canFilter(HashedItem type, ItemStack stack) {
         // quickly return true if we don't have any filters installed, and we allow for filterless importing
         if (importWithoutFilter && getFilters().isEmpty()) {
             return true;
+        } else if (filterMatcher == null) {
+            //Should not happen as we compile the filters before checking any items
+            return false;
         }
-        for (QIOFilter<?> filter : getFilters()) {
-            if (filter.getFinder().modifies(stack)) {
-                return true;
-            }
+        if (filterResults.containsKey(type)) {
+            return filterResults.getBoolean(type);
+        }
+        boolean matches = filterMatcher.test(stack);
+        if (filterResults.size() == MAX_CACHED_TYPES) {
+            filterResults.clear();
         }
-        return false;
+        filterResults.put(HashedItem.create(stack), matches);
+        return matches;
+    }
+
+    private Predicate<ItemStack> compileFilters() {
+        Finder[] finders = new Finder[getFilters().size()];
+        for (int i = 0; i < finders.length; i++) {
+            finders[i] = getFilters().get(i).getFinder();
+        }
+        return stack -> {
+            for (Finder finder : finders) {
+                if (finder.modifies(stack)) {
+                    return true;
+                }
+            }
+            return false;
+        };
     }
 
     @ComputerMethod
@@ -24,10 +24,15 @@ public final class CableUtils {
         emit(outputSides, energyContainer, from, energyContainer.getMaxEnergy());
     }
 
-    public static void emit(Set<Direction> outputSides, IEnergyContainer energyContainer, BlockEntity from, FloatingLong maxOutput) {
+    /**
+     * @return the amount of energy emitted
+     */
+    public static FloatingLong emit(Set<Direction> outputSides, IEnergyContainer energyContainer, BlockEntity from, FloatingLong maxOutput) {
         if (!energyContainer.isEmpty() && !maxOutput.isZero()) {
-            energyContainer.extract(emit(outputSides, energyContainer.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL), from), Action.EXECUTE, AutomationType.INTERNAL);
+            return energyContainer.extract(emit(outputSides, energyContainer.extract(maxOutput, Action.SIMULATE, AutomationType.INTERNAL), from), Action.EXECUTE,
+                  AutomationType.INTERNAL);
         }
+        return FloatingLong.ZERO;
     }
 
     /**
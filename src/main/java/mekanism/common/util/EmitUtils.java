@@ -3,10 +3,10 @@ package mekanism.common.util;
 import java.util.function.BiConsumer;
 import mekanism.api.math.FloatingLong;
 import mekanism.common.lib.distribution.FloatingLongSplitInfo;
-import mekanism.common.lib.distribution.IntegerSplitInfo;
+import mekanism.common.lib.distribution.FloatingLongTarget;
+import mekanism.common.lib.distribution.IntegerTarget;
 import mekanism.common.lib.distribution.LongSplitInfo;
-import mekanism.common.lib.distribution.SplitInfo;
-import mekanism.common.lib.distribution.Target;
+import mekanism.common.lib.distribution.LongTarget;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.level.Level;
@@ -19,25 +19,35 @@ public class EmitUtils {
 
     /**
      * @param <HANDLER>        The handler of our target.
-     * @param <TYPE>           The type of the number
-     * @param <EXTRA>          Any extra information we may need.
-     * @param <TARGET>         The emitter target.
+     * @param <EXTRA>          Any extra information we may need
      * @param availableTargets The targets to distribute toSend fairly among.
-     * @param splitInfo        Information containing the split.
+     * @param amountToSplit    The amount to split between all the targets
      * @param toSend           Any extra information such as gas stack or fluid stack.
      *
      * @return The amount that actually got sent.
      */
-    private static <HANDLER, TYPE extends Number & Comparable<TYPE>, EXTRA, TARGET extends Target<HANDLER, TYPE, EXTRA>> TYPE sendToAcceptors(
-          TARGET availableTargets, SplitInfo<TYPE> splitInfo, EXTRA toSend) {
+    public static <HANDLER, EXTRA> int sendToAcceptors(IntegerTarget<HANDLER, EXTRA> availableTargets, int amountToSplit, EXTRA toSend) {
+        //Note: The amount sent can't be more than the amount we are splitting, so it will fit in an int
+        return (int) sendToAcceptors((LongTarget<HANDLER, EXTRA>) availableTargets, amountToSplit, toSend);
+    }
+
+    /**
+     * @param <HANDLER>        The handler of our target.
+     * @param <EXTRA>          Any extra information we may need
+     * @param availableTargets The targets to distribute toSend fairly among.
+     * @param amountToSplit    The amount to split between all the targets
+     * @param toSend           Any extra information such as gas stack or fluid stack.
+     *
+     * @return The amount that actually got sent.
+     */
+    public static <HANDLER, EXTRA> long sendToAcceptors(LongTarget<HANDLER, EXTRA> availableTargets, long amountToSplit, EXTRA toSend) {
         if (availableTargets.getHandlerCount() == 0) {
-            return splitInfo.getTotalSent();
+            return 0;
         }
-
+        LongSplitInfo splitInfo = availableTargets.getSplitInfo(amountToSplit);
         //Simulate addition, sending when the requested amount is less than the amountPer
         // splitInfo gets adjusted to account for how much is actually sent
         availableTargets.sendPossible(toSend, splitInfo);
-
         //Only run this if we changed the amountPer from when we first/last ran things
         while (splitInfo.amountPerChanged) {
             splitInfo.amountPerChanged = false;
@@ -45,49 +55,30 @@ public class EmitUtils {
             // and if amountPer got changed again, and we need to rerun this
             availableTargets.shiftNeeded(splitInfo);
         }
-
         //Evenly distribute the remaining amount we have to give between all targets and handlers
         // splitInfo gets adjusted to account for how much is actually sent
         availableTargets.sendRemainingSplit(splitInfo);
         return splitInfo.getTotalSent();
     }
 
-    /**
-     * @param <HANDLER>        The handler of our target.
-     * @param <EXTRA>          Any extra information we may need
-     * @param <TARGET>         The emitter target
-     * @param availableTargets The targets to distribute toSend fairly among.
-     * @param amountToSplit    The amount to split between all the targets
-     * @param toSend           Any extra information such as gas stack or fluid stack.
-     *
-     * @return The amount that actually got sent.
-     */
-    public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Integer, EXTRA>> int sendToAcceptors(TARGET availableTargets, int amountToSplit, EXTRA toSend) {
-        return sendToAcceptors(availableTargets, new IntegerSplitInfo(amountToSplit, availableTargets.getHandlerCount()), toSend);
-    }
-
-    /**
-     * @param <HANDLER>        The handler of our target.
-     * @param <EXTRA>          Any extra information we may need
-     * @param <TARGET>         The emitter target
-     * @param availableTargets The targets to distribute toSend fairly among.
-     * @param amountToSplit    The amount to split between all the targets
-     * @param toSend           Any extra information such as gas stack or fluid stack.
-     *
-     * @return The amount that actually got sent.
-     */
-    public static <HANDLER, EXTRA, TARGET extends Target<HANDLER, Long, EXTRA>> long sendToAcceptors(TARGET availableTargets, long amountToSplit, EXTRA toSend) {
-        return sendToAcceptors(availableTargets, new LongSplitInfo(amountToSplit, availableTargets.getHandlerCount()), toSend);
-    }
-
     /**
      * @param availableTargets The EnergyAcceptorWrapper targets to send energy fairly to.
      * @param amountToSplit    The amount of energy to attempt to send
      *
      * @return The amount that actually got sent
      */
-    public static <HANDLER, TARGET extends Target<HANDLER, FloatingLong, FloatingLong>> FloatingLong sendToAcceptors(TARGET availableTargets, FloatingLong amountToSplit) {
-        return sendToAcceptors(availableTargets, new FloatingLongSplitInfo(amountToSplit, availableTargets.getHandlerCount()), amountToSplit);
+    public static <HANDLER> FloatingLong sendToAcceptors(FloatingLongTarget<HANDLER> availableTargets, FloatingLong amountToSplit) {
+        if (availableTargets.getHandlerCount() == 0) {
+            return FloatingLong.ZERO;
+        }
+        FloatingLongSplitInfo splitInfo = availableTargets.getSplitInfo(amountToSplit);
+        availableTargets.sendPossible(amountToSplit, splitInfo);
+        while (splitInfo.amountPerChanged) {
+            splitInfo.amountPerChanged = false;
+            availableTargets.shiftNeeded(splitInfo);
+        }
+        availableTargets.sendRemainingSplit(splitInfo);
+        return splitInfo.getTotalSent();
     }
 
     /**
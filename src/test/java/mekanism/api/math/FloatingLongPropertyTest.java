@@ -2,6 +2,7 @@ package mekanism.api.math;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import mekanism.api.math.FloatingLong.FloatingLongMath;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.quicktheories.QuickTheory;
@@ -118,4 +119,18 @@ class FloatingLongPropertyTest implements WithQuickTheories {
               longs().all()
         ).check((a, b) -> b == 0 || a.divide(b).equals(divideViaBigDecimal(a, FloatingLong.create(b))));
     }
+
+    @Test
+    @DisplayName("Test accumulator addition and subtraction")
+    void testAccumulatorAdditionSubtraction() {
+        floatingLongPairTheory().check((a, b) -> new FloatingLongMath(a).plus(b).toFloatingLong().equals(addViaBigDecimal(a, b)) &&
+                                                 new FloatingLongMath(a).minus(b).toFloatingLong().equals(subtractViaBigDecimal(a, b)));
+    }
+
+    @Test
+    @DisplayName("Test accumulator multiplying and dividing by long")
+    void testAccumulatorMultiplyDivide() {
+        floatingLongPairTheory().check((a, b) -> new FloatingLongMath(a).times(b).toFloatingLong().equals(multiplyViaBigDecimal(a, b)) &&
+                                                 (b.getValue() == 0 || new FloatingLongMath(a).divide(b.getValue()).toFloatingLong().equals(a.divide(b.getValue()))));
+    }
 }
\ No newline at end of file
@@ -66,6 +66,26 @@ class SearchQueryParserTest {
         Assertions.assertDoesNotThrow(() -> SearchQueryParser.parse("|4434|'f1419879182749182^?%#@*&$1@(#*$\"'"));
     }
 
+    @Test
+    @DisplayName("Test detecting queries that refine other queries")
+    void testRefines() {
+        refinesAssert("iron ing", "iron", true);
+        refinesAssert("@mek iron", "@me", true);
+        refinesAssert("IRON", "iron", true);
+        refinesAssert("iron", "", true);
+        // repeating a query type replaces the previous key, so this can match stacks the previous query didn't
+        refinesAssert("@mek @min", "@mek", false);
+        // alternatives can match more stacks
+        refinesAssert("iron | gold", "iron", false);
+        refinesAssert("(iron | gold)", "iron", false);
+        refinesAssert("iron", "iron ing", false);
+    }
+
+    private void refinesAssert(String query, String previous, boolean refines) {
+        SearchQueryList queryList = (SearchQueryList) SearchQueryParser.parse(query);
+        Assertions.assertEquals(refines, queryList.refines(SearchQueryParser.parse(previous)));
+    }
+
     private void queryAssert(String query, String mapResult) {
         Assertions.assertEquals(mapResult, SearchQueryParser.parse(query).toString());
     }
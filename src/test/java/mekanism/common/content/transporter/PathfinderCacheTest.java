@@ -0,0 +1,142 @@
+package mekanism.common.content.transporter;
+
+import java.util.ArrayList;
+import java.util.List;
+import mekanism.common.content.transporter.PathfinderCache.CachedPath;
+import mekanism.common.content.transporter.PathfinderCache.NetworkPaths;
+import mekanism.common.content.transporter.PathfinderCache.PathData;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test invalidating cached transporter paths based on network revisions")
+class PathfinderCacheTest {
+
+    //Two paths that share their first position and then go in different directions
+    private static final PathData EAST_DATA = new PathData(BlockPos.ZERO, new BlockPos(3, 0, 0), Direction.WEST);
+    private static final CachedPath EAST_PATH = new CachedPath(List.of(new BlockPos(3, 0, 0), new BlockPos(2, 0, 0), new BlockPos(1, 0, 0), BlockPos.ZERO), 4);
+    private static final PathData NORTH_DATA = new PathData(BlockPos.ZERO, new BlockPos(0, 0, -3), Direction.SOUTH);
+    private static final CachedPath NORTH_PATH = new CachedPath(List.of(new BlockPos(0, 0, -3), new BlockPos(0, 0, -2), new BlockPos(0, 0, -1), BlockPos.ZERO), 4);
+
+    private NetworkPaths paths;
+
+    @BeforeEach
+    void setup() {
+        paths = new NetworkPaths();
+        paths.put(EAST_DATA, EAST_PATH);
+        paths.put(NORTH_DATA, NORTH_PATH);
+    }
+
+    private static boolean valid(List<BlockPos> path) {
+        return true;
+    }
+
+    private void assertCached(PathData data, CachedPath expected) {
+        Assertions.assertSame(expected, paths.get(data, PathfinderCacheTest::valid));
+    }
+
+    private void assertNotCached(PathData data) {
+        Assertions.assertNull(paths.get(data, PathfinderCacheTest::valid));
+    }
+
+    private void remove(BlockPos... positions) {
+        Assertions.assertTrue(paths.markRemoved(List.of(positions)));
+    }
+
+    @Test
+    @DisplayName("Test removing a position only invalidates the paths that cross it")
+    void testRemovalInvalidatesCrossingPaths() {
+        remove(new BlockPos(2, 0, 0));
+        assertNotCached(EAST_DATA);
+        assertCached(NORTH_DATA, NORTH_PATH);
+        Assertions.assertEquals(1, paths.size());
+    }
+
+    @Test
+    @DisplayName("Test removing positions no path crosses keeps all the paths")
+    void testUnrelatedRemoval() {
+        remove(new BlockPos(0, 0, 1), new BlockPos(-1, 0, 0));
+        assertCached(EAST_DATA, EAST_PATH);
+        assertCached(NORTH_DATA, NORTH_PATH);
+        Assertions.assertEquals(2, paths.size());
+    }
+
+    @Test
+    @DisplayName("Test a shared position invalidates every path crossing it")
+    void testSharedPosition() {
+        remove(BlockPos.ZERO);
+        assertNotCached(EAST_DATA);
+        assertNotCached(NORTH_DATA);
+        Assertions.assertEquals(0, paths.size());
+    }
+
+    @Test
+    @DisplayName("Test paths cached after a removal are not invalidated by it")
+    void testCachedAfterRemoval() {
+        remove(new BlockPos(2, 0, 0));
+        //A new path gets found across the same position, for example after a transporter was placed there again
+        paths.put(EAST_DATA, EAST_PATH);
+        assertCached(EAST_DATA, EAST_PATH);
+        //But later removals of the position still invalidate it
+        remove(new BlockPos(2, 0, 0));
+        assertNotCached(EAST_DATA);
+    }
+
+    @Test
+    @DisplayName("Test paths that were checked at an older revision are still invalidated by later removals")
+    void testRevalidatedPath() {
+        remove(new BlockPos(5, 0, 5));
+        //Checking the path brings it up to date with the current revision
+        assertCached(EAST_DATA, EAST_PATH);
+        remove(new BlockPos(7, 0, 7));
+        remove(new BlockPos(1, 0, 0));
+        remove(new BlockPos(9, 0, 9));
+        assertNotCached(EAST_DATA);
+        assertCached(NORTH_DATA, NORTH_PATH);
+    }
+
+    @Test
+    @DisplayName("Test paths the stack can't use are evicted")
+    void testValidatorEvicts() {
+        Assertions.assertNull(paths.get(EAST_DATA, path -> false));
+        Assertions.assertEquals(1, paths.size());
+        assertNotCached(EAST_DATA);
+        assertCached(NORTH_DATA, NORTH_PATH);
+    }
+
+    @Test
+    @DisplayName("Test the least recently used paths are evicted when too many are cached")
+    void testEviction() {
+        //Look up the east path so that the north path is the least recently used one
+        assertCached(EAST_DATA, EAST_PATH);
+        List<PathData> added = new ArrayList<>();
+        //Fill the cache up to the limit, without evicting anything yet
+        for (int i = 0; i < PathfinderCache.MAX_CACHED_PATHS - 2; i++) {
+            PathData data = new PathData(new BlockPos(i, 1, 0), BlockPos.ZERO, Direction.UP);
+            paths.put(data, EAST_PATH);
+            added.add(data);
+        }
+        Assertions.assertEquals(PathfinderCache.MAX_CACHED_PATHS, paths.size());
+        paths.put(new PathData(BlockPos.ZERO, BlockPos.ZERO, Direction.DOWN), EAST_PATH);
+        Assertions.assertEquals(PathfinderCache.MAX_CACHED_PATHS, paths.size());
+        assertNotCached(NORTH_DATA);
+        assertCached(EAST_DATA, EAST_PATH);
+        assertCached(added.get(0), EAST_PATH);
+    }
+
+    @Test
+    @DisplayName("Test too many removed positions falls back to invalidating everything")
+    void testTooManyChanges() {
+        List<BlockPos> positions = new ArrayList<>();
+        for (int i = 0; i < PathfinderCache.MAX_TRACKED_CHANGES; i++) {
+            positions.add(new BlockPos(i, 100, 0));
+        }
+        Assertions.assertTrue(paths.markRemoved(positions));
+        //Removing the same positions again doesn't need to track anything new
+        Assertions.assertTrue(paths.markRemoved(positions));
+        Assertions.assertFalse(paths.markRemoved(List.of(new BlockPos(0, 101, 0))));
+    }
+}
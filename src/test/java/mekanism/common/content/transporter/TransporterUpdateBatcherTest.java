@@ -0,0 +1,158 @@
+package mekanism.common.content.transporter;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSets;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import mekanism.common.content.transporter.TransporterUpdateBatcher.ChunkChanges;
+import mekanism.common.content.transporter.TransporterUpdateBatcher.TransporterChanges;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test the order transporter stack changes are batched and sent in")
+class TransporterUpdateBatcherTest {
+
+    private static final UUID PLAYER = new UUID(0, 1);
+    private static final UUID OTHER_PLAYER = new UUID(0, 2);
+    private static final ChunkPos CHUNK = new ChunkPos(0, 0);
+    private static final ChunkPos OTHER_CHUNK = new ChunkPos(-1, 3);
+    private static final BlockPos POS = new BlockPos(1, 64, 2);
+    private static final BlockPos OTHER_POS = new BlockPos(3, 64, 4);
+
+    @BeforeEach
+    void setup() {
+        TransporterUpdateBatcher.reset();
+    }
+
+    //Note: The stacks themselves are not looked at while batching, so we only keep track of which stack ids changed
+    private static void update(ChunkChanges changes, BlockPos pos, int... stackIds) {
+        Int2ObjectMap<TransporterStack> updates = new Int2ObjectOpenHashMap<>();
+        for (int stackId : stackIds) {
+            updates.put(stackId, null);
+        }
+        changes.getOrCreate(pos, null).add(updates, IntSets.EMPTY_SET);
+    }
+
+    private static void delete(ChunkChanges changes, BlockPos pos, int... stackIds) {
+        changes.getOrCreate(pos, null).add(new Int2ObjectOpenHashMap<>(), new IntOpenHashSet(stackIds));
+    }
+
+    private static ChunkChanges tick(ChunkPos chunk, int... updatedStackIds) {
+        ChunkChanges changes = new ChunkChanges(null, chunk);
+        update(changes, POS, updatedStackIds);
+        return changes;
+    }
+
+    private static void assertChanges(ChunkChanges changes, BlockPos pos, Set<Integer> updated, Set<Integer> deleted) {
+        Assertions.assertNotNull(changes);
+        TransporterChanges transporterChanges = changes.getTransporters().stream()
+              .filter(c -> c.pos.equals(pos))
+              .findFirst()
+              .orElseThrow();
+        Assertions.assertEquals(updated, transporterChanges.updates.keySet());
+        Assertions.assertEquals(deleted, transporterChanges.deletes);
+    }
+
+    @Test
+    @DisplayName("Test changes in a tick are merged in the order they were queued")
+    void testMergeWithinTick() {
+        ChunkChanges changes = new ChunkChanges(null, CHUNK);
+        update(changes, POS, 1, 2);
+        delete(changes, POS, 1);
+        assertChanges(changes, POS, Set.of(2), Set.of(1));
+        update(changes, POS, 1);
+        delete(changes, POS, 2, 3);
+        assertChanges(changes, POS, Set.of(1), Set.of(2, 3));
+    }
+
+    @Test
+    @DisplayName("Test transporters in a chunk are sent in the order they first changed")
+    void testTransporterOrder() {
+        ChunkChanges changes = new ChunkChanges(null, CHUNK);
+        update(changes, OTHER_POS, 1);
+        update(changes, POS, 2);
+        update(changes, OTHER_POS, 3);
+        Assertions.assertEquals(List.of(OTHER_POS, POS), changes.getTransporters().stream().map(c -> c.pos).toList());
+        //Holding back the changes keeps the order
+        TransporterUpdateBatcher.defer(PLAYER, changes);
+        ChunkChanges heldBack = TransporterUpdateBatcher.takeDeferred(PLAYER, CHUNK);
+        Assertions.assertNotNull(heldBack);
+        Assertions.assertEquals(List.of(OTHER_POS, POS), heldBack.getTransporters().stream().map(c -> c.pos).toList());
+    }
+
+    @Test
+    @DisplayName("Test changes held back over multiple ticks are merged in order")
+    void testDeferredMergedAcrossTicks() {
+        TransporterUpdateBatcher.defer(PLAYER, tick(CHUNK, 1));
+        ChunkChanges second = tick(CHUNK, 2);
+        delete(second, POS, 1);
+        TransporterUpdateBatcher.defer(PLAYER, second);
+        ChunkChanges third = new ChunkChanges(null, CHUNK);
+        delete(third, POS, 2);
+        update(third, OTHER_POS, 4);
+        TransporterUpdateBatcher.defer(PLAYER, third);
+
+        Map<UUID, Long2ObjectMap<ChunkChanges>> deferred = TransporterUpdateBatcher.takeAllDeferred();
+        Assertions.assertEquals(Set.of(PLAYER), deferred.keySet());
+        ChunkChanges merged = deferred.get(PLAYER).get(CHUNK.toLong());
+        assertChanges(merged, POS, Set.of(), Set.of(1, 2));
+        assertChanges(merged, OTHER_POS, Set.of(4), Set.of());
+        //Once taken, nothing is held back anymore
+        Assertions.assertTrue(TransporterUpdateBatcher.takeAllDeferred().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test held back changes are only sent once when the player moves close to the chunk")
+    void testHeldBackTakenBeforeImmediate() {
+        //Player is far away when a stack gets added
+        TransporterUpdateBatcher.defer(PLAYER, tick(CHUNK, 1));
+        TransporterUpdateBatcher.defer(PLAYER, tick(OTHER_CHUNK, 5));
+        //Player then moves close to the chunk, so it gets the held back add before the immediate delete
+        ChunkChanges heldBack = TransporterUpdateBatcher.takeDeferred(PLAYER, CHUNK);
+        assertChanges(heldBack, POS, Set.of(1), Set.of());
+        Assertions.assertNull(TransporterUpdateBatcher.takeDeferred(PLAYER, CHUNK));
+        //The periodic flush of held back changes must not send the old add again after the delete, but still sends the other chunk
+        Map<UUID, Long2ObjectMap<ChunkChanges>> deferred = TransporterUpdateBatcher.takeAllDeferred();
+        Assertions.assertEquals(Set.of(OTHER_CHUNK.toLong()), deferred.get(PLAYER).keySet());
+        assertChanges(deferred.get(PLAYER).get(OTHER_CHUNK.toLong()), POS, Set.of(5), Set.of());
+    }
+
+    @Test
+    @DisplayName("Test changes are held back separately for each player")
+    void testPerPlayer() {
+        ChunkChanges changes = tick(CHUNK, 1);
+        TransporterUpdateBatcher.defer(PLAYER, changes);
+        TransporterUpdateBatcher.defer(OTHER_PLAYER, changes);
+        ChunkChanges later = new ChunkChanges(null, CHUNK);
+        delete(later, POS, 1);
+        TransporterUpdateBatcher.defer(OTHER_PLAYER, later);
+        assertChanges(TransporterUpdateBatcher.takeDeferred(PLAYER, CHUNK), POS, Set.of(1), Set.of());
+        assertChanges(TransporterUpdateBatcher.takeDeferred(OTHER_PLAYER, CHUNK), POS, Set.of(), Set.of(1));
+    }
+
+    @Test
+    @DisplayName("Test held back changes are dropped when the player gets the state some other way")
+    void testClear() {
+        TransporterUpdateBatcher.defer(PLAYER, tick(CHUNK, 1));
+        TransporterUpdateBatcher.defer(PLAYER, tick(OTHER_CHUNK, 2));
+        TransporterUpdateBatcher.defer(OTHER_PLAYER, tick(CHUNK, 3));
+        TransporterUpdateBatcher.clearChunk(PLAYER, CHUNK);
+        Assertions.assertNull(TransporterUpdateBatcher.takeDeferred(PLAYER, CHUNK));
+        assertChanges(TransporterUpdateBatcher.takeDeferred(PLAYER, OTHER_CHUNK), POS, Set.of(2), Set.of());
+
+        TransporterUpdateBatcher.defer(PLAYER, tick(OTHER_CHUNK, 4));
+        TransporterUpdateBatcher.clearPlayer(PLAYER);
+        Map<UUID, Long2ObjectMap<ChunkChanges>> deferred = TransporterUpdateBatcher.takeAllDeferred();
+        Assertions.assertEquals(Set.of(OTHER_PLAYER), deferred.keySet());
+        assertChanges(deferred.get(OTHER_PLAYER).get(CHUNK.toLong()), POS, Set.of(3), Set.of());
+    }
+}
@@ -0,0 +1,147 @@
+package mekanism.common.inventory.container.sync.list;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Nonnull;
+import mekanism.common.inventory.container.sync.ISyncableData.DirtyType;
+import mekanism.common.network.to_client.container.property.list.ListPropertyData;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test syncing changed ranges of SyncableList")
+class SyncableListTest {
+
+    private List<String> serverList;
+    private List<String> clientList;
+    private TestSyncableList server;
+    private TestSyncableList client;
+
+    @BeforeEach
+    void setup() {
+        serverList = new ArrayList<>(List.of("a", "b", "c", "d", "e"));
+        clientList = new ArrayList<>();
+        server = new TestSyncableList(serverList);
+        client = new TestSyncableList(clientList);
+        sync();
+    }
+
+    /**
+     * Syncs the server list to the client list if it is dirty, and checks they match afterwards.
+     *
+     * @return {@code true} if anything was synced.
+     */
+    private boolean sync() {
+        if (server.isDirty() == DirtyType.CLEAN) {
+            return false;
+        }
+        server.getPropertyData((short) 0, DirtyType.DIRTY);
+        if (server.syncedStart == -1) {
+            client.set(new ArrayList<>(server.syncedValues));
+        } else {
+            client.applyChange(server.syncedStart, server.syncedRemoved, server.syncedValues);
+        }
+        Assertions.assertEquals(serverList, clientList);
+        return true;
+    }
+
+    private void assertSynced(int start, int removed, List<String> values) {
+        Assertions.assertTrue(sync());
+        Assertions.assertEquals(start, server.syncedStart);
+        Assertions.assertEquals(removed, server.syncedRemoved);
+        Assertions.assertEquals(values, server.syncedValues);
+    }
+
+    @Test
+    @DisplayName("Test the initial sync is the full list and nothing is synced when unchanged")
+    void testInitialSync() {
+        Assertions.assertEquals(-1, server.syncedStart);
+        Assertions.assertEquals(serverList, server.syncedValues);
+        Assertions.assertFalse(sync());
+    }
+
+    @Test
+    @DisplayName("Test changing a single element only syncs that element")
+    void testReplaceElement() {
+        serverList.set(2, "x");
+        assertSynced(2, 1, List.of("x"));
+        serverList.set(0, "y");
+        assertSynced(0, 1, List.of("y"));
+        serverList.set(4, "z");
+        assertSynced(4, 1, List.of("z"));
+    }
+
+    @Test
+    @DisplayName("Test adding elements only syncs the added elements")
+    void testAddElements() {
+        serverList.add("f");
+        assertSynced(5, 0, List.of("f"));
+        serverList.add(0, "g");
+        assertSynced(0, 0, List.of("g"));
+        serverList.addAll(3, List.of("h", "i"));
+        assertSynced(3, 0, List.of("h", "i"));
+    }
+
+    @Test
+    @DisplayName("Test removing elements only syncs the removed range")
+    void testRemoveElements() {
+        serverList.remove(4);
+        assertSynced(4, 1, List.of());
+        serverList.remove(0);
+        assertSynced(0, 1, List.of());
+        serverList.remove(1);
+        assertSynced(1, 1, List.of());
+        Assertions.assertEquals(List.of("b", "d"), clientList);
+    }
+
+    @Test
+    @DisplayName("Test replacing every element syncs the full list")
+    void testReplaceAll() {
+        serverList.replaceAll(value -> value + value);
+        Assertions.assertTrue(sync());
+        Assertions.assertEquals(-1, server.syncedStart);
+        serverList.clear();
+        Assertions.assertTrue(sync());
+        Assertions.assertEquals(-1, server.syncedStart);
+        Assertions.assertTrue(clientList.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test a full sync to a new listener after the list grew records the new elements as synced")
+    void testFullSyncAfterGrowing() {
+        for (int i = 0; i < 20; i++) {
+            serverList.add("n" + i);
+        }
+        //Sync the full list without checking if it is dirty first, like happens when a new listener is added
+        server.getPropertyData((short) 0, DirtyType.DIRTY);
+        client.set(new ArrayList<>(server.syncedValues));
+        Assertions.assertEquals(serverList, clientList);
+        Assertions.assertFalse(sync());
+        serverList.set(10, "x");
+        assertSynced(10, 1, List.of("x"));
+    }
+
+    private static class TestSyncableList extends SyncableList<String> {
+
+        private List<String> syncedValues;
+        private int syncedStart;
+        private int syncedRemoved;
+
+        private TestSyncableList(List<String> list) {
+            super(() -> list, value -> {
+                list.clear();
+                list.addAll(value);
+            });
+        }
+
+        @Override
+        protected ListPropertyData<String> createPropertyData(short property, @Nonnull List<String> values, int changeStart, int changeRemoved) {
+            syncedValues = values;
+            syncedStart = changeStart;
+            syncedRemoved = changeRemoved;
+            //Note: We don't need the actual property data as we apply the change directly
+            return null;
+        }
+    }
+}
\ No newline at end of file
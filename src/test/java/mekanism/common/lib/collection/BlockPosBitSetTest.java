@@ -0,0 +1,119 @@
+package mekanism.common.lib.collection;
+
+import java.util.List;
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test BlockPosBitSet")
+class BlockPosBitSetTest {
+
+    //Positions on either side of section boundaries, including ones with negative coordinates
+    private static final List<BlockPos> POSITIONS = List.of(
+          new BlockPos(0, 0, 0),
+          new BlockPos(15, 15, 15),
+          new BlockPos(16, 16, 16),
+          new BlockPos(-1, -1, -1),
+          new BlockPos(-16, -16, -16),
+          new BlockPos(-17, -17, -17),
+          new BlockPos(15, -1, 16),
+          new BlockPos(-1, 64, 0),
+          new BlockPos(-30_000_000, -64, 30_000_000),
+          new BlockPos(29_999_999, 319, -29_999_999)
+    );
+
+    private static BlockPosBitSet createSet() {
+        BlockPosBitSet set = new BlockPosBitSet();
+        for (BlockPos pos : POSITIONS) {
+            Assertions.assertTrue(set.add(pos), () -> "Failed to add " + pos);
+        }
+        return set;
+    }
+
+    private static void assertContainsOnly(BlockPosBitSet set) {
+        Assertions.assertEquals(POSITIONS.size(), set.size());
+        for (BlockPos pos : POSITIONS) {
+            Assertions.assertTrue(set.contains(pos), () -> "Missing " + pos);
+            //Check the neighbors to make sure the position didn't get stored as a different position in the same or an adjacent section
+            for (BlockPos offset : List.of(pos.above(), pos.below(), pos.north(), pos.south(), pos.east(), pos.west())) {
+                Assertions.assertEquals(POSITIONS.contains(offset), set.contains(offset), () -> "Unexpected state for " + offset + " next to " + pos);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Test adding and removing positions on section boundaries")
+    void testAddRemove() {
+        BlockPosBitSet set = createSet();
+        assertContainsOnly(set);
+        for (BlockPos pos : POSITIONS) {
+            Assertions.assertFalse(set.add(pos), () -> "Added " + pos + " twice");
+        }
+        Assertions.assertEquals(POSITIONS.size(), set.size());
+        for (BlockPos pos : POSITIONS) {
+            Assertions.assertTrue(set.remove(pos.asLong()), () -> "Failed to remove " + pos);
+            Assertions.assertFalse(set.contains(pos));
+            Assertions.assertFalse(set.remove(pos.asLong()), () -> "Removed " + pos + " twice");
+        }
+        Assertions.assertTrue(set.isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test every position in a section with negative coordinates")
+    void testFullSection() {
+        BlockPosBitSet set = new BlockPosBitSet();
+        for (BlockPos pos : BlockPos.betweenClosed(-16, -16, -16, -1, -1, -1)) {
+            Assertions.assertTrue(set.add(pos));
+        }
+        Assertions.assertEquals(16 * 16 * 16, set.size());
+        Assertions.assertFalse(set.contains(new BlockPos(0, -1, -1)));
+        Assertions.assertFalse(set.contains(new BlockPos(-17, -1, -1)));
+        Assertions.assertFalse(set.contains(new BlockPos(-1, 0, -1)));
+        Assertions.assertFalse(set.contains(new BlockPos(-1, -1, -17)));
+        //A full section is a single key followed by a bitmap with every bit set
+        long[] data = set.toLongArray();
+        Assertions.assertEquals(1 + 64, data.length);
+        for (int i = 1; i < data.length; i++) {
+            Assertions.assertEquals(-1L, data[i]);
+        }
+    }
+
+    @Test
+    @DisplayName("Test writing to and reading from a long array")
+    void testLongArrayRoundTrip() {
+        long[] data = createSet().toLongArray();
+        BlockPosBitSet read = new BlockPosBitSet();
+        read.addFromLongArray(data);
+        assertContainsOnly(read);
+        //Reading the same data again should not add anything
+        read.addFromLongArray(data);
+        assertContainsOnly(read);
+    }
+
+    @Test
+    @DisplayName("Test reading from a long array into a set that overlaps it")
+    void testLongArrayMerge() {
+        BlockPosBitSet set = new BlockPosBitSet();
+        set.add(POSITIONS.get(0));
+        set.add(new BlockPos(1, 0, 0));
+        set.addFromLongArray(createSet().toLongArray());
+        Assertions.assertEquals(POSITIONS.size() + 1, set.size());
+        Assertions.assertTrue(set.contains(new BlockPos(1, 0, 0)));
+        for (BlockPos pos : POSITIONS) {
+            Assertions.assertTrue(set.contains(pos), () -> "Missing " + pos);
+        }
+    }
+
+    @Test
+    @DisplayName("Test empty sets and truncated data")
+    void testEmptyLongArray() {
+        BlockPosBitSet set = new BlockPosBitSet();
+        Assertions.assertEquals(0, set.toLongArray().length);
+        set.addFromLongArray(new long[0]);
+        Assertions.assertTrue(set.isEmpty());
+        //A partial section should be ignored rather than reading past the end
+        set.addFromLongArray(new long[]{0, -1L, -1L});
+        Assertions.assertTrue(set.isEmpty());
+    }
+}
\ No newline at end of file
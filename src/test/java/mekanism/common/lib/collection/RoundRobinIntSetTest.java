@@ -0,0 +1,116 @@
+package mekanism.common.lib.collection;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test cycling through a RoundRobinIntSet")
+class RoundRobinIntSetTest {
+
+    private RoundRobinIntSet set;
+
+    @BeforeEach
+    void setup() {
+        set = new RoundRobinIntSet();
+        for (int i = 0; i < 5; i++) {
+            set.add(i);
+        }
+    }
+
+    private void assertNext(int... expected) {
+        for (int element : expected) {
+            Assertions.assertEquals(element, set.next());
+        }
+    }
+
+    @Test
+    @DisplayName("Test an empty set has no next element")
+    void testEmpty() {
+        RoundRobinIntSet empty = new RoundRobinIntSet();
+        Assertions.assertTrue(empty.isEmpty());
+        Assertions.assertEquals(-1, empty.next());
+    }
+
+    @Test
+    @DisplayName("Test cycling wraps around to the first element")
+    void testWrapAround() {
+        assertNext(0, 1, 2, 3, 4, 0, 1);
+    }
+
+    @Test
+    @DisplayName("Test removing an element before the cursor")
+    void testRemoveBeforeCursor() {
+        assertNext(0, 1, 2);
+        set.remove(1);
+        assertNext(3, 4, 0, 2);
+    }
+
+    @Test
+    @DisplayName("Test removing the element at the cursor continues with the element after it")
+    void testRemoveAtCursor() {
+        assertNext(0, 1, 2);
+        set.remove(2);
+        assertNext(3, 4, 0, 1, 3);
+    }
+
+    @Test
+    @DisplayName("Test removing the first element when it is at the cursor")
+    void testRemoveFirstAtCursor() {
+        assertNext(0);
+        set.remove(0);
+        assertNext(1, 2, 3, 4, 1);
+    }
+
+    @Test
+    @DisplayName("Test removing the last element when it is at the cursor wraps around")
+    void testRemoveLastAtCursor() {
+        assertNext(0, 1, 2, 3, 4);
+        set.remove(4);
+        assertNext(0, 1, 2, 3, 0);
+    }
+
+    @Test
+    @DisplayName("Test removing an element after the cursor")
+    void testRemoveAfterCursor() {
+        assertNext(0, 1);
+        set.remove(3);
+        assertNext(2, 4, 0);
+    }
+
+    @Test
+    @DisplayName("Test adding an element after the cursor is reached before wrapping around")
+    void testAddAfterCursor() {
+        assertNext(0, 1, 2, 3, 4);
+        set.add(5);
+        assertNext(5, 0);
+    }
+
+    @Test
+    @DisplayName("Test removing every element")
+    void testRemoveAll() {
+        assertNext(0, 1);
+        for (int i = 0; i < 5; i++) {
+            set.remove(i);
+        }
+        Assertions.assertEquals(-1, set.next());
+        set.add(7);
+        assertNext(7, 7);
+    }
+
+    @Test
+    @DisplayName("Test clearing and adding the elements back keeps the cursor")
+    void testClearKeepsCursor() {
+        assertNext(0, 1, 2);
+        set.clear();
+        for (int i = 0; i < 5; i++) {
+            set.add(i);
+        }
+        assertNext(3, 4, 0);
+        set.clear();
+        set.add(1);
+        set.add(4);
+        //The cursor is no longer in the set, so start back from the first element
+        assertNext(1, 4, 1);
+    }
+}
\ No newline at end of file
@@ -1,6 +1,6 @@
 package mekanism.common.lib.distribution;
 
-import mekanism.common.lib.distribution.target.IntegerTarget;
+import mekanism.common.lib.distribution.target.IntegerHandlerTarget;
 import mekanism.common.util.EmitUtils;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,7 +13,7 @@ import org.quicktheories.impl.Constraint;
 @DisplayName("Property based testing of distribution via EmitUtils")
 class DistributionPropertyTest implements WithQuickTheories {
 
-    private Gen<IntegerTarget> createTargets(int minInfinite, int maxInfinite, int minSome, int maxSome, int minNone, int maxNone) {
+    private Gen<IntegerHandlerTarget> createTargets(int minInfinite, int maxInfinite, int minSome, int maxSome, int minNone, int maxNone) {
         Constraint infiniteConstraint = Constraint.between(minInfinite, maxInfinite).withShrinkPoint(0);
         Constraint someConstraint = Constraint.between(minSome, maxSome).withShrinkPoint(0);
         Constraint noneConstraint = Constraint.between(minNone, maxNone).withShrinkPoint(0);
@@ -21,7 +21,7 @@ class DistributionPropertyTest implements WithQuickTheories {
         return prng -> DistributionTest.getTargets((int) prng.next(infiniteConstraint), (int) prng.next(someConstraint), (int) prng.next(noneConstraint));
     }
 
-    private TheoryBuilder2<IntegerTarget, Integer> distributionTheory(int minInfinite, int maxInfinite, int minSome, int maxSome, int minNone, int maxNone) {
+    private TheoryBuilder2<IntegerHandlerTarget, Integer> distributionTheory(int minInfinite, int maxInfinite, int minSome, int maxSome, int minNone, int maxNone) {
         return qt().forAll(createTargets(minInfinite, maxInfinite, minSome, maxSome, minNone, maxNone), integers().allPositive());
     }
 
@@ -6,7 +6,7 @@ import mekanism.common.lib.distribution.handler.InfiniteIntegerHandler;
 import mekanism.common.lib.distribution.handler.IntegerHandler;
 import mekanism.common.lib.distribution.handler.PartialIntegerHandler;
 import mekanism.common.lib.distribution.handler.SpecificAmountIntegerHandler;
-import mekanism.common.lib.distribution.target.IntegerTarget;
+import mekanism.common.lib.distribution.target.IntegerHandlerTarget;
 import mekanism.common.util.EmitUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -15,15 +15,15 @@ import org.junit.jupiter.api.Test;
 @DisplayName("Test Distribution via EmitUtils")
 class DistributionTest {
 
-    public static IntegerTarget getTargets(int infinite, int some, int none) {
-        IntegerTarget target = new IntegerTarget();
+    public static IntegerHandlerTarget getTargets(int infinite, int some, int none) {
+        IntegerHandlerTarget target = new IntegerHandlerTarget();
         addTargets(target, InfiniteIntegerHandler::new, infinite);
         addTargets(target, PartialIntegerHandler::new, some);
         addTargets(target, () -> new SpecificAmountIntegerHandler(0), none);
         return target;
     }
 
-    private static void addTargets(IntegerTarget targets, Supplier<IntegerHandler> targetSupplier, int count) {
+    private static void addTargets(IntegerHandlerTarget targets, Supplier<IntegerHandler> targetSupplier, int count) {
         for (int i = 0; i < count; i++) {
             targets.addHandler(targetSupplier.get());
         }
@@ -33,7 +33,7 @@ class DistributionTest {
     @DisplayName("Test sending to targets where the amounts divide evenly")
     void testEvenDistribution() {
         int toSend = 10;
-        IntegerTarget availableAcceptors = getTargets(toSend, 0, 0);
+        IntegerHandlerTarget availableAcceptors = getTargets(toSend, 0, 0);
         Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend));
     }
 
@@ -41,7 +41,7 @@ class DistributionTest {
     @DisplayName("Test sending to non divisible amounts")
     void testRemainderDistribution() {
         int toSend = 10;
-        IntegerTarget availableAcceptors = getTargets(7, 0, 0);
+        IntegerHandlerTarget availableAcceptors = getTargets(7, 0, 0);
         Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend));
     }
 
@@ -49,10 +49,10 @@ class DistributionTest {
     @DisplayName("Test sending to more targets than we have enough to send one to each of")
     void testAllRemainder() {
         int toSend = 3;
-        IntegerTarget availableAcceptors = getTargets(7, 0, 0);
+        IntegerHandlerTarget availableAcceptors = getTargets(7, 0, 0);
         Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend));
         //TODO: Make it so that we try to send this more evenly initially before falling back to send to remainders?
-        /*for (IntegerTarget availableAcceptor : availableAcceptors) {
+        /*for (IntegerHandlerTarget availableAcceptor : availableAcceptors) {
             System.out.println("Amount accepted: " + availableAcceptor.getAccepted());
         }*/
     }
@@ -64,7 +64,7 @@ class DistributionTest {
         //Three targets so that we have a split of one and a remainder of two (initial)
         //First one can accept exactly one
         //total to send -> 4, to split among -> 2, to send -> 2 (remainder none)
-        IntegerTarget availableAcceptors = new IntegerTarget();
+        IntegerHandlerTarget availableAcceptors = new IntegerHandlerTarget();
         IntegerHandler handler = new SpecificAmountIntegerHandler(1);
         availableAcceptors.addHandler(handler);
         addTargets(availableAcceptors, () -> new SpecificAmountIntegerHandler(3), 2);
@@ -73,4 +73,16 @@ class DistributionTest {
             Assertions.fail(String.format(Locale.ROOT, "expected: <%s> to be greater or equal to: <%s>", toSend, sent));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Test reusing a target after clearing it")
+    void testReuseAfterClear() {
+        int toSend = 10;
+        IntegerHandlerTarget availableAcceptors = getTargets(0, 0, 5);
+        Assertions.assertEquals(0, EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend));
+        availableAcceptors.clear();
+        Assertions.assertEquals(0, availableAcceptors.getHandlerCount());
+        addTargets(availableAcceptors, InfiniteIntegerHandler::new, 20);
+        Assertions.assertEquals(toSend, EmitUtils.sendToAcceptors(availableAcceptors, toSend, toSend));
+    }
+}
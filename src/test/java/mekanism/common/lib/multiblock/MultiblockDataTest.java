@@ -0,0 +1,64 @@
+package mekanism.common.lib.multiblock;
+
+import net.minecraft.core.BlockPos;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test which block changes inside a multiblock cause its formation to be rechecked")
+class MultiblockDataTest {
+
+    private static final BlockPos FRAME = new BlockPos(0, 0, 0);
+    private static final BlockPos INTERNAL = new BlockPos(1, 1, 1);
+    private static final BlockPos UNKNOWN = new BlockPos(2, 1, 1);
+
+    private MultiblockData multiblock;
+
+    @BeforeEach
+    void setup() {
+        multiblock = new MultiblockData(() -> false, () -> null);
+        multiblock.locations.add(FRAME);
+        multiblock.internalLocations.add(INTERNAL);
+        multiblock.setFormedForce(true);
+    }
+
+    @Test
+    @DisplayName("Test known blocks becoming air are rechecked")
+    void testKnownBroken() {
+        Assertions.assertTrue(multiblock.mayAffectFormation(FRAME, true));
+        Assertions.assertTrue(multiblock.mayAffectFormation(INTERNAL, true));
+    }
+
+    @Test
+    @DisplayName("Test positions that were and still are air are not rechecked")
+    void testAirStaysAir() {
+        Assertions.assertFalse(multiblock.mayAffectFormation(UNKNOWN, true));
+    }
+
+    @Test
+    @DisplayName("Test blocks placed at unknown positions are rechecked")
+    void testUnknownPlaced() {
+        Assertions.assertTrue(multiblock.mayAffectFormation(UNKNOWN, false));
+    }
+
+    @Test
+    @DisplayName("Test internal blocks changing state are not rechecked")
+    void testInternalStateChange() {
+        Assertions.assertFalse(multiblock.mayAffectFormation(INTERNAL, false));
+    }
+
+    @Test
+    @DisplayName("Test frame blocks changing are rechecked")
+    void testFrameChange() {
+        Assertions.assertTrue(multiblock.mayAffectFormation(FRAME, false));
+    }
+
+    @Test
+    @DisplayName("Test any change is rechecked when the multiblock is not formed")
+    void testNotFormed() {
+        multiblock.setFormedForce(false);
+        Assertions.assertTrue(multiblock.mayAffectFormation(UNKNOWN, true));
+        Assertions.assertTrue(multiblock.mayAffectFormation(INTERNAL, false));
+    }
+}
@@ -0,0 +1,84 @@
+package mekanism.common.lib.transmitter;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntList;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test NetworkSplitFinder")
+class NetworkSplitFinderTest {
+
+    private static final class Graph {
+
+        private final Int2ObjectMap<IntList> edges = new Int2ObjectOpenHashMap<>();
+
+        private Graph connect(int a, int b) {
+            edges.computeIfAbsent(a, k -> new IntArrayList()).add(b);
+            edges.computeIfAbsent(b, k -> new IntArrayList()).add(a);
+            return this;
+        }
+
+        private Graph line(int from, int to) {
+            for (int i = from; i < to; i++) {
+                connect(i, i + 1);
+            }
+            return this;
+        }
+
+        private List<Set<Integer>> remove(int removed) {
+            return NetworkSplitFinder.findDisconnected(List.copyOf(edges.get(removed)), (node, consumer) -> {
+                for (int neighbor : edges.get((int) node)) {
+                    if (neighbor != removed) {
+                        consumer.accept(neighbor);
+                    }
+                }
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Test removing an end does not split")
+    void testRemoveEnd() {
+        Assertions.assertTrue(new Graph().line(0, 10).remove(0).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test removing from a loop does not split")
+    void testRemoveFromLoop() {
+        Assertions.assertTrue(new Graph().line(0, 10).connect(10, 0).remove(5).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test removing the middle of a line splits off the smaller side")
+    void testRemoveMiddle() {
+        List<Set<Integer>> disconnected = new Graph().line(0, 10).remove(3);
+        Assertions.assertEquals(1, disconnected.size());
+        Assertions.assertEquals(Set.of(0, 1, 2), disconnected.get(0));
+    }
+
+    @Test
+    @DisplayName("Test removing the center of a star splits off all but one branch")
+    void testRemoveStarCenter() {
+        Graph graph = new Graph().line(1, 3).line(10, 12).line(20, 40);
+        graph.connect(0, 1).connect(0, 10).connect(0, 20);
+        List<Set<Integer>> disconnected = graph.remove(0);
+        Assertions.assertEquals(2, disconnected.size());
+        Assertions.assertTrue(disconnected.contains(Set.of(1, 2, 3)));
+        Assertions.assertTrue(disconnected.contains(Set.of(10, 11, 12)));
+    }
+
+    @Test
+    @DisplayName("Test branches that reconnect elsewhere are not split")
+    void testReconnectingBranches() {
+        Graph graph = new Graph().line(1, 5).line(10, 15).line(20, 22);
+        graph.connect(0, 1).connect(0, 10).connect(0, 20).connect(5, 15);
+        List<Set<Integer>> disconnected = graph.remove(0);
+        Assertions.assertEquals(1, disconnected.size());
+        Assertions.assertEquals(Set.of(20, 21, 22), disconnected.get(0));
+    }
+}
@@ -0,0 +1,110 @@
+package mekanism.common.tile.base;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test when tiles sleep and wake up")
+class TileSleepTrackerTest {
+
+    private TileSleepTracker tracker;
+
+    @BeforeEach
+    void setup() {
+        tracker = new TileSleepTracker();
+    }
+
+    //Runs a tick the same way TileEntityMekanism does, returning whether the update ran
+    private boolean tick(boolean canSleep) {
+        return tick(canSleep, false);
+    }
+
+    private boolean tick(boolean canSleep, boolean forceUpdate) {
+        if (tracker.startUpdate(forceUpdate)) {
+            tracker.finishUpdate(canSleep);
+            return true;
+        }
+        return false;
+    }
+
+    private void assertSkips(int ticks) {
+        for (int i = 0; i < ticks; i++) {
+            int tick = i;
+            Assertions.assertFalse(tick(true), () -> "Updated while sleeping on tick " + tick);
+        }
+    }
+
+    @Test
+    @DisplayName("Test a tile with work to do never sleeps")
+    void testBusyNeverSleeps() {
+        for (int i = 0; i < 3 * TileSleepTracker.MAX_SLEEP_TICKS; i++) {
+            Assertions.assertTrue(tick(false));
+            Assertions.assertFalse(tracker.isSleeping());
+        }
+    }
+
+    @Test
+    @DisplayName("Test an idle tile sleeps for the max sleep ticks and then checks again")
+    void testIdleSleeps() {
+        Assertions.assertTrue(tick(true));
+        Assertions.assertTrue(tracker.isSleeping());
+        assertSkips(TileSleepTracker.MAX_SLEEP_TICKS);
+        Assertions.assertFalse(tracker.isSleeping());
+        //Still idle, so it goes straight back to sleep after checking
+        Assertions.assertTrue(tick(true));
+        Assertions.assertTrue(tracker.isSleeping());
+        assertSkips(TileSleepTracker.MAX_SLEEP_TICKS);
+        //Now it has work to do, so it stays awake
+        Assertions.assertTrue(tick(false));
+        Assertions.assertTrue(tick(false));
+    }
+
+    @Test
+    @DisplayName("Test waking up a sleeping tile makes it update on the next tick")
+    void testWakeUp() {
+        Assertions.assertTrue(tick(true));
+        assertSkips(5);
+        tracker.wakeUp();
+        Assertions.assertFalse(tracker.isSleeping());
+        //Nothing changed while running this update, so it can go back to sleep
+        Assertions.assertTrue(tick(true));
+        Assertions.assertTrue(tracker.isSleeping());
+        assertSkips(TileSleepTracker.MAX_SLEEP_TICKS);
+        Assertions.assertTrue(tick(true));
+    }
+
+    @Test
+    @DisplayName("Test a change while updating keeps the tile awake for another tick")
+    void testChangeDuringUpdate() {
+        Assertions.assertTrue(tracker.startUpdate(false));
+        tracker.wakeUp();
+        tracker.finishUpdate(true);
+        Assertions.assertFalse(tracker.isSleeping());
+        //The next update starts fresh, so if nothing changes during it the tile can sleep
+        Assertions.assertTrue(tick(true));
+        Assertions.assertTrue(tracker.isSleeping());
+    }
+
+    @Test
+    @DisplayName("Test a change from before the update started does not keep the tile awake")
+    void testChangeBeforeUpdate() {
+        tracker.wakeUp();
+        Assertions.assertTrue(tick(true));
+        Assertions.assertTrue(tracker.isSleeping());
+    }
+
+    @Test
+    @DisplayName("Test forcing an update runs it even while sleeping")
+    void testForceUpdate() {
+        Assertions.assertTrue(tick(true));
+        assertSkips(5);
+        Assertions.assertTrue(tick(false, true));
+        Assertions.assertFalse(tracker.isSleeping());
+        //Forced updates of idle tiles put them back to sleep for the full duration
+        Assertions.assertTrue(tick(true, true));
+        Assertions.assertTrue(tick(true, true));
+        assertSkips(TileSleepTracker.MAX_SLEEP_TICKS);
+        Assertions.assertTrue(tick(true));
+    }
+}
@@ -0,0 +1,112 @@
+package mekanism.common.tile.base;
+
+import java.util.List;
+import net.minecraft.nbt.CompoundTag;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test diffing update tags for partial update packets")
+class UpdateTagDiffTest {
+
+    private static CompoundTag createTag() {
+        CompoundTag tag = new CompoundTag();
+        tag.putInt("energy", 100);
+        tag.putString("mode", "auto");
+        CompoundTag nested = new CompoundTag();
+        nested.putInt("amount", 5);
+        nested.putString("fluid", "water");
+        tag.put("tank", nested);
+        return tag;
+    }
+
+    //Sends the diff from the server's baseline to the client's, and checks the client ends up with the same tag as the server
+    private static UpdateTagDiff assertSynced(CompoundTag serverPrevious, CompoundTag serverCurrent, CompoundTag clientPrevious) {
+        UpdateTagDiff diff = UpdateTagDiff.between(serverPrevious, serverCurrent);
+        Assertions.assertNotNull(diff);
+        Assertions.assertEquals(serverCurrent, diff.applyTo(clientPrevious));
+        return diff;
+    }
+
+    @Test
+    @DisplayName("Test nothing is sent when the tag is unchanged")
+    void testUnchanged() {
+        Assertions.assertNull(UpdateTagDiff.between(createTag(), createTag()));
+        Assertions.assertNull(UpdateTagDiff.between(new CompoundTag(), new CompoundTag()));
+    }
+
+    @Test
+    @DisplayName("Test only the changed and added elements are sent")
+    void testChanged() {
+        CompoundTag current = createTag();
+        current.putInt("energy", 50);
+        current.putInt("redstone", 1);
+        UpdateTagDiff diff = assertSynced(createTag(), current, createTag());
+        Assertions.assertEquals(2, diff.changed().getAllKeys().size());
+        Assertions.assertEquals(50, diff.changed().getInt("energy"));
+        Assertions.assertEquals(1, diff.changed().getInt("redstone"));
+        Assertions.assertTrue(diff.removed().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Test removed keys are sent and removed on the client")
+    void testRemoved() {
+        CompoundTag current = createTag();
+        current.remove("mode");
+        current.remove("tank");
+        UpdateTagDiff diff = assertSynced(createTag(), current, createTag());
+        Assertions.assertTrue(diff.changed().isEmpty());
+        Assertions.assertEquals(2, diff.removed().size());
+        Assertions.assertTrue(diff.removed().containsAll(List.of("mode", "tank")));
+    }
+
+    @Test
+    @DisplayName("Test removing and changing keys in the same update")
+    void testRemovedAndChanged() {
+        CompoundTag current = createTag();
+        current.remove("energy");
+        current.putString("mode", "manual");
+        UpdateTagDiff diff = assertSynced(createTag(), current, createTag());
+        Assertions.assertEquals(List.of("energy"), diff.removed());
+        Assertions.assertEquals(List.of("mode"), List.copyOf(diff.changed().getAllKeys()));
+    }
+
+    @Test
+    @DisplayName("Test a key removed from a nested compound replaces the whole compound")
+    void testNestedRemoved() {
+        CompoundTag current = createTag();
+        current.getCompound("tank").remove("fluid");
+        UpdateTagDiff diff = assertSynced(createTag(), current, createTag());
+        Assertions.assertTrue(diff.removed().isEmpty());
+        Assertions.assertFalse(diff.changed().getCompound("tank").contains("fluid"));
+    }
+
+    @Test
+    @DisplayName("Test a key that gets removed and then added back is synced")
+    void testRemovedThenReadded() {
+        CompoundTag server = createTag();
+        CompoundTag client = createTag();
+        CompoundTag current = server.copy();
+        current.remove("mode");
+        assertSynced(server, current, client);
+        Assertions.assertFalse(client.contains("mode"));
+        CompoundTag readded = current.copy();
+        readded.putString("mode", "auto");
+        UpdateTagDiff diff = assertSynced(current, readded, client);
+        Assertions.assertTrue(diff.removed().isEmpty());
+        Assertions.assertEquals("auto", client.getString("mode"));
+    }
+
+    @Test
+    @DisplayName("Test applying a diff without having received a full update")
+    void testNoBaseline() {
+        CompoundTag current = createTag();
+        current.remove("mode");
+        current.putInt("energy", 0);
+        UpdateTagDiff diff = UpdateTagDiff.between(createTag(), current);
+        Assertions.assertNotNull(diff);
+        CompoundTag applied = diff.applyTo(null);
+        Assertions.assertEquals(diff.changed(), applied);
+        Assertions.assertFalse(applied.contains("mode"));
+    }
+}
@@ -0,0 +1,93 @@
+package mekanism.common.tile.component;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Test backing off from ejecting when neighbors refuse what we eject")
+class EjectBackoffTest {
+
+    private static final int BASE_DELAY = 10;
+
+    //Counts how many ticks pass until the next attempt at ejecting
+    private static int ticksUntilAttempt(EjectBackoff backoff) {
+        int ticks = 0;
+        while (!backoff.tick()) {
+            ticks++;
+        }
+        return ticks;
+    }
+
+    @Test
+    @DisplayName("Test ejecting waits the base delay between attempts")
+    void testEjected() {
+        EjectBackoff backoff = new EjectBackoff(BASE_DELAY);
+        Assertions.assertTrue(backoff.tick());
+        backoff.onResult(EjectResult.EJECTED);
+        Assertions.assertTrue(backoff.hadContentsToEject());
+        Assertions.assertEquals(BASE_DELAY, ticksUntilAttempt(backoff));
+    }
+
+    @Test
+    @DisplayName("Test having nothing to eject does not back off")
+    void testNothingToEject() {
+        EjectBackoff backoff = new EjectBackoff(0);
+        backoff.onResult(EjectResult.NOTHING_TO_EJECT);
+        Assertions.assertFalse(backoff.hadContentsToEject());
+        Assertions.assertEquals(0, ticksUntilAttempt(backoff));
+    }
+
+    @Test
+    @DisplayName("Test repeated refusals double the backoff up to the maximum")
+    void testRefusedDoubles() {
+        EjectBackoff backoff = new EjectBackoff(BASE_DELAY);
+        int expected = 1;
+        for (int i = 0; i < 10; i++) {
+            backoff.onResult(EjectResult.REFUSED);
+            Assertions.assertTrue(backoff.hadContentsToEject());
+            Assertions.assertEquals(BASE_DELAY + expected, ticksUntilAttempt(backoff));
+            expected = Math.min(2 * expected, EjectBackoff.MAX_BACKOFF);
+        }
+    }
+
+    @Test
+    @DisplayName("Test a partially successful eject resets the backoff")
+    void testPartialEjectResets() {
+        EjectBackoff backoff = new EjectBackoff(BASE_DELAY);
+        for (int i = 0; i < 5; i++) {
+            backoff.onResult(EjectResult.REFUSED);
+        }
+        ticksUntilAttempt(backoff);
+        backoff.onResult(EjectResult.EJECTED);
+        Assertions.assertEquals(BASE_DELAY, ticksUntilAttempt(backoff));
+        //Refusing again starts backing off from the beginning
+        backoff.onResult(EjectResult.REFUSED);
+        Assertions.assertEquals(BASE_DELAY + 1, ticksUntilAttempt(backoff));
+    }
+
+    @Test
+    @DisplayName("Test a neighbor change stops waiting longer than the base delay")
+    void testReset() {
+        EjectBackoff backoff = new EjectBackoff(BASE_DELAY);
+        for (int i = 0; i < 6; i++) {
+            backoff.onResult(EjectResult.REFUSED);
+        }
+        Assertions.assertEquals(BASE_DELAY + EjectBackoff.MAX_BACKOFF, backoff.getDelay());
+        backoff.reset();
+        Assertions.assertEquals(BASE_DELAY, ticksUntilAttempt(backoff));
+        //The backoff itself was also cleared
+        backoff.onResult(EjectResult.REFUSED);
+        Assertions.assertEquals(BASE_DELAY + 1, ticksUntilAttempt(backoff));
+    }
+
+    @Test
+    @DisplayName("Test a neighbor change does not make us try sooner than the base delay")
+    void testResetKeepsShorterDelay() {
+        EjectBackoff backoff = new EjectBackoff(BASE_DELAY);
+        backoff.onResult(EjectResult.EJECTED);
+        backoff.tick();
+        backoff.tick();
+        backoff.reset();
+        Assertions.assertEquals(BASE_DELAY - 2, ticksUntilAttempt(backoff));
+    }
+}